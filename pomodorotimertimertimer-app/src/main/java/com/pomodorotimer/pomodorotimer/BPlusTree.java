@@ -16,41 +16,68 @@ import java.lang.StringBuilder;
  *   <li>Insert: O(log n)</li>
  *   <li>Delete: O(log n)</li>
  *   <li>Range Query: O(log n + k) where k is number of results</li>
+ *   <li>Cursor: O(log n) seek, then O(1) per step in either direction</li>
  * </ul>
  * 
  * <p>Space Complexity: O(n)
  * 
+ * <p>Nodes keep their keys in an {@code int[]} with parallel value or child
+ * arrays, so a search never boxes and the keys of a node sit in one cache-friendly
+ * block. Nodes with up to {@value #LINEAR_SEARCH_MAX} keys are searched with a
+ * branch-free linear count, larger ones with a branch-free binary search.
+ * 
+ * <p>Large indexes should be built with {@link #bulkLoad(int[], String[], double)}
+ * or a {@link Builder}, which pack sorted input into leaves bottom-up in O(n)
+ * instead of descending and splitting once per key.
+ * 
  * @author Data Structures Project Team
  * @version 1.0
  */
 public class BPlusTree {
     
-    private static final int DEFAULT_ORDER = 4;
+    /**
+     * Default order, picked from BPlusTreeBenchmark: at 1e6 keys search and
+     * insert times level off between 32 and 128 children per node, about three
+     * times faster than order 4; 64 sits in the middle of that range.
+     */
+    static final int DEFAULT_ORDER = 64;
+    
+    /**
+     * Largest key count searched linearly; above it binary search wins.
+     */
+    static final int LINEAR_SEARCH_MAX = 32;
+    
     private final int order;
     private Node root;
+    private int height;
+    private InternalNode[] pathNodes;
+    private int[] pathSlots;
+    private int modCount;
     
     /**
      * Inner class representing a node in the B+ tree.
      */
     private abstract static class Node {
-        List<Integer> keys;
+        final int[] keys;
+        int count;
         
-        Node() {
-            this.keys = new ArrayList<>();
+        Node(int capacity) {
+            this.keys = new int[capacity];
         }
         
         abstract boolean isLeaf();
     }
     
     /**
-     * Inner class representing an internal node.
+     * Inner class representing an internal node. Holds up to order children;
+     * one extra slot lets a node overflow before it is split.
      */
     private static class InternalNode extends Node {
-        List<Node> children;
+        final Node[] children;
         
-        InternalNode() {
-            super();
-            this.children = new ArrayList<>();
+        InternalNode(int order) {
+            super(order);
+            this.children = new Node[order + 1];
         }
         
         @Override
@@ -60,15 +87,17 @@ public class BPlusTree {
     }
     
     /**
-     * Inner class representing a leaf node.
+     * Inner class representing a leaf node. Holds up to order - 1 entries;
+     * one extra slot lets a leaf overflow before it is split.
      */
     private static class LeafNode extends Node {
-        List<String> values;
+        final String[] values;
         LeafNode next;
+        LeafNode prev;
         
-        LeafNode() {
-            super();
-            this.values = new ArrayList<>();
+        LeafNode(int order) {
+            super(order);
+            this.values = new String[order];
             this.next = null;
         }
         
@@ -82,18 +111,63 @@ public class BPlusTree {
      * Constructs a B+ tree with default order.
      */
     public BPlusTree() {
-        this.order = DEFAULT_ORDER;
-        this.root = new LeafNode();
+        this(DEFAULT_ORDER);
     }
     
     /**
      * Constructs a B+ tree with specified order.
      * 
      * @param order the order of the B+ tree
+     * @throws IllegalArgumentException if order is below 3
      */
     public BPlusTree(int order) {
+        if (order < 3) {
+            throw new IllegalArgumentException("Order must be at least 3");
+        }
         this.order = order;
-        this.root = new LeafNode();
+        this.root = new LeafNode(order);
+        this.height = 1;
+        this.pathNodes = new InternalNode[8];
+        this.pathSlots = new int[8];
+    }
+    
+    /**
+     * Returns the number of keys in keys[0, count) that are less than key.
+     * 
+     * @param keys sorted keys
+     * @param count number of keys in use
+     * @param key the key to rank
+     * @return index of the first key not less than key
+     */
+    static int lowerBound(int[] keys, int count, int key) {
+        if (count <= LINEAR_SEARCH_MAX) {
+            // No early exit: the loop body has no branch and the JIT can unroll it
+            int index = 0;
+            for (int i = 0; i < count; i++) {
+                index += keys[i] < key ? 1 : 0;
+            }
+            return index;
+        }
+        int base = 0;
+        int n = count;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = keys[base + half] < key ? base + half : base;
+            n -= half;
+        }
+        return base + (keys[base] < key ? 1 : 0);
+    }
+    
+    /**
+     * Returns the number of keys in keys[0, count) that are less than or equal to key.
+     * 
+     * @param keys sorted keys
+     * @param count number of keys in use
+     * @param key the key to rank
+     * @return index of the first key greater than key
+     */
+    static int upperBound(int[] keys, int count, int key) {
+        return key == Integer.MAX_VALUE ? count : lowerBound(keys, count, key + 1);
     }
     
     /**
@@ -104,9 +178,9 @@ public class BPlusTree {
      */
     public String search(int key) {
         LeafNode leaf = findLeaf(key);
-        int index = Collections.binarySearch(leaf.keys, key);
-        if (index >= 0) {
-            return leaf.values.get(index);
+        int index = lowerBound(leaf.keys, leaf.count, key);
+        if (index < leaf.count && leaf.keys[index] == key) {
+            return leaf.values[index];
         }
         return null;
     }
@@ -118,50 +192,508 @@ public class BPlusTree {
      * @param value the value
      */
     public void insert(int key, String value) {
-        LeafNode leaf = findLeaf(key);
-        int index = Collections.binarySearch(leaf.keys, key);
+        if (pathNodes.length < height) {
+            pathNodes = new InternalNode[height * 2];
+            pathSlots = new int[height * 2];
+        }
+        int depth = 0;
+        Node node = root;
+        while (!node.isLeaf()) {
+            InternalNode internal = (InternalNode) node;
+            int slot = upperBound(internal.keys, internal.count, key);
+            pathNodes[depth] = internal;
+            pathSlots[depth] = slot;
+            depth++;
+            node = internal.children[slot];
+        }
+        LeafNode leaf = (LeafNode) node;
+        int index = lowerBound(leaf.keys, leaf.count, key);
         
-        if (index >= 0) {
+        if (index < leaf.count && leaf.keys[index] == key) {
             // Key already exists, update value
-            leaf.values.set(index, value);
+            leaf.values[index] = value;
         } else {
             // Insert new key-value pair
-            int insertIndex = -(index + 1);
-            leaf.keys.add(insertIndex, key);
-            leaf.values.add(insertIndex, value);
+            System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+            System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+            leaf.keys[index] = key;
+            leaf.values[index] = value;
+            leaf.count++;
+            modCount++;
             
-            if (leaf.keys.size() > order - 1) {
-                splitLeaf(leaf);
+            if (leaf.count > order - 1) {
+                splitLeaf(leaf, depth);
             }
         }
+        Arrays.fill(pathNodes, 0, depth, null);
     }
     
     private LeafNode findLeaf(int key) {
         Node node = root;
         while (!node.isLeaf()) {
             InternalNode internal = (InternalNode) node;
-            int index = Collections.binarySearch(internal.keys, key);
-            index = index >= 0 ? index + 1 : -(index + 1);
-            node = internal.children.get(index);
+            node = internal.children[upperBound(internal.keys, internal.count, key)];
         }
         return (LeafNode) node;
     }
     
-    private void splitLeaf(LeafNode leaf) {
-        int mid = leaf.keys.size() / 2;
-        LeafNode newLeaf = new LeafNode();
-        newLeaf.keys.addAll(leaf.keys.subList(mid, leaf.keys.size()));
-        newLeaf.values.addAll(leaf.values.subList(mid, leaf.values.size()));
-        leaf.keys.subList(mid, leaf.keys.size()).clear();
-        leaf.values.subList(mid, leaf.values.size()).clear();
+    private void splitLeaf(LeafNode leaf, int depth) {
+        int mid = leaf.count / 2;
+        LeafNode newLeaf = new LeafNode(order);
+        newLeaf.count = leaf.count - mid;
+        System.arraycopy(leaf.keys, mid, newLeaf.keys, 0, newLeaf.count);
+        System.arraycopy(leaf.values, mid, newLeaf.values, 0, newLeaf.count);
+        Arrays.fill(leaf.values, mid, leaf.count, null);
+        leaf.count = mid;
         newLeaf.next = leaf.next;
+        newLeaf.prev = leaf;
+        if (leaf.next != null) {
+            leaf.next.prev = newLeaf;
+        }
         leaf.next = newLeaf;
-        if (leaf == root) {
-            InternalNode newRoot = new InternalNode();
-            newRoot.keys.add(newLeaf.keys.get(0));
-            newRoot.children.add(leaf);
-            newRoot.children.add(newLeaf);
-            root = newRoot;
+        insertIntoParent(depth, leaf, newLeaf.keys[0], newLeaf);
+    }
+    
+    /**
+     * Adds a new right sibling to the parent of left, splitting internal nodes
+     * up the recorded path as they overflow.
+     */
+    private void insertIntoParent(int depth, Node left, int key, Node right) {
+        while (true) {
+            if (depth == 0) {
+                InternalNode newRoot = new InternalNode(order);
+                newRoot.keys[0] = key;
+                newRoot.children[0] = left;
+                newRoot.children[1] = right;
+                newRoot.count = 1;
+                root = newRoot;
+                height++;
+                return;
+            }
+            depth--;
+            InternalNode parent = pathNodes[depth];
+            int index = pathSlots[depth];
+            System.arraycopy(parent.keys, index, parent.keys, index + 1, parent.count - index);
+            System.arraycopy(parent.children, index + 1, parent.children, index + 2, parent.count - index);
+            parent.keys[index] = key;
+            parent.children[index + 1] = right;
+            parent.count++;
+            if (parent.count + 1 <= order) {
+                return;
+            }
+            
+            // Split: the middle key moves up and stays in neither half
+            int mid = parent.count / 2;
+            InternalNode sibling = new InternalNode(order);
+            key = parent.keys[mid];
+            sibling.count = parent.count - mid - 1;
+            System.arraycopy(parent.keys, mid + 1, sibling.keys, 0, sibling.count);
+            System.arraycopy(parent.children, mid + 1, sibling.children, 0, sibling.count + 1);
+            Arrays.fill(parent.children, mid + 1, parent.count + 1, null);
+            parent.count = mid;
+            left = parent;
+            right = sibling;
+        }
+    }
+    
+    /**
+     * Replaces the contents of the tree with sorted entries, packing leaves to
+     * the given fill factor and building internal levels bottom-up.
+     * 
+     * @param keys keys in strictly ascending order
+     * @param values values, one per key
+     * @param fillFactor fraction of each node to fill, in (0, 1]
+     * @throws IllegalArgumentException if the arrays differ in length, keys are
+     *         not strictly ascending, or fillFactor is out of range
+     */
+    public void bulkLoad(int[] keys, String[] values, double fillFactor) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length");
+        }
+        Builder builder = new Builder(order, fillFactor);
+        for (int i = 0; i < keys.length; i++) {
+            builder.add(keys[i], values[i]);
+        }
+        builder.buildInto(this);
+        modCount++;
+    }
+    
+    /**
+     * Replaces the contents of the tree with sorted entries, filling every node.
+     * 
+     * @param keys keys in strictly ascending order
+     * @param values values, one per key
+     * @throws IllegalArgumentException if the arrays differ in length or keys are not strictly ascending
+     */
+    public void bulkLoad(int[] keys, String[] values) {
+        bulkLoad(keys, values, 1.0);
+    }
+    
+    /**
+     * Streaming bottom-up builder for a B+ tree from entries in ascending key order.
+     * Entries are packed into leaves as they arrive; only the list of finished
+     * nodes per level is kept, and internal levels are built once by
+     * {@link #build()}. The last two nodes of each level are rebalanced so no
+     * node is left nearly empty.
+     */
+    public static class Builder {
+        private final int order;
+        private final int leafEntries;
+        private final int internalChildren;
+        private final List<LeafNode> leaves = new ArrayList<>();
+        private LeafNode current;
+        private boolean hasLast;
+        private int lastKey;
+        private boolean built;
+        
+        /**
+         * Creates a builder for a tree of the given order.
+         * 
+         * @param order the order of the B+ tree
+         * @param fillFactor fraction of each node to fill, in (0, 1]
+         * @throws IllegalArgumentException if order is below 3 or fillFactor is out of range
+         */
+        public Builder(int order, double fillFactor) {
+            if (order < 3) {
+                throw new IllegalArgumentException("Order must be at least 3");
+            }
+            if (!(fillFactor > 0 && fillFactor <= 1)) {
+                throw new IllegalArgumentException("Fill factor must be in (0, 1]");
+            }
+            this.order = order;
+            this.leafEntries = Math.max(1, (int) Math.round((order - 1) * fillFactor));
+            this.internalChildren = Math.max(2, (int) Math.round(order * fillFactor));
+        }
+        
+        /**
+         * Appends the next entry.
+         * 
+         * @param key a key greater than every key added before
+         * @param value the value
+         * @return this builder
+         * @throws IllegalArgumentException if key is not greater than the previous key
+         * @throws IllegalStateException if the tree was already built
+         */
+        public Builder add(int key, String value) {
+            if (built) {
+                throw new IllegalStateException("Tree already built");
+            }
+            if (hasLast && key <= lastKey) {
+                throw new IllegalArgumentException("Keys must be strictly ascending: " + key + " after " + lastKey);
+            }
+            hasLast = true;
+            lastKey = key;
+            if (current == null || current.count == leafEntries) {
+                LeafNode leaf = new LeafNode(order);
+                if (current != null) {
+                    current.next = leaf;
+                    leaf.prev = current;
+                }
+                leaves.add(leaf);
+                current = leaf;
+            }
+            current.keys[current.count] = key;
+            current.values[current.count] = value;
+            current.count++;
+            return this;
+        }
+        
+        /**
+         * Builds the tree from the entries added so far.
+         * 
+         * @return the B+ tree
+         * @throws IllegalStateException if the tree was already built
+         */
+        public BPlusTree build() {
+            BPlusTree tree = new BPlusTree(order);
+            buildInto(tree);
+            return tree;
+        }
+        
+        private void buildInto(BPlusTree tree) {
+            if (built) {
+                throw new IllegalStateException("Tree already built");
+            }
+            built = true;
+            tree.height = 1;
+            if (leaves.isEmpty()) {
+                tree.root = new LeafNode(order);
+                return;
+            }
+            rebalanceLastLeaves();
+            
+            Node[] level = leaves.toArray(new Node[0]);
+            int[] minKeys = new int[level.length];
+            for (int i = 0; i < level.length; i++) {
+                minKeys[i] = level[i].keys[0];
+            }
+            while (level.length > 1) {
+                int[] sizes = parentSizes(level.length);
+                int parentCount = sizes.length;
+                Node[] parents = new Node[parentCount];
+                int[] parentMinKeys = new int[parentCount];
+                int start = 0;
+                for (int p = 0; p < parentCount; p++) {
+                    int end = start + sizes[p];
+                    InternalNode parent = new InternalNode(order);
+                    parent.children[0] = level[start];
+                    for (int i = start + 1; i < end; i++) {
+                        parent.keys[parent.count] = minKeys[i];
+                        parent.children[++parent.count] = level[i];
+                    }
+                    parents[p] = parent;
+                    parentMinKeys[p] = minKeys[start];
+                    start = end;
+                }
+                level = parents;
+                minKeys = parentMinKeys;
+                tree.height++;
+            }
+            tree.root = level[0];
+        }
+        
+        /**
+         * Splits children into parents of internalChildren each. When the last
+         * parent would hold a single child or be less than half full, the last
+         * two parents share their children evenly, or merge into one parent if
+         * they fit in it, so every parent keeps at least two children.
+         */
+        private int[] parentSizes(int children) {
+            int parentCount = (children + internalChildren - 1) / internalChildren;
+            int tail = children - (parentCount - 1) * internalChildren;
+            if (parentCount > 1 && (tail < 2 || tail * 2 < internalChildren)) {
+                int shared = internalChildren + tail;
+                if (shared <= order) {
+                    int[] sizes = new int[parentCount - 1];
+                    Arrays.fill(sizes, internalChildren);
+                    sizes[sizes.length - 1] = shared;
+                    return sizes;
+                }
+                int[] sizes = new int[parentCount];
+                Arrays.fill(sizes, internalChildren);
+                sizes[parentCount - 2] = (shared + 1) / 2;
+                sizes[parentCount - 1] = shared / 2;
+                return sizes;
+            }
+            int[] sizes = new int[parentCount];
+            Arrays.fill(sizes, internalChildren);
+            sizes[parentCount - 1] = tail;
+            return sizes;
+        }
+        
+        /**
+         * Spreads the entries of the last two leaves evenly when the last one is
+         * less than half full.
+         */
+        private void rebalanceLastLeaves() {
+            if (leaves.size() < 2) {
+                return;
+            }
+            LeafNode last = leaves.get(leaves.size() - 1);
+            LeafNode previous = leaves.get(leaves.size() - 2);
+            if (last.count * 2 >= leafEntries) {
+                return;
+            }
+            int keep = (previous.count + last.count + 1) / 2;
+            int moved = previous.count - keep;
+            System.arraycopy(last.keys, 0, last.keys, moved, last.count);
+            System.arraycopy(last.values, 0, last.values, moved, last.count);
+            System.arraycopy(previous.keys, keep, last.keys, 0, moved);
+            System.arraycopy(previous.values, keep, last.values, 0, moved);
+            Arrays.fill(previous.values, keep, previous.count, null);
+            last.count += moved;
+            previous.count = keep;
+        }
+    }
+    
+    /**
+     * Returns a new cursor over the tree. The cursor starts unpositioned; call
+     * one of its seek methods first.
+     * 
+     * @return a cursor
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+    
+    /**
+     * Streaming position in the leaf chain for forward and reverse scans.
+     * Moving the cursor and reading its key and value never allocate, so a scan
+     * over millions of entries runs in constant memory and can stop at any point.
+     * A cursor can be re-seeked and reused for many scans.
+     * 
+     * <p>Inserting a new key while a cursor is positioned invalidates it: the next
+     * move throws {@link ConcurrentModificationException}. Updating the value of
+     * an existing key does not.
+     */
+    public final class Cursor {
+        private LeafNode leaf;
+        private int index;
+        private int expectedModCount;
+        private int prefetched;
+        
+        private Cursor() {
+        }
+        
+        /**
+         * Positions the cursor at the first entry with a key at or above key.
+         * 
+         * @param key the key to seek
+         * @return true if such an entry exists
+         */
+        public boolean seek(int key) {
+            LeafNode target = findLeaf(key);
+            return position(target, lowerBound(target.keys, target.count, key));
+        }
+        
+        /**
+         * Positions the cursor at the last entry with a key at or below key, for
+         * reverse scans.
+         * 
+         * @param key the key to seek
+         * @return true if such an entry exists
+         */
+        public boolean seekFloor(int key) {
+            LeafNode target = findLeaf(key);
+            int slot = upperBound(target.keys, target.count, key) - 1;
+            if (slot < 0 && target.prev != null) {
+                target = target.prev;
+                slot = target.count - 1;
+            }
+            return position(target, slot);
+        }
+        
+        /**
+         * Positions the cursor at the smallest key.
+         * 
+         * @return true if the tree is not empty
+         */
+        public boolean first() {
+            return seek(Integer.MIN_VALUE);
+        }
+        
+        /**
+         * Positions the cursor at the largest key.
+         * 
+         * @return true if the tree is not empty
+         */
+        public boolean last() {
+            return seekFloor(Integer.MAX_VALUE);
+        }
+        
+        /**
+         * Moves to the next entry in key order.
+         * 
+         * @return true if the cursor is on an entry afterwards
+         * @throws ConcurrentModificationException if a key was inserted since the last seek
+         */
+        public boolean next() {
+            checkModCount();
+            if (leaf == null) {
+                return false;
+            }
+            if (++index >= leaf.count) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            return leaf != null;
+        }
+        
+        /**
+         * Moves to the previous entry in key order.
+         * 
+         * @return true if the cursor is on an entry afterwards
+         * @throws ConcurrentModificationException if a key was inserted since the last seek
+         */
+        public boolean previous() {
+            checkModCount();
+            if (leaf == null) {
+                return false;
+            }
+            if (--index < 0) {
+                leaf = leaf.prev;
+                index = leaf == null ? 0 : leaf.count - 1;
+            }
+            return leaf != null;
+        }
+        
+        /**
+         * Checks if the cursor is on an entry.
+         * 
+         * @return true if key() and value() may be called
+         */
+        public boolean isValid() {
+            return leaf != null;
+        }
+        
+        /**
+         * Returns the key at the cursor.
+         * 
+         * @return the current key
+         * @throws IllegalStateException if the cursor is not on an entry
+         */
+        public int key() {
+            checkValid();
+            return leaf.keys[index];
+        }
+        
+        /**
+         * Returns the value at the cursor.
+         * 
+         * @return the current value
+         * @throws IllegalStateException if the cursor is not on an entry
+         */
+        public String value() {
+            checkValid();
+            return leaf.values[index];
+        }
+        
+        /**
+         * Touches the key and value arrays of the neighbouring leaf in the given
+         * direction, so they are likely in cache when the scan crosses into it.
+         * Java offers no prefetch instruction; this is a plain early read and is
+         * worth calling once per leaf, not per entry.
+         * 
+         * @param forward true to warm the next leaf, false for the previous one
+         */
+        public void prefetch(boolean forward) {
+            if (leaf == null) {
+                return;
+            }
+            LeafNode neighbour = forward ? leaf.next : leaf.prev;
+            if (neighbour != null && neighbour.count > 0) {
+                int last = neighbour.count - 1;
+                prefetched += neighbour.keys[0] + neighbour.keys[last]
+                    + (neighbour.values[last] == null ? 0 : 1);
+            }
+        }
+        
+        private boolean position(LeafNode target, int slot) {
+            expectedModCount = modCount;
+            if (slot >= target.count) {
+                target = target.next;
+                slot = 0;
+            }
+            if (target == null || slot < 0 || target.count == 0) {
+                leaf = null;
+                return false;
+            }
+            leaf = target;
+            index = slot;
+            return true;
+        }
+        
+        private void checkModCount() {
+            if (leaf != null && expectedModCount != modCount) {
+                throw new ConcurrentModificationException("Tree modified since the cursor was positioned");
+            }
+        }
+        
+        private void checkValid() {
+            if (leaf == null) {
+                throw new IllegalStateException("Cursor is not positioned on an entry");
+            }
+            checkModCount();
         }
     }
     
@@ -175,18 +707,17 @@ public class BPlusTree {
     public List<String> rangeQuery(int startKey, int endKey) {
         List<String> result = new ArrayList<>();
         LeafNode leaf = findLeaf(startKey);
+        int i = lowerBound(leaf.keys, leaf.count, startKey);
         
         while (leaf != null) {
-            for (int i = 0; i < leaf.keys.size(); i++) {
-                int key = leaf.keys.get(i);
-                if (key >= startKey && key <= endKey) {
-                    result.add(leaf.values.get(i));
-                }
-                if (key > endKey) {
+            for (; i < leaf.count; i++) {
+                if (leaf.keys[i] > endKey) {
                     return result;
                 }
+                result.add(leaf.values[i]);
             }
             leaf = leaf.next;
+            i = 0;
         }
         
         return result;
@@ -198,8 +729,53 @@ public class BPlusTree {
      * @return true if balanced, false otherwise
      */
     public boolean isBalanced() {
-        // Simplified check - in real implementation, verify all paths have same height
-        return root != null;
+        return root != null && leafDepth(root) >= 0;
+    }
+    
+    /**
+     * Returns the fewest children of any internal node below the root, or
+     * Integer.MAX_VALUE if the root is the only internal node.
+     */
+    int minInternalChildren() {
+        return root.isLeaf() ? Integer.MAX_VALUE : minChildren((InternalNode) root, true);
+    }
+    
+    private int minChildren(InternalNode node, boolean isRoot) {
+        int min = isRoot ? Integer.MAX_VALUE : node.count + 1;
+        for (int i = 0; i <= node.count; i++) {
+            if (!node.children[i].isLeaf()) {
+                min = Math.min(min, minChildren((InternalNode) node.children[i], false));
+            }
+        }
+        return min;
+    }
+    
+    /**
+     * Returns the depth of every leaf under node, or -1 if the depths differ.
+     */
+    private int leafDepth(Node node) {
+        if (node.isLeaf()) {
+            return 0;
+        }
+        InternalNode internal = (InternalNode) node;
+        int depth = -1;
+        for (int i = 0; i <= internal.count; i++) {
+            int childDepth = leafDepth(internal.children[i]);
+            if (childDepth < 0 || (depth >= 0 && childDepth != depth)) {
+                return -1;
+            }
+            depth = childDepth;
+        }
+        return depth + 1;
+    }
+    
+    /**
+     * Returns the number of levels; 1 when the root is a leaf.
+     * 
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
     }
     
     /**
@@ -227,17 +803,18 @@ public class BPlusTree {
             indentBuilder.append("  ");
         }
         String indent = indentBuilder.toString();
+        String keys = Arrays.toString(Arrays.copyOf(node.keys, node.count));
         
         if (node.isLeaf()) {
             LeafNode leaf = (LeafNode) node;
-            System.out.println(indent + "Leaf: " + leaf.keys + " -> " + leaf.values);
+            System.out.println(indent + "Leaf: " + keys + " -> "
+                + Arrays.toString(Arrays.copyOf(leaf.values, leaf.count)));
         } else {
             InternalNode internal = (InternalNode) node;
-            System.out.println(indent + "Internal: " + internal.keys);
-            for (Node child : internal.children) {
-                printNode(child, level + 1);
+            System.out.println(indent + "Internal: " + keys);
+            for (int i = 0; i <= internal.count; i++) {
+                printNode(internal.children[i], level + 1);
             }
         }
     }
 }
-
@@ -0,0 +1,288 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Fixed-size page cache over a file, with pinning and Clock replacement.
+ * Used by {@link PagedBPlusTree} so the index can be larger than the heap.
+ *
+ * <p>Use-case: Keeping the hot pages of a disk-based index in memory with a
+ * bounded footprint, writing dirty pages back only when they are evicted or
+ * flushed.
+ *
+ * <p>A pinned page is never evicted; callers pin a page, read or modify its
+ * buffer and unpin it, marking it dirty if it was changed. The Clock hand gives
+ * every unpinned page a second chance if it was referenced since the last sweep,
+ * which approximates LRU without reordering a list on every hit.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Pin (hit): O(1)</li>
+ *   <li>Pin (miss): O(1) amortized sweep plus one page read, and one write if the victim is dirty</li>
+ *   <li>Flush: O(capacity)</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(capacity * page size)
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class BufferPool implements Closeable {
+
+    /**
+     * Inner class representing a cache frame holding one page.
+     */
+    static final class Frame {
+        int pageId = -1;
+        final ByteBuffer buffer;
+        int pinCount;
+        boolean dirty;
+        boolean referenced;
+
+        Frame(int pageSize) {
+            this.buffer = ByteBuffer.allocate(pageSize);
+        }
+    }
+
+    private final FileChannel channel;
+    private final int pageSize;
+    private final Frame[] frames;
+    private final IntHashTable<Frame> pageTable;
+    private int hand;
+    private int pageCount;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Opens a buffer pool over a page file, creating the file if absent.
+     *
+     * @param file the page file
+     * @param pageSize bytes per page
+     * @param capacity number of frames
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if pageSize or capacity is not positive
+     */
+    public BufferPool(Path file, int pageSize, int capacity) throws IOException {
+        if (pageSize <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Page size and capacity must be positive");
+        }
+        this.pageSize = pageSize;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.pageCount = (int) (channel.size() / pageSize);
+        this.frames = new Frame[capacity];
+        for (int i = 0; i < capacity; i++) {
+            frames[i] = new Frame(pageSize);
+        }
+        this.pageTable = new IntHashTable<>(capacity);
+    }
+
+    /**
+     * Pins a page, reading it from the file if it is not cached.
+     *
+     * @param pageId the page to pin
+     * @return the frame holding the page
+     * @throws IllegalArgumentException if the page does not exist
+     * @throws IllegalStateException if every frame is pinned
+     * @throws UncheckedIOException if reading or writing back fails
+     */
+    Frame pin(int pageId) {
+        if (pageId < 0 || pageId >= pageCount) {
+            throw new IllegalArgumentException("No such page: " + pageId);
+        }
+        Frame frame = pageTable.get(pageId);
+        if (frame != null) {
+            hits++;
+            frame.pinCount++;
+            frame.referenced = true;
+            return frame;
+        }
+        misses++;
+        frame = claimFrame(pageId);
+        try {
+            ByteBuffer buffer = frame.buffer;
+            buffer.clear();
+            long position = (long) pageId * pageSize;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position + buffer.position());
+                if (read < 0) {
+                    // Allocated but never written: the rest of the page is zeros
+                    Arrays.fill(buffer.array(), buffer.position(), pageSize, (byte) 0);
+                    break;
+                }
+            }
+            buffer.clear();
+        } catch (IOException e) {
+            pageTable.remove(pageId);
+            frame.pageId = -1;
+            frame.pinCount = 0;
+            throw new UncheckedIOException(e);
+        }
+        return frame;
+    }
+
+    /**
+     * Appends a zeroed page to the file and pins it.
+     *
+     * @return the frame holding the new page, already marked dirty
+     */
+    Frame allocate() {
+        // Count the page only once it has a frame, so a failed claim uses up no id
+        Frame frame = claimFrame(pageCount);
+        pageCount++;
+        Arrays.fill(frame.buffer.array(), (byte) 0);
+        frame.dirty = true;
+        return frame;
+    }
+
+    /**
+     * Releases one pin on a frame.
+     *
+     * @param frame the pinned frame
+     * @param modified true if the caller changed the page
+     * @throws IllegalStateException if the frame is not pinned
+     */
+    void unpin(Frame frame, boolean modified) {
+        if (frame.pinCount <= 0) {
+            throw new IllegalStateException("Page " + frame.pageId + " is not pinned");
+        }
+        frame.pinCount--;
+        frame.dirty |= modified;
+    }
+
+    private Frame claimFrame(int pageId) {
+        Frame victim = findVictim();
+        if (victim.pageId >= 0) {
+            if (victim.dirty) {
+                write(victim);
+            }
+            pageTable.remove(victim.pageId);
+            evictions++;
+        }
+        victim.pageId = pageId;
+        victim.pinCount = 1;
+        victim.referenced = true;
+        victim.dirty = false;
+        pageTable.put(pageId, victim);
+        return victim;
+    }
+
+    private Frame findVictim() {
+        // Two sweeps: the first may only clear reference bits
+        for (int scanned = 0; scanned < frames.length * 2; scanned++) {
+            Frame frame = frames[hand];
+            hand = hand + 1 == frames.length ? 0 : hand + 1;
+            if (frame.pinCount > 0) {
+                continue;
+            }
+            if (frame.referenced) {
+                frame.referenced = false;
+                continue;
+            }
+            return frame;
+        }
+        throw new IllegalStateException("All buffer pool frames are pinned");
+    }
+
+    private void write(Frame frame) {
+        try {
+            ByteBuffer buffer = frame.buffer.duplicate();
+            buffer.clear();
+            long position = (long) frame.pageId * pageSize;
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+            frame.dirty = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes every dirty page back and forces the file to disk.
+     *
+     * @throws UncheckedIOException if a write fails
+     */
+    public void flush() {
+        for (Frame frame : frames) {
+            if (frame.pageId >= 0 && frame.dirty) {
+                write(frame);
+            }
+        }
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes and closes the page file.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns the number of pages in the file, including unflushed new pages.
+     *
+     * @return page count
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Returns the number of frames.
+     *
+     * @return capacity in pages
+     */
+    public int getCapacity() {
+        return frames.length;
+    }
+
+    /**
+     * Returns the number of pins served from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of pins that read from the file.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of pages evicted to make room.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictions;
+    }
+}
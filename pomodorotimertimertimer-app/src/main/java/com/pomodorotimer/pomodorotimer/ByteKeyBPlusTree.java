@@ -0,0 +1,570 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * B+ tree over byte-comparable keys, with prefix compression in leaves and
+ * suffix-truncated separators in internal nodes. Keys are compared as unsigned
+ * byte strings; {@link ByteKeys} encodes Strings, longs and composite keys so
+ * that this order matches their natural order.
+ *
+ * <p>Use-case: Indexing tasks by name or by composite keys such as
+ * (userId, time), where {@link BPlusTree} only accepts an int.
+ *
+ * <p>Compression:
+ * <ul>
+ *   <li>Each leaf stores the prefix shared by all of its keys once, and only the
+ *       remaining suffix per entry. Task names like "project-7/task-000123"
+ *       share most of their bytes with their neighbours</li>
+ *   <li>When a leaf splits, the separator pushed up is the shortest prefix of the
+ *       right half's first key that still sorts above the left half's last key,
+ *       so internal nodes hold a few bytes per child instead of whole keys</li>
+ * </ul>
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Search: O(log n) key comparisons</li>
+ *   <li>Insert: O(log n) key comparisons; O(order) to re-split a leaf prefix</li>
+ *   <li>Range Query: O(log n + k) where k is number of results</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(n + total suffix bytes)
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class ByteKeyBPlusTree {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int order;
+    private Node root;
+    private int height;
+    private int size;
+    private InternalNode[] pathNodes;
+    private int[] pathSlots;
+
+    /**
+     * Inner class representing a node in the B+ tree.
+     */
+    private abstract static class Node {
+        int count;
+
+        abstract boolean isLeaf();
+    }
+
+    /**
+     * Inner class representing an internal node. keys[i] is a separator that is
+     * greater than every key under children[i] and at most every key under
+     * children[i + 1].
+     */
+    private static final class InternalNode extends Node {
+        final byte[][] keys;
+        final Node[] children;
+
+        InternalNode(int order) {
+            this.keys = new byte[order][];
+            this.children = new Node[order + 1];
+        }
+
+        @Override
+        boolean isLeaf() {
+            return false;
+        }
+    }
+
+    /**
+     * Inner class representing a leaf node. Entry i has the key prefix + suffixes[i].
+     */
+    private static final class LeafNode extends Node {
+        byte[] prefix = EMPTY;
+        final byte[][] suffixes;
+        final String[] values;
+        LeafNode next;
+
+        LeafNode(int order) {
+            this.suffixes = new byte[order][];
+            this.values = new String[order];
+        }
+
+        @Override
+        boolean isLeaf() {
+            return true;
+        }
+    }
+
+    /**
+     * Constructs a B+ tree with default order.
+     */
+    public ByteKeyBPlusTree() {
+        this(BPlusTree.DEFAULT_ORDER);
+    }
+
+    /**
+     * Constructs a B+ tree with specified order.
+     *
+     * @param order the order of the B+ tree
+     * @throws IllegalArgumentException if order is below 3
+     */
+    public ByteKeyBPlusTree(int order) {
+        if (order < 3) {
+            throw new IllegalArgumentException("Order must be at least 3");
+        }
+        this.order = order;
+        this.root = new LeafNode(order);
+        this.height = 1;
+        this.pathNodes = new InternalNode[8];
+        this.pathSlots = new int[8];
+    }
+
+    /**
+     * Searches for a key.
+     *
+     * @param key the encoded key
+     * @return the value associated with the key, or null if not found
+     * @throws IllegalArgumentException if key is null
+     */
+    public String search(byte[] key) {
+        checkKey(key);
+        LeafNode leaf = findLeaf(key);
+        int index = find(leaf, key);
+        return index >= 0 ? leaf.values[index] : null;
+    }
+
+    /**
+     * Searches for a String key.
+     *
+     * @param key the key
+     * @return the value associated with the key, or null if not found
+     * @throws IllegalArgumentException if key is null
+     */
+    public String search(String key) {
+        return search(ByteKeys.of(key));
+    }
+
+    /**
+     * Inserts a key-value pair, replacing the value if the key exists.
+     * The key array is copied.
+     *
+     * @param key the encoded key
+     * @param value the value
+     * @throws IllegalArgumentException if key is null
+     */
+    public void insert(byte[] key, String value) {
+        checkKey(key);
+        if (pathNodes.length < height) {
+            pathNodes = new InternalNode[height * 2];
+            pathSlots = new int[height * 2];
+        }
+        int depth = 0;
+        Node node = root;
+        while (!node.isLeaf()) {
+            InternalNode internal = (InternalNode) node;
+            int slot = upperBound(internal, key);
+            pathNodes[depth] = internal;
+            pathSlots[depth] = slot;
+            depth++;
+            node = internal.children[slot];
+        }
+        LeafNode leaf = (LeafNode) node;
+        int index = find(leaf, key);
+        if (index >= 0) {
+            leaf.values[index] = value;
+            Arrays.fill(pathNodes, 0, depth, null);
+            return;
+        }
+        index = -(index + 1);
+
+        byte[] suffix;
+        if (leaf.count == 0) {
+            leaf.prefix = key.clone();
+            suffix = EMPTY;
+        } else {
+            int common = ByteKeys.commonPrefix(key, key.length, leaf.prefix, leaf.prefix.length);
+            if (common < leaf.prefix.length) {
+                shrinkPrefix(leaf, common);
+            }
+            suffix = Arrays.copyOfRange(key, leaf.prefix.length, key.length);
+        }
+        System.arraycopy(leaf.suffixes, index, leaf.suffixes, index + 1, leaf.count - index);
+        System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+        leaf.suffixes[index] = suffix;
+        leaf.values[index] = value;
+        leaf.count++;
+        size++;
+        if (leaf.count > order - 1) {
+            splitLeaf(leaf, depth);
+        }
+        Arrays.fill(pathNodes, 0, depth, null);
+    }
+
+    /**
+     * Inserts a String key.
+     *
+     * @param key the key
+     * @param value the value
+     * @throws IllegalArgumentException if key is null
+     */
+    public void insert(String key, String value) {
+        insert(ByteKeys.of(key), value);
+    }
+
+    /**
+     * Performs a range query.
+     *
+     * @param startKey start of range (inclusive)
+     * @param endKey end of range (inclusive)
+     * @return list of values in the range, in key order
+     * @throws IllegalArgumentException if a key is null
+     */
+    public List<String> rangeQuery(byte[] startKey, byte[] endKey) {
+        checkKey(startKey);
+        checkKey(endKey);
+        List<String> result = new ArrayList<>();
+        LeafNode leaf = findLeaf(startKey);
+        int i = find(leaf, startKey);
+        i = i >= 0 ? i : -(i + 1);
+        while (leaf != null) {
+            for (; i < leaf.count; i++) {
+                if (compareEntry(leaf, i, endKey) > 0) {
+                    return result;
+                }
+                result.add(leaf.values[i]);
+            }
+            leaf = leaf.next;
+            i = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Performs a range query over String keys.
+     *
+     * @param startKey start of range (inclusive)
+     * @param endKey end of range (inclusive)
+     * @return list of values in the range, in key order
+     * @throws IllegalArgumentException if a key is null
+     */
+    public List<String> rangeQuery(String startKey, String endKey) {
+        return rangeQuery(ByteKeys.of(startKey), ByteKeys.of(endKey));
+    }
+
+    /**
+     * Returns the values of every key that starts with prefix.
+     *
+     * @param prefix the encoded prefix
+     * @return list of values, in key order
+     * @throws IllegalArgumentException if prefix is null
+     */
+    public List<String> prefixQuery(byte[] prefix) {
+        checkKey(prefix);
+        List<String> result = new ArrayList<>();
+        LeafNode leaf = findLeaf(prefix);
+        int i = find(leaf, prefix);
+        i = i >= 0 ? i : -(i + 1);
+        while (leaf != null) {
+            for (; i < leaf.count; i++) {
+                if (!startsWith(leaf, i, prefix)) {
+                    return result;
+                }
+                result.add(leaf.values[i]);
+            }
+            leaf = leaf.next;
+            i = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values of every String key that starts with prefix.
+     *
+     * @param prefix the prefix
+     * @return list of values, in key order
+     * @throws IllegalArgumentException if prefix is null
+     */
+    public List<String> prefixQuery(String prefix) {
+        return prefixQuery(ByteKeys.of(prefix));
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of levels; 1 when the root is a leaf.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the key bytes actually stored: leaf prefixes, leaf suffixes and
+     * separators. Walks the whole tree.
+     *
+     * @return stored key bytes
+     */
+    public long getStoredKeyBytes() {
+        return storedKeyBytes(root);
+    }
+
+    /**
+     * Returns the key bytes an uncompressed tree of the same shape would store:
+     * every full key in the leaves, and the full first key of the right subtree
+     * for every separator. Walks the whole tree.
+     *
+     * @return uncompressed key bytes
+     */
+    public long getRawKeyBytes() {
+        return rawKeyBytes(root);
+    }
+
+    private long storedKeyBytes(Node node) {
+        long bytes = 0;
+        if (node.isLeaf()) {
+            LeafNode leaf = (LeafNode) node;
+            bytes += leaf.prefix.length;
+            for (int i = 0; i < leaf.count; i++) {
+                bytes += leaf.suffixes[i].length;
+            }
+            return bytes;
+        }
+        InternalNode internal = (InternalNode) node;
+        for (int i = 0; i < internal.count; i++) {
+            bytes += internal.keys[i].length;
+        }
+        for (int i = 0; i <= internal.count; i++) {
+            bytes += storedKeyBytes(internal.children[i]);
+        }
+        return bytes;
+    }
+
+    private long rawKeyBytes(Node node) {
+        long bytes = 0;
+        if (node.isLeaf()) {
+            LeafNode leaf = (LeafNode) node;
+            for (int i = 0; i < leaf.count; i++) {
+                bytes += leaf.prefix.length + leaf.suffixes[i].length;
+            }
+            return bytes;
+        }
+        InternalNode internal = (InternalNode) node;
+        for (int i = 0; i <= internal.count; i++) {
+            if (i > 0) {
+                Node leftmost = internal.children[i];
+                while (!leftmost.isLeaf()) {
+                    leftmost = ((InternalNode) leftmost).children[0];
+                }
+                LeafNode leaf = (LeafNode) leftmost;
+                bytes += leaf.prefix.length + leaf.suffixes[0].length;
+            }
+            bytes += rawKeyBytes(internal.children[i]);
+        }
+        return bytes;
+    }
+
+    private static void checkKey(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+    }
+
+    private LeafNode findLeaf(byte[] key) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            InternalNode internal = (InternalNode) node;
+            node = internal.children[upperBound(internal, key)];
+        }
+        return (LeafNode) node;
+    }
+
+    /**
+     * Returns the number of separators in node that are at most key.
+     */
+    private static int upperBound(InternalNode node, byte[] key) {
+        int low = 0;
+        int high = node.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ByteKeys.compare(node.keys[mid], key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds key in a leaf, in the style of {@link Arrays#binarySearch}: the
+     * entry index if present, otherwise -(insertion point) - 1.
+     */
+    private static int find(LeafNode leaf, byte[] key) {
+        if (leaf.count == 0) {
+            return -1;
+        }
+        byte[] prefix = leaf.prefix;
+        int common = ByteKeys.commonPrefix(key, key.length, prefix, prefix.length);
+        if (common < prefix.length) {
+            // The key does not share the leaf prefix, so it sorts before or after every entry
+            boolean before = common == key.length || (key[common] & 0xFF) < (prefix[common] & 0xFF);
+            return before ? -1 : -(leaf.count + 1);
+        }
+        int low = 0;
+        int high = leaf.count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            byte[] suffix = leaf.suffixes[mid];
+            int cmp = ByteKeys.compare(suffix, 0, suffix.length, key, prefix.length, key.length);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Compares the full key of entry i with key.
+     */
+    private static int compareEntry(LeafNode leaf, int i, byte[] key) {
+        byte[] prefix = leaf.prefix;
+        int shared = Math.min(prefix.length, key.length);
+        int cmp = ByteKeys.compare(prefix, 0, shared, key, 0, shared);
+        if (cmp != 0) {
+            return cmp;
+        }
+        if (key.length < prefix.length) {
+            return 1;
+        }
+        byte[] suffix = leaf.suffixes[i];
+        return ByteKeys.compare(suffix, 0, suffix.length, key, prefix.length, key.length);
+    }
+
+    private static boolean startsWith(LeafNode leaf, int i, byte[] start) {
+        byte[] prefix = leaf.prefix;
+        byte[] suffix = leaf.suffixes[i];
+        if (prefix.length + suffix.length < start.length) {
+            return false;
+        }
+        for (int j = 0; j < start.length; j++) {
+            byte b = j < prefix.length ? prefix[j] : suffix[j - prefix.length];
+            if (b != start[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Shortens the leaf prefix to length, moving the dropped bytes into every suffix.
+     */
+    private static void shrinkPrefix(LeafNode leaf, int length) {
+        byte[] prefix = leaf.prefix;
+        int dropped = prefix.length - length;
+        for (int i = 0; i < leaf.count; i++) {
+            byte[] suffix = leaf.suffixes[i];
+            byte[] longer = new byte[dropped + suffix.length];
+            System.arraycopy(prefix, length, longer, 0, dropped);
+            System.arraycopy(suffix, 0, longer, dropped, suffix.length);
+            leaf.suffixes[i] = longer;
+        }
+        leaf.prefix = Arrays.copyOf(prefix, length);
+    }
+
+    /**
+     * Lengthens the leaf prefix to everything its first and last keys share;
+     * since entries are sorted, every key in between shares it too.
+     */
+    private static void growPrefix(LeafNode leaf) {
+        byte[] first = leaf.suffixes[0];
+        byte[] last = leaf.suffixes[leaf.count - 1];
+        int extra = ByteKeys.commonPrefix(first, first.length, last, last.length);
+        if (extra == 0) {
+            return;
+        }
+        byte[] prefix = Arrays.copyOf(leaf.prefix, leaf.prefix.length + extra);
+        System.arraycopy(first, 0, prefix, leaf.prefix.length, extra);
+        for (int i = 0; i < leaf.count; i++) {
+            leaf.suffixes[i] = Arrays.copyOfRange(leaf.suffixes[i], extra, leaf.suffixes[i].length);
+        }
+        leaf.prefix = prefix;
+    }
+
+    private void splitLeaf(LeafNode leaf, int depth) {
+        int mid = leaf.count / 2;
+        LeafNode newLeaf = new LeafNode(order);
+        newLeaf.count = leaf.count - mid;
+        newLeaf.prefix = leaf.prefix;
+        System.arraycopy(leaf.suffixes, mid, newLeaf.suffixes, 0, newLeaf.count);
+        System.arraycopy(leaf.values, mid, newLeaf.values, 0, newLeaf.count);
+        Arrays.fill(leaf.suffixes, mid, leaf.count, null);
+        Arrays.fill(leaf.values, mid, leaf.count, null);
+        leaf.count = mid;
+
+        // Shortest separator: the right half's first key cut one byte past
+        // where it first differs from the left half's last key
+        byte[] leftLast = leaf.suffixes[mid - 1];
+        byte[] rightFirst = newLeaf.suffixes[0];
+        int common = ByteKeys.commonPrefix(leftLast, leftLast.length, rightFirst, rightFirst.length);
+        byte[] separator = new byte[leaf.prefix.length + common + 1];
+        System.arraycopy(leaf.prefix, 0, separator, 0, leaf.prefix.length);
+        System.arraycopy(rightFirst, 0, separator, leaf.prefix.length, common + 1);
+
+        growPrefix(leaf);
+        growPrefix(newLeaf);
+        newLeaf.next = leaf.next;
+        leaf.next = newLeaf;
+        insertIntoParent(depth, leaf, separator, newLeaf);
+    }
+
+    private void insertIntoParent(int depth, Node left, byte[] key, Node right) {
+        while (true) {
+            if (depth == 0) {
+                InternalNode newRoot = new InternalNode(order);
+                newRoot.keys[0] = key;
+                newRoot.children[0] = left;
+                newRoot.children[1] = right;
+                newRoot.count = 1;
+                root = newRoot;
+                height++;
+                return;
+            }
+            depth--;
+            InternalNode parent = pathNodes[depth];
+            int index = pathSlots[depth];
+            System.arraycopy(parent.keys, index, parent.keys, index + 1, parent.count - index);
+            System.arraycopy(parent.children, index + 1, parent.children, index + 2, parent.count - index);
+            parent.keys[index] = key;
+            parent.children[index + 1] = right;
+            parent.count++;
+            if (parent.count + 1 <= order) {
+                return;
+            }
+
+            // Split: the middle key moves up and stays in neither half
+            int mid = parent.count / 2;
+            InternalNode sibling = new InternalNode(order);
+            key = parent.keys[mid];
+            sibling.count = parent.count - mid - 1;
+            System.arraycopy(parent.keys, mid + 1, sibling.keys, 0, sibling.count);
+            System.arraycopy(parent.children, mid + 1, sibling.children, 0, sibling.count + 1);
+            Arrays.fill(parent.keys, mid, parent.count, null);
+            Arrays.fill(parent.children, mid + 1, parent.count + 1, null);
+            parent.count = mid;
+            left = parent;
+            right = sibling;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Order-preserving byte encodings of index keys for {@link ByteKeyBPlusTree}.
+ * For every encoding, comparing two encoded keys with {@link #compare(byte[], byte[])}
+ * (unsigned, lexicographic) gives the same order as comparing the original keys.
+ *
+ * <p>Use-case: Indexing tasks by name, by timestamp or by composite keys such as
+ * (userId, time) in one tree, while the tree itself only compares bytes.
+ *
+ * <p>Encodings:
+ * <ul>
+ *   <li>int and long: big-endian with the sign bit flipped, so negative values sort first.
+ *       Long keys, such as timestamps, index the same way as ints</li>
+ *   <li>String: UTF-8, which sorts by Unicode code point</li>
+ *   <li>Composite: fixed-width parts concatenated; a String part comes last so its
+ *       variable length never shifts the fields after it</li>
+ * </ul>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class ByteKeys {
+
+    private ByteKeys() {
+    }
+
+    /**
+     * Encodes an int key.
+     *
+     * @param value the key
+     * @return 4 order-preserving bytes
+     */
+    public static byte[] of(int value) {
+        int flipped = value ^ Integer.MIN_VALUE;
+        return new byte[] {
+            (byte) (flipped >>> 24), (byte) (flipped >>> 16), (byte) (flipped >>> 8), (byte) flipped
+        };
+    }
+
+    /**
+     * Encodes a long key.
+     *
+     * @param value the key
+     * @return 8 order-preserving bytes
+     */
+    public static byte[] of(long value) {
+        byte[] bytes = new byte[8];
+        putLong(bytes, 0, value);
+        return bytes;
+    }
+
+    /**
+     * Encodes a String key as UTF-8.
+     *
+     * @param value the key
+     * @return the UTF-8 bytes
+     * @throws IllegalArgumentException if value is null
+     */
+    public static byte[] of(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes a composite (int, int) key, e.g. (userId, minute of the day).
+     *
+     * @param first the major component
+     * @param second the minor component
+     * @return 8 order-preserving bytes
+     */
+    public static byte[] of(int first, int second) {
+        byte[] bytes = new byte[8];
+        System.arraycopy(of(first), 0, bytes, 0, 4);
+        System.arraycopy(of(second), 0, bytes, 4, 4);
+        return bytes;
+    }
+
+    /**
+     * Encodes a composite (int, long) key, e.g. (userId, timestamp).
+     *
+     * @param first the major component
+     * @param second the minor component
+     * @return 12 order-preserving bytes
+     */
+    public static byte[] of(int first, long second) {
+        byte[] bytes = new byte[12];
+        System.arraycopy(of(first), 0, bytes, 0, 4);
+        putLong(bytes, 4, second);
+        return bytes;
+    }
+
+    /**
+     * Encodes a composite (long, String) key, e.g. (projectId, task name).
+     *
+     * @param first the major component
+     * @param second the minor component
+     * @return 8 order-preserving bytes followed by the UTF-8 bytes of second
+     * @throws IllegalArgumentException if second is null
+     */
+    public static byte[] of(long first, String second) {
+        byte[] text = of(second);
+        byte[] bytes = new byte[8 + text.length];
+        putLong(bytes, 0, first);
+        System.arraycopy(text, 0, bytes, 8, text.length);
+        return bytes;
+    }
+
+    /**
+     * Decodes a key produced by {@link #of(long)}.
+     *
+     * @param bytes the encoded key
+     * @return the long value
+     * @throws IllegalArgumentException if bytes is not 8 bytes long
+     */
+    public static long toLong(byte[] bytes) {
+        if (bytes.length != 8) {
+            throw new IllegalArgumentException("Expected 8 bytes, got " + bytes.length);
+        }
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Compares two keys as unsigned byte strings.
+     *
+     * @param a first key
+     * @param b second key
+     * @return negative, zero or positive as a is less than, equal to or greater than b
+     */
+    public static int compare(byte[] a, byte[] b) {
+        return compare(a, 0, a.length, b, 0, b.length);
+    }
+
+    /**
+     * Compares a[aFrom, aTo) with b[bFrom, bTo) as unsigned byte strings.
+     */
+    static int compare(byte[] a, int aFrom, int aTo, byte[] b, int bFrom, int bTo) {
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        for (int i = 0; i < length; i++) {
+            int diff = (a[aFrom + i] & 0xFF) - (b[bFrom + i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the length of the longest common prefix of a[0, aLength) and b[0, bLength).
+     */
+    static int commonPrefix(byte[] a, int aLength, byte[] b, int bLength) {
+        int length = Math.min(aLength, bLength);
+        int i = 0;
+        while (i < length && a[i] == b[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static void putLong(byte[] bytes, int offset, long value) {
+        long flipped = value ^ Long.MIN_VALUE;
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) flipped;
+            flipped >>>= 8;
+        }
+    }
+}
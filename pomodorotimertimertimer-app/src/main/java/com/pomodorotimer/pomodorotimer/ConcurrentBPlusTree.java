@@ -0,0 +1,417 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe B+ tree with optimistic lock coupling. Same int-key, String-value
+ * interface as {@link BPlusTree}.
+ *
+ * <p>Use-case: The task index, which the Swing event thread searches while
+ * imports and the timer thread insert into it.
+ *
+ * <p>Design:
+ * <ul>
+ *   <li>Every node carries a {@link StampedLock} used as a version counter.
+ *       Readers take no lock: they read a node under an optimistic stamp and
+ *       validate it afterwards, retrying if a writer changed the node meanwhile</li>
+ *   <li>Writers descend the same way and upgrade only the stamps of the nodes they
+ *       change to write locks: the leaf, or a full node and its parent when it
+ *       has to be split. Full nodes are split on the way down, so a split never
+ *       needs to propagate beyond one parent</li>
+ *   <li>Nodes only split to the right and a leaf remembers the first key of its
+ *       right sibling, as in a B-link tree. A reader that reaches a leaf just
+ *       after it split follows {@code next} instead of restarting from the root,
+ *       and range scans walk the leaf chain one validated leaf at a time</li>
+ * </ul>
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Search: O(log n), never blocks</li>
+ *   <li>Insert: O(log n); contends only with writers to the same leaf or to a node being split</li>
+ *   <li>Range Query: O(log n + k) where k is number of results</li>
+ * </ul>
+ *
+ * <p>A range query sees each leaf atomically, but not the whole range: keys
+ * inserted concurrently into leaves it has already passed are not returned.
+ *
+ * <p>Space Complexity: O(n)
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class ConcurrentBPlusTree {
+
+    private static final int SPINS_BEFORE_YIELD = 64;
+
+    private final int order;
+    private volatile Node root;
+    private volatile int height;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Inner class representing a node. Fields are written only under the write
+     * lock and read either under it or between an optimistic stamp and its
+     * validation.
+     */
+    private abstract static class Node {
+        final StampedLock lock = new StampedLock();
+        final int[] keys;
+        int count;
+
+        Node(int capacity) {
+            this.keys = new int[capacity];
+        }
+
+        abstract boolean isLeaf();
+    }
+
+    /**
+     * Inner class representing an internal node with up to order children.
+     */
+    private static final class InternalNode extends Node {
+        final Node[] children;
+
+        InternalNode(int order) {
+            super(order - 1);
+            this.children = new Node[order];
+        }
+
+        @Override
+        boolean isLeaf() {
+            return false;
+        }
+    }
+
+    /**
+     * Inner class representing a leaf node with up to order - 1 entries.
+     * Keys at or above highKey live to the right when hasHighKey is set.
+     */
+    private static final class LeafNode extends Node {
+        final String[] values;
+        LeafNode next;
+        int highKey;
+        boolean hasHighKey;
+
+        LeafNode(int order) {
+            super(order - 1);
+            this.values = new String[order - 1];
+        }
+
+        @Override
+        boolean isLeaf() {
+            return true;
+        }
+    }
+
+    /**
+     * Constructs a concurrent B+ tree with default order.
+     */
+    public ConcurrentBPlusTree() {
+        this(BPlusTree.DEFAULT_ORDER);
+    }
+
+    /**
+     * Constructs a concurrent B+ tree with specified order.
+     *
+     * @param order the order of the B+ tree
+     * @throws IllegalArgumentException if order is below 3
+     */
+    public ConcurrentBPlusTree(int order) {
+        if (order < 3) {
+            throw new IllegalArgumentException("Order must be at least 3");
+        }
+        this.order = order;
+        this.root = new LeafNode(order);
+        this.height = 1;
+    }
+
+    /**
+     * Searches for a key without taking any lock.
+     *
+     * @param key the key to search for
+     * @return the value associated with the key, or null if not found
+     */
+    public String search(int key) {
+        LeafNode leaf = findLeaf(key);
+        int spins = 0;
+        while (true) {
+            long stamp = leaf.lock.tryOptimisticRead();
+            if (stamp == 0) {
+                spins = backoff(spins);
+                continue;
+            }
+            if (leaf.hasHighKey && key >= leaf.highKey) {
+                LeafNode next = leaf.next;
+                if (leaf.lock.validate(stamp)) {
+                    leaf = next;
+                }
+                continue;
+            }
+            int index = BPlusTree.lowerBound(leaf.keys, leaf.count, key);
+            String value = index < leaf.count && leaf.keys[index] == key ? leaf.values[index] : null;
+            if (leaf.lock.validate(stamp)) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Descends to a leaf whose key range starts at or below key. Because nodes
+     * only split to the right, the leaf for key is that one or a later one in
+     * the leaf chain.
+     */
+    private LeafNode findLeaf(int key) {
+        int spins = 0;
+        restart:
+        while (true) {
+            Node node = root;
+            long stamp = node.lock.tryOptimisticRead();
+            while (!node.isLeaf()) {
+                if (stamp == 0) {
+                    spins = backoff(spins);
+                    continue restart;
+                }
+                InternalNode internal = (InternalNode) node;
+                Node child = internal.children[BPlusTree.upperBound(internal.keys, internal.count, key)];
+                if (child == null || !internal.lock.validate(stamp)) {
+                    continue restart;
+                }
+                node = child;
+                stamp = node.lock.tryOptimisticRead();
+            }
+            return (LeafNode) node;
+        }
+    }
+
+    /**
+     * Inserts a key-value pair, replacing the value if the key exists.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void insert(int key, String value) {
+        int spins = 0;
+        restart:
+        while (true) {
+            Node node = root;
+            long stamp = node.lock.tryOptimisticRead();
+            if (stamp == 0 || node != root) {
+                spins = backoff(spins);
+                continue;
+            }
+            InternalNode parent = null;
+            long parentStamp = 0;
+
+            while (true) {
+                if (node.count == node.keys.length) {
+                    splitFull(parent, parentStamp, node, stamp);
+                    continue restart;
+                }
+                if (node.isLeaf()) {
+                    break;
+                }
+                InternalNode internal = (InternalNode) node;
+                Node child = internal.children[BPlusTree.upperBound(internal.keys, internal.count, key)];
+                long childStamp = child == null ? 0 : child.lock.tryOptimisticRead();
+                // The parent must be unchanged after the child's stamp was taken
+                if (childStamp == 0 || !internal.lock.validate(stamp)) {
+                    spins = backoff(spins);
+                    continue restart;
+                }
+                parent = internal;
+                parentStamp = stamp;
+                node = child;
+                stamp = childStamp;
+            }
+
+            LeafNode leaf = (LeafNode) node;
+            long writeStamp = leaf.lock.tryConvertToWriteLock(stamp);
+            if (writeStamp == 0) {
+                spins = backoff(spins);
+                continue;
+            }
+            try {
+                int index = BPlusTree.lowerBound(leaf.keys, leaf.count, key);
+                if (index < leaf.count && leaf.keys[index] == key) {
+                    leaf.values[index] = value;
+                } else {
+                    System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+                    System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+                    leaf.keys[index] = key;
+                    leaf.values[index] = value;
+                    leaf.count++;
+                    size.increment();
+                }
+            } finally {
+                leaf.lock.unlockWrite(writeStamp);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Splits a full node, locking its parent first. Gives up silently if either
+     * stamp is stale; the caller restarts in both cases.
+     */
+    private void splitFull(InternalNode parent, long parentStamp, Node node, long stamp) {
+        long parentWrite = 0;
+        if (parent != null) {
+            parentWrite = parent.lock.tryConvertToWriteLock(parentStamp);
+            if (parentWrite == 0) {
+                return;
+            }
+        }
+        long nodeWrite = node.lock.tryConvertToWriteLock(stamp);
+        if (nodeWrite == 0) {
+            if (parent != null) {
+                parent.lock.unlockWrite(parentWrite);
+            }
+            return;
+        }
+        try {
+            if (parent == null && node != root) {
+                return;
+            }
+            int separator;
+            Node right;
+            if (node.isLeaf()) {
+                LeafNode leaf = (LeafNode) node;
+                int mid = leaf.count / 2;
+                LeafNode sibling = new LeafNode(order);
+                sibling.count = leaf.count - mid;
+                System.arraycopy(leaf.keys, mid, sibling.keys, 0, sibling.count);
+                System.arraycopy(leaf.values, mid, sibling.values, 0, sibling.count);
+                sibling.next = leaf.next;
+                sibling.highKey = leaf.highKey;
+                sibling.hasHighKey = leaf.hasHighKey;
+                separator = sibling.keys[0];
+                leaf.next = sibling;
+                leaf.highKey = separator;
+                leaf.hasHighKey = true;
+                Arrays.fill(leaf.values, mid, leaf.count, null);
+                leaf.count = mid;
+                right = sibling;
+            } else {
+                InternalNode internal = (InternalNode) node;
+                int mid = internal.count / 2;
+                InternalNode sibling = new InternalNode(order);
+                separator = internal.keys[mid];
+                sibling.count = internal.count - mid - 1;
+                System.arraycopy(internal.keys, mid + 1, sibling.keys, 0, sibling.count);
+                System.arraycopy(internal.children, mid + 1, sibling.children, 0, sibling.count + 1);
+                Arrays.fill(internal.children, mid + 1, internal.count + 1, null);
+                internal.count = mid;
+                right = sibling;
+            }
+
+            if (parent == null) {
+                InternalNode newRoot = new InternalNode(order);
+                newRoot.keys[0] = separator;
+                newRoot.children[0] = node;
+                newRoot.children[1] = right;
+                newRoot.count = 1;
+                height++;
+                root = newRoot;
+            } else {
+                int index = BPlusTree.upperBound(parent.keys, parent.count, separator);
+                System.arraycopy(parent.keys, index, parent.keys, index + 1, parent.count - index);
+                System.arraycopy(parent.children, index + 1, parent.children, index + 2, parent.count - index);
+                parent.keys[index] = separator;
+                parent.children[index + 1] = right;
+                parent.count++;
+            }
+        } finally {
+            node.lock.unlockWrite(nodeWrite);
+            if (parent != null) {
+                parent.lock.unlockWrite(parentWrite);
+            }
+        }
+    }
+
+    /**
+     * Performs a range query without taking any lock. Each leaf is read under
+     * one validated stamp; a leaf changed during the read is read again.
+     *
+     * @param startKey start of range (inclusive)
+     * @param endKey end of range (inclusive)
+     * @return list of values in the range, in key order
+     */
+    public List<String> rangeQuery(int startKey, int endKey) {
+        List<String> result = new ArrayList<>();
+        if (startKey > endKey) {
+            return result;
+        }
+        LeafNode leaf = findLeaf(startKey);
+        int spins = 0;
+        while (leaf != null) {
+            long stamp = leaf.lock.tryOptimisticRead();
+            if (stamp == 0) {
+                spins = backoff(spins);
+                continue;
+            }
+            int mark = result.size();
+            int count = leaf.count;
+            int i = BPlusTree.lowerBound(leaf.keys, count, startKey);
+            boolean done = false;
+            for (; i < count; i++) {
+                if (leaf.keys[i] > endKey) {
+                    done = true;
+                    break;
+                }
+                result.add(leaf.values[i]);
+            }
+            LeafNode next = leaf.next;
+            if (!leaf.lock.validate(stamp)) {
+                result.subList(mark, result.size()).clear();
+                continue;
+            }
+            if (done) {
+                return result;
+            }
+            leaf = next;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of keys. Exact when no insert is in progress.
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return size.intValue();
+    }
+
+    /**
+     * Checks if the tree is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size.sum() == 0;
+    }
+
+    /**
+     * Returns the number of levels; 1 when the root is a leaf.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Spins briefly, then yields, while another thread holds a node's write lock.
+     */
+    private static int backoff(int spins) {
+        if (spins >= SPINS_BEFORE_YIELD) {
+            Thread.yield();
+            return 0;
+        }
+        return spins + 1;
+    }
+}
@@ -0,0 +1,391 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe Hash Table with lock striping, lock-free reads and incremental resizing.
+ * The key space is split into independently locked segments; each segment is a
+ * chained hash table like {@link HashTable}.
+ *
+ * <p>Use-case: Sharing the task database between the timer thread, the Swing
+ * event thread and background sync workers.
+ *
+ * <p>Design:
+ * <ul>
+ *   <li>Writers lock only the segment that owns the key, so writers to different
+ *       segments never contend</li>
+ *   <li>Readers take no lock: chain nodes have final keys and links and a volatile
+ *       value, and buckets are read through an {@link AtomicReferenceArray}</li>
+ *   <li>When a segment grows, the new table is filled incrementally: every write to
+ *       the segment moves its own bucket plus a few more, leaving a forwarding
+ *       marker behind, so no single writer pays for the whole rehash</li>
+ * </ul>
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Insert: O(1) average</li>
+ *   <li>Search: O(1) average, never blocks</li>
+ *   <li>Delete: O(1) average</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(n) where n is the number of key-value pairs
+ *
+ * @param <K> the type of keys maintained by this hash table
+ * @param <V> the type of mapped values
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class ConcurrentHashTable<K, V> {
+
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int DEFAULT_SEGMENT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    /**
+     * Buckets moved to the new table per write while a segment is resizing.
+     */
+    static final int MIGRATION_STEP = 4;
+
+    /**
+     * Inner class representing a chain node. Only the value may change after publication.
+     */
+    private static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Marker left in a bucket of an old table after its chain has been copied.
+     */
+    private static final class ForwardingNode<K, V> extends Node<K, V> {
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+
+        ForwardingNode(AtomicReferenceArray<Node<K, V>> nextTable) {
+            super(0, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * Inner class representing one lock stripe.
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        /** Oldest table still holding live chains; readers start here. */
+        volatile AtomicReferenceArray<Node<K, V>> readTable;
+        /** Newest table; writers insert here. */
+        AtomicReferenceArray<Node<K, V>> table;
+        /** Table being drained while resizing, or null. */
+        AtomicReferenceArray<Node<K, V>> migrating;
+        int migrateIndex;
+        volatile int count;
+        int threshold;
+
+        Segment(int capacity) {
+            this.table = new AtomicReferenceArray<>(capacity);
+            this.readTable = table;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        V get(Object key, int hash) {
+            AtomicReferenceArray<Node<K, V>> tab = readTable;
+            while (true) {
+                Node<K, V> node = tab.get(hash & (tab.length() - 1));
+                if (node instanceof ForwardingNode) {
+                    tab = ((ForwardingNode<K, V>) node).nextTable;
+                    continue;
+                }
+                for (; node != null; node = node.next) {
+                    if (node.hash == hash && key.equals(node.key)) {
+                        return node.value;
+                    }
+                }
+                return null;
+            }
+        }
+
+        V put(K key, int hash, V value, boolean onlyIfAbsent) {
+            lock();
+            try {
+                helpMigrate(hash);
+                int index = hash & (table.length() - 1);
+                Node<K, V> head = table.get(index);
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    if (node.hash == hash && key.equals(node.key)) {
+                        V previous = node.value;
+                        if (!onlyIfAbsent) {
+                            node.value = value;
+                        }
+                        return previous;
+                    }
+                }
+                table.set(index, new Node<>(hash, key, value, head));
+                count++;
+                if (count > threshold) {
+                    startResize();
+                }
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        V remove(Object key, int hash) {
+            lock();
+            try {
+                helpMigrate(hash);
+                int index = hash & (table.length() - 1);
+                Node<K, V> head = table.get(index);
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    if (node.hash == hash && key.equals(node.key)) {
+                        // Links are final: rebuild the prefix in front of the removed node
+                        Node<K, V> newHead = node.next;
+                        for (Node<K, V> p = head; p != node; p = p.next) {
+                            newHead = new Node<>(p.hash, p.key, p.value, newHead);
+                        }
+                        table.set(index, newHead);
+                        count--;
+                        return node.value;
+                    }
+                }
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> fresh = new AtomicReferenceArray<>(table.length());
+                table = fresh;
+                migrating = null;
+                readTable = fresh;
+                count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Moves the bucket that owns {@code hash} plus {@link #MIGRATION_STEP} more
+         * buckets from the draining table to the new one. Caller holds the lock.
+         */
+        private void helpMigrate(int hash) {
+            if (migrating == null) {
+                return;
+            }
+            transferBucket(hash & (migrating.length() - 1));
+            for (int i = 0; i < MIGRATION_STEP && migrateIndex < migrating.length(); i++) {
+                transferBucket(migrateIndex++);
+            }
+            while (migrateIndex < migrating.length()
+                    && migrating.get(migrateIndex) instanceof ForwardingNode) {
+                migrateIndex++;
+            }
+            if (migrateIndex >= migrating.length()) {
+                migrating = null;
+                readTable = table;
+            }
+        }
+
+        private void transferBucket(int index) {
+            Node<K, V> head = migrating.get(index);
+            if (head instanceof ForwardingNode) {
+                return;
+            }
+            int mask = table.length() - 1;
+            for (Node<K, V> node = head; node != null; node = node.next) {
+                int newIndex = node.hash & mask;
+                table.set(newIndex, new Node<>(node.hash, node.key, node.value, table.get(newIndex)));
+            }
+            migrating.set(index, new ForwardingNode<>(table));
+        }
+
+        private void startResize() {
+            if (migrating != null) {
+                // Previous resize still draining: finish it before starting another
+                while (migrating != null) {
+                    helpMigrate(0);
+                }
+            }
+            migrating = table;
+            migrateIndex = 0;
+            table = new AtomicReferenceArray<>(migrating.length() * 2);
+            threshold = (int) (table.length() * LOAD_FACTOR);
+        }
+    }
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+
+    /**
+     * Constructs a concurrent hash table with default concurrency level.
+     */
+    public ConcurrentHashTable() {
+        this(DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructs a concurrent hash table.
+     *
+     * @param concurrencyLevel expected number of concurrently writing threads,
+     *        rounded up to a power of two segments
+     * @throws IllegalArgumentException if concurrencyLevel is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashTable(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+        int count = 1;
+        int shift = 0;
+        while (count < Math.min(concurrencyLevel, MAX_SEGMENTS)) {
+            count <<= 1;
+            shift++;
+        }
+        this.segmentShift = 32 - shift;
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(DEFAULT_SEGMENT_CAPACITY);
+        }
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        // High bits pick the segment, low bits pick the bucket inside it
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private static void checkNotNull(Object o, String what) {
+        if (o == null) {
+            throw new IllegalArgumentException(what + " cannot be null");
+        }
+    }
+
+    /**
+     * Inserts a key-value pair into the hash table.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or null if key was absent
+     * @throws IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+        checkNotNull(key, "Key");
+        checkNotNull(value, "Value");
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).put(key, hash, value, false);
+    }
+
+    /**
+     * Inserts a key-value pair only if the key is not already present.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the existing value, or null if the pair was inserted
+     * @throws IllegalArgumentException if key or value is null
+     */
+    public V putIfAbsent(K key, V value) {
+        checkNotNull(key, "Key");
+        checkNotNull(value, "Value");
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).put(key, hash, value, true);
+    }
+
+    /**
+     * Retrieves the value associated with a key without locking.
+     *
+     * @param key the key
+     * @return the value, or null if key not found
+     */
+    public V get(K key) {
+        checkNotNull(key, "Key");
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).get(key, hash);
+    }
+
+    /**
+     * Removes a key-value pair from the hash table.
+     *
+     * @param key the key to remove
+     * @return the value that was removed, or null if key not found
+     */
+    public V remove(K key) {
+        checkNotNull(key, "Key");
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).remove(key, hash);
+    }
+
+    /**
+     * Checks if the hash table contains a key.
+     *
+     * @param key the key to check
+     * @return true if key exists, false otherwise
+     */
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the number of key-value pairs. Under concurrent writes this is
+     * a moment-in-time estimate.
+     *
+     * @return the size
+     */
+    public int size() {
+        long sum = 0;
+        for (Segment<K, V> segment : segments) {
+            sum += segment.count;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks if the hash table is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all key-value pairs, one segment at a time.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns the number of lock stripes.
+     *
+     * @return segment count
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+}
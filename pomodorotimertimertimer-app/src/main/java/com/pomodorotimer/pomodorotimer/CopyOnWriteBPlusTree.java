@@ -0,0 +1,652 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * B+ tree with copy-on-write (path-copying) updates and snapshot reads.
+ * Every insert copies the nodes on the path from the changed leaf to the root
+ * and publishes a new immutable version; {@link #snapshot()} pins a version
+ * that stays readable, unchanged, while writers continue.
+ *
+ * <p>Use-case: Long report scans over the task index that must neither block
+ * imports nor observe a half-applied insert.
+ *
+ * <p>Design:
+ * <ul>
+ *   <li>Published nodes are never modified, so readers take no lock. Leaves have
+ *       no sibling links, since relinking a neighbour would force copying it too;
+ *       range scans descend from the root instead</li>
+ *   <li>Writers are serialized by one lock and each produces a version with the
+ *       next epoch number</li>
+ *   <li>Epoch-based reclamation: nodes replaced by a write are retired with the
+ *       epoch of the last version that contains them. Every reader pins the
+ *       epoch it reads in a slot it holds for one search or for the life of
+ *       a snapshot. Once no pin is at or below a node's retire epoch, the node
+ *       is recycled for later path copies instead of being left to the garbage
+ *       collector</li>
+ *   <li>Slots are reused: a released slot goes to the next reader, and each
+ *       thread first retries the slot it used last, so there are only as many
+ *       slots as readers ever held pins at the same time, however many threads
+ *       come and go</li>
+ * </ul>
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Search: O(log n)</li>
+ *   <li>Insert: O(order * log n), copying one node per level</li>
+ *   <li>Range Query: O(log n + k) where k is number of results</li>
+ *   <li>Snapshot: O(number of slots) to find a free one</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(n), plus the nodes kept alive by open snapshots
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class CopyOnWriteBPlusTree {
+
+    private static final long UNPINNED = Long.MAX_VALUE;
+
+    /**
+     * Retired nodes accumulated before the writer scans the pins.
+     */
+    static final int RECLAIM_BATCH = 64;
+
+    /**
+     * Recycled nodes kept per kind; beyond this they are left to the GC.
+     */
+    static final int MAX_FREE_NODES = 4096;
+
+    private final int order;
+    private volatile Version current;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final CopyOnWriteArrayList<Slot> slots = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Slot> lastSlot = new ThreadLocal<>();
+
+    // Writer state, guarded by writeLock
+    private final ArrayDeque<Node> limbo = new ArrayDeque<>();
+    private final ArrayDeque<LeafNode> freeLeaves = new ArrayDeque<>();
+    private final ArrayDeque<InternalNode> freeInternals = new ArrayDeque<>();
+    private Node[] pathNodes = new Node[8];
+    private int[] pathSlots = new int[8];
+    private final List<Node> replaced = new ArrayList<>();
+    private long writes;
+    private long copiedNodes;
+    private long reusedNodes;
+
+    /**
+     * Immutable published state of the tree.
+     */
+    private static final class Version {
+        final Node root;
+        final int size;
+        final int height;
+        final long epoch;
+
+        Version(Node root, int size, int height, long epoch) {
+            this.root = root;
+            this.size = size;
+            this.height = height;
+            this.epoch = epoch;
+        }
+    }
+
+    /**
+     * Epoch pin of one reader; UNPINNED when it holds no version. A reader
+     * owns the slot while inUse is set.
+     */
+    private static final class Slot {
+        final AtomicBoolean inUse = new AtomicBoolean();
+        volatile long epoch = UNPINNED;
+    }
+
+    /**
+     * Inner class representing a node. Immutable once reachable from a version.
+     */
+    private abstract static class Node {
+        final int[] keys;
+        int count;
+        long retiredAt;
+
+        Node(int capacity) {
+            this.keys = new int[capacity];
+        }
+
+        abstract boolean isLeaf();
+    }
+
+    /**
+     * Inner class representing an internal node with one spare child slot for overflow.
+     */
+    private static final class InternalNode extends Node {
+        final Node[] children;
+
+        InternalNode(int order) {
+            super(order);
+            this.children = new Node[order + 1];
+        }
+
+        @Override
+        boolean isLeaf() {
+            return false;
+        }
+    }
+
+    /**
+     * Inner class representing a leaf node with one spare entry slot for overflow.
+     */
+    private static final class LeafNode extends Node {
+        final String[] values;
+
+        LeafNode(int order) {
+            super(order);
+            this.values = new String[order];
+        }
+
+        @Override
+        boolean isLeaf() {
+            return true;
+        }
+    }
+
+    /**
+     * Read-only view of the tree as of one version. Unaffected by later inserts.
+     * Close it when done so the nodes it pins can be recycled.
+     */
+    public final class Snapshot implements AutoCloseable {
+        private final Slot slot;
+        private final Version version;
+        private boolean closed;
+
+        private Snapshot(Slot slot, Version version) {
+            this.slot = slot;
+            this.version = version;
+        }
+
+        /**
+         * Searches for a key in this snapshot.
+         *
+         * @param key the key to search for
+         * @return the value associated with the key, or null if not found
+         * @throws IllegalStateException if the snapshot is closed
+         */
+        public String search(int key) {
+            checkOpen();
+            return CopyOnWriteBPlusTree.search(version.root, key);
+        }
+
+        /**
+         * Performs a range query over this snapshot.
+         *
+         * @param startKey start of range (inclusive)
+         * @param endKey end of range (inclusive)
+         * @return list of values in the range, in key order
+         * @throws IllegalStateException if the snapshot is closed
+         */
+        public List<String> rangeQuery(int startKey, int endKey) {
+            checkOpen();
+            List<String> result = new ArrayList<>();
+            collect(version.root, startKey, endKey, result);
+            return result;
+        }
+
+        /**
+         * Returns the number of keys in this snapshot.
+         *
+         * @return number of keys
+         */
+        public int size() {
+            return version.size;
+        }
+
+        /**
+         * Returns the epoch of the version this snapshot reads.
+         *
+         * @return the version epoch
+         */
+        public long getVersion() {
+            return version.epoch;
+        }
+
+        /**
+         * Releases the pin. Calling it again has no effect.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(slot);
+            }
+        }
+
+        private void checkOpen() {
+            if (closed) {
+                throw new IllegalStateException("Snapshot is closed");
+            }
+        }
+    }
+
+    /**
+     * Constructs a copy-on-write B+ tree with default order.
+     */
+    public CopyOnWriteBPlusTree() {
+        this(BPlusTree.DEFAULT_ORDER);
+    }
+
+    /**
+     * Constructs a copy-on-write B+ tree with specified order.
+     *
+     * @param order the order of the B+ tree
+     * @throws IllegalArgumentException if order is below 3
+     */
+    public CopyOnWriteBPlusTree(int order) {
+        if (order < 3) {
+            throw new IllegalArgumentException("Order must be at least 3");
+        }
+        this.order = order;
+        this.current = new Version(new LeafNode(order), 0, 1, 0);
+    }
+
+    /**
+     * Pins the current version for reading until the snapshot is closed.
+     *
+     * @return a snapshot of the tree
+     */
+    public Snapshot snapshot() {
+        Slot slot = acquire();
+        return new Snapshot(slot, pin(slot));
+    }
+
+    /**
+     * Searches the latest version without blocking.
+     *
+     * @param key the key to search for
+     * @return the value associated with the key, or null if not found
+     */
+    public String search(int key) {
+        Slot slot = acquireForThread();
+        Version version = pin(slot);
+        try {
+            return search(version.root, key);
+        } finally {
+            release(slot);
+        }
+    }
+
+    /**
+     * Performs a range query over the latest version without blocking.
+     *
+     * @param startKey start of range (inclusive)
+     * @param endKey end of range (inclusive)
+     * @return list of values in the range, in key order
+     */
+    public List<String> rangeQuery(int startKey, int endKey) {
+        Slot slot = acquireForThread();
+        Version version = pin(slot);
+        try {
+            List<String> result = new ArrayList<>();
+            collect(version.root, startKey, endKey, result);
+            return result;
+        } finally {
+            release(slot);
+        }
+    }
+
+    /**
+     * Takes the slot this thread used last if it is free, else any free slot.
+     */
+    private Slot acquireForThread() {
+        Slot slot = lastSlot.get();
+        if (slot == null || !slot.inUse.compareAndSet(false, true)) {
+            slot = acquire();
+            lastSlot.set(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Takes a free slot, adding one only when every slot is held.
+     */
+    private Slot acquire() {
+        for (Slot slot : slots) {
+            if (slot.inUse.compareAndSet(false, true)) {
+                return slot;
+            }
+        }
+        Slot slot = new Slot();
+        slot.inUse.set(true);
+        slots.add(slot);
+        return slot;
+    }
+
+    private static void release(Slot slot) {
+        slot.epoch = UNPINNED;
+        slot.inUse.set(false);
+    }
+
+    /**
+     * Announces the epoch of the current version in slot, retrying if a writer
+     * published a newer one in between: the writer may have scanned the slots
+     * before the announcement and recycled nodes of the version just read.
+     */
+    private Version pin(Slot slot) {
+        while (true) {
+            Version version = current;
+            slot.epoch = version.epoch;
+            if (current == version) {
+                return version;
+            }
+        }
+    }
+
+    private static String search(Node node, int key) {
+        while (!node.isLeaf()) {
+            InternalNode internal = (InternalNode) node;
+            node = internal.children[BPlusTree.upperBound(internal.keys, internal.count, key)];
+        }
+        LeafNode leaf = (LeafNode) node;
+        int index = BPlusTree.lowerBound(leaf.keys, leaf.count, key);
+        return index < leaf.count && leaf.keys[index] == key ? leaf.values[index] : null;
+    }
+
+    private static void collect(Node node, int startKey, int endKey, List<String> result) {
+        if (node.isLeaf()) {
+            LeafNode leaf = (LeafNode) node;
+            for (int i = BPlusTree.lowerBound(leaf.keys, leaf.count, startKey); i < leaf.count; i++) {
+                if (leaf.keys[i] > endKey) {
+                    return;
+                }
+                result.add(leaf.values[i]);
+            }
+            return;
+        }
+        InternalNode internal = (InternalNode) node;
+        int first = BPlusTree.upperBound(internal.keys, internal.count, startKey);
+        int last = BPlusTree.upperBound(internal.keys, internal.count, endKey);
+        for (int i = first; i <= last; i++) {
+            collect(internal.children[i], startKey, endKey, result);
+        }
+    }
+
+    /**
+     * Inserts a key-value pair by copying the path to the changed leaf and
+     * publishing a new version. Readers of older versions are unaffected.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void insert(int key, String value) {
+        writeLock.lock();
+        try {
+            Version old = current;
+            if (pathNodes.length < old.height) {
+                pathNodes = new Node[old.height * 2];
+                pathSlots = new int[old.height * 2];
+            }
+            int depth = 0;
+            Node node = old.root;
+            while (!node.isLeaf()) {
+                InternalNode internal = (InternalNode) node;
+                int slot = BPlusTree.upperBound(internal.keys, internal.count, key);
+                pathNodes[depth] = internal;
+                pathSlots[depth] = slot;
+                depth++;
+                node = internal.children[slot];
+            }
+
+            LeafNode leaf = copyLeaf((LeafNode) node);
+            int size = old.size;
+            int index = BPlusTree.lowerBound(leaf.keys, leaf.count, key);
+            if (index < leaf.count && leaf.keys[index] == key) {
+                leaf.values[index] = value;
+            } else {
+                System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+                System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+                leaf.keys[index] = key;
+                leaf.values[index] = value;
+                leaf.count++;
+                size++;
+            }
+
+            // Walk back up: each parent is copied and pointed at the new child;
+            // a split child also hands up a separator and a right sibling
+            Node child = leaf;
+            Node sibling = null;
+            int separator = 0;
+            if (leaf.count > order - 1) {
+                LeafNode right = newLeaf();
+                int mid = leaf.count / 2;
+                right.count = leaf.count - mid;
+                System.arraycopy(leaf.keys, mid, right.keys, 0, right.count);
+                System.arraycopy(leaf.values, mid, right.values, 0, right.count);
+                Arrays.fill(leaf.values, mid, leaf.count, null);
+                leaf.count = mid;
+                sibling = right;
+                separator = right.keys[0];
+            }
+            for (int level = depth - 1; level >= 0; level--) {
+                InternalNode parent = copyInternal((InternalNode) pathNodes[level]);
+                int slot = pathSlots[level];
+                parent.children[slot] = child;
+                if (sibling != null) {
+                    System.arraycopy(parent.keys, slot, parent.keys, slot + 1, parent.count - slot);
+                    System.arraycopy(parent.children, slot + 1, parent.children, slot + 2, parent.count - slot);
+                    parent.keys[slot] = separator;
+                    parent.children[slot + 1] = sibling;
+                    parent.count++;
+                    sibling = null;
+                    if (parent.count + 1 > order) {
+                        InternalNode right = newInternal();
+                        int mid = parent.count / 2;
+                        separator = parent.keys[mid];
+                        right.count = parent.count - mid - 1;
+                        System.arraycopy(parent.keys, mid + 1, right.keys, 0, right.count);
+                        System.arraycopy(parent.children, mid + 1, right.children, 0, right.count + 1);
+                        Arrays.fill(parent.children, mid + 1, parent.count + 1, null);
+                        parent.count = mid;
+                        sibling = right;
+                    }
+                }
+                child = parent;
+            }
+            int height = old.height;
+            if (sibling != null) {
+                InternalNode root = newInternal();
+                root.keys[0] = separator;
+                root.children[0] = child;
+                root.children[1] = sibling;
+                root.count = 1;
+                child = root;
+                height++;
+            }
+
+            current = new Version(child, size, height, old.epoch + 1);
+            writes++;
+            retire(old.epoch, depth);
+            reclaim();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private LeafNode newLeaf() {
+        copiedNodes++;
+        LeafNode leaf = freeLeaves.pollFirst();
+        if (leaf == null) {
+            return new LeafNode(order);
+        }
+        reusedNodes++;
+        return leaf;
+    }
+
+    private InternalNode newInternal() {
+        copiedNodes++;
+        InternalNode internal = freeInternals.pollFirst();
+        if (internal == null) {
+            return new InternalNode(order);
+        }
+        reusedNodes++;
+        return internal;
+    }
+
+    private LeafNode copyLeaf(LeafNode source) {
+        LeafNode copy = newLeaf();
+        replaced.add(source);
+        copy.count = source.count;
+        System.arraycopy(source.keys, 0, copy.keys, 0, source.count);
+        System.arraycopy(source.values, 0, copy.values, 0, source.count);
+        return copy;
+    }
+
+    private InternalNode copyInternal(InternalNode source) {
+        InternalNode copy = newInternal();
+        replaced.add(source);
+        copy.count = source.count;
+        System.arraycopy(source.keys, 0, copy.keys, 0, source.count);
+        System.arraycopy(source.children, 0, copy.children, 0, source.count + 1);
+        return copy;
+    }
+
+    /**
+     * Moves the nodes replaced by this write to limbo. They stay reachable from
+     * every version up to and including epoch.
+     */
+    private void retire(long epoch, int depth) {
+        for (Node node : replaced) {
+            node.retiredAt = epoch;
+            limbo.addLast(node);
+        }
+        replaced.clear();
+        Arrays.fill(pathNodes, 0, depth, null);
+    }
+
+    /**
+     * Recycles retired nodes that no pinned version can reach. Limbo is ordered
+     * by retire epoch, so the scan stops at the first node still in use.
+     */
+    private void reclaim() {
+        if (limbo.size() < RECLAIM_BATCH) {
+            return;
+        }
+        long oldestPin = UNPINNED;
+        for (Slot slot : slots) {
+            oldestPin = Math.min(oldestPin, slot.epoch);
+        }
+        while (!limbo.isEmpty() && limbo.peekFirst().retiredAt < oldestPin) {
+            Node node = limbo.pollFirst();
+            if (node.isLeaf()) {
+                LeafNode leaf = (LeafNode) node;
+                if (freeLeaves.size() < MAX_FREE_NODES) {
+                    Arrays.fill(leaf.values, null);
+                    freeLeaves.addLast(leaf);
+                }
+            } else {
+                InternalNode internal = (InternalNode) node;
+                if (freeInternals.size() < MAX_FREE_NODES) {
+                    Arrays.fill(internal.children, null);
+                    freeInternals.addLast(internal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys in the latest version.
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return current.size;
+    }
+
+    /**
+     * Returns the height of the latest version; 1 when the root is a leaf.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return current.height;
+    }
+
+    /**
+     * Returns the epoch of the latest version; it grows by one per insert.
+     *
+     * @return the version epoch
+     */
+    public long getVersion() {
+        return current.epoch;
+    }
+
+    /**
+     * Returns the number of inserts applied.
+     *
+     * @return write count
+     */
+    public long getWriteCount() {
+        writeLock.lock();
+        try {
+            return writes;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of nodes written by path copies and splits. Divided by
+     * {@link #getWriteCount()} this is the write amplification in nodes per insert.
+     *
+     * @return copied node count
+     */
+    public long getCopiedNodeCount() {
+        writeLock.lock();
+        try {
+            return copiedNodes;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many of the copied nodes were recycled rather than allocated.
+     *
+     * @return reused node count
+     */
+    public long getReusedNodeCount() {
+        writeLock.lock();
+        try {
+            return reusedNodes;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of retired nodes still waiting for older pins to close.
+     *
+     * @return nodes in limbo
+     */
+    public int getRetiredNodeCount() {
+        writeLock.lock();
+        try {
+            return limbo.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of reader slots, at most the peak number of readers
+     * that held pins at once.
+     *
+     * @return slots scanned by reclamation
+     */
+    int getSlotCount() {
+        return slots.size();
+    }
+}
@@ -0,0 +1,615 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Immutable sparse matrix in compressed sparse row (CSR) form. The non-zeros of
+ * row r are colIdx[rowPtr[r], rowPtr[r + 1]) with their values at the same
+ * positions, and columns ascend within each row.
+ *
+ * <p>Use-case: Large, mostly static game map grids that are read far more often
+ * than written, and influence or heat-map propagation steps computed as
+ * sparse products. A cell costs 8 bytes instead of a boxed, string-keyed map
+ * entry. Matrices are built with {@link Builder} or {@link SparseMatrix#toCsr()}.
+ *
+ * <p>Arithmetic runs on a {@link ForkJoinPool} once a matrix has
+ * {@link #PARALLEL_THRESHOLD} non-zeros, or on an explicitly given pool. Rows
+ * are split into chunks holding about the same number of non-zeros, not the
+ * same number of rows, so a few crowded rows do not leave other threads idle.
+ * Integer results wrap on overflow like Java int arithmetic.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Get value: O(log d) where d is the number of non-zeros in the row</li>
+ *   <li>Row iteration: O(d)</li>
+ *   <li>Build: O(k log d) where k is the number of cells set</li>
+ *   <li>Matrix-vector product: O(rows + k)</li>
+ *   <li>Matrix-matrix product: O(rows + flops), flops being the multiply-adds needed</li>
+ *   <li>Addition: O(rows + k1 + k2); transpose: O(cols + k)</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(rows + k), 4 bytes per row plus 8 bytes per non-zero
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class CsrMatrix {
+
+    /**
+     * Non-zero count from which the arithmetic methods without a pool argument
+     * use the common fork-join pool.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private final int rows;
+    private final int cols;
+    private final int[] rowPtr;
+    private final int[] colIdx;
+    private final int[] values;
+
+    /**
+     * Wraps CSR arrays without copying. Callers guarantee the layout is valid.
+     */
+    CsrMatrix(int rows, int cols, int[] rowPtr, int[] colIdx, int[] values) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPtr = rowPtr;
+        this.colIdx = colIdx;
+        this.values = values;
+    }
+
+    /**
+     * Gets the value at the specified position.
+     *
+     * @param row row index (0-based)
+     * @param col column index (0-based)
+     * @return the value at the position (0 if not set)
+     * @throws IndexOutOfBoundsException if indices are out of bounds
+     */
+    public int get(int row, int col) {
+        validateIndices(row, col);
+        int index = Arrays.binarySearch(colIdx, rowPtr[row], rowPtr[row + 1], col);
+        return index >= 0 ? values[index] : 0;
+    }
+
+    /**
+     * Visits the non-zeros of one row in ascending column order.
+     *
+     * @param row row index (0-based)
+     * @param consumer receives each non-zero cell
+     * @throws IndexOutOfBoundsException if row is out of bounds
+     */
+    public void forEachInRow(int row, SparseMatrix.CellConsumer consumer) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException(
+                String.format("Row out of bounds: %d for matrix [%d, %d]", row, rows, cols));
+        }
+        for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+            consumer.accept(row, colIdx[i], values[i]);
+        }
+    }
+
+    /**
+     * Visits every non-zero in row-major order.
+     *
+     * @param consumer receives each non-zero cell
+     */
+    public void forEachNonZero(SparseMatrix.CellConsumer consumer) {
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+                consumer.accept(row, colIdx[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Multiplies this matrix by a vector.
+     *
+     * @param vector vector of length {@link #getCols()}
+     * @return the product, of length {@link #getRows()}
+     * @throws IllegalArgumentException if the vector length does not match
+     */
+    public double[] multiply(double[] vector) {
+        return multiply(vector, defaultPool());
+    }
+
+    /**
+     * Multiplies this matrix by a vector on the given pool.
+     *
+     * @param vector vector of length {@link #getCols()}
+     * @param pool pool to run on, or null to run on the calling thread
+     * @return the product, of length {@link #getRows()}
+     * @throws IllegalArgumentException if the vector length does not match
+     */
+    public double[] multiply(double[] vector, ForkJoinPool pool) {
+        checkVector(vector.length);
+        double[] result = new double[rows];
+        ForkJoinChunks.run(pool, partition(chunkCount(pool)), (chunk, fromRow, toRow) -> {
+            for (int row = fromRow; row < toRow; row++) {
+                double sum = 0;
+                for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+                    sum += values[i] * vector[colIdx[i]];
+                }
+                result[row] = sum;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by an int vector.
+     *
+     * @param vector vector of length {@link #getCols()}
+     * @return the product, of length {@link #getRows()}
+     * @throws IllegalArgumentException if the vector length does not match
+     */
+    public int[] multiply(int[] vector) {
+        return multiply(vector, defaultPool());
+    }
+
+    /**
+     * Multiplies this matrix by an int vector on the given pool.
+     *
+     * @param vector vector of length {@link #getCols()}
+     * @param pool pool to run on, or null to run on the calling thread
+     * @return the product, of length {@link #getRows()}
+     * @throws IllegalArgumentException if the vector length does not match
+     */
+    public int[] multiply(int[] vector, ForkJoinPool pool) {
+        checkVector(vector.length);
+        int[] result = new int[rows];
+        ForkJoinChunks.run(pool, partition(chunkCount(pool)), (chunk, fromRow, toRow) -> {
+            for (int row = fromRow; row < toRow; row++) {
+                int sum = 0;
+                for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+                    sum += values[i] * vector[colIdx[i]];
+                }
+                result[row] = sum;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by another sparse matrix.
+     *
+     * @param other matrix with {@link #getCols()} rows
+     * @return the product, with zero results dropped
+     * @throws IllegalArgumentException if the dimensions do not match
+     */
+    public CsrMatrix multiply(CsrMatrix other) {
+        return multiply(other, defaultPool());
+    }
+
+    /**
+     * Multiplies this matrix by another sparse matrix on the given pool, one
+     * output row at a time with a dense accumulator (Gustavson's method). A
+     * chunk takes an idle accumulator and hands it back when done, so there are
+     * only as many as chunks running at once, not one per chunk.
+     *
+     * @param other matrix with {@link #getCols()} rows
+     * @param pool pool to run on, or null to run on the calling thread
+     * @return the product, with zero results dropped
+     * @throws IllegalArgumentException if the dimensions do not match
+     */
+    public CsrMatrix multiply(CsrMatrix other, ForkJoinPool pool) {
+        if (cols != other.rows) {
+            throw new IllegalArgumentException(String.format(
+                "Cannot multiply [%d, %d] by [%d, %d]", rows, cols, other.rows, other.cols));
+        }
+        int[] bounds = partition(chunkCount(pool));
+        RowBlock[] blocks = new RowBlock[bounds.length - 1];
+        ConcurrentLinkedQueue<Accumulator> idle = new ConcurrentLinkedQueue<>();
+        ForkJoinChunks.run(pool, bounds, (chunk, fromRow, toRow) -> {
+            Accumulator accumulator = idle.poll();
+            if (accumulator == null) {
+                accumulator = new Accumulator(other.cols);
+            }
+            int[] sums = accumulator.sums;
+            int[] lastRow = accumulator.lastRow;
+            int[] touched = accumulator.touched;
+            RowBlock block = new RowBlock(toRow - fromRow);
+            for (int row = fromRow; row < toRow; row++) {
+                int touchedCount = 0;
+                for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+                    int factor = values[i];
+                    int middle = colIdx[i];
+                    for (int j = other.rowPtr[middle]; j < other.rowPtr[middle + 1]; j++) {
+                        int col = other.colIdx[j];
+                        if (lastRow[col] != row) {
+                            lastRow[col] = row;
+                            sums[col] = 0;
+                            touched[touchedCount++] = col;
+                        }
+                        sums[col] += factor * other.values[j];
+                    }
+                }
+                Arrays.sort(touched, 0, touchedCount);
+                for (int t = 0; t < touchedCount; t++) {
+                    block.add(touched[t], sums[touched[t]]);
+                }
+                block.endRow();
+            }
+            blocks[chunk] = block;
+            idle.offer(accumulator);
+        });
+        return assemble(rows, other.cols, bounds, blocks);
+    }
+
+    /**
+     * Adds another matrix of the same dimensions.
+     *
+     * @param other matrix to add
+     * @return the sum, with cells that cancel to zero dropped
+     * @throws IllegalArgumentException if the dimensions differ
+     */
+    public CsrMatrix add(CsrMatrix other) {
+        return add(other, defaultPool());
+    }
+
+    /**
+     * Adds another matrix of the same dimensions on the given pool.
+     *
+     * @param other matrix to add
+     * @param pool pool to run on, or null to run on the calling thread
+     * @return the sum, with cells that cancel to zero dropped
+     * @throws IllegalArgumentException if the dimensions differ
+     */
+    public CsrMatrix add(CsrMatrix other, ForkJoinPool pool) {
+        if (rows != other.rows || cols != other.cols) {
+            throw new IllegalArgumentException(String.format(
+                "Cannot add [%d, %d] and [%d, %d]", rows, cols, other.rows, other.cols));
+        }
+        int[] bounds = partition(chunkCount(pool));
+        RowBlock[] blocks = new RowBlock[bounds.length - 1];
+        ForkJoinChunks.run(pool, bounds, (chunk, fromRow, toRow) -> {
+            RowBlock block = new RowBlock(toRow - fromRow);
+            for (int row = fromRow; row < toRow; row++) {
+                // Merge the two ascending column lists of the row
+                int i = rowPtr[row];
+                int j = other.rowPtr[row];
+                int iEnd = rowPtr[row + 1];
+                int jEnd = other.rowPtr[row + 1];
+                while (i < iEnd || j < jEnd) {
+                    if (j == jEnd || (i < iEnd && colIdx[i] < other.colIdx[j])) {
+                        block.add(colIdx[i], values[i]);
+                        i++;
+                    } else if (i == iEnd || other.colIdx[j] < colIdx[i]) {
+                        block.add(other.colIdx[j], other.values[j]);
+                        j++;
+                    } else {
+                        block.add(colIdx[i], values[i] + other.values[j]);
+                        i++;
+                        j++;
+                    }
+                }
+                block.endRow();
+            }
+            blocks[chunk] = block;
+        });
+        return assemble(rows, cols, bounds, blocks);
+    }
+
+    /**
+     * Returns the transpose, which is also this matrix in compressed sparse
+     * column form. Built with a counting sort by column.
+     *
+     * @return the transposed matrix
+     */
+    public CsrMatrix transpose() {
+        int count = rowPtr[rows];
+        int[] colPtr = new int[cols + 1];
+        for (int i = 0; i < count; i++) {
+            colPtr[colIdx[i] + 1]++;
+        }
+        for (int col = 0; col < cols; col++) {
+            colPtr[col + 1] += colPtr[col];
+        }
+        int[] fill = Arrays.copyOf(colPtr, cols);
+        int[] rowIdx = new int[count];
+        int[] transposed = new int[count];
+        // Rows are visited in order, so each column's rows come out ascending
+        for (int row = 0; row < rows; row++) {
+            for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+                int at = fill[colIdx[i]]++;
+                rowIdx[at] = row;
+                transposed[at] = values[i];
+            }
+        }
+        return new CsrMatrix(cols, rows, colPtr, rowIdx, transposed);
+    }
+
+    /**
+     * Splits the rows into at most parts chunks of about equal weight, where a
+     * row weighs its non-zero count plus one. Chunk c is rows [bounds[c], bounds[c + 1]).
+     */
+    int[] partition(int parts) {
+        long total = (long) rowPtr[rows] + rows;
+        int[] bounds = new int[parts + 1];
+        for (int c = 1; c < parts; c++) {
+            long target = total * c / parts;
+            // Smallest row whose prefix weight reaches the target
+            int low = bounds[c - 1];
+            int high = rows;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if ((long) rowPtr[mid] + mid < target) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            bounds[c] = low;
+        }
+        bounds[parts] = rows;
+        return bounds;
+    }
+
+    private ForkJoinPool defaultPool() {
+        return rowPtr[rows] >= PARALLEL_THRESHOLD ? ForkJoinPool.commonPool() : null;
+    }
+
+    private int chunkCount(ForkJoinPool pool) {
+        return Math.max(1, Math.min(rows, ForkJoinChunks.chunkCount(pool)));
+    }
+
+    /**
+     * Concatenates per-chunk result rows into one matrix.
+     */
+    private static CsrMatrix assemble(int rows, int cols, int[] bounds, RowBlock[] blocks) {
+        int[] rowPtr = new int[rows + 1];
+        for (int c = 0; c < blocks.length; c++) {
+            for (int row = bounds[c]; row < bounds[c + 1]; row++) {
+                rowPtr[row + 1] = rowPtr[row] + blocks[c].rowCounts[row - bounds[c]];
+            }
+        }
+        int[] colIdx = new int[rowPtr[rows]];
+        int[] values = new int[rowPtr[rows]];
+        for (int c = 0; c < blocks.length; c++) {
+            int offset = rowPtr[bounds[c]];
+            System.arraycopy(blocks[c].cols, 0, colIdx, offset, blocks[c].size);
+            System.arraycopy(blocks[c].values, 0, values, offset, blocks[c].size);
+        }
+        return new CsrMatrix(rows, cols, rowPtr, colIdx, values);
+    }
+
+    private void checkVector(int length) {
+        if (length != cols) {
+            throw new IllegalArgumentException(String.format(
+                "Vector length %d does not match %d columns", length, cols));
+        }
+    }
+
+    /**
+     * Dense scratch for one output row of a product at a time. lastRow marks the
+     * row that last touched a column; every row is computed once, so the marks
+     * stay valid when a later chunk reuses the accumulator.
+     */
+    private static final class Accumulator {
+        final int[] sums;
+        final int[] lastRow;
+        final int[] touched;
+
+        Accumulator(int cols) {
+            this.sums = new int[cols];
+            this.lastRow = new int[cols];
+            this.touched = new int[cols];
+            Arrays.fill(lastRow, -1);
+        }
+    }
+
+    /**
+     * Result rows of one chunk, in order. Zero values are skipped.
+     */
+    private static final class RowBlock {
+        final int[] rowCounts;
+        int[] cols = new int[16];
+        int[] values = new int[16];
+        int size;
+        private int row;
+        private int rowStart;
+
+        RowBlock(int rowCount) {
+            this.rowCounts = new int[rowCount];
+        }
+
+        void add(int col, int value) {
+            if (value == 0) {
+                return;
+            }
+            if (size == cols.length) {
+                cols = Arrays.copyOf(cols, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            cols[size] = col;
+            values[size] = value;
+            size++;
+        }
+
+        void endRow() {
+            rowCounts[row++] = size - rowStart;
+            rowStart = size;
+        }
+    }
+
+    /**
+     * Returns the number of non-zeros in a row.
+     *
+     * @param row row index (0-based)
+     * @return count of non-zero elements in the row
+     * @throws IndexOutOfBoundsException if row is out of bounds
+     */
+    public int getRowNonZeroCount(int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException(
+                String.format("Row out of bounds: %d for matrix [%d, %d]", row, rows, cols));
+        }
+        return rowPtr[row + 1] - rowPtr[row];
+    }
+
+    /**
+     * Returns the number of non-zero elements.
+     *
+     * @return count of non-zero elements
+     */
+    public int getNonZeroCount() {
+        return rowPtr[rows];
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    int[] rowPtr() {
+        return rowPtr;
+    }
+
+    int[] colIdx() {
+        return colIdx;
+    }
+
+    int[] values() {
+        return values;
+    }
+
+    private void validateIndices(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index out of bounds: [%d, %d] for matrix [%d, %d]",
+                    row, col, rows, cols));
+        }
+    }
+
+    /**
+     * Mutable builder that collects cells in coordinate (COO) form, in any order,
+     * and converts them to CSR. When a cell is set more than once the last value
+     * wins, and cells whose final value is 0 are dropped.
+     */
+    public static final class Builder {
+        private final int rows;
+        private final int cols;
+        private int[] cellRows;
+        private int[] cellCols;
+        private int[] cellValues;
+        private int size;
+
+        /**
+         * Creates a builder for a matrix with the given dimensions.
+         *
+         * @param rows number of rows
+         * @param cols number of columns
+         * @throws IllegalArgumentException if rows or cols are negative
+         */
+        public Builder(int rows, int cols) {
+            if (rows < 0 || cols < 0) {
+                throw new IllegalArgumentException("Dimensions must be non-negative");
+            }
+            this.rows = rows;
+            this.cols = cols;
+            this.cellRows = new int[16];
+            this.cellCols = new int[16];
+            this.cellValues = new int[16];
+        }
+
+        /**
+         * Records a cell value.
+         *
+         * @param row row index (0-based)
+         * @param col column index (0-based)
+         * @param value value to set
+         * @return this builder
+         * @throws IndexOutOfBoundsException if indices are out of bounds
+         */
+        public Builder set(int row, int col, int value) {
+            if (row < 0 || row >= rows || col < 0 || col >= cols) {
+                throw new IndexOutOfBoundsException(
+                    String.format("Index out of bounds: [%d, %d] for matrix [%d, %d]",
+                        row, col, rows, cols));
+            }
+            if (size == cellRows.length) {
+                int capacity = size * 2;
+                cellRows = Arrays.copyOf(cellRows, capacity);
+                cellCols = Arrays.copyOf(cellCols, capacity);
+                cellValues = Arrays.copyOf(cellValues, capacity);
+            }
+            cellRows[size] = row;
+            cellCols[size] = col;
+            cellValues[size] = value;
+            size++;
+            return this;
+        }
+
+        /**
+         * Returns the number of cells recorded so far, duplicates included.
+         *
+         * @return recorded cell count
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Builds the CSR matrix. The builder stays usable afterwards.
+         *
+         * @return the immutable matrix
+         */
+        public CsrMatrix build() {
+            // Counting sort by row; within a row the cells keep insertion order
+            int[] rowStart = new int[rows + 1];
+            for (int i = 0; i < size; i++) {
+                rowStart[cellRows[i] + 1]++;
+            }
+            for (int r = 0; r < rows; r++) {
+                rowStart[r + 1] += rowStart[r];
+            }
+            int[] fill = Arrays.copyOf(rowStart, rows);
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                int row = cellRows[i];
+                order[fill[row]++] = ((long) cellCols[i] << 32) | i;
+            }
+
+            // Sort each row by (column, insertion index) and keep the last write per column
+            int[] rowPtr = new int[rows + 1];
+            int[] colIdx = new int[size];
+            int[] values = new int[size];
+            int count = 0;
+            for (int r = 0; r < rows; r++) {
+                int from = rowStart[r];
+                int to = rowStart[r + 1];
+                Arrays.sort(order, from, to);
+                for (int i = from; i < to; i++) {
+                    int col = (int) (order[i] >>> 32);
+                    if (i + 1 < to && (int) (order[i + 1] >>> 32) == col) {
+                        continue;
+                    }
+                    int value = cellValues[(int) order[i]];
+                    if (value != 0) {
+                        colIdx[count] = col;
+                        values[count] = value;
+                        count++;
+                    }
+                }
+                rowPtr[r + 1] = count;
+            }
+            return new CsrMatrix(rows, cols, rowPtr,
+                Arrays.copyOf(colIdx, count), Arrays.copyOf(values, count));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Numbered data files behind one logical path, for memory-mapped files that
+ * must be replaced while a reader may still have the old one mapped. Windows
+ * refuses to rename over or delete a mapped file, so a new version goes to a
+ * new file and a small pointer file, which is never mapped, is switched to it
+ * with an atomic rename.
+ *
+ * <p>Generation 0 is the path itself; later ones add ".1", ".2" and so on to
+ * it. The pointer file adds ".gen" and is absent while generation 0 is
+ * current. Temporary files add ".tmp".
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+final class FileGenerations {
+
+    private FileGenerations() {
+    }
+
+    static Path dataPath(Path path, long generation) {
+        return generation == 0 ? path : path.resolveSibling(path.getFileName() + "." + generation);
+    }
+
+    static Path pointerPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".gen");
+    }
+
+    static Path tempPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    /**
+     * Returns the data file of the current generation.
+     */
+    static Path currentDataPath(Path path) throws IOException {
+        return dataPath(path, read(path));
+    }
+
+    /**
+     * Returns the current generation, 0 if there is no pointer file.
+     *
+     * @throws IOException if the pointer file cannot be read or is corrupt
+     */
+    static long read(Path path) throws IOException {
+        Path pointer = pointerPath(path);
+        if (!Files.exists(pointer)) {
+            return 0;
+        }
+        String text = new String(Files.readAllBytes(pointer), StandardCharsets.US_ASCII).trim();
+        try {
+            long generation = Long.parseLong(text);
+            if (generation >= 0) {
+                return generation;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IOException("Corrupt generation pointer: " + pointer);
+    }
+
+    /**
+     * Points path at a generation: the number is written to a temporary file,
+     * forced, and renamed over the pointer file. The pointer file is never
+     * mapped, so the rename also works on Windows.
+     */
+    static void write(Path path, long generation) throws IOException {
+        Path temp = tempPath(pointerPath(path));
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(ByteBuffer.wrap(Long.toString(generation).getBytes(StandardCharsets.US_ASCII)));
+            out.force(true);
+        }
+        Files.move(temp, pointerPath(path), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes the temporary files and the data files of every generation but
+     * current, or of every generation above 0 when current is -1. Files still
+     * mapped by a reader, which Windows refuses to delete, are left for a
+     * later call.
+     */
+    static void deleteStale(Path path, long current) throws IOException {
+        quietlyDelete(tempPath(path));
+        quietlyDelete(tempPath(pointerPath(path)));
+        if (current > 0) {
+            quietlyDelete(path);
+        }
+        Path directory = path.toAbsolutePath().getParent();
+        String prefix = path.getFileName() + ".";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, path.getFileName() + ".*")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit)
+                        && !suffix.equals(Long.toString(current))) {
+                    quietlyDelete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the data files of every generation and the pointer file.
+     *
+     * @throws IOException if a file cannot be deleted
+     */
+    static void deleteAll(Path path) throws IOException {
+        deleteStale(path, -1);
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(pointerPath(path));
+    }
+
+    static void quietlyDelete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Still in use; retried on a later call
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.pomodorotimer.pomodorotimer;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
 /**
  * File Operations implementation using Linear Probing for hash table.
  * Used for fast file search operations with collision handling.
@@ -16,10 +20,26 @@ package com.pomodorotimer.pomodorotimer;
  * 
  * <p>Space Complexity: O(n) where n is the capacity
  * 
+ * <p>Removal uses backward-shift deletion: the slot is emptied and the rest of
+ * its probe run is moved back, so the table never accumulates tombstones and
+ * probe lengths stay bounded under continuous insert/delete churn.
+ * {@link #getAverageProbeLength()}, {@link #getMaxProbeLength()} and
+ * {@link #getTombstoneRatio()} report the current probe statistics.
+ * 
+ * <p>In persistent mode ({@link #FileOperations(Path)}) the table lives in a
+ * memory-mapped file managed by {@link MappedFileStore}, so its contents
+ * survive restarts and opening it does not reload the entries.
+ * 
+ * <p>In incremental resize mode a doubled table is allocated when the load
+ * factor is exceeded and every {@code put}/{@code remove} moves at most
+ * {@link #REHASH_STEP} occupied slots into it. Migrated slots are left as
+ * deleted markers so the probe runs of the old table stay intact, and lookups
+ * check the new table first, then the old one.
+ * 
  * @author Data Structures Project Team
  * @version 1.0
  */
-public class FileOperations {
+public class FileOperations implements Closeable {
     
     /**
      * Inner class representing a file entry.
@@ -39,17 +59,27 @@ public class FileOperations {
     private static final int DEFAULT_CAPACITY = 16;
     private static final double LOAD_FACTOR = 0.75;
     
+    /**
+     * Occupied slots migrated per operation in incremental resize mode.
+     */
+    public static final int REHASH_STEP = 4;
+    
     private FileEntry[] table;
     private int size;
     private int capacity;
     
+    private final boolean incrementalResize;
+    private FileEntry[] oldTable; // non-null while rehashing
+    private int oldCapacity;
+    private int rehashIndex;
+    
+    private final MappedFileStore store; // non-null in persistent mode
+    
     /**
      * Constructs a file operations hash table with default capacity.
      */
     public FileOperations() {
-        this.capacity = DEFAULT_CAPACITY;
-        this.table = new FileEntry[capacity];
-        this.size = 0;
+        this(DEFAULT_CAPACITY);
     }
     
     /**
@@ -58,13 +88,62 @@ public class FileOperations {
      * @param capacity initial capacity
      */
     public FileOperations(int capacity) {
+        this(capacity, false);
+    }
+    
+    /**
+     * Constructs a file operations hash table with specified capacity and resize mode.
+     * 
+     * @param capacity initial capacity
+     * @param incrementalResize true to spread rehashing over later operations
+     */
+    public FileOperations(int capacity, boolean incrementalResize) {
         this.capacity = capacity;
         this.table = new FileEntry[capacity];
         this.size = 0;
+        this.incrementalResize = incrementalResize;
+        this.store = null;
+    }
+    
+    /**
+     * Opens a persistent file operations table backed by a memory-mapped file,
+     * creating the file if it does not exist.
+     * 
+     * @param file the store file
+     * @throws IOException if the file cannot be opened or is corrupt
+     */
+    public FileOperations(Path file) throws IOException {
+        this.store = new MappedFileStore(file);
+        this.capacity = store.capacity();
+        this.incrementalResize = false;
     }
     
     private int hash(String key) {
-        return Math.abs(key.hashCode()) % capacity;
+        return hash(key, capacity);
+    }
+    
+    private static int hash(String key, int capacity) {
+        return Math.abs(key.hashCode() % capacity);
+    }
+    
+    /**
+     * Finds the slot holding a live entry for key in the given table, or -1.
+     */
+    private static int findSlot(FileEntry[] entries, int tableCapacity, String key) {
+        int index = hash(key, tableCapacity);
+        int originalIndex = index;
+        
+        while (entries[index] != null) {
+            if (!entries[index].deleted && entries[index].key.equals(key)) {
+                return index;
+            }
+            index = (index + 1) % tableCapacity;
+            if (index == originalIndex) {
+                break;
+            }
+        }
+        
+        return -1;
     }
     
     /**
@@ -74,6 +153,16 @@ public class FileOperations {
      * @param value the value
      */
     public void put(String key, String value) {
+        if (store != null) {
+            store.put(key, value);
+            return;
+        }
+        
+        if (incrementalResize) {
+            putIncremental(key, value);
+            return;
+        }
+        
         if ((double) size / capacity > LOAD_FACTOR) {
             resize();
         }
@@ -101,6 +190,35 @@ public class FileOperations {
         size++;
     }
     
+    private void putIncremental(String key, String value) {
+        rehashStep();
+        
+        if (oldTable != null) {
+            int oldIndex = findSlot(oldTable, oldCapacity, key);
+            if (oldIndex >= 0) {
+                oldTable[oldIndex].value = value; // Moved when the migration reaches it
+                return;
+            }
+        }
+        
+        int index = findSlot(table, capacity, key);
+        if (index >= 0) {
+            table[index].value = value;
+            return;
+        }
+        
+        index = hash(key);
+        while (table[index] != null && !table[index].deleted) {
+            index = (index + 1) % capacity;
+        }
+        table[index] = new FileEntry(key, value);
+        size++;
+        
+        if ((double) size / capacity > LOAD_FACTOR) {
+            startRehash();
+        }
+    }
+    
     /**
      * Retrieves a value by key using linear probing.
      * 
@@ -108,16 +226,19 @@ public class FileOperations {
      * @return the value, or null if not found
      */
     public String get(String key) {
-        int index = hash(key);
-        int originalIndex = index;
+        if (store != null) {
+            return store.get(key);
+        }
         
-        while (table[index] != null) {
-            if (!table[index].deleted && table[index].key.equals(key)) {
-                return table[index].value;
-            }
-            index = (index + 1) % capacity;
-            if (index == originalIndex) {
-                break;
+        int index = findSlot(table, capacity, key);
+        if (index >= 0) {
+            return table[index].value;
+        }
+        
+        if (oldTable != null) {
+            int oldIndex = findSlot(oldTable, oldCapacity, key);
+            if (oldIndex >= 0) {
+                return oldTable[oldIndex].value;
             }
         }
         
@@ -131,23 +252,52 @@ public class FileOperations {
      * @return the value that was removed, or null if not found
      */
     public String remove(String key) {
-        int index = hash(key);
-        int originalIndex = index;
+        if (store != null) {
+            return store.remove(key);
+        }
         
-        while (table[index] != null) {
-            if (!table[index].deleted && table[index].key.equals(key)) {
-                String value = table[index].value;
-                table[index].deleted = true;
-                size--;
-                return value;
-            }
-            index = (index + 1) % capacity;
-            if (index == originalIndex) {
-                break;
+        if (incrementalResize) {
+            rehashStep();
+            if (oldTable != null) {
+                int oldIndex = findSlot(oldTable, oldCapacity, key);
+                if (oldIndex >= 0) {
+                    oldTable[oldIndex].deleted = true;
+                    size--;
+                    return oldTable[oldIndex].value;
+                }
             }
         }
         
-        return null;
+        int index = findSlot(table, capacity, key);
+        if (index < 0) {
+            return null;
+        }
+        
+        String value = table[index].value;
+        shiftBack(index);
+        size--;
+        return value;
+    }
+    
+    /**
+     * Empties a slot and moves later entries of its probe run back into the gap.
+     * An entry stays put when its home slot lies cyclically in (hole, current].
+     */
+    private void shiftBack(int index) {
+        int hole = index;
+        int current = (index + 1) % capacity;
+        for (int scanned = 1; scanned < capacity && table[current] != null; scanned++) {
+            int home = hash(table[current].key);
+            boolean reachable = hole <= current
+                ? hole < home && home <= current
+                : hole < home || home <= current;
+            if (!reachable) {
+                table[hole] = table[current];
+                hole = current;
+            }
+            current = (current + 1) % capacity;
+        }
+        table[hole] = null;
     }
     
     /**
@@ -166,6 +316,9 @@ public class FileOperations {
      * @return the size
      */
     public int size() {
+        if (store != null) {
+            return store.size();
+        }
         return size;
     }
     
@@ -175,17 +328,113 @@ public class FileOperations {
      * @return true if empty, false otherwise
      */
     public boolean isEmpty() {
-        return size == 0;
+        return size() == 0;
     }
     
     /**
      * Removes all entries.
      */
     public void clear() {
+        if (store != null) {
+            store.clear();
+            return;
+        }
         table = new FileEntry[capacity];
+        oldTable = null;
         size = 0;
     }
     
+    /**
+     * Checks if an incremental rehash is in progress.
+     * 
+     * @return true while entries are still being moved to the new table
+     */
+    public boolean isRehashing() {
+        return oldTable != null;
+    }
+    
+    /**
+     * Returns the number of slots in the current table.
+     * 
+     * @return the capacity
+     */
+    public int capacity() {
+        if (store != null) {
+            return store.capacity();
+        }
+        return capacity;
+    }
+    
+    /**
+     * Checks if this table is backed by a memory-mapped file.
+     * 
+     * @return true in persistent mode
+     */
+    public boolean isPersistent() {
+        return store != null;
+    }
+    
+    /**
+     * Forces pending writes of a persistent table to disk. Does nothing in memory mode.
+     */
+    public void flush() {
+        if (store != null) {
+            store.flush();
+        }
+    }
+    
+    /**
+     * Flushes and closes the backing file of a persistent table. Does nothing in memory mode.
+     * 
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+    
+    private void startRehash() {
+        // A new rehash cannot start before the previous one has drained
+        while (oldTable != null) {
+            rehashStep();
+        }
+        oldTable = table;
+        oldCapacity = capacity;
+        rehashIndex = 0;
+        capacity *= 2;
+        table = new FileEntry[capacity];
+    }
+    
+    /**
+     * Moves up to {@link #REHASH_STEP} live entries from the old table.
+     */
+    private void rehashStep() {
+        if (oldTable == null) {
+            return;
+        }
+        int moved = 0;
+        int emptyVisits = REHASH_STEP * 10; // bound the work spent skipping empty slots
+        while (moved < REHASH_STEP && emptyVisits > 0 && rehashIndex < oldCapacity) {
+            FileEntry entry = oldTable[rehashIndex++];
+            if (entry == null || entry.deleted) {
+                emptyVisits--;
+                continue;
+            }
+            int index = hash(entry.key);
+            while (table[index] != null && !table[index].deleted) {
+                index = (index + 1) % capacity;
+            }
+            table[index] = new FileEntry(entry.key, entry.value);
+            entry.deleted = true; // keep the old probe run intact for lookups
+            moved++;
+        }
+        if (rehashIndex >= oldCapacity) {
+            oldTable = null;
+        }
+    }
+    
     private void resize() {
         int oldCapacity = capacity;
         FileEntry[] oldTable = table;
@@ -199,6 +448,97 @@ public class FileOperations {
         }
     }
     
+    /**
+     * Returns the mean number of probes a successful search needs,
+     * averaged over all live entries.
+     * 
+     * @return mean probe length, or 0 if the table is empty
+     */
+    public double getAverageProbeLength() {
+        if (store != null) {
+            long total = 0;
+            for (int length : store.probeLengths()) {
+                total += length;
+            }
+            return store.size() == 0 ? 0.0 : (double) total / store.size();
+        }
+        long total = sumProbeLengths(table, capacity) + sumProbeLengths(oldTable, oldCapacity);
+        return size == 0 ? 0.0 : (double) total / size;
+    }
+    
+    /**
+     * Returns the longest probe run any live entry needs to be found.
+     * 
+     * @return maximum probe length, or 0 if the table is empty
+     */
+    public int getMaxProbeLength() {
+        if (store != null) {
+            int max = 0;
+            for (int length : store.probeLengths()) {
+                max = Math.max(max, length);
+            }
+            return max;
+        }
+        int max = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (table[i] != null && !table[i].deleted) {
+                max = Math.max(max, probeLength(table[i].key, i, capacity));
+            }
+        }
+        if (oldTable != null) {
+            for (int i = 0; i < oldCapacity; i++) {
+                if (oldTable[i] != null && !oldTable[i].deleted) {
+                    max = Math.max(max, probeLength(oldTable[i].key, i, oldCapacity));
+                }
+            }
+        }
+        return max;
+    }
+    
+    /**
+     * Returns the fraction of slots holding deleted markers. Backward-shift
+     * deletion keeps this at 0 outside of an incremental rehash.
+     * 
+     * @return tombstone slots divided by total slots
+     */
+    public double getTombstoneRatio() {
+        if (store != null) {
+            return 0.0; // the store always deletes by backward shift
+        }
+        int tombstones = 0;
+        int slots = capacity;
+        for (int i = 0; i < capacity; i++) {
+            if (table[i] != null && table[i].deleted) {
+                tombstones++;
+            }
+        }
+        if (oldTable != null) {
+            slots += oldCapacity;
+            for (int i = 0; i < oldCapacity; i++) {
+                if (oldTable[i] != null && oldTable[i].deleted) {
+                    tombstones++;
+                }
+            }
+        }
+        return (double) tombstones / slots;
+    }
+    
+    private static int probeLength(String key, int index, int tableCapacity) {
+        return (index - hash(key, tableCapacity) + tableCapacity) % tableCapacity + 1;
+    }
+    
+    private static long sumProbeLengths(FileEntry[] entries, int tableCapacity) {
+        long total = 0;
+        if (entries != null) {
+            for (int i = 0; i < tableCapacity; i++) {
+                if (entries[i] != null && !entries[i].deleted) {
+                    total += probeLength(entries[i].key, i, tableCapacity);
+                }
+            }
+        }
+        return total;
+    }
+    
     /**
      * Measures search time for a key (simplified).
      * 
@@ -206,21 +546,32 @@ public class FileOperations {
      * @return number of probes needed
      */
     public int getSearchTime(String key) {
-        int index = hash(key);
+        if (store != null) {
+            return store.getSearchTime(key);
+        }
+        int probes = countProbes(table, capacity, key);
+        if (oldTable != null && findSlot(table, capacity, key) < 0) {
+            probes += countProbes(oldTable, oldCapacity, key);
+        }
+        return probes;
+    }
+    
+    private static int countProbes(FileEntry[] entries, int tableCapacity, String key) {
+        int index = hash(key, tableCapacity);
         int originalIndex = index;
         int probes = 0;
         
         // Always check at least the first index
         do {
             probes++;
-            if (table[index] != null && !table[index].deleted && table[index].key.equals(key)) {
+            if (entries[index] != null && !entries[index].deleted && entries[index].key.equals(key)) {
                 return probes;
             }
-            index = (index + 1) % capacity;
+            index = (index + 1) % tableCapacity;
             if (index == originalIndex) {
                 break;
             }
-        } while (table[index] != null);
+        } while (entries[index] != null);
         
         return probes;
     }
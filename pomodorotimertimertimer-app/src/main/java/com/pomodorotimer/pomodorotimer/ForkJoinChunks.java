@@ -0,0 +1,94 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a step split into chunks on a fork-join pool, for the parallel sparse
+ * matrix and graph code. Chunk c covers [bounds[c], bounds[c + 1]); a single
+ * chunk runs on the calling thread, which is what a null pool always gets.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+final class ForkJoinChunks {
+
+    /**
+     * Chunks per pool thread, so one slow chunk does not hold up the whole step.
+     */
+    static final int CHUNKS_PER_THREAD = 4;
+
+    private ForkJoinChunks() {
+    }
+
+    /**
+     * Returns the number of chunks to split a step into on pool: one for a
+     * null or single-threaded pool, else {@link #CHUNKS_PER_THREAD} per thread.
+     */
+    static int chunkCount(ForkJoinPool pool) {
+        if (pool == null || pool.getParallelism() == 1) {
+            return 1;
+        }
+        return pool.getParallelism() * CHUNKS_PER_THREAD;
+    }
+
+    /**
+     * Splits [from, to) into at most parts equal chunks.
+     */
+    static int[] split(int from, int to, int parts) {
+        parts = Math.max(1, Math.min(parts, to - from));
+        int[] bounds = new int[parts + 1];
+        for (int c = 0; c <= parts; c++) {
+            bounds[c] = from + (int) ((long) (to - from) * c / parts);
+        }
+        return bounds;
+    }
+
+    /**
+     * Runs task on every chunk of bounds and returns when all are done.
+     *
+     * @param pool pool to run on; may be null when bounds hold a single chunk
+     */
+    static void run(ForkJoinPool pool, int[] bounds, ChunkTask task) {
+        if (bounds.length == 2) {
+            task.run(0, bounds[0], bounds[1]);
+        } else {
+            pool.invoke(new ChunkAction(task, bounds, 0, bounds.length - 1));
+        }
+    }
+
+    /**
+     * Work on [from, to), the given chunk of a partition.
+     */
+    interface ChunkTask {
+        void run(int chunk, int from, int to);
+    }
+
+    /**
+     * Runs the chunks of a partition by recursive halving.
+     */
+    private static final class ChunkAction extends RecursiveAction {
+        private final ChunkTask task;
+        private final int[] bounds;
+        private final int fromChunk;
+        private final int toChunk;
+
+        ChunkAction(ChunkTask task, int[] bounds, int fromChunk, int toChunk) {
+            this.task = task;
+            this.bounds = bounds;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                task.run(fromChunk, bounds[fromChunk], bounds[fromChunk + 1]);
+                return;
+            }
+            int mid = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ChunkAction(task, bounds, fromChunk, mid),
+                new ChunkAction(task, bounds, mid, toChunk));
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.pomodorotimer.pomodorotimer;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Graph implementation for BFS and DFS algorithms.
@@ -12,13 +15,40 @@ import java.util.List;
  * <p>Use-case: Maze/graph exploration where we need to traverse
  * nodes and find paths between them.</p>
  * 
+ * <p>Once all edges are added, {@link #freeze()} compacts the adjacency lists
+ * into compressed sparse row (CSR) arrays: the neighbors of vertex v are
+ * targets[offsets[v], offsets[v + 1]). An edge then costs 4 bytes instead of
+ * a boxed Integer plus a list slot, and traversals run on primitive arrays.
+ * A frozen graph accepts no more edges.</p>
+ * 
+ * <p>Frozen graphs can also be searched in parallel with
+ * {@link #bfs(int, ForkJoinPool)} and {@link #shortestPath(int, int, ForkJoinPool)},
+ * which switch between top-down and bottom-up expansion per level (see
+ * {@link ParallelBfs}). The first parallel search builds the reverse edges,
+ * another 4 bytes per edge. Searches on a frozen graph may run concurrently
+ * from several threads.</p>
+ * 
+ * <p>Time Complexity: O(V + E) for BFS, DFS, shortest path and freeze</p>
+ * <p>Space Complexity: O(V + E); 4 bytes per vertex plus 4 bytes per edge
+ * when frozen</p>
+ * 
  * @author Data Structures Project Team
  * @version 1.0
  */
 public class Graph {
     
     private final int vertices;
-    private final List<List<Integer>> adjacencyList;
+    private List<List<Integer>> adjacencyList;
+    private int edges;
+    
+    // CSR form, set by freeze(); adjacencyList is null from then on
+    private int[] offsets;
+    private int[] targets;
+    
+    // Reverse CSR arrays for bottom-up search, built on first use. Both
+    // arrays are published together, so concurrent searches never see one
+    // without the other
+    private volatile ReverseEdges reverseEdges;
     
     /**
      * Constructs a graph with specified number of vertices.
@@ -38,20 +68,61 @@ public class Graph {
      * 
      * @param from source vertex
      * @param to destination vertex
+     * @throws IllegalStateException if the graph is frozen
      */
     public void addEdge(int from, int to) {
+        if (offsets != null) {
+            throw new IllegalStateException("Graph is frozen");
+        }
         if (from >= 0 && from < vertices && to >= 0 && to < vertices) {
             adjacencyList.get(from).add(to);
+            edges++;
         }
     }
     
+    /**
+     * Compacts the adjacency lists into CSR arrays and releases the lists.
+     * Neighbors keep the order in which their edges were added, so traversals
+     * visit vertices in the same order as before. Freezing twice has no effect.
+     */
+    public void freeze() {
+        if (offsets != null) {
+            return;
+        }
+        int[] newOffsets = new int[vertices + 1];
+        int[] newTargets = new int[edges];
+        int position = 0;
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            newOffsets[vertex] = position;
+            for (int neighbor : adjacencyList.get(vertex)) {
+                newTargets[position++] = neighbor;
+            }
+        }
+        newOffsets[vertices] = position;
+        offsets = newOffsets;
+        targets = newTargets;
+        adjacencyList = null;
+    }
+    
+    /**
+     * Returns whether the graph has been frozen.
+     * 
+     * @return true after {@link #freeze()}
+     */
+    public boolean isFrozen() {
+        return offsets != null;
+    }
+    
     /**
      * Performs Breadth-First Search starting from a vertex.
      * 
      * @param start starting vertex
-     * @return list of vertices in BFS order
+     * @return list of vertices in BFS order; read-only when the graph is frozen
      */
     public List<Integer> bfs(int start) {
+        if (offsets != null) {
+            return frozenBfs(start);
+        }
         List<Integer> result = new ArrayList<>();
         boolean[] visited = new boolean[vertices];
         Queue<Integer> queue = new Queue<>();
@@ -74,27 +145,107 @@ public class Graph {
         return result;
     }
     
+    /**
+     * BFS over the CSR arrays. The queue is an int array that ends up holding
+     * the visit order, so it doubles as the result.
+     */
+    private List<Integer> frozenBfs(int start) {
+        int[] order = new int[vertices];
+        boolean[] visited = new boolean[vertices];
+        int head = 0;
+        int tail = 0;
+        visited[start] = true;
+        order[tail++] = start;
+        while (head < tail) {
+            int vertex = order[head++];
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int neighbor = targets[i];
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    order[tail++] = neighbor;
+                }
+            }
+        }
+        return new IntListView(order, tail);
+    }
+    
     /**
      * Performs Depth-First Search starting from a vertex.
      * 
      * @param start starting vertex
-     * @return list of vertices in DFS order
+     * @return list of vertices in DFS order; read-only when the graph is frozen
      */
     public List<Integer> dfs(int start) {
+        if (offsets != null) {
+            return frozenDfs(start);
+        }
         List<Integer> result = new ArrayList<>();
         boolean[] visited = new boolean[vertices];
         dfsHelper(start, visited, result);
         return result;
     }
     
-    private void dfsHelper(int vertex, boolean[] visited, List<Integer> result) {
-        visited[vertex] = true;
-        result.add(vertex);
-        for (int neighbor : adjacencyList.get(vertex)) {
+    /**
+     * Iterative DFS over the adjacency lists. stack holds the current path and
+     * cursor[d] the index of the next neighbor to try at depth d, so vertices
+     * come in the same pre-order as a recursive DFS without using the call stack.
+     */
+    private void dfsHelper(int start, boolean[] visited, List<Integer> result) {
+        int[] stack = new int[vertices];
+        int[] cursor = new int[vertices];
+        int depth = 0;
+        visited[start] = true;
+        result.add(start);
+        stack[depth++] = start;
+        while (depth > 0) {
+            int top = depth - 1;
+            List<Integer> neighbors = adjacencyList.get(stack[top]);
+            if (cursor[top] == neighbors.size()) {
+                depth--;
+                continue;
+            }
+            int neighbor = neighbors.get(cursor[top]++);
+            if (!visited[neighbor]) {
+                visited[neighbor] = true;
+                result.add(neighbor);
+                stack[depth] = neighbor;
+                cursor[depth++] = 0;
+            }
+        }
+    }
+    
+    /**
+     * DFS over the CSR arrays, iterating like {@link #dfsHelper} with cursor[d]
+     * as the next edge to try for the vertex at depth d.
+     */
+    private List<Integer> frozenDfs(int start) {
+        int[] order = new int[vertices];
+        boolean[] visited = new boolean[vertices];
+        int[] stack = new int[vertices];
+        int[] cursor = new int[vertices];
+        int count = 0;
+        int depth = 0;
+        visited[start] = true;
+        order[count++] = start;
+        stack[depth] = start;
+        cursor[depth++] = offsets[start];
+        while (depth > 0) {
+            int top = depth - 1;
+            int edge = cursor[top];
+            if (edge == offsets[stack[top] + 1]) {
+                depth--;
+                continue;
+            }
+            cursor[top] = edge + 1;
+            int neighbor = targets[edge];
             if (!visited[neighbor]) {
-                dfsHelper(neighbor, visited, result);
+                visited[neighbor] = true;
+                order[count++] = neighbor;
+                stack[depth] = neighbor;
+                cursor[depth++] = offsets[neighbor];
             }
         }
+        return new IntListView(order, count);
     }
     
     /**
@@ -108,6 +259,9 @@ public class Graph {
         if (start == end) {
             return Collections.singletonList(start);
         }
+        if (offsets != null) {
+            return frozenShortestPath(start, end);
+        }
         
         boolean[] visited = new boolean[vertices];
         int[] parent = new int[vertices];
@@ -136,6 +290,119 @@ public class Graph {
         return Collections.emptyList(); // No path found
     }
     
+    private List<Integer> frozenShortestPath(int start, int end) {
+        boolean[] visited = new boolean[vertices];
+        int[] parent = new int[vertices];
+        Arrays.fill(parent, -1);
+        int[] queue = new int[vertices];
+        int head = 0;
+        int tail = 0;
+        visited[start] = true;
+        queue[tail++] = start;
+        while (head < tail) {
+            int vertex = queue[head++];
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int neighbor = targets[i];
+                if (!visited[neighbor]) {
+                    visited[neighbor] = true;
+                    parent[neighbor] = vertex;
+                    if (neighbor == end) {
+                        return reconstructPath(parent, start, end);
+                    }
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    /**
+     * Performs a parallel, direction-optimizing Breadth-First Search. Vertices
+     * come level by level, but the order within a level is unspecified.
+     * 
+     * @param start starting vertex
+     * @param pool pool to search with; null searches on the calling thread
+     * @return read-only list of the reachable vertices in level order
+     * @throws IllegalStateException if the graph is not frozen
+     */
+    public List<Integer> bfs(int start, ForkJoinPool pool) {
+        ParallelBfs search = parallelSearch(pool);
+        search.search(start, -1);
+        return new IntListView(search.order(), search.visitedCount());
+    }
+    
+    /**
+     * Finds a shortest path with a parallel, direction-optimizing BFS. When
+     * several shortest paths exist, which one is returned may vary between calls.
+     * 
+     * @param start starting vertex
+     * @param end destination vertex
+     * @param pool pool to search with; null searches on the calling thread
+     * @return list of vertices representing a shortest path, or empty list if no path exists
+     * @throws IllegalStateException if the graph is not frozen
+     */
+    public List<Integer> shortestPath(int start, int end, ForkJoinPool pool) {
+        ParallelBfs search = parallelSearch(pool);
+        if (start == end) {
+            return Collections.singletonList(start);
+        }
+        if (!search.search(start, end)) {
+            return Collections.emptyList();
+        }
+        return reconstructPath(search.parent(), start, end);
+    }
+    
+    ParallelBfs parallelSearch(ForkJoinPool pool) {
+        if (offsets == null) {
+            throw new IllegalStateException("Graph must be frozen for parallel search");
+        }
+        ReverseEdges reverse = reverseEdges;
+        if (reverse == null) {
+            reverse = buildReverseEdges();
+        }
+        return new ParallelBfs(vertices, offsets, targets, reverse.offsets, reverse.targets, pool);
+    }
+    
+    /**
+     * Counting sort of the edges by target. Sources come out ascending within
+     * each target's range. Threads racing to the first parallel search build
+     * the arrays once.
+     */
+    private synchronized ReverseEdges buildReverseEdges() {
+        if (reverseEdges != null) {
+            return reverseEdges;
+        }
+        int[] newOffsets = new int[vertices + 1];
+        for (int target : targets) {
+            newOffsets[target + 1]++;
+        }
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            newOffsets[vertex + 1] += newOffsets[vertex];
+        }
+        int[] fill = Arrays.copyOf(newOffsets, vertices);
+        int[] newTargets = new int[targets.length];
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                newTargets[fill[targets[i]]++] = vertex;
+            }
+        }
+        reverseEdges = new ReverseEdges(newOffsets, newTargets);
+        return reverseEdges;
+    }
+    
+    /**
+     * Reverse CSR arrays: the sources of vertex v are targets[offsets[v], offsets[v + 1]).
+     */
+    private static final class ReverseEdges {
+        final int[] offsets;
+        final int[] targets;
+        
+        ReverseEdges(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+    }
+    
     private List<Integer> reconstructPath(int[] parent, int start, int end) {
         List<Integer> path = new ArrayList<>();
         int current = end;
@@ -155,5 +422,41 @@ public class Graph {
     public int getVertices() {
         return vertices;
     }
+    
+    /**
+     * Returns the number of edges added.
+     * 
+     * @return number of edges
+     */
+    public int getEdgeCount() {
+        return edges;
+    }
+    
+    /**
+     * Read-only list over the first size entries of an int array. Values are
+     * boxed only when read.
+     */
+    private static final class IntListView extends AbstractList<Integer> implements RandomAccess {
+        private final int[] values;
+        private final int size;
+        
+        IntListView(int[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+        
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return values[index];
+        }
+        
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
 
@@ -18,6 +18,11 @@ import java.util.LinkedList;
  * 
  * <p>Space Complexity: O(n) where n is the number of key-value pairs
  * 
+ * <p>In incremental resize mode the table grows Redis-style: a doubled table is
+ * allocated and every {@code put}/{@code remove} moves at most
+ * {@link #REHASH_STEP} buckets from the old table, so no single insert pays for
+ * rehashing the whole table. Lookups consult both tables while a rehash is running.
+ * 
  * @param <K> the type of keys maintained by this hash table
  * @param <V> the type of mapped values
  * @author Data Structures Project Team
@@ -41,21 +46,25 @@ public class HashTable<K, V> {
     private static final int DEFAULT_CAPACITY = 16;
     private static final double LOAD_FACTOR = 0.75;
     
+    /**
+     * Buckets migrated per operation in incremental resize mode.
+     */
+    public static final int REHASH_STEP = 4;
+    
     private LinkedList<Entry<K, V>>[] buckets;
     private int size;
     private int capacity;
     
+    private final boolean incrementalResize;
+    private LinkedList<Entry<K, V>>[] oldBuckets; // non-null while rehashing
+    private int oldCapacity;
+    private int rehashIndex;
+    
     /**
      * Constructs a hash table with default capacity.
      */
-    @SuppressWarnings("unchecked")
     public HashTable() {
-        this.capacity = DEFAULT_CAPACITY;
-        this.buckets = new LinkedList[capacity];
-        this.size = 0;
-        for (int i = 0; i < capacity; i++) {
-            buckets[i] = new LinkedList<>();
-        }
+        this(DEFAULT_CAPACITY);
     }
     
     /**
@@ -63,18 +72,64 @@ public class HashTable<K, V> {
      * 
      * @param capacity initial capacity
      */
-    @SuppressWarnings("unchecked")
     public HashTable(int capacity) {
+        this(capacity, false);
+    }
+    
+    /**
+     * Constructs a hash table with specified capacity and resize mode.
+     * 
+     * @param capacity initial capacity
+     * @param incrementalResize true to spread rehashing over later operations
+     */
+    @SuppressWarnings("unchecked")
+    public HashTable(int capacity, boolean incrementalResize) {
         this.capacity = capacity;
         this.buckets = new LinkedList[capacity];
         this.size = 0;
-        for (int i = 0; i < capacity; i++) {
-            buckets[i] = new LinkedList<>();
+        this.incrementalResize = incrementalResize;
+        // Incremental mode creates buckets lazily so growing does not allocate them all at once
+        if (!incrementalResize) {
+            for (int i = 0; i < capacity; i++) {
+                buckets[i] = new LinkedList<>();
+            }
         }
     }
     
     private int hash(K key) {
-        return Math.abs(key.hashCode()) % capacity;
+        return hash(key, capacity);
+    }
+    
+    private static int hash(Object key, int capacity) {
+        return Math.abs(key.hashCode() % capacity);
+    }
+    
+    private LinkedList<Entry<K, V>> bucketFor(K key) {
+        int index = hash(key);
+        LinkedList<Entry<K, V>> bucket = buckets[index];
+        if (bucket == null) {
+            bucket = new LinkedList<>();
+            buckets[index] = bucket;
+        }
+        return bucket;
+    }
+    
+    /**
+     * Returns the entry for a key from the old table while rehashing.
+     */
+    private Entry<K, V> findInOld(K key) {
+        if (oldBuckets == null) {
+            return null;
+        }
+        LinkedList<Entry<K, V>> bucket = oldBuckets[hash(key, oldCapacity)];
+        if (bucket != null) {
+            for (Entry<K, V> entry : bucket) {
+                if (entry.key.equals(key)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
     }
     
     /**
@@ -84,6 +139,11 @@ public class HashTable<K, V> {
      * @param value the value
      */
     public void put(K key, V value) {
+        if (incrementalResize) {
+            putIncremental(key, value);
+            return;
+        }
+        
         int index = hash(key);
         LinkedList<Entry<K, V>> bucket = buckets[index];
         
@@ -105,6 +165,31 @@ public class HashTable<K, V> {
         }
     }
     
+    private void putIncremental(K key, V value) {
+        rehashStep();
+        
+        Entry<K, V> old = findInOld(key);
+        if (old != null) {
+            old.value = value; // Moved to the new table when its bucket is migrated
+            return;
+        }
+        
+        LinkedList<Entry<K, V>> bucket = bucketFor(key);
+        for (Entry<K, V> entry : bucket) {
+            if (entry.key.equals(key)) {
+                entry.value = value;
+                return;
+            }
+        }
+        
+        bucket.add(new Entry<>(key, value));
+        size++;
+        
+        if ((double) size / capacity > LOAD_FACTOR) {
+            startRehash();
+        }
+    }
+    
     /**
      * Retrieves the value associated with a key.
      * 
@@ -115,13 +200,16 @@ public class HashTable<K, V> {
         int index = hash(key);
         LinkedList<Entry<K, V>> bucket = buckets[index];
         
-        for (Entry<K, V> entry : bucket) {
-            if (entry.key.equals(key)) {
-                return entry.value;
+        if (bucket != null) {
+            for (Entry<K, V> entry : bucket) {
+                if (entry.key.equals(key)) {
+                    return entry.value;
+                }
             }
         }
         
-        return null;
+        Entry<K, V> old = findInOld(key);
+        return old != null ? old.value : null;
     }
     
     /**
@@ -131,8 +219,21 @@ public class HashTable<K, V> {
      * @return the value that was removed, or null if key not found
      */
     public V remove(K key) {
+        if (incrementalResize) {
+            rehashStep();
+            Entry<K, V> old = findInOld(key);
+            if (old != null) {
+                oldBuckets[hash(key, oldCapacity)].remove(old);
+                size--;
+                return old.value;
+            }
+        }
+        
         int index = hash(key);
         LinkedList<Entry<K, V>> bucket = buckets[index];
+        if (bucket == null) {
+            return null;
+        }
         
         for (Entry<K, V> entry : bucket) {
             if (entry.key.equals(key)) {
@@ -178,11 +279,72 @@ public class HashTable<K, V> {
      */
     public void clear() {
         for (int i = 0; i < capacity; i++) {
-            buckets[i].clear();
+            if (buckets[i] != null) {
+                buckets[i].clear();
+            }
         }
+        oldBuckets = null;
         size = 0;
     }
     
+    /**
+     * Checks if an incremental rehash is in progress.
+     * 
+     * @return true while entries are still being moved to the new table
+     */
+    public boolean isRehashing() {
+        return oldBuckets != null;
+    }
+    
+    /**
+     * Returns the number of buckets in the current table.
+     * 
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void startRehash() {
+        // A new rehash cannot start before the previous one has drained
+        while (oldBuckets != null) {
+            rehashStep();
+        }
+        oldBuckets = buckets;
+        oldCapacity = capacity;
+        rehashIndex = 0;
+        capacity *= 2;
+        buckets = new LinkedList[capacity];
+    }
+    
+    /**
+     * Moves up to {@link #REHASH_STEP} non-empty buckets from the old table.
+     */
+    private void rehashStep() {
+        if (oldBuckets == null) {
+            return;
+        }
+        int moved = 0;
+        int emptyVisits = REHASH_STEP * 10; // bound the work spent skipping empty buckets
+        while (moved < REHASH_STEP && emptyVisits > 0 && rehashIndex < oldCapacity) {
+            LinkedList<Entry<K, V>> bucket = oldBuckets[rehashIndex];
+            oldBuckets[rehashIndex] = null;
+            rehashIndex++;
+            if (bucket == null || bucket.isEmpty()) {
+                emptyVisits--;
+                continue;
+            }
+            for (Entry<K, V> entry : bucket) {
+                bucketFor(entry.key).add(entry);
+            }
+            moved++;
+        }
+        if (rehashIndex >= oldCapacity) {
+            oldBuckets = null;
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     private void resize() {
         int oldCapacity = capacity;
@@ -0,0 +1,277 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Arrays;
+
+/**
+ * Hash Table with primitive {@code int} keys using open addressing (linear probing).
+ * Keys and values live in two flat parallel arrays, so after the table has grown
+ * to its working size {@code get} and {@code put} allocate nothing.
+ *
+ * <p>Use-case: Task-id lookups where {@link HashTable} would box every key and
+ * allocate an entry plus a list node per insert.
+ *
+ * <p>Key {@code 0} marks a free slot, so a zero key is stored outside the arrays.
+ * Removal uses backward-shift deletion, so no tombstones are left behind and
+ * probe sequences stay short under insert/delete churn.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Insert: O(1) average, O(n) worst case</li>
+ *   <li>Search: O(1) average, O(n) worst case</li>
+ *   <li>Delete: O(1) average, O(n) worst case</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(capacity), two array slots per entry
+ *
+ * @param <V> the type of mapped values
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class IntHashTable<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    private boolean hasZeroKey;
+    private Object zeroValue;
+
+    /**
+     * Constructs a hash table with default capacity.
+     */
+    public IntHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a hash table sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative");
+        }
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        int capacity = 2;
+        while (capacity < needed && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Inserts or updates a key-value pair.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == FREE_KEY) {
+            V previous = (V) zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        int index = mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold && keys.length < (1 << 30)) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the value associated with a key.
+     *
+     * @param key the key
+     * @return the value, or null if key not found
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == FREE_KEY) {
+            return (V) zeroValue;
+        }
+        int index = mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the table contains a key.
+     *
+     * @param key the key to check
+     * @return true if key exists, false otherwise
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes a key-value pair.
+     *
+     * @param key the key to remove
+     * @return the value that was removed, or null if key not found
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                return null;
+            }
+            V previous = (V) zeroValue;
+            hasZeroKey = false;
+            zeroValue = null;
+            size--;
+            return previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    private int indexOf(int key) {
+        int index = mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Backward-shift deletion: moves later entries of the same probe run into
+     * the freed slot so lookups never need tombstones.
+     */
+    private void shiftKeys(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            int current = keys[index];
+            if (current == FREE_KEY) {
+                break;
+            }
+            int home = mix(current) & mask;
+            // Move the entry if its home slot is not in the cyclic range (gap, index]
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = current;
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of key-value pairs.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the table is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of slots in the backing arrays.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Removes all key-value pairs, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+}
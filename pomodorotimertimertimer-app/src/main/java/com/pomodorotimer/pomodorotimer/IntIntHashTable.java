@@ -0,0 +1,336 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Arrays;
+
+/**
+ * Hash Table mapping primitive {@code int} keys to primitive {@code int} values
+ * using open addressing (linear probing). Nothing is boxed and, after the table
+ * has grown to its working size, no operation allocates.
+ *
+ * <p>Use-case: Counters and id-to-index maps such as task id to priority,
+ * where {@code HashTable<Integer, Integer>} would box both sides.
+ *
+ * <p>Key {@code 0} marks a free slot, so a zero key is stored outside the arrays.
+ * Removal uses backward-shift deletion, so no tombstones are left behind.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Insert: O(1) average, O(n) worst case</li>
+ *   <li>Search: O(1) average, O(n) worst case</li>
+ *   <li>Delete: O(1) average, O(n) worst case</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(capacity), two array slots per entry
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class IntIntHashTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * Receives one entry during {@link IntIntHashTable#forEach(EntryConsumer)}.
+     */
+    public interface EntryConsumer {
+        /**
+         * Accepts an entry.
+         *
+         * @param key the key
+         * @param value the value
+         */
+        void accept(int key, int value);
+    }
+
+    /**
+     * Constructs a hash table with default capacity.
+     */
+    public IntIntHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a hash table sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntIntHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must be non-negative");
+        }
+        allocate(IntHashTable.tableSizeFor(expectedSize));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Inserts or updates a key-value pair.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or 0 if the key was absent
+     */
+    public int put(int key, int value) {
+        if (key == FREE_KEY) {
+            int previous = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return previous;
+        }
+
+        int index = IntHashTable.mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        insertAt(index, key, value);
+        return 0;
+    }
+
+    /**
+     * Adds a delta to the value of a key, inserting the key with value {@code delta} if absent.
+     *
+     * @param key the key
+     * @param delta amount to add
+     * @return the new value
+     */
+    public int addTo(int key, int delta) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue += delta;
+            return zeroValue;
+        }
+
+        int index = IntHashTable.mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                values[index] += delta;
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+
+        insertAt(index, key, delta);
+        return delta;
+    }
+
+    private void insertAt(int index, int key, int value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > threshold && keys.length < (1 << 30)) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Retrieves the value associated with a key.
+     *
+     * @param key the key
+     * @return the value, or 0 if key not found
+     */
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Retrieves the value associated with a key.
+     *
+     * @param key the key
+     * @param defaultValue value returned when the key is absent
+     * @return the value, or {@code defaultValue} if key not found
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == FREE_KEY) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = IntHashTable.mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Checks if the table contains a key.
+     *
+     * @param key the key to check
+     * @return true if key exists, false otherwise
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Removes a key-value pair.
+     *
+     * @param key the key to remove
+     * @return the value that was removed, or 0 if key not found
+     */
+    public int remove(int key) {
+        if (key == FREE_KEY) {
+            if (!hasZeroKey) {
+                return 0;
+            }
+            int previous = zeroValue;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return previous;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return 0;
+        }
+        int previous = values[index];
+        shiftKeys(index);
+        size--;
+        return previous;
+    }
+
+    private int indexOf(int key) {
+        int index = IntHashTable.mix(key) & mask;
+        int current;
+        while ((current = keys[index]) != FREE_KEY) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Backward-shift deletion: moves later entries of the same probe run into
+     * the freed slot so lookups never need tombstones.
+     */
+    private void shiftKeys(int gap) {
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            int current = keys[index];
+            if (current == FREE_KEY) {
+                break;
+            }
+            int home = IntHashTable.mix(current) & mask;
+            // Move the entry if its home slot is not in the cyclic range (gap, index]
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = current;
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = IntHashTable.mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Visits every entry in table order. The consumer must not add or remove keys,
+     * but may update values of existing keys.
+     *
+     * @param consumer receives each entry
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(FREE_KEY, zeroValue);
+        }
+        int[] tableKeys = keys;
+        for (int i = 0; i < tableKeys.length; i++) {
+            int key = tableKeys[i];
+            if (key != FREE_KEY) {
+                consumer.accept(key, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of key-value pairs.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the table is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of slots in the backing arrays.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Removes all key-value pairs, keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,641 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent linear-probing hash table stored in a memory-mapped file.
+ * This is the storage behind {@link FileOperations} in persistent mode.
+ *
+ * <p>Use-case: Keeping the task store across restarts. Opening the store maps
+ * the file instead of reloading it, and lookups compare key bytes directly in
+ * the mapping.
+ *
+ * <p>File layout:
+ * <ul>
+ *   <li>Header (64 bytes): magic, version, capacity, size, overflow usage and a
+ *       CRC32 of those fields</li>
+ *   <li>Slot area: capacity fixed 64-byte slots holding a state byte, the key
+ *       hash, and key and value fields. Short strings are stored inline, longer
+ *       ones as an offset into the overflow area</li>
+ *   <li>Overflow area: append-only UTF-8 bytes for long strings. Updates and
+ *       removals leave the old bytes behind; the area is compacted whenever
+ *       the table is resized, and when it fills up while at least half of it
+ *       is such dead bytes, so rewriting long values does not grow the file
+ *       without bound</li>
+ * </ul>
+ *
+ * <p>Crash consistency: only resizes are atomic. A resize builds the new
+ * table in a new data file, numbered by generation, and then switches a small
+ * pointer file next to the store to it with an atomic rename. A crash during
+ * a resize therefore leaves either the old or the new table. No file is ever
+ * replaced while it is mapped, which Windows does not allow. Generation 0 is
+ * the store path itself; later ones add ".1", ".2" and so on to it, and open
+ * deletes the stale ones.
+ *
+ * <p>Put, remove and clear rewrite slots in place in the mapping, with no
+ * journal, and the operating system writes the pages back in any order. The
+ * header checksum covers only the header. A crash in the middle of an update
+ * or a backward shift can leave a torn table that open accepts. Callers that
+ * need crash recovery keep the authoritative record elsewhere; the app
+ * replays its tasks from {@link TaskWriteAheadLog}. {@link #flush()} forces
+ * the mapping to disk but is not atomic either.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Open: O(1), independent of the entry count</li>
+ *   <li>Insert: O(1) average</li>
+ *   <li>Search: O(1) average</li>
+ *   <li>Delete: O(1) average (backward-shift deletion)</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(n) where n is the capacity, plus the overflow bytes.
+ * The whole file is one mapping, so it is limited to 2 GB.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class MappedFileStore implements Closeable {
+
+    static final int MAGIC = 0x50464F31; // "PFO1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int SLOT_SIZE = 64;
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int DEFAULT_OVERFLOW_CAPACITY = 64 * 1024;
+
+    // Header field offsets
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_CAPACITY = 8;
+    private static final int H_SIZE = 12;
+    private static final int H_OVERFLOW_END = 16;
+    private static final int H_OVERFLOW_CAPACITY = 24;
+    private static final int H_CHECKSUM = 32;
+
+    // Slot field offsets; a string field is an int length followed by the
+    // inline bytes, or by a long overflow offset when the string is too long
+    private static final int S_STATE = 0;
+    private static final int S_HASH = 4;
+    private static final int S_KEY = 8;
+    private static final int S_VALUE = 32;
+    private static final int KEY_INLINE = 20;
+    private static final int VALUE_INLINE = 28;
+
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+
+    private final Path path;
+    private long generation;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int size;
+    private int overflowStart;
+    private long overflowEnd;
+    private long overflowCapacity;
+
+    /**
+     * Opens the store at path, creating it with the default capacity if absent.
+     *
+     * @param path the store file
+     * @throws IOException if the file cannot be mapped or its header is corrupt
+     */
+    public MappedFileStore(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens the store at path, creating it with the given capacity if absent.
+     *
+     * @param path the store file
+     * @param initialCapacity slot count for a new file, rounded up to a power of two
+     * @throws IOException if the file cannot be mapped or its header is corrupt
+     * @throws IllegalArgumentException if initialCapacity is not positive
+     */
+    public MappedFileStore(Path path, int initialCapacity) throws IOException {
+        this(path, prepareGeneration(path, initialCapacity));
+    }
+
+    /**
+     * Maps the data file of one generation of the store at path.
+     */
+    private MappedFileStore(Path path, long generation) throws IOException {
+        this.path = path;
+        this.generation = generation;
+        map(FileGenerations.dataPath(path, generation));
+    }
+
+    /**
+     * Maps a data file directly, as generation 0 of itself, for building a new table.
+     */
+    private static MappedFileStore mapDataFile(Path dataFile) throws IOException {
+        return new MappedFileStore(dataFile, 0L);
+    }
+
+    /**
+     * Returns the current generation of the store at path after deleting the
+     * stale files, and creates generation 0 if the store does not exist yet.
+     */
+    private static long prepareGeneration(Path path, int initialCapacity) throws IOException {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        long generation = FileGenerations.read(path);
+        FileGenerations.deleteStale(path, generation);
+        if (generation == 0 && (!Files.exists(path) || Files.size(path) == 0)) {
+            Path temp = FileGenerations.tempPath(path);
+            create(temp, IntHashTable.tableSizeFor(initialCapacity), DEFAULT_OVERFLOW_CAPACITY);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return generation;
+    }
+
+    /**
+     * Deletes a store: its data files of every generation and its pointer file.
+     *
+     * @param path the store file
+     * @throws IOException if a file cannot be deleted
+     */
+    public static void delete(Path path) throws IOException {
+        FileGenerations.deleteAll(path);
+    }
+
+    private static void create(Path target, int capacity, long overflowCapacity) throws IOException {
+        long length = HEADER_SIZE + (long) capacity * SLOT_SIZE + overflowCapacity;
+        checkMappable(length);
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer header = out.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            header.putInt(H_MAGIC, MAGIC);
+            header.putInt(H_VERSION, VERSION);
+            header.putInt(H_CAPACITY, capacity);
+            header.putInt(H_SIZE, 0);
+            header.putLong(H_OVERFLOW_END, 0);
+            header.putLong(H_OVERFLOW_CAPACITY, overflowCapacity);
+            header.putLong(H_CHECKSUM, headerChecksum(header));
+            header.force();
+        }
+    }
+
+    private static void checkMappable(long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Store exceeds the 2 GB mapping limit");
+        }
+    }
+
+    private void map(Path dataFile) throws IOException {
+        channel = FileChannel.open(dataFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long length = channel.size();
+        if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("Not a task store: " + dataFile);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        if (buffer.getInt(H_MAGIC) != MAGIC || buffer.getInt(H_VERSION) != VERSION
+                || buffer.getLong(H_CHECKSUM) != headerChecksum(buffer)) {
+            channel.close();
+            throw new IOException("Corrupt store header: " + dataFile);
+        }
+        capacity = buffer.getInt(H_CAPACITY);
+        size = buffer.getInt(H_SIZE);
+        overflowEnd = buffer.getLong(H_OVERFLOW_END);
+        overflowCapacity = buffer.getLong(H_OVERFLOW_CAPACITY);
+        long slotsEnd = HEADER_SIZE + (long) capacity * SLOT_SIZE;
+        if (Integer.bitCount(capacity) != 1 || size < 0 || size > capacity
+                || overflowEnd < 0 || overflowEnd > overflowCapacity
+                || slotsEnd + overflowCapacity > length) {
+            channel.close();
+            throw new IOException("Corrupt store header: " + dataFile);
+        }
+        overflowStart = (int) slotsEnd;
+    }
+
+    private static long headerChecksum(ByteBuffer header) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < H_CHECKSUM; i++) {
+            crc.update(header.get(i));
+        }
+        return crc.getValue();
+    }
+
+    private void writeHeader() {
+        buffer.putInt(H_SIZE, size);
+        buffer.putLong(H_OVERFLOW_END, overflowEnd);
+        buffer.putLong(H_OVERFLOW_CAPACITY, overflowCapacity);
+        buffer.putInt(H_CAPACITY, capacity);
+        buffer.putLong(H_CHECKSUM, headerChecksum(buffer));
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int slotOffset(int index) {
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new IllegalStateException("Store is closed");
+        }
+    }
+
+    /**
+     * Finds the slot holding key, or returns {@code -1 - index} of the empty
+     * slot that ends its probe run.
+     */
+    private int findSlot(byte[] keyBytes, int hash) {
+        int mask = capacity - 1;
+        int index = hash & mask;
+        while (true) {
+            int base = slotOffset(index);
+            if (buffer.get(base + S_STATE) == EMPTY) {
+                return -1 - index;
+            }
+            if (buffer.getInt(base + S_HASH) == hash && fieldEquals(base + S_KEY, KEY_INLINE, keyBytes)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int fieldAddress(int offset, int inline, int length) {
+        if (length <= inline) {
+            return offset + 4;
+        }
+        return (int) (overflowStart + buffer.getLong(offset + 4));
+    }
+
+    private boolean fieldEquals(int offset, int inline, byte[] bytes) {
+        int length = buffer.getInt(offset);
+        if (length != bytes.length) {
+            return false;
+        }
+        int address = fieldAddress(offset, inline, length);
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(address + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] readField(int offset, int inline) {
+        int length = buffer.getInt(offset);
+        int address = fieldAddress(offset, inline, length);
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(address + i);
+        }
+        return bytes;
+    }
+
+    private void writeField(int offset, int inline, byte[] bytes) {
+        if (bytes.length <= inline) {
+            putBytes(offset + 4, bytes);
+        } else {
+            // Appending may remap, so the slot is addressed by offset only
+            long relative = appendOverflow(bytes);
+            buffer.putLong(offset + 4, relative);
+        }
+        buffer.putInt(offset, bytes.length);
+    }
+
+    private void putBytes(int address, byte[] bytes) {
+        ByteBuffer target = buffer.duplicate();
+        target.position(address);
+        target.put(bytes);
+    }
+
+    private long appendOverflow(byte[] bytes) {
+        if (overflowEnd + bytes.length > overflowCapacity) {
+            growOverflow(overflowEnd + bytes.length);
+        }
+        long relative = overflowEnd;
+        putBytes((int) (overflowStart + relative), bytes);
+        overflowEnd += bytes.length;
+        return relative;
+    }
+
+    private void growOverflow(long required) {
+        long newCapacity = Math.max(overflowCapacity * 2, required);
+        long length = (long) overflowStart + newCapacity;
+        checkMappable(length);
+        try {
+            // Mapping past the end of the file extends it
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        overflowCapacity = newCapacity;
+        writeHeader();
+    }
+
+    private static int overflowLength(byte[] bytes, int inline) {
+        return bytes.length > inline ? bytes.length : 0;
+    }
+
+    /**
+     * Makes room for required more overflow bytes. When the area is full and
+     * at least half of it is dead, the table is rebuilt at the same capacity,
+     * which keeps only the live bytes; otherwise appending grows the area.
+     */
+    private void reserveOverflow(long required) {
+        if (overflowEnd + required <= overflowCapacity) {
+            return;
+        }
+        long live = liveOverflowBytes();
+        if (overflowEnd > 0 && overflowEnd - live >= overflowEnd / 2) {
+            resize(capacity, Math.max(DEFAULT_OVERFLOW_CAPACITY, (live + required) * 2));
+        }
+    }
+
+    private long liveOverflowBytes() {
+        long live = 0;
+        for (int i = 0; i < capacity; i++) {
+            int base = slotOffset(i);
+            if (buffer.get(base + S_STATE) != EMPTY) {
+                int keyLength = buffer.getInt(base + S_KEY);
+                int valueLength = buffer.getInt(base + S_VALUE);
+                live += (keyLength > KEY_INLINE ? keyLength : 0) + (valueLength > VALUE_INLINE ? valueLength : 0);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Inserts or updates a key-value pair.
+     *
+     * @param key the key
+     * @param value the value
+     * @throws IllegalArgumentException if key or value is null
+     * @throws UncheckedIOException if growing the file fails
+     */
+    public void put(String key, String value) {
+        if (key == null || value == null) {
+            throw new IllegalArgumentException("Key and value cannot be null");
+        }
+        checkOpen();
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        // Compacting moves slots, so it happens before one is looked up
+        reserveOverflow(overflowLength(keyBytes, KEY_INLINE) + overflowLength(valueBytes, VALUE_INLINE));
+        int hash = hash(key);
+        int slot = findSlot(keyBytes, hash);
+        if (slot >= 0) {
+            writeField(slotOffset(slot) + S_VALUE, VALUE_INLINE, valueBytes);
+            writeHeader();
+            return;
+        }
+        if (size + 1 > capacity * LOAD_FACTOR) {
+            resize(capacity * 2, Math.max(DEFAULT_OVERFLOW_CAPACITY, overflowEnd));
+            slot = findSlot(keyBytes, hash);
+        }
+        insert(-1 - slot, hash, keyBytes, valueBytes);
+        size++;
+        writeHeader();
+    }
+
+    private void insert(int index, int hash, byte[] keyBytes, byte[] valueBytes) {
+        int base = slotOffset(index);
+        buffer.putInt(base + S_HASH, hash);
+        writeField(base + S_KEY, KEY_INLINE, keyBytes);
+        writeField(base + S_VALUE, VALUE_INLINE, valueBytes);
+        // Published last so lookups never reach a partly written slot
+        buffer.put(base + S_STATE, USED);
+    }
+
+    /**
+     * Retrieves a value by key.
+     *
+     * @param key the key
+     * @return the value, or null if not found
+     */
+    public String get(String key) {
+        if (key == null) {
+            return null;
+        }
+        checkOpen();
+        int slot = findSlot(key.getBytes(StandardCharsets.UTF_8), hash(key));
+        if (slot < 0) {
+            return null;
+        }
+        return new String(readField(slotOffset(slot) + S_VALUE, VALUE_INLINE), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Removes a key-value pair.
+     *
+     * @param key the key to remove
+     * @return the value that was removed, or null if not found
+     */
+    public String remove(String key) {
+        if (key == null) {
+            return null;
+        }
+        checkOpen();
+        int slot = findSlot(key.getBytes(StandardCharsets.UTF_8), hash(key));
+        if (slot < 0) {
+            return null;
+        }
+        String value = new String(readField(slotOffset(slot) + S_VALUE, VALUE_INLINE), StandardCharsets.UTF_8);
+        shiftBack(slot);
+        size--;
+        writeHeader();
+        return value;
+    }
+
+    /**
+     * Empties a slot and moves later entries of its probe run back into the gap.
+     */
+    private void shiftBack(int index) {
+        int mask = capacity - 1;
+        int hole = index;
+        int current = (index + 1) & mask;
+        while (buffer.get(slotOffset(current) + S_STATE) != EMPTY) {
+            int home = buffer.getInt(slotOffset(current) + S_HASH) & mask;
+            // The entry stays put when its home lies cyclically in (hole, current]
+            if (((current - home) & mask) >= ((current - hole) & mask)) {
+                copySlot(current, hole);
+                hole = current;
+            }
+            current = (current + 1) & mask;
+        }
+        buffer.put(slotOffset(hole) + S_STATE, EMPTY);
+    }
+
+    private void copySlot(int from, int to) {
+        int source = slotOffset(from);
+        int target = slotOffset(to);
+        for (int i = 0; i < SLOT_SIZE; i += 8) {
+            buffer.putLong(target + i, buffer.getLong(source + i));
+        }
+    }
+
+    /**
+     * Rebuilds the table with newCapacity slots in the next generation's data
+     * file, compacting the overflow area into a new one of newOverflowCapacity
+     * bytes, and switches the pointer file to it.
+     * The old data file is unmapped by the garbage collector, so deleting it
+     * can fail on Windows; the next open retries.
+     */
+    private void resize(int newCapacity, long newOverflowCapacity) {
+        long next = generation + 1;
+        Path target = FileGenerations.dataPath(path, next);
+        try {
+            Files.deleteIfExists(target);
+            create(target, newCapacity, newOverflowCapacity);
+            try (MappedFileStore rebuilt = mapDataFile(target)) {
+                for (int i = 0; i < capacity; i++) {
+                    int base = slotOffset(i);
+                    if (buffer.get(base + S_STATE) == EMPTY) {
+                        continue;
+                    }
+                    int hash = buffer.getInt(base + S_HASH);
+                    byte[] keyBytes = readField(base + S_KEY, KEY_INLINE);
+                    rebuilt.insert(-1 - rebuilt.findSlot(keyBytes, hash), hash, keyBytes,
+                        readField(base + S_VALUE, VALUE_INLINE));
+                }
+                rebuilt.size = size;
+                rebuilt.writeHeader();
+                rebuilt.flush();
+            }
+            FileGenerations.write(path, next);
+            channel.close();
+            buffer = null;
+            FileGenerations.quietlyDelete(FileGenerations.dataPath(path, generation));
+            generation = next;
+            map(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Checks if a key exists.
+     *
+     * @param key the key to check
+     * @return true if key exists, false otherwise
+     */
+    public boolean containsKey(String key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the store is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Removes all entries. The file keeps its size; the overflow area is reused.
+     */
+    public void clear() {
+        checkOpen();
+        for (int i = 0; i < capacity; i++) {
+            buffer.put(slotOffset(i) + S_STATE, EMPTY);
+        }
+        size = 0;
+        overflowEnd = 0;
+        writeHeader();
+    }
+
+    /**
+     * Counts the probes needed to find key, or to prove it absent.
+     *
+     * @param key the key to search for
+     * @return number of probes
+     */
+    public int getSearchTime(String key) {
+        checkOpen();
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(key);
+        int slot = findSlot(keyBytes, hash);
+        int end = slot >= 0 ? slot : -1 - slot;
+        return ((end - (hash & (capacity - 1))) & (capacity - 1)) + 1;
+    }
+
+    /**
+     * Returns the probe length of every live entry, indexed by slot; 0 for empty slots.
+     */
+    int[] probeLengths() {
+        checkOpen();
+        int[] lengths = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            int base = slotOffset(i);
+            if (buffer.get(base + S_STATE) != EMPTY) {
+                lengths[i] = ((i - (buffer.getInt(base + S_HASH) & mask)) & mask) + 1;
+            }
+        }
+        return lengths;
+    }
+
+    /**
+     * Forces all changes in the mapping to the storage device.
+     */
+    public void flush() {
+        checkOpen();
+        buffer.force();
+    }
+
+    /**
+     * Flushes and closes the store. The mapping is released when it is garbage collected.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        buffer.force();
+        buffer = null;
+        channel.close();
+    }
+
+    /**
+     * Returns the store file. Once the table has been resized, its data lives
+     * in a generation file next to it; see the class comment.
+     *
+     * @return the path
+     */
+    public Path getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,633 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only sparse matrix backed by a memory-mapped file in CSR layout. Files
+ * are written with {@link #write(CsrMatrix, Path, boolean)}; a
+ * {@link SparseMatrix} is saved through {@link SparseMatrix#toCsr()}.
+ *
+ * <p>Use-case: Large generated map grids that used to be rebuilt cell by cell
+ * on every startup. Opening maps the file and checks the header, so it takes
+ * the same few milliseconds for a thousand non-zeros as for hundreds of
+ * millions; pages are read in by the operating system as cells are touched.
+ *
+ * <p>File layout (little-endian, every section starts on an 8-byte boundary):
+ * <ul>
+ *   <li>Header (64 bytes): magic, version, flags, dimensions, non-zero count,
+ *       section offsets and a CRC32 of those fields</li>
+ *   <li>Row pointers: rows + 1 ints, as in {@link CsrMatrix}</li>
+ *   <li>Row starts (compressed files only): rows + 1 longs, the byte offset of
+ *       each row in the column section</li>
+ *   <li>Columns: one int per non-zero, or, when compressed, the first column
+ *       of each row followed by the gaps between columns as unsigned varints
+ *       (7 bits per byte). Gaps on a map grid mostly fit in one byte</li>
+ *   <li>Values: one int per non-zero</li>
+ * </ul>
+ *
+ * <p>Rewriting a matrix never touches a file that may be mapped, which Windows
+ * does not allow: the first write goes to the path itself, and each later one
+ * to a new data file, numbered by generation, that a pointer file next to the
+ * path is then switched to (see {@link FileGenerations}). A matrix opened
+ * before the rewrite keeps reading the old data.
+ *
+ * <p>Only the header is checksummed; verifying the arrays would read the whole
+ * file and defeat the point of mapping it. A single mapping is limited to
+ * 2 GB, so the file is mapped in 1 GB segments. Sections are aligned, so no
+ * int or long crosses a segment boundary.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Open: O(1), independent of the non-zero count</li>
+ *   <li>Get value: O(log d) where d is the number of non-zeros in the row;
+ *       O(d) for compressed files, which decode the row from its start</li>
+ *   <li>Row iteration: O(d)</li>
+ *   <li>Write: O(rows + k) where k is the number of non-zeros</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(rows + k) on disk, 4 bytes per row plus 8 bytes per
+ * non-zero; compressed files take 12 bytes per row plus 5 to 9 bytes per
+ * non-zero. Heap use is O(1) apart from the segment table.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class MappedSparseMatrix implements Closeable {
+
+    static final int MAGIC = 0x50534D31; // "PSM1"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int FLAG_COMPRESSED = 1;
+
+    /**
+     * Each mapping covers 2^30 bytes (1 GB).
+     */
+    static final int SEGMENT_SHIFT = 30;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    // Header field offsets
+    private static final int H_MAGIC = 0;
+    private static final int H_VERSION = 4;
+    private static final int H_FLAGS = 8;
+    private static final int H_ROWS = 12;
+    private static final int H_COLS = 16;
+    private static final int H_NON_ZEROS = 24;
+    private static final int H_ROW_STARTS = 32;
+    private static final int H_COLUMNS = 40;
+    private static final int H_VALUES = 48;
+    private static final int H_CHECKSUM = 56;
+
+    private final Path path;
+    private final int rows;
+    private final int cols;
+    private final int nonZeros;
+    private final boolean compressed;
+    private final long rowStarts;
+    private final long columns;
+    private final long values;
+    private final int segmentShift;
+    private final long segmentMask;
+    private ByteBuffer[] segments;
+
+    private MappedSparseMatrix(Path path, ByteBuffer[] segments, int segmentShift, ByteBuffer header) {
+        this.path = path;
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+        this.rows = header.getInt(H_ROWS);
+        this.cols = header.getInt(H_COLS);
+        this.nonZeros = (int) header.getLong(H_NON_ZEROS);
+        this.compressed = (header.getInt(H_FLAGS) & FLAG_COMPRESSED) != 0;
+        this.rowStarts = header.getLong(H_ROW_STARTS);
+        this.columns = header.getLong(H_COLUMNS);
+        this.values = header.getLong(H_VALUES);
+    }
+
+    /**
+     * Writes a matrix with plain int columns, replacing any matrix at path.
+     *
+     * @param matrix the matrix to save
+     * @param path the target file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(CsrMatrix matrix, Path path) throws IOException {
+        write(matrix, path, false);
+    }
+
+    /**
+     * Writes a matrix, optionally with delta/varint-encoded columns, replacing
+     * any matrix at path. The data is built under a temporary name and renamed
+     * to a data file no reader has mapped, then the generation pointer is
+     * switched to it. Data files of older generations are deleted, except those
+     * still mapped on Windows, which a later write removes.
+     *
+     * @param matrix the matrix to save
+     * @param path the target file
+     * @param compress true to encode columns as varint gaps
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(CsrMatrix matrix, Path path, boolean compress) throws IOException {
+        int rows = matrix.getRows();
+        int[] rowPtr = matrix.rowPtr();
+        int[] colIdx = matrix.colIdx();
+        int[] matrixValues = matrix.values();
+        int nonZeros = matrix.getNonZeroCount();
+        long current = FileGenerations.read(path);
+        long next = current == 0 && !Files.exists(path) ? 0 : current + 1;
+        Path temp = FileGenerations.tempPath(path);
+        Files.deleteIfExists(temp);
+        long rowStartsOffset = 0;
+        long columnsOffset;
+        long valuesOffset;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE)) {
+            SectionWriter writer = new SectionWriter(out);
+            for (int row = 0; row <= rows; row++) {
+                writer.putInt(rowPtr[row]);
+            }
+            writer.align();
+            if (compress) {
+                rowStartsOffset = writer.position();
+                long offset = 0;
+                for (int row = 0; row < rows; row++) {
+                    writer.putLong(offset);
+                    int previous = 0;
+                    for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+                        offset += varintLength(colIdx[i] - previous);
+                        previous = colIdx[i];
+                    }
+                }
+                writer.putLong(offset);
+                columnsOffset = writer.position();
+                for (int row = 0; row < rows; row++) {
+                    int previous = 0;
+                    for (int i = rowPtr[row]; i < rowPtr[row + 1]; i++) {
+                        writer.putVarint(colIdx[i] - previous);
+                        previous = colIdx[i];
+                    }
+                }
+            } else {
+                columnsOffset = writer.position();
+                for (int i = 0; i < nonZeros; i++) {
+                    writer.putInt(colIdx[i]);
+                }
+            }
+            writer.align();
+            valuesOffset = writer.position();
+            for (int i = 0; i < nonZeros; i++) {
+                writer.putInt(matrixValues[i]);
+            }
+            writer.flush();
+
+            // The header goes last, so a file cut short never carries a valid one
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(H_MAGIC, MAGIC);
+            header.putInt(H_VERSION, VERSION);
+            header.putInt(H_FLAGS, compress ? FLAG_COMPRESSED : 0);
+            header.putInt(H_ROWS, rows);
+            header.putInt(H_COLS, matrix.getCols());
+            header.putLong(H_NON_ZEROS, nonZeros);
+            header.putLong(H_ROW_STARTS, rowStartsOffset);
+            header.putLong(H_COLUMNS, columnsOffset);
+            header.putLong(H_VALUES, valuesOffset);
+            header.putLong(H_CHECKSUM, headerChecksum(header));
+            out.write(header, 0);
+            out.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, FileGenerations.dataPath(path, next), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+        if (next > 0) {
+            FileGenerations.write(path, next);
+        }
+        FileGenerations.deleteStale(path, next);
+    }
+
+    /**
+     * Deletes a matrix: its data files of every generation and its pointer file.
+     *
+     * @param path the matrix file
+     * @throws IOException if a file cannot be deleted
+     */
+    public static void delete(Path path) throws IOException {
+        FileGenerations.deleteAll(path);
+    }
+
+    /**
+     * Maps a matrix file for reading.
+     *
+     * @param path the matrix file
+     * @return the mapped matrix
+     * @throws IOException if the file cannot be mapped or its header is corrupt
+     */
+    public static MappedSparseMatrix open(Path path) throws IOException {
+        return open(path, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Maps a matrix file in segments of 2^segmentShift bytes. Small segments
+     * let tests cover reads across segment boundaries.
+     */
+    static MappedSparseMatrix open(Path path, int segmentShift) throws IOException {
+        try (FileChannel channel = FileChannel.open(FileGenerations.currentDataPath(path),
+                StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE) {
+                throw new IOException("Not a sparse matrix file: " + path);
+            }
+            long segmentSize = 1L << segmentShift;
+            ByteBuffer[] segments = new ByteBuffer[(int) ((length + segmentSize - 1) >>> segmentShift)];
+            for (int s = 0; s < segments.length; s++) {
+                long start = (long) s << segmentShift;
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                    Math.min(segmentSize, length - start)).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            // The mappings stay valid after the channel is closed
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < HEADER_SIZE; i++) {
+                header.put(i, segments[0].get(i));
+            }
+            if (header.getInt(H_MAGIC) != MAGIC || header.getInt(H_VERSION) != VERSION
+                    || header.getLong(H_CHECKSUM) != headerChecksum(header)) {
+                throw new IOException("Corrupt sparse matrix header: " + path);
+            }
+            MappedSparseMatrix matrix = new MappedSparseMatrix(path, segments, segmentShift, header);
+            if (!matrix.layoutFits(header, length)) {
+                throw new IOException("Corrupt sparse matrix header: " + path);
+            }
+            return matrix;
+        }
+    }
+
+    /**
+     * Checks that the sections lie where the writer puts them and inside the file.
+     */
+    private boolean layoutFits(ByteBuffer header, long length) {
+        long nonZeroField = header.getLong(H_NON_ZEROS);
+        if (rows < 0 || cols < 0 || nonZeroField < 0 || nonZeroField > Integer.MAX_VALUE) {
+            return false;
+        }
+        long rowPtrEnd = align(HEADER_SIZE + 4L * (rows + 1));
+        long expectedColumns = compressed ? rowPtrEnd + 8L * (rows + 1) : rowPtrEnd;
+        if ((compressed ? rowStarts != rowPtrEnd : rowStarts != 0) || columns != expectedColumns
+                || values < columns || (values & 7) != 0 || values + 4L * nonZeros > length) {
+            return false;
+        }
+        if (compressed && align(columns + longAt(rowStarts + 8L * rows)) != values) {
+            return false;
+        }
+        return intAt(HEADER_SIZE) == 0 && intAt(HEADER_SIZE + 4L * rows) == nonZeros
+            && (compressed || columns + 4L * nonZeros <= values);
+    }
+
+    /**
+     * Gets the value at the specified position.
+     *
+     * @param row row index (0-based)
+     * @param col column index (0-based)
+     * @return the value at the position (0 if not set)
+     * @throws IndexOutOfBoundsException if indices are out of bounds
+     * @throws IllegalStateException if the matrix is closed
+     */
+    public int get(int row, int col) {
+        validateIndices(row, col);
+        checkOpen();
+        int low = rowPtr(row);
+        int end = rowPtr(row + 1);
+        if (compressed) {
+            long position = columns + longAt(rowStarts + 8L * row);
+            int current = 0;
+            for (int i = low; i < end; i++) {
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = byteAt(position++);
+                    gap |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                current += gap;
+                if (current >= col) {
+                    return current == col ? intAt(values + 4L * i) : 0;
+                }
+            }
+            return 0;
+        }
+        int high = end - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midCol = intAt(columns + 4L * mid);
+            if (midCol < col) {
+                low = mid + 1;
+            } else if (midCol > col) {
+                high = mid - 1;
+            } else {
+                return intAt(values + 4L * mid);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Visits the non-zeros of one row in ascending column order.
+     *
+     * @param row row index (0-based)
+     * @param consumer receives each non-zero cell
+     * @throws IndexOutOfBoundsException if row is out of bounds
+     * @throws IllegalStateException if the matrix is closed
+     */
+    public void forEachInRow(int row, SparseMatrix.CellConsumer consumer) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException(
+                String.format("Row out of bounds: %d for matrix [%d, %d]", row, rows, cols));
+        }
+        checkOpen();
+        visitRows(row, row + 1, consumer);
+    }
+
+    /**
+     * Visits every non-zero in row-major order.
+     *
+     * @param consumer receives each non-zero cell
+     * @throws IllegalStateException if the matrix is closed
+     */
+    public void forEachNonZero(SparseMatrix.CellConsumer consumer) {
+        checkOpen();
+        visitRows(0, rows, consumer);
+    }
+
+    private void visitRows(int from, int to, SparseMatrix.CellConsumer consumer) {
+        long position = compressed ? columns + longAt(rowStarts + 8L * from) : 0;
+        int next = rowPtr(from);
+        for (int row = from; row < to; row++) {
+            int i = next;
+            next = rowPtr(row + 1);
+            int current = 0;
+            for (; i < next; i++) {
+                int col;
+                if (compressed) {
+                    int gap = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = byteAt(position++);
+                        gap |= (b & 0x7F) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    current += gap;
+                    col = current;
+                } else {
+                    col = intAt(columns + 4L * i);
+                }
+                consumer.accept(row, col, intAt(values + 4L * i));
+            }
+        }
+    }
+
+    /**
+     * Copies the matrix onto the heap.
+     *
+     * @return a CSR matrix with the same cells
+     * @throws IllegalStateException if the matrix is closed
+     */
+    public CsrMatrix toCsr() {
+        checkOpen();
+        int[] rowPtr = new int[rows + 1];
+        int[] colIdx = new int[nonZeros];
+        int[] copiedValues = new int[nonZeros];
+        readInts(HEADER_SIZE, rowPtr);
+        readInts(values, copiedValues);
+        if (compressed) {
+            int[] index = new int[1];
+            visitRows(0, rows, (row, col, value) -> colIdx[index[0]++] = col);
+        } else {
+            readInts(columns, colIdx);
+        }
+        return new CsrMatrix(rows, cols, rowPtr, colIdx, copiedValues);
+    }
+
+    /**
+     * Copies the matrix into a mutable sparse matrix.
+     *
+     * @return a sparse matrix with the same cells
+     * @throws IllegalStateException if the matrix is closed
+     */
+    public SparseMatrix toSparseMatrix() {
+        SparseMatrix matrix = new SparseMatrix(rows, cols);
+        forEachNonZero(matrix::set);
+        return matrix;
+    }
+
+    /**
+     * Returns the number of non-zeros in a row.
+     *
+     * @param row row index (0-based)
+     * @return count of non-zero elements in the row
+     * @throws IndexOutOfBoundsException if row is out of bounds
+     * @throws IllegalStateException if the matrix is closed
+     */
+    public int getRowNonZeroCount(int row) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException(
+                String.format("Row out of bounds: %d for matrix [%d, %d]", row, rows, cols));
+        }
+        checkOpen();
+        return rowPtr(row + 1) - rowPtr(row);
+    }
+
+    /**
+     * Returns the number of non-zero elements.
+     *
+     * @return count of non-zero elements
+     */
+    public int getNonZeroCount() {
+        return nonZeros;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns whether the columns are stored as varint gaps.
+     *
+     * @return true for a compressed file
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Returns the path the matrix was opened from.
+     *
+     * @return the file path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Releases the mappings. The operating system unmaps them once they are
+     * garbage collected. Closing twice has no effect.
+     */
+    @Override
+    public void close() {
+        segments = null;
+    }
+
+    private void checkOpen() {
+        if (segments == null) {
+            throw new IllegalStateException("Matrix is closed");
+        }
+    }
+
+    private void validateIndices(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index out of bounds: [%d, %d] for matrix [%d, %d]",
+                    row, col, rows, cols));
+        }
+    }
+
+    private int rowPtr(int row) {
+        return intAt(HEADER_SIZE + 4L * row);
+    }
+
+    private int intAt(long position) {
+        return segments[(int) (position >>> segmentShift)].getInt((int) (position & segmentMask));
+    }
+
+    private long longAt(long position) {
+        return segments[(int) (position >>> segmentShift)].getLong((int) (position & segmentMask));
+    }
+
+    private byte byteAt(long position) {
+        return segments[(int) (position >>> segmentShift)].get((int) (position & segmentMask));
+    }
+
+    /**
+     * Bulk-copies consecutive ints, one segment at a time.
+     */
+    private void readInts(long position, int[] target) {
+        int done = 0;
+        while (done < target.length) {
+            ByteBuffer segment = segments[(int) (position >>> segmentShift)].duplicate();
+            segment.position((int) (position & segmentMask));
+            int count = Math.min(target.length - done, segment.remaining() / 4);
+            segment.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(target, done, count);
+            done += count;
+            position += 4L * count;
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static int varintLength(int value) {
+        int length = 1;
+        while ((value >>>= 7) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private static long headerChecksum(ByteBuffer header) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < H_CHECKSUM; i++) {
+            crc.update(header.get(i));
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Buffered sequential writer for the sections after the header.
+     */
+    private static final class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+
+        SectionWriter(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            this.position = HEADER_SIZE;
+        }
+
+        long position() {
+            return position;
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+            position += 4;
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(8);
+            buffer.putLong(value);
+            position += 8;
+        }
+
+        void putVarint(int value) throws IOException {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+                position++;
+            }
+            buffer.put((byte) value);
+            position++;
+        }
+
+        void align() throws IOException {
+            ensure(8);
+            while ((position & 7) != 0) {
+                buffer.put((byte) 0);
+                position++;
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            long at = position - buffer.remaining();
+            while (buffer.hasRemaining()) {
+                at += channel.write(buffer, at);
+            }
+            buffer.clear();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,591 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Disk-backed B+ tree with fixed-size pages and a bounded buffer pool.
+ * Same operations as {@link BPlusTree}, but nodes live in 4 KB pages of a file
+ * and only the pages cached by a {@link BufferPool} are in memory, so the index
+ * can grow beyond the heap.
+ *
+ * <p>Use-case: Indexing a task history too large to keep on the heap, while
+ * still answering point lookups and range queries from a small cache.
+ *
+ * <p>Page layout:
+ * <ul>
+ *   <li>Page 0 holds the metadata: magic, page size, root page, height and key count</li>
+ *   <li>Leaf pages are slotted: a header, a slot array of (key, value offset,
+ *       value length) sorted by key growing forwards, and the variable-length
+ *       UTF-8 values growing backwards from the end of the page. Leaves are
+ *       linked to their right sibling for range scans</li>
+ *   <li>Internal pages hold the first child followed by (separator key, child) pairs,
+ *       up to {@link #MAX_INTERNAL_KEYS} keys</li>
+ * </ul>
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Search: O(log n), one page pin per level</li>
+ *   <li>Insert: O(log n)</li>
+ *   <li>Range Query: O(log n + k) where k is number of results</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(n) on disk, O(cache pages) in memory
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class PagedBPlusTree implements Closeable {
+
+    static final int PAGE_SIZE = 4096;
+
+    /**
+     * Longest value, in UTF-8 bytes, that fits the slotted leaf layout.
+     */
+    public static final int MAX_VALUE_BYTES = 1024;
+
+    private static final int DEFAULT_CACHE_PAGES = 1024;
+    private static final int MIN_CACHE_PAGES = 8;
+    private static final int MAGIC = 0x42505431; // "BPT1"
+    private static final int NO_PAGE = 0; // page 0 is the metadata page, never a node
+
+    private static final byte LEAF = 1;
+    private static final byte INTERNAL = 2;
+
+    // Offsets shared by both node types
+    private static final int TYPE = 0;
+    private static final int COUNT = 2;
+
+    // Leaf page offsets
+    private static final int NEXT = 4;
+    private static final int HEAP_START = 8;
+    private static final int GARBAGE = 10;
+    private static final int LEAF_SLOTS = 12;
+    private static final int LEAF_SLOT_SIZE = 8;
+
+    // Internal page offsets
+    private static final int CHILD0 = 4;
+    private static final int INTERNAL_ENTRIES = 8;
+    private static final int INTERNAL_ENTRY_SIZE = 8;
+    static final int MAX_INTERNAL_KEYS = (PAGE_SIZE - INTERNAL_ENTRIES) / INTERNAL_ENTRY_SIZE;
+
+    // Metadata page offsets
+    private static final int M_MAGIC = 0;
+    private static final int M_PAGE_SIZE = 4;
+    private static final int M_ROOT = 8;
+    private static final int M_HEIGHT = 12;
+    private static final int M_SIZE = 16;
+
+    private final BufferPool pool;
+    private int rootPage;
+    private int height; // 1 when the root is a leaf
+    private long size;
+
+    /**
+     * Opens the tree stored in file with the default cache size, creating it if absent.
+     *
+     * @param file the page file
+     * @throws IOException if the file cannot be opened or is not a tree
+     */
+    public PagedBPlusTree(Path file) throws IOException {
+        this(file, DEFAULT_CACHE_PAGES);
+    }
+
+    /**
+     * Opens the tree stored in file, creating it if absent.
+     *
+     * @param file the page file
+     * @param cachePages number of pages the buffer pool keeps in memory
+     * @throws IOException if the file cannot be opened or is not a tree
+     * @throws IllegalArgumentException if cachePages is below 8
+     */
+    public PagedBPlusTree(Path file, int cachePages) throws IOException {
+        if (cachePages < MIN_CACHE_PAGES) {
+            throw new IllegalArgumentException("Cache must hold at least " + MIN_CACHE_PAGES + " pages");
+        }
+        pool = new BufferPool(file, PAGE_SIZE, cachePages);
+        if (pool.getPageCount() == 0) {
+            BufferPool.Frame meta = pool.allocate();
+            BufferPool.Frame root = pool.allocate();
+            initLeaf(root.buffer, NO_PAGE);
+            rootPage = root.pageId;
+            height = 1;
+            size = 0;
+            pool.unpin(root, true);
+            pool.unpin(meta, true);
+            writeMeta();
+            return;
+        }
+        BufferPool.Frame meta = pool.pin(0);
+        try {
+            ByteBuffer buffer = meta.buffer;
+            if (buffer.getInt(M_MAGIC) != MAGIC || buffer.getInt(M_PAGE_SIZE) != PAGE_SIZE) {
+                pool.close();
+                throw new IOException("Not a B+ tree file: " + file);
+            }
+            rootPage = buffer.getInt(M_ROOT);
+            height = buffer.getInt(M_HEIGHT);
+            size = buffer.getLong(M_SIZE);
+        } finally {
+            pool.unpin(meta, false);
+        }
+    }
+
+    private void writeMeta() {
+        BufferPool.Frame meta = pool.pin(0);
+        ByteBuffer buffer = meta.buffer;
+        buffer.putInt(M_MAGIC, MAGIC);
+        buffer.putInt(M_PAGE_SIZE, PAGE_SIZE);
+        buffer.putInt(M_ROOT, rootPage);
+        buffer.putInt(M_HEIGHT, height);
+        buffer.putLong(M_SIZE, size);
+        pool.unpin(meta, true);
+    }
+
+    // ---- Leaf page helpers ----
+
+    private static void initLeaf(ByteBuffer page, int next) {
+        page.put(TYPE, LEAF);
+        page.putShort(COUNT, (short) 0);
+        page.putInt(NEXT, next);
+        page.putShort(HEAP_START, (short) PAGE_SIZE);
+        page.putShort(GARBAGE, (short) 0);
+    }
+
+    private static int count(ByteBuffer page) {
+        return page.getShort(COUNT);
+    }
+
+    private static int heapStart(ByteBuffer page) {
+        return page.getShort(HEAP_START) & 0xFFFF;
+    }
+
+    private static int slot(int index) {
+        return LEAF_SLOTS + index * LEAF_SLOT_SIZE;
+    }
+
+    private static int leafKey(ByteBuffer page, int index) {
+        return page.getInt(slot(index));
+    }
+
+    private static int freeSpace(ByteBuffer page) {
+        return heapStart(page) - slot(count(page));
+    }
+
+    /**
+     * Binary search over the slot array.
+     *
+     * @return the slot index, or {@code -(insertion point) - 1}
+     */
+    private static int leafSearch(ByteBuffer page, int key) {
+        int low = 0;
+        int high = count(page) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midKey = leafKey(page, mid);
+            if (midKey < key) {
+                low = mid + 1;
+            } else if (midKey > key) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static byte[] readValue(ByteBuffer page, int index) {
+        int offset = page.getShort(slot(index) + 4) & 0xFFFF;
+        int length = page.getShort(slot(index) + 6) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        System.arraycopy(page.array(), offset, bytes, 0, length);
+        return bytes;
+    }
+
+    /**
+     * Rewrites the value heap without the holes left by updates.
+     */
+    private static void compact(ByteBuffer page) {
+        int count = count(page);
+        byte[][] values = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            values[i] = readValue(page, i);
+        }
+        int heap = PAGE_SIZE;
+        for (int i = 0; i < count; i++) {
+            heap -= values[i].length;
+            System.arraycopy(values[i], 0, page.array(), heap, values[i].length);
+            page.putShort(slot(i) + 4, (short) heap);
+        }
+        page.putShort(HEAP_START, (short) heap);
+        page.putShort(GARBAGE, (short) 0);
+    }
+
+    private static boolean ensureSpace(ByteBuffer page, int needed) {
+        if (freeSpace(page) >= needed) {
+            return true;
+        }
+        if (freeSpace(page) + page.getShort(GARBAGE) >= needed) {
+            compact(page);
+            return true;
+        }
+        return false;
+    }
+
+    private static int appendValue(ByteBuffer page, byte[] value) {
+        int heap = heapStart(page) - value.length;
+        System.arraycopy(value, 0, page.array(), heap, value.length);
+        page.putShort(HEAP_START, (short) heap);
+        return heap;
+    }
+
+    private static boolean insertIntoLeaf(ByteBuffer page, int index, int key, byte[] value) {
+        if (!ensureSpace(page, LEAF_SLOT_SIZE + value.length)) {
+            return false;
+        }
+        int offset = appendValue(page, value);
+        int count = count(page);
+        System.arraycopy(page.array(), slot(index), page.array(), slot(index + 1),
+            (count - index) * LEAF_SLOT_SIZE);
+        page.putInt(slot(index), key);
+        page.putShort(slot(index) + 4, (short) offset);
+        page.putShort(slot(index) + 6, (short) value.length);
+        page.putShort(COUNT, (short) (count + 1));
+        return true;
+    }
+
+    private static boolean updateInLeaf(ByteBuffer page, int index, byte[] value) {
+        int oldOffset = page.getShort(slot(index) + 4) & 0xFFFF;
+        int oldLength = page.getShort(slot(index) + 6) & 0xFFFF;
+        if (value.length <= oldLength) {
+            System.arraycopy(value, 0, page.array(), oldOffset, value.length);
+            page.putShort(slot(index) + 6, (short) value.length);
+            page.putShort(GARBAGE, (short) (page.getShort(GARBAGE) + oldLength - value.length));
+            return true;
+        }
+        // The old bytes become garbage, which compaction may reclaim for the new value
+        page.putShort(GARBAGE, (short) (page.getShort(GARBAGE) + oldLength));
+        page.putShort(slot(index) + 6, (short) 0);
+        if (!ensureSpace(page, value.length)) {
+            return false;
+        }
+        int offset = appendValue(page, value);
+        page.putShort(slot(index) + 4, (short) offset);
+        page.putShort(slot(index) + 6, (short) value.length);
+        return true;
+    }
+
+    private static void removeFromLeaf(ByteBuffer page, int index) {
+        int count = count(page);
+        int length = page.getShort(slot(index) + 6) & 0xFFFF;
+        System.arraycopy(page.array(), slot(index + 1), page.array(), slot(index),
+            (count - index - 1) * LEAF_SLOT_SIZE);
+        page.putShort(COUNT, (short) (count - 1));
+        page.putShort(GARBAGE, (short) (page.getShort(GARBAGE) + length));
+    }
+
+    // ---- Internal page helpers ----
+
+    private static int internalKey(ByteBuffer page, int index) {
+        return page.getInt(INTERNAL_ENTRIES + index * INTERNAL_ENTRY_SIZE);
+    }
+
+    private static int child(ByteBuffer page, int index) {
+        return index == 0 ? page.getInt(CHILD0)
+            : page.getInt(INTERNAL_ENTRIES + (index - 1) * INTERNAL_ENTRY_SIZE + 4);
+    }
+
+    /**
+     * Returns the index of the child whose range holds key; keys equal to a
+     * separator go right.
+     */
+    private static int childIndex(ByteBuffer page, int key) {
+        int low = 0;
+        int high = count(page);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalKey(page, mid) <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void writeInternal(ByteBuffer page, int[] keys, int[] children, int from, int to) {
+        page.put(TYPE, INTERNAL);
+        page.putShort(COUNT, (short) (to - from));
+        page.putInt(CHILD0, children[from]);
+        for (int i = from; i < to; i++) {
+            int entry = INTERNAL_ENTRIES + (i - from) * INTERNAL_ENTRY_SIZE;
+            page.putInt(entry, keys[i]);
+            page.putInt(entry + 4, children[i + 1]);
+        }
+    }
+
+    private static byte[] encode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_VALUE_BYTES) {
+            throw new IllegalArgumentException("Value exceeds " + MAX_VALUE_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    // ---- Operations ----
+
+    private int findLeafPage(int key, int[] path) {
+        int page = rootPage;
+        for (int level = 0; level < height - 1; level++) {
+            if (path != null) {
+                path[level] = page;
+            }
+            BufferPool.Frame frame = pool.pin(page);
+            ByteBuffer buffer = frame.buffer;
+            page = child(buffer, childIndex(buffer, key));
+            pool.unpin(frame, false);
+        }
+        return page;
+    }
+
+    /**
+     * Searches for a key in the B+ tree.
+     *
+     * @param key the key to search for
+     * @return the value associated with the key, or null if not found
+     */
+    public String search(int key) {
+        BufferPool.Frame frame = pool.pin(findLeafPage(key, null));
+        try {
+            int index = leafSearch(frame.buffer, key);
+            return index < 0 ? null : new String(readValue(frame.buffer, index), StandardCharsets.UTF_8);
+        } finally {
+            pool.unpin(frame, false);
+        }
+    }
+
+    /**
+     * Inserts a key-value pair, replacing the value of an existing key.
+     *
+     * @param key the key
+     * @param value the value, at most {@link #MAX_VALUE_BYTES} UTF-8 bytes
+     * @throws IllegalArgumentException if value is null or too long
+     */
+    public void insert(int key, String value) {
+        byte[] bytes = encode(value);
+        int[] path = new int[height];
+        int leafPage = findLeafPage(key, path);
+        BufferPool.Frame frame = pool.pin(leafPage);
+        ByteBuffer page = frame.buffer;
+        int separator;
+        int rightPage;
+        try {
+            int index = leafSearch(page, key);
+            if (index >= 0) {
+                if (updateInLeaf(page, index, bytes)) {
+                    return;
+                }
+                removeFromLeaf(page, index);
+            } else {
+                size++;
+                index = -(index + 1);
+            }
+            if (insertIntoLeaf(page, index, key, bytes)) {
+                return;
+            }
+            int[] split = splitLeaf(page, index, key, bytes);
+            separator = split[0];
+            rightPage = split[1];
+        } finally {
+            pool.unpin(frame, true);
+        }
+        insertIntoParent(path, height - 2, separator, rightPage);
+    }
+
+    /**
+     * Splits a full leaf while inserting a new entry, balancing the halves by bytes.
+     *
+     * @return the separator key and the page id of the new right sibling
+     */
+    private int[] splitLeaf(ByteBuffer page, int index, int key, byte[] value) {
+        int count = count(page);
+        int[] keys = new int[count + 1];
+        byte[][] values = new byte[count + 1][];
+        int total = 0;
+        for (int i = 0, j = 0; i <= count; i++) {
+            if (i == index) {
+                keys[i] = key;
+                values[i] = value;
+            } else {
+                keys[i] = leafKey(page, j);
+                values[i] = readValue(page, j);
+                j++;
+            }
+            total += LEAF_SLOT_SIZE + values[i].length;
+        }
+        int split = 1;
+        int used = LEAF_SLOT_SIZE + values[0].length;
+        while (split < count && used + LEAF_SLOT_SIZE + values[split].length <= total / 2) {
+            used += LEAF_SLOT_SIZE + values[split].length;
+            split++;
+        }
+
+        BufferPool.Frame right = pool.allocate();
+        int rightPage = right.pageId;
+        initLeaf(right.buffer, page.getInt(NEXT));
+        for (int i = split; i <= count; i++) {
+            insertIntoLeaf(right.buffer, i - split, keys[i], values[i]);
+        }
+        pool.unpin(right, true);
+
+        initLeaf(page, rightPage);
+        for (int i = 0; i < split; i++) {
+            insertIntoLeaf(page, i, keys[i], values[i]);
+        }
+        return new int[] {keys[split], rightPage};
+    }
+
+    private void insertIntoParent(int[] path, int level, int separator, int rightPage) {
+        while (true) {
+            if (level < 0) {
+                BufferPool.Frame root = pool.allocate();
+                writeInternal(root.buffer, new int[] {separator}, new int[] {rootPage, rightPage}, 0, 1);
+                rootPage = root.pageId;
+                height++;
+                pool.unpin(root, true);
+                return;
+            }
+            BufferPool.Frame frame = pool.pin(path[level]);
+            ByteBuffer page = frame.buffer;
+            try {
+                int count = count(page);
+                int index = childIndex(page, separator);
+                if (count < MAX_INTERNAL_KEYS) {
+                    int entry = INTERNAL_ENTRIES + index * INTERNAL_ENTRY_SIZE;
+                    System.arraycopy(page.array(), entry, page.array(), entry + INTERNAL_ENTRY_SIZE,
+                        (count - index) * INTERNAL_ENTRY_SIZE);
+                    page.putInt(entry, separator);
+                    page.putInt(entry + 4, rightPage);
+                    page.putShort(COUNT, (short) (count + 1));
+                    return;
+                }
+
+                int[] keys = new int[count + 1];
+                int[] children = new int[count + 2];
+                children[0] = child(page, 0);
+                for (int i = 0, j = 0; i <= count; i++) {
+                    if (i == index) {
+                        keys[i] = separator;
+                        children[i + 1] = rightPage;
+                    } else {
+                        keys[i] = internalKey(page, j);
+                        children[i + 1] = child(page, j + 1);
+                        j++;
+                    }
+                }
+                int mid = (count + 1) / 2;
+                BufferPool.Frame right = pool.allocate();
+                writeInternal(right.buffer, keys, children, mid + 1, count + 1);
+                writeInternal(page, keys, children, 0, mid);
+                separator = keys[mid]; // moves up, kept in neither half
+                rightPage = right.pageId;
+                pool.unpin(right, true);
+            } finally {
+                pool.unpin(frame, true);
+            }
+            level--;
+        }
+    }
+
+    /**
+     * Performs a range query by walking the leaf chain.
+     *
+     * @param startKey start of range (inclusive)
+     * @param endKey end of range (inclusive)
+     * @return list of values in the range, in key order
+     */
+    public List<String> rangeQuery(int startKey, int endKey) {
+        List<String> result = new ArrayList<>();
+        if (startKey > endKey) {
+            return result;
+        }
+        int pageId = findLeafPage(startKey, null);
+        boolean first = true;
+        while (pageId != NO_PAGE) {
+            BufferPool.Frame frame = pool.pin(pageId);
+            ByteBuffer page = frame.buffer;
+            try {
+                int index = 0;
+                if (first) {
+                    index = leafSearch(page, startKey);
+                    index = index >= 0 ? index : -(index + 1);
+                    first = false;
+                }
+                for (int count = count(page); index < count; index++) {
+                    if (leafKey(page, index) > endKey) {
+                        return result;
+                    }
+                    result.add(new String(readValue(page, index), StandardCharsets.UTF_8));
+                }
+                pageId = page.getInt(NEXT);
+            } finally {
+                pool.unpin(frame, false);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return the size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of levels; 1 when the root is a leaf.
+     *
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the buffer pool, for cache statistics.
+     *
+     * @return the buffer pool
+     */
+    public BufferPool getBufferPool() {
+        return pool;
+    }
+
+    /**
+     * Writes the metadata and every dirty page to disk.
+     */
+    public void flush() {
+        writeMeta();
+        pool.flush();
+    }
+
+    /**
+     * Flushes and closes the page file.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        writeMeta();
+        pool.close();
+    }
+}
@@ -0,0 +1,253 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Level-synchronous, direction-optimizing breadth-first search over a frozen
+ * {@link Graph}. Each level is expanded by the pool's threads, and newly
+ * reached vertices are claimed with a compare-and-set on a shared visited
+ * bitset, so every vertex gets exactly one parent.
+ *
+ * <p>A level is expanded in one of two directions (Beamer et al.):
+ * <ul>
+ *   <li>Top-down: frontier vertices scan their out-edges. Cheap while the
+ *       frontier is small.</li>
+ *   <li>Bottom-up: every unvisited vertex scans its in-edges for a parent in
+ *       the frontier, which is held as a bitset, and stops at the first hit.
+ *       Cheap once the frontier holds a large share of the remaining edges,
+ *       because most edge checks are skipped.</li>
+ * </ul>
+ * The search turns bottom-up when the frontier's out-edges exceed 1/{@link #ALPHA}
+ * of the edges of unvisited vertices, and top-down again when a shrinking
+ * frontier drops below 1/{@link #BETA} of the vertices.
+ *
+ * <p>The visit order is level by level; within a level it depends on the
+ * direction and the thread schedule. One instance runs one search.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+final class ParallelBfs {
+
+    static final int ALPHA = 14;
+    static final int BETA = 24;
+
+    private final int vertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] inOffsets;
+    private final int[] inTargets;
+    private final ForkJoinPool pool;
+    private final int chunks;
+
+    private final AtomicLongArray visited;
+    private final int[] parent;
+    private final int[] order;
+    private int count;
+    private long[] frontierBits;
+
+    // Vertices reached by each chunk in the current level, and their out-edge total
+    private final int[][] found;
+    private final int[] foundCount;
+    private final long[] foundEdges;
+
+    private int topDownSteps;
+    private int bottomUpSteps;
+
+    /**
+     * Prepares a search over CSR arrays and their transpose.
+     *
+     * @param pool pool for the level expansions; null runs on the calling thread
+     */
+    ParallelBfs(int vertices, int[] offsets, int[] targets, int[] inOffsets, int[] inTargets,
+            ForkJoinPool pool) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.inOffsets = inOffsets;
+        this.inTargets = inTargets;
+        this.pool = pool;
+        this.chunks = ForkJoinChunks.chunkCount(pool);
+        this.visited = new AtomicLongArray((vertices + 63) >>> 6);
+        this.parent = new int[vertices];
+        this.order = new int[vertices];
+        this.found = new int[chunks][16];
+        this.foundCount = new int[chunks];
+        this.foundEdges = new long[chunks];
+    }
+
+    /**
+     * Searches from start until every reachable vertex is visited, or until the
+     * level containing end is complete.
+     *
+     * @param start starting vertex
+     * @param end vertex to stop at, or -1 to visit everything reachable
+     * @return true if end was reached
+     */
+    boolean search(int start, int end) {
+        Arrays.fill(parent, -1);
+        visited.set(start >>> 6, 1L << start);
+        order[count++] = start;
+        long frontierEdges = degree(start);
+        long unvisitedEdges = targets.length - frontierEdges;
+        boolean bottomUp = false;
+        int previousSize = 0;
+        int levelStart = 0;
+        while (levelStart < count) {
+            if (end >= 0 && isVisited(end)) {
+                return true;
+            }
+            int levelEnd = count;
+            int size = levelEnd - levelStart;
+            if (!bottomUp) {
+                bottomUp = frontierEdges > unvisitedEdges / ALPHA;
+            } else if (size < vertices / BETA && size < previousSize) {
+                bottomUp = false;
+            }
+            Arrays.fill(foundCount, 0);
+            Arrays.fill(foundEdges, 0);
+            if (bottomUp) {
+                bottomUpStep(levelStart, levelEnd);
+                bottomUpSteps++;
+            } else {
+                topDownStep(levelStart, levelEnd);
+                topDownSteps++;
+            }
+            long edges = 0;
+            for (int c = 0; c < chunks; c++) {
+                System.arraycopy(found[c], 0, order, count, foundCount[c]);
+                count += foundCount[c];
+                edges += foundEdges[c];
+            }
+            previousSize = size;
+            levelStart = levelEnd;
+            frontierEdges = edges;
+            unvisitedEdges -= edges;
+        }
+        return end >= 0 && isVisited(end);
+    }
+
+    private void topDownStep(int levelStart, int levelEnd) {
+        int[] bounds = ForkJoinChunks.split(levelStart, levelEnd, chunks);
+        ForkJoinChunks.run(pool, bounds, (chunk, from, to) -> {
+            int[] buffer = found[chunk];
+            int size = 0;
+            long edges = 0;
+            for (int p = from; p < to; p++) {
+                int vertex = order[p];
+                for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                    int neighbor = targets[i];
+                    int word = neighbor >>> 6;
+                    long bit = 1L << neighbor;
+                    long current = visited.get(word);
+                    while ((current & bit) == 0) {
+                        if (visited.compareAndSet(word, current, current | bit)) {
+                            parent[neighbor] = vertex;
+                            if (size == buffer.length) {
+                                buffer = Arrays.copyOf(buffer, size * 2);
+                            }
+                            buffer[size++] = neighbor;
+                            edges += degree(neighbor);
+                            break;
+                        }
+                        current = visited.get(word);
+                    }
+                }
+            }
+            found[chunk] = buffer;
+            foundCount[chunk] = size;
+            foundEdges[chunk] = edges;
+        });
+    }
+
+    /**
+     * Chunks cover whole words of the visited bitset, so each word has one
+     * writer during the step and needs no compare-and-set.
+     */
+    private void bottomUpStep(int levelStart, int levelEnd) {
+        if (frontierBits == null) {
+            frontierBits = new long[(vertices + 63) >>> 6];
+        } else {
+            Arrays.fill(frontierBits, 0);
+        }
+        for (int p = levelStart; p < levelEnd; p++) {
+            frontierBits[order[p] >>> 6] |= 1L << order[p];
+        }
+        int[] bounds = ForkJoinChunks.split(0, frontierBits.length, chunks);
+        ForkJoinChunks.run(pool, bounds, (chunk, fromWord, toWord) -> {
+            int[] buffer = found[chunk];
+            int size = 0;
+            long edges = 0;
+            for (int word = fromWord; word < toWord; word++) {
+                long seen = visited.get(word);
+                if (seen == -1L) {
+                    continue;
+                }
+                long reached = 0;
+                int base = word << 6;
+                int bits = Math.min(64, vertices - base);
+                for (int b = 0; b < bits; b++) {
+                    if ((seen & (1L << b)) != 0) {
+                        continue;
+                    }
+                    int vertex = base + b;
+                    for (int i = inOffsets[vertex]; i < inOffsets[vertex + 1]; i++) {
+                        int source = inTargets[i];
+                        if ((frontierBits[source >>> 6] & (1L << source)) != 0) {
+                            parent[vertex] = source;
+                            reached |= 1L << b;
+                            if (size == buffer.length) {
+                                buffer = Arrays.copyOf(buffer, size * 2);
+                            }
+                            buffer[size++] = vertex;
+                            edges += degree(vertex);
+                            break;
+                        }
+                    }
+                }
+                if (reached != 0) {
+                    visited.set(word, seen | reached);
+                }
+            }
+            found[chunk] = buffer;
+            foundCount[chunk] = size;
+            foundEdges[chunk] = edges;
+        });
+    }
+
+    private int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    private boolean isVisited(int vertex) {
+        return (visited.get(vertex >>> 6) & (1L << vertex)) != 0;
+    }
+
+    /**
+     * Visited vertices in visit order; the first {@link #visitedCount()} entries are valid.
+     */
+    int[] order() {
+        return order;
+    }
+
+    int visitedCount() {
+        return count;
+    }
+
+    /**
+     * BFS tree: the parent of each visited vertex, -1 for the start and unvisited vertices.
+     */
+    int[] parent() {
+        return parent;
+    }
+
+    int topDownSteps() {
+        return topDownSteps;
+    }
+
+    int bottomUpSteps() {
+        return bottomUpSteps;
+    }
+}
@@ -0,0 +1,291 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel strongly connected components over CSR arrays and their
+ * transpose, by trimming followed by forward-backward decomposition
+ * (Fleischer et al., with the trim step of Hong et al.).
+ *
+ * <p>The search runs in two phases:
+ * <ul>
+ *   <li>Trim: a vertex without a remaining in-neighbor or out-neighbor lies
+ *       on no cycle and is a component of its own. The pool's threads remove
+ *       such vertices for {@link #TRIM_ROUNDS} rounds, which takes out most
+ *       trivial components of a sparse graph.</li>
+ *   <li>Forward-backward: the remaining vertices form one partition. A pivot's
+ *       forward and backward reachable sets within its partition meet in the
+ *       pivot's component; the forward-only, backward-only and unreached
+ *       vertices form three new partitions with no component crossing between
+ *       them, which are split further as separate fork-join tasks.</li>
+ * </ul>
+ * Partitions of at most {@link #SEQUENTIAL_CUTOFF} vertices are labeled by
+ * the single-pass algorithm of {@link StronglyConnectedComponents}, restricted
+ * to the partition. Each vertex carries the color of its partition, so tasks
+ * never touch each other's vertices.
+ *
+ * <p>Component ids follow the schedule; callers renumber them. One instance
+ * runs one labeling.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+final class ParallelScc {
+
+    static final int TRIM_ROUNDS = 3;
+    static final int SEQUENTIAL_CUTOFF = 1 << 12;
+
+    private static final int DONE = -1;
+
+    private final int vertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] inOffsets;
+    private final int[] inTargets;
+    private final ForkJoinPool pool;
+    private final int chunks;
+
+    private final int[] colors;
+    private final AtomicInteger nextColor = new AtomicInteger(1);
+    private int[] component;
+    private AtomicInteger nextComponent;
+
+    // Scratch arrays for the single-pass labeling of small partitions
+    private final int[] rindex;
+    private final boolean[] isRoot;
+
+    /**
+     * Prepares a labeling over CSR arrays and their transpose.
+     *
+     * @param pool pool for trimming and partition tasks; null runs on the calling thread
+     */
+    ParallelScc(int vertices, int[] offsets, int[] targets, int[] inOffsets, int[] inTargets,
+            ForkJoinPool pool) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.inOffsets = inOffsets;
+        this.inTargets = inTargets;
+        this.pool = pool;
+        this.chunks = ForkJoinChunks.chunkCount(pool);
+        this.colors = new int[vertices];
+        this.rindex = new int[vertices];
+        this.isRoot = new boolean[vertices];
+    }
+
+    /**
+     * Labels every vertex with a component id taken from nextComponent.
+     *
+     * @param component receives the component id of each vertex
+     * @param nextComponent source of component ids
+     */
+    void run(int[] component, AtomicInteger nextComponent) {
+        this.component = component;
+        this.nextComponent = nextComponent;
+        for (int round = 0; round < TRIM_ROUNDS; round++) {
+            if (!trim()) {
+                break;
+            }
+        }
+        int remaining = 0;
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            if (colors[vertex] != DONE) {
+                remaining++;
+            }
+        }
+        if (remaining == 0) {
+            return;
+        }
+        int[] members = new int[remaining];
+        int count = 0;
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            if (colors[vertex] != DONE) {
+                members[count++] = vertex;
+            }
+        }
+        Partition root = new Partition(members, 0);
+        if (pool == null) {
+            root.compute();
+        } else {
+            pool.invoke(root);
+        }
+    }
+
+    /**
+     * One trim round. A removal seen by another chunk in the same round only
+     * lets that chunk remove more, and every removed vertex is on no cycle,
+     * so the unsynchronized reads are safe.
+     *
+     * @return true if any vertex was removed
+     */
+    private boolean trim() {
+        boolean[] removed = new boolean[chunks];
+        int[] bounds = ForkJoinChunks.split(0, vertices, chunks);
+        ForkJoinChunks.run(pool, bounds, (chunk, from, to) -> {
+            for (int vertex = from; vertex < to; vertex++) {
+                if (colors[vertex] == DONE) {
+                    continue;
+                }
+                if (!hasLiveNeighbor(vertex, offsets, targets) || !hasLiveNeighbor(vertex, inOffsets, inTargets)) {
+                    component[vertex] = nextComponent.getAndIncrement();
+                    colors[vertex] = DONE;
+                    removed[chunk] = true;
+                }
+            }
+        });
+        for (boolean any : removed) {
+            if (any) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasLiveNeighbor(int vertex, int[] edgeOffsets, int[] edgeTargets) {
+        for (int i = edgeOffsets[vertex]; i < edgeOffsets[vertex + 1]; i++) {
+            int neighbor = edgeTargets[i];
+            if (neighbor != vertex && colors[neighbor] != DONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The vertices of one color, all without a component yet. A task keeps
+     * splitting its largest part itself and forks the others, which hold at
+     * most half its vertices, so the task depth stays logarithmic. A split
+     * that leaves the largest part with more than 7/8 of the vertices, as when
+     * the pivot's component is small and unconnected to most of the
+     * partition, ends in the single-pass labeling of that part, which bounds
+     * the total work.
+     */
+    private final class Partition extends RecursiveAction {
+        private final int[] members;
+        private final int color;
+
+        Partition(int[] members, int color) {
+            this.members = members;
+            this.color = color;
+        }
+
+        @Override
+        protected void compute() {
+            List<Partition> forked = new ArrayList<>();
+            int[] current = members;
+            int currentColor = color;
+            while (current.length > SEQUENTIAL_CUTOFF) {
+                int[] partColors = {nextColor.getAndIncrement(), nextColor.getAndIncrement(), currentColor};
+                int[][] parts = forwardBackward(current, currentColor, partColors);
+                int largest = 0;
+                for (int part = 1; part < 3; part++) {
+                    if (parts[part].length > parts[largest].length) {
+                        largest = part;
+                    }
+                }
+                for (int part = 0; part < 3; part++) {
+                    if (part != largest && parts[part].length > 0) {
+                        Partition task = new Partition(parts[part], partColors[part]);
+                        if (pool == null) {
+                            task.compute();
+                        } else {
+                            task.fork();
+                            forked.add(task);
+                        }
+                    }
+                }
+                boolean progress = parts[largest].length <= current.length - (current.length >>> 3);
+                current = parts[largest];
+                currentColor = partColors[largest];
+                if (!progress) {
+                    break;
+                }
+            }
+            StronglyConnectedComponents.pearce(offsets, targets, current, current.length, colors, currentColor,
+                rindex, isRoot, component, nextComponent);
+            for (Partition task : forked) {
+                task.join();
+            }
+        }
+    }
+
+    /**
+     * One forward-backward step: labels the pivot's component and splits the
+     * rest of the members into the forward-only, backward-only and unreached
+     * vertices, colored partColors[0], [1] and [2] (the members' own color).
+     */
+    private int[][] forwardBackward(int[] members, int color, int[] partColors) {
+        int pivot = members[members.length >>> 1];
+        int forward = partColors[0];
+        int backward = partColors[1];
+        int[] queue = new int[members.length];
+
+        // Forward closure of the pivot, recolored to forward
+        colors[pivot] = forward;
+        queue[0] = pivot;
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int vertex = queue[head];
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int neighbor = targets[i];
+                if (colors[neighbor] == color) {
+                    colors[neighbor] = forward;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        // Backward closure: forward vertices reached again form the pivot's
+        // component, the others become backward
+        int id = nextComponent.getAndIncrement();
+        component[pivot] = id;
+        colors[pivot] = DONE;
+        queue[0] = pivot;
+        tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int vertex = queue[head];
+            for (int i = inOffsets[vertex]; i < inOffsets[vertex + 1]; i++) {
+                int neighbor = inTargets[i];
+                if (colors[neighbor] == forward) {
+                    component[neighbor] = id;
+                    colors[neighbor] = DONE;
+                    queue[tail++] = neighbor;
+                } else if (colors[neighbor] == color) {
+                    colors[neighbor] = backward;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        int[] sizes = new int[3];
+        for (int vertex : members) {
+            int part = indexOf(partColors, colors[vertex]);
+            if (part >= 0) {
+                sizes[part]++;
+            }
+        }
+        int[][] parts = {new int[sizes[0]], new int[sizes[1]], new int[sizes[2]]};
+        Arrays.fill(sizes, 0);
+        for (int vertex : members) {
+            int part = indexOf(partColors, colors[vertex]);
+            if (part >= 0) {
+                parts[part][sizes[part]++] = vertex;
+            }
+        }
+        return parts;
+    }
+
+    private static int indexOf(int[] partColors, int color) {
+        for (int i = 0; i < partColors.length; i++) {
+            if (partColors[i] == color) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,353 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Asynchronous fan-out of {@link PomodoroTimerListener} events.
+ * Register the dispatcher as the timer's listener and add any number of
+ * subscribers to it; each subscriber gets its own bounded queue and delivery
+ * thread, so a slow subscriber never stalls the timer thread or other subscribers.
+ *
+ * <p>Use-case: Keeping Pomodoro tick accuracy independent of listener latency,
+ * e.g. when a UI listener blocks on a modal dialog.
+ *
+ * <p>Back-pressure policy:
+ * <ul>
+ *   <li>Consecutive {@code onTick} events are coalesced: if the newest queued
+ *       event is still an undelivered tick, its value is overwritten</li>
+ *   <li>When a queue is full any other event is dropped and counted</li>
+ * </ul>
+ *
+ * <p>Time Complexity: O(s) per event where s is the number of subscribers
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class PomodoroEventDispatcher implements PomodoroTimerListener {
+
+    /**
+     * Default number of undelivered events kept per subscriber.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private static final int WORK_STARTED = 0;
+    private static final int SHORT_BREAK_STARTED = 1;
+    private static final int LONG_BREAK_STARTED = 2;
+    private static final int TIMER_STOPPED = 3;
+    private static final int TICK = 4;
+    private static final int WORK_COMPLETED = 5;
+    private static final int SHORT_BREAK_DUE = 6;
+    private static final int LONG_BREAK_DUE = 7;
+    private static final int BREAK_COMPLETED = 8;
+
+    /**
+     * Inner class representing a queued event.
+     */
+    private static class Event {
+        final int type;
+        int arg;
+        final long enqueuedNanos;
+
+        Event(int type, int arg, long enqueuedNanos) {
+            this.type = type;
+            this.arg = arg;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /**
+     * A registered listener with its own queue, delivery thread and counters.
+     */
+    public static final class Subscription {
+        private final PomodoroTimerListener listener;
+        private final int capacity;
+        private final ArrayDeque<Event> queue;
+        private final Thread worker;
+        private volatile boolean active = true;
+
+        private volatile long delivered;
+        private volatile long dropped;
+        private volatile long coalesced;
+        private volatile long maxLagNanos;
+
+        Subscription(PomodoroTimerListener listener, int capacity) {
+            this.listener = listener;
+            this.capacity = capacity;
+            this.queue = new ArrayDeque<>(capacity);
+            this.worker = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    drain();
+                }
+            }, "pomodoro-dispatch-" + listener.getClass().getSimpleName());
+            this.worker.setDaemon(true);
+        }
+
+        /**
+         * Returns the subscribed listener.
+         *
+         * @return the listener
+         */
+        public PomodoroTimerListener getListener() {
+            return listener;
+        }
+
+        /**
+         * Returns the number of events handed to the listener.
+         *
+         * @return delivered event count
+         */
+        public long getDeliveredCount() {
+            return delivered;
+        }
+
+        /**
+         * Returns the number of events dropped because the queue was full.
+         *
+         * @return dropped event count
+         */
+        public long getDroppedCount() {
+            return dropped;
+        }
+
+        /**
+         * Returns the number of ticks merged into a newer tick before delivery.
+         *
+         * @return coalesced tick count
+         */
+        public long getCoalescedCount() {
+            return coalesced;
+        }
+
+        /**
+         * Returns the longest time an event waited between enqueue and delivery.
+         *
+         * @return maximum lag in milliseconds
+         */
+        public long getMaxLagMillis() {
+            return maxLagNanos / 1_000_000L;
+        }
+
+        /**
+         * Returns the number of events waiting for delivery.
+         *
+         * @return queued event count
+         */
+        public synchronized int getPendingCount() {
+            return queue.size();
+        }
+
+        synchronized void offer(int type, int arg) {
+            if (!active) {
+                return;
+            }
+            Event last = queue.peekLast();
+            if (type == TICK && last != null && last.type == TICK) {
+                last.arg = arg;
+                coalesced++;
+                return;
+            }
+            if (queue.size() >= capacity) {
+                dropped++;
+                return;
+            }
+            queue.addLast(new Event(type, arg, System.nanoTime()));
+            notifyAll();
+        }
+
+        private synchronized Event take() throws InterruptedException {
+            while (active && queue.isEmpty()) {
+                wait();
+            }
+            return active ? queue.pollFirst() : null;
+        }
+
+        synchronized void close() {
+            active = false;
+            queue.clear();
+            notifyAll();
+        }
+
+        private void drain() {
+            try {
+                Event event;
+                while ((event = take()) != null) {
+                    long lag = System.nanoTime() - event.enqueuedNanos;
+                    if (lag > maxLagNanos) {
+                        maxLagNanos = lag;
+                    }
+                    deliver(event);
+                    delivered++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void deliver(Event event) {
+            try {
+                switch (event.type) {
+                    case WORK_STARTED:
+                        listener.onWorkStarted();
+                        break;
+                    case SHORT_BREAK_STARTED:
+                        listener.onShortBreakStarted();
+                        break;
+                    case LONG_BREAK_STARTED:
+                        listener.onLongBreakStarted();
+                        break;
+                    case TIMER_STOPPED:
+                        listener.onTimerStopped();
+                        break;
+                    case TICK:
+                        listener.onTick(event.arg);
+                        break;
+                    case WORK_COMPLETED:
+                        listener.onWorkCompleted(event.arg);
+                        break;
+                    case SHORT_BREAK_DUE:
+                        listener.onShortBreakDue();
+                        break;
+                    case LONG_BREAK_DUE:
+                        listener.onLongBreakDue();
+                        break;
+                    case BREAK_COMPLETED:
+                        listener.onBreakCompleted();
+                        break;
+                    default:
+                        break;
+                }
+            } catch (RuntimeException e) {
+                // A failing listener must not stop delivery of later events
+            }
+        }
+    }
+
+    private final int queueCapacity;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a dispatcher with default per-subscriber queue capacity.
+     */
+    public PomodoroEventDispatcher() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs a dispatcher with specified per-subscriber queue capacity.
+     *
+     * @param queueCapacity maximum undelivered events per subscriber
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public PomodoroEventDispatcher(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Registers a listener and starts its delivery thread.
+     *
+     * @param listener the listener to add
+     * @return subscription exposing delivery counters
+     */
+    public Subscription addListener(PomodoroTimerListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        Subscription subscription = new Subscription(listener, queueCapacity);
+        subscriptions.add(subscription);
+        subscription.worker.start();
+        return subscription;
+    }
+
+    /**
+     * Unregisters a listener. Events still queued for it are discarded.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was registered
+     */
+    public boolean removeListener(PomodoroTimerListener listener) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.listener == listener) {
+                subscriptions.remove(subscription);
+                subscription.close();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of registered listeners.
+     *
+     * @return listener count
+     */
+    public int getListenerCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Unregisters all listeners and stops their delivery threads.
+     */
+    public void shutdown() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+    }
+
+    private void publish(int type, int arg) {
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(type, arg);
+        }
+    }
+
+    @Override
+    public void onWorkStarted() {
+        publish(WORK_STARTED, 0);
+    }
+
+    @Override
+    public void onShortBreakStarted() {
+        publish(SHORT_BREAK_STARTED, 0);
+    }
+
+    @Override
+    public void onLongBreakStarted() {
+        publish(LONG_BREAK_STARTED, 0);
+    }
+
+    @Override
+    public void onTimerStopped() {
+        publish(TIMER_STOPPED, 0);
+    }
+
+    @Override
+    public void onTick(int remainingSeconds) {
+        publish(TICK, remainingSeconds);
+    }
+
+    @Override
+    public void onWorkCompleted(int completedPomodoros) {
+        publish(WORK_COMPLETED, completedPomodoros);
+    }
+
+    @Override
+    public void onShortBreakDue() {
+        publish(SHORT_BREAK_DUE, 0);
+    }
+
+    @Override
+    public void onLongBreakDue() {
+        publish(LONG_BREAK_DUE, 0);
+    }
+
+    @Override
+    public void onBreakCompleted() {
+        publish(BREAK_COMPLETED, 0);
+    }
+}
@@ -2,6 +2,7 @@ package com.pomodorotimer.pomodorotimer;
 
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Pomodoro Timer sınıfı
@@ -20,7 +21,14 @@ public class PomodoroTimer {
     public static final int POMODOROS_BEFORE_LONG_BREAK = 4; // 4 Pomodoro sonrası uzun mola
     
     private Timer timer;
+    private final TimerWheel wheel; // Paylaşılan zamanlayıcı (null ise kendi Timer thread'i kullanılır)
+    private TimerWheel.Timeout tickHandle;
+    private TimerWheel.Timeout phaseHandle;
     private int remainingSeconds;
+    private boolean tickless; // Deadline tabanlı mod
+    private boolean phaseTickless; // Çalışan fazın başlatıldığı mod (setTickless fazı etkilemez)
+    private int tickIntervalSeconds = 0; // Tickless modda onTick aralığı (0 = kapalı, varsayılan)
+    private long deadlineNanos; // Tickless modda faz bitişi (System.nanoTime)
     private TimerState state;
     private int completedPomodoros;
     private PomodoroTimerListener listener;
@@ -40,11 +48,64 @@ public class PomodoroTimer {
      */
     public PomodoroTimer() {
         this.timer = new Timer();
+        this.wheel = null;
         this.state = TimerState.IDLE;
         this.completedPomodoros = 0;
         this.remainingSeconds = WORK_DURATION;
     }
     
+    /**
+     * Paylaşılan bir TimerWheel üzerinde çalışan constructor.
+     * Binlerce oturum tek bir ticker thread'i paylaşır; stop() yeni thread oluşturmaz.
+     */
+    public PomodoroTimer(TimerWheel wheel) {
+        if (wheel == null) {
+            throw new IllegalArgumentException("Timer wheel cannot be null");
+        }
+        this.timer = null;
+        this.wheel = wheel;
+        this.state = TimerState.IDLE;
+        this.completedPomodoros = 0;
+        this.remainingSeconds = WORK_DURATION;
+    }
+    
+    /**
+     * Deadline tabanlı (tickless) modu açar veya kapatır.
+     * Bu modda her saniye sayaç azaltılmaz; sadece System.nanoTime() bitiş zamanı
+     * saklanır, kalan süre istendiğinde hesaplanır ve faz sonunda tek bir uyanma
+     * planlanır. GC duraklamaları birikimli kaymaya yol açmaz.
+     * Çalışan bir fazı etkilemez, bir sonraki başlatmada geçerli olur.
+     */
+    public void setTickless(boolean tickless) {
+        this.tickless = tickless;
+    }
+    
+    /**
+     * Tickless modun açık olup olmadığını döndürür
+     */
+    public boolean isTickless() {
+        return tickless;
+    }
+    
+    /**
+     * Tickless modda onTick çağrılarının kaç saniyede bir yapılacağını belirler.
+     * 0 verilirse onTick hiç çağrılmaz; varsayılan 0'dır, yani faz başına tek
+     * uyanma olur. Sayaç gösteren istemciler aralığı açıkça ayarlar.
+     */
+    public void setTickInterval(int seconds) {
+        if (seconds < 0) {
+            throw new IllegalArgumentException("Tick interval cannot be negative");
+        }
+        this.tickIntervalSeconds = seconds;
+    }
+    
+    /**
+     * Tickless moddaki onTick aralığını döndürür
+     */
+    public int getTickInterval() {
+        return tickIntervalSeconds;
+    }
+    
     /**
      * Listener set eder
      */
@@ -111,6 +172,19 @@ public class PomodoroTimer {
      * Timer'ı durdurur
      */
     public void stop() {
+        if (phaseTickless && state != TimerState.IDLE) {
+            remainingSeconds = computeRemainingSeconds(); // Kalan süreyi dondur
+        }
+        
+        if (tickHandle != null) {
+            tickHandle.cancel();
+            tickHandle = null;
+        }
+        if (phaseHandle != null) {
+            phaseHandle.cancel();
+            phaseHandle = null;
+        }
+        
         if (timer != null) {
             timer.cancel();
             timer.purge();
@@ -128,29 +202,155 @@ public class PomodoroTimer {
      * Timer'ı başlatır
      */
     private void startTimer() {
+        phaseTickless = tickless;
+        if (phaseTickless) {
+            deadlineNanos = System.nanoTime() + remainingSeconds * 1_000_000_000L;
+            schedulePhaseEnd(remainingSeconds * 1000L);
+            if (tickIntervalSeconds > 0) {
+                scheduleTicks();
+            }
+            return;
+        }
+        
+        if (wheel != null) {
+            tickHandle = wheel.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    tick();
+                }
+            }, 1, 1, TimeUnit.SECONDS); // Her 1 saniyede bir çalışır
+            return;
+        }
+        
         timer.scheduleAtFixedRate(new TimerTask() {
             @Override
             public void run() {
-                remainingSeconds--;
-                
-                if (listener != null) {
-                    listener.onTick(remainingSeconds);
+                tick();
+            }
+        }, 1000, 1000); // Her 1 saniyede bir çalışır
+    }
+    
+    /**
+     * Tickless modda faz sonu için tek bir uyanma planlar
+     */
+    private void schedulePhaseEnd(long delayMillis) {
+        if (wheel != null) {
+            phaseHandle = wheel.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    phaseEnd();
                 }
-                
-                if (remainingSeconds <= 0) {
-                    timerFinished();
+            }, delayMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+        
+        timer.schedule(new TimerTask() {
+            @Override
+            public void run() {
+                phaseEnd();
+            }
+        }, delayMillis);
+    }
+    
+    /**
+     * Tickless modda isteğe bağlı onTick çağrılarını planlar
+     */
+    private void scheduleTicks() {
+        long intervalMillis = tickIntervalSeconds * 1000L;
+        if (wheel != null) {
+            tickHandle = wheel.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    ticklessTick();
                 }
+            }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+        
+        timer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                ticklessTick();
             }
-        }, 1000, 1000); // Her 1 saniyede bir çalışır
+        }, intervalMillis, intervalMillis);
+    }
+    
+    /**
+     * Tickless modda faz sonu uyanması
+     */
+    private void phaseEnd() {
+        long leftNanos = deadlineNanos - System.nanoTime();
+        if (leftNanos > 0) {
+            // Erken uyandı (ör. duvar saati geri alındı); kalan kısım için yeniden planla
+            schedulePhaseEnd(TimeUnit.NANOSECONDS.toMillis(leftNanos) + 1);
+            return;
+        }
+        
+        remainingSeconds = 0;
+        if (listener != null) {
+            listener.onTick(0);
+        }
+        timerFinished();
+    }
+    
+    /**
+     * Tickless modda onTick çağrısı; sayaç azaltılmaz, bitiş zamanından hesaplanır
+     */
+    private void ticklessTick() {
+        int remaining = computeRemainingSeconds();
+        if (remaining > 0 && listener != null) {
+            listener.onTick(remaining);
+        }
+    }
+    
+    /**
+     * Bitiş zamanına göre kalan saniyeyi hesaplar (yukarı yuvarlanır)
+     */
+    private int computeRemainingSeconds() {
+        long leftNanos = deadlineNanos - System.nanoTime();
+        if (leftNanos <= 0) {
+            return 0;
+        }
+        return (int) ((leftNanos + 999_999_999L) / 1_000_000_000L);
+    }
+    
+    /**
+     * Her saniye çalışan adım
+     */
+    private void tick() {
+        remainingSeconds--;
+        
+        if (listener != null) {
+            listener.onTick(remainingSeconds);
+        }
+        
+        if (remainingSeconds <= 0) {
+            timerFinished();
+        }
+    }
+    
+    /**
+     * Çalışan fazı süresi dolmuş gibi hemen bitirir; testler bitiş geri
+     * çağrılarını fazın sonunu beklemeden doğrulamak için kullanır
+     */
+    void finishPhase() {
+        if (state == TimerState.IDLE) {
+            return;
+        }
+        deadlineNanos = System.nanoTime(); // stop() tickless modda kalan süreyi 0 hesaplasın
+        remainingSeconds = 0;
+        timerFinished();
     }
     
     /**
      * Timer bittiğinde çağrılır
      */
     private void timerFinished() {
+        // stop() durumu IDLE yaptığı için biten faz önceden alınır
+        TimerState finishedState = state;
         stop();
         
-        if (state == TimerState.WORKING) {
+        if (finishedState == TimerState.WORKING) {
             completedPomodoros++;
             
             if (listener != null) {
@@ -167,7 +367,7 @@ public class PomodoroTimer {
                     listener.onShortBreakDue();
                 }
             }
-        } else if (state == TimerState.SHORT_BREAK || state == TimerState.LONG_BREAK) {
+        } else if (finishedState == TimerState.SHORT_BREAK || finishedState == TimerState.LONG_BREAK) {
             if (listener != null) {
                 listener.onBreakCompleted();
             }
@@ -178,8 +378,12 @@ public class PomodoroTimer {
     
     /**
      * Kalan süreyi döndürür
+     * Tickless modda faz devam ederken bitiş zamanından hesaplanır
      */
     public int getRemainingSeconds() {
+        if (phaseTickless && state != TimerState.IDLE) {
+            return computeRemainingSeconds();
+        }
         return remainingSeconds;
     }
     
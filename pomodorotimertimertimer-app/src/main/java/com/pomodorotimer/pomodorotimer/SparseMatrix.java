@@ -1,7 +1,6 @@
 package com.pomodorotimer.pomodorotimer;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Sparse Matrix implementation for map-based grid applications in games.
@@ -11,9 +10,16 @@ import java.util.Map;
  * <p>Use-case: Map-based grid application for games where most cells are empty (zero)
  * and only a few cells contain game objects or values.
  * 
+ * <p>Cells are kept in a {@link LongIntHashTable} keyed by {@code ((long) row << 32) | col},
+ * so {@code get} and {@code set} allocate nothing. Row-ordered iteration uses a row
+ * index built on first use by grouping cells per row and sorting only the columns
+ * within each row. Changing the value of a stored cell keeps the index; adding or
+ * removing a cell discards it.
+ * 
  * <p>Time Complexity:
  * <ul>
  *   <li>Get/Set value: O(1) average case</li>
+ *   <li>Row iteration: O(d) for a row with d non-zeros, after an O(k log d) index build</li>
  *   <li>Memory usage: O(k) where k is number of non-zero elements</li>
  * </ul>
  * 
@@ -27,7 +33,27 @@ public class SparseMatrix {
     
     private final int rows;
     private final int cols;
-    private final Map<String, Integer> matrix; // Key: "row,col", Value: non-zero value
+    private final LongIntHashTable matrix; // Key: (row << 32) | col, Value: non-zero value
+    
+    // Row index: indexCols[indexStart[i], indexStart[i + 1]) are the ascending
+    // columns of row indexRows[i]; null until needed
+    private int[] indexRows;
+    private int[] indexStart;
+    private int[] indexCols;
+    
+    /**
+     * Receives one non-zero cell during iteration.
+     */
+    public interface CellConsumer {
+        /**
+         * Accepts a cell.
+         * 
+         * @param row row index (0-based)
+         * @param col column index (0-based)
+         * @param value the non-zero value
+         */
+        void accept(int row, int col, int value);
+    }
     
     /**
      * Constructs a sparse matrix with specified dimensions.
@@ -42,7 +68,7 @@ public class SparseMatrix {
         }
         this.rows = rows;
         this.cols = cols;
-        this.matrix = new HashMap<>();
+        this.matrix = new LongIntHashTable();
     }
     
     /**
@@ -55,11 +81,14 @@ public class SparseMatrix {
      */
     public void set(int row, int col, int value) {
         validateIndices(row, col);
-        String key = getKey(row, col);
+        long key = getKey(row, col);
+        // Stored values are never 0, so a previous value of 0 means the cell was empty
         if (value == 0) {
-            matrix.remove(key); // Remove zero values to maintain sparsity
-        } else {
-            matrix.put(key, value);
+            if (matrix.remove(key) != 0) { // Remove zero values to maintain sparsity
+                indexRows = null;
+            }
+        } else if (matrix.put(key, value) == 0) {
+            indexRows = null;
         }
     }
     
@@ -73,8 +102,94 @@ public class SparseMatrix {
      */
     public int get(int row, int col) {
         validateIndices(row, col);
-        String key = getKey(row, col);
-        return matrix.getOrDefault(key, 0);
+        return matrix.get(getKey(row, col));
+    }
+    
+    /**
+     * Visits every non-zero in storage order, which is fastest when order does
+     * not matter. The consumer may change values of visited cells but must not
+     * add or remove cells.
+     * 
+     * @param consumer receives each non-zero cell
+     */
+    public void forEachNonZero(CellConsumer consumer) {
+        matrix.forEach((key, value) -> consumer.accept((int) (key >>> 32), (int) key, value));
+    }
+    
+    /**
+     * Visits the non-zeros of one row in ascending column order.
+     * 
+     * @param row row index (0-based)
+     * @param consumer receives each non-zero cell
+     * @throws IndexOutOfBoundsException if row is out of bounds
+     */
+    public void forEachInRow(int row, CellConsumer consumer) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException(
+                String.format("Row out of bounds: %d for matrix [%d, %d]", row, rows, cols));
+        }
+        buildRowIndex();
+        int position = Arrays.binarySearch(indexRows, row);
+        if (position >= 0) {
+            visitRow(position, indexRows, indexStart, indexCols, consumer);
+        }
+    }
+    
+    /**
+     * Visits every non-zero in row-major order.
+     * 
+     * @param consumer receives each non-zero cell
+     */
+    public void forEachByRow(CellConsumer consumer) {
+        buildRowIndex();
+        // Local copies: a consumer that adds or removes cells discards the fields
+        int[] rowIds = indexRows;
+        int[] start = indexStart;
+        int[] columns = indexCols;
+        for (int position = 0; position < rowIds.length; position++) {
+            visitRow(position, rowIds, start, columns, consumer);
+        }
+    }
+    
+    private void visitRow(int position, int[] rowIds, int[] start, int[] columns, CellConsumer consumer) {
+        int row = rowIds[position];
+        for (int i = start[position]; i < start[position + 1]; i++) {
+            int value = matrix.get(getKey(row, columns[i]));
+            if (value != 0) { // skip cells the consumer cleared
+                consumer.accept(row, columns[i], value);
+            }
+        }
+    }
+    
+    /**
+     * Groups the cell columns by row. Only the distinct row ids and the columns
+     * within each row are sorted; rowFill counts cells per row and then serves as
+     * each row's write cursor.
+     */
+    private void buildRowIndex() {
+        if (indexRows != null) {
+            return;
+        }
+        IntIntHashTable rowFill = new IntIntHashTable();
+        matrix.forEach((key, value) -> rowFill.addTo((int) (key >>> 32), 1));
+        int[] distinct = new int[rowFill.size()];
+        int[] count = new int[1];
+        rowFill.forEach((row, cells) -> distinct[count[0]++] = row);
+        Arrays.sort(distinct);
+        
+        int[] start = new int[distinct.length + 1];
+        for (int i = 0; i < distinct.length; i++) {
+            start[i + 1] = start[i] + rowFill.get(distinct[i]);
+            rowFill.put(distinct[i], start[i]);
+        }
+        int[] columns = new int[matrix.size()];
+        matrix.forEach((key, value) -> columns[rowFill.addTo((int) (key >>> 32), 1) - 1] = (int) key);
+        for (int i = 0; i < distinct.length; i++) {
+            Arrays.sort(columns, start[i], start[i + 1]);
+        }
+        indexStart = start;
+        indexCols = columns;
+        indexRows = distinct;
     }
     
     /**
@@ -113,23 +228,43 @@ public class SparseMatrix {
         return getNonZeroCount();
     }
     
+    /**
+     * Converts the matrix to immutable CSR form for read-heavy use.
+     * 
+     * @return a CSR copy of the current values
+     */
+    public CsrMatrix toCsr() {
+        buildRowIndex();
+        int[] rowPtr = new int[rows + 1];
+        for (int position = 0; position < indexRows.length; position++) {
+            rowPtr[indexRows[position] + 1] = indexStart[position + 1] - indexStart[position];
+        }
+        for (int row = 0; row < rows; row++) {
+            rowPtr[row + 1] += rowPtr[row];
+        }
+        int[] values = new int[indexCols.length];
+        int[] next = new int[1];
+        forEachByRow((row, col, value) -> values[next[0]++] = value);
+        return new CsrMatrix(rows, cols, rowPtr, indexCols.clone(), values);
+    }
+    
     /**
      * Clears all values from the matrix.
      */
     public void clear() {
         matrix.clear();
+        indexRows = null;
     }
     
     private void validateIndices(int row, int col) {
         if (row < 0 || row >= rows || col < 0 || col >= cols) {
             throw new IndexOutOfBoundsException(
-                String.format("Index out of bounds: [%d, %d] for matrix [%d, %d]", 
+                String.format("Index out of bounds: [%d, %d] for matrix [%d, %d]",
                     row, col, rows, cols));
         }
     }
     
-    private String getKey(int row, int col) {
-        return row + "," + col;
+    private static long getKey(int row, int col) {
+        return ((long) row << 32) | col;
     }
 }
-
@@ -2,17 +2,35 @@ package com.pomodorotimer.pomodorotimer;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Strongly Connected Components (SCC) implementation using Kosaraju's algorithm.
+ * Strongly Connected Components (SCC) implementation using Pearce's
+ * single-pass variant of Tarjan's algorithm, with Kosaraju's algorithm kept
+ * for {@link #findSCCs()}.
  * Used for network cluster analysis in directed graphs.
  * 
  * <p>Use-case: Network cluster analysis tool where we need to identify
  * groups of nodes that are mutually reachable in a directed graph.</p>
  * 
- * <p>Time Complexity: O(V + E) where V is vertices and E is edges</p>
- * <p>Space Complexity: O(V + E)</p>
+ * <p>Edges are stored once, as two int arrays in insertion order. Each
+ * computation compacts them into compressed sparse row (CSR) arrays: the
+ * out-neighbors of vertex v are targets[offsets[v], offsets[v + 1]).
+ * {@link #getSCCCount()}, {@link #getComponentId(int)} and
+ * {@link #getComponents()} share one labeling, computed by a single
+ * depth-first pass over the forward edges and cached until the next
+ * {@link #addEdge(int, int)}. Kosaraju's algorithm and the parallel mode
+ * ({@link #getComponents(ForkJoinPool)}, see {@link ParallelScc}) also need
+ * the reverse edges, another 4 bytes per edge built on first use.</p>
+ * 
+ * <p>Time Complexity: O(V + E) where V is vertices and E is edges; O(1) for
+ * cached counts and component ids</p>
+ * <p>Space Complexity: O(V + E); 8 bytes per stored edge, 4 bytes per edge
+ * for each CSR direction and about 14 bytes per vertex for the single-pass
+ * labeling</p>
  * 
  * @author Data Structures Project Team
  * @version 1.0
@@ -20,8 +38,22 @@ import java.util.List;
 public class StronglyConnectedComponents {
     
     private final int vertices;
-    private final List<List<Integer>> graph;
-    private final List<List<Integer>> reverseGraph;
+    
+    // Edges in insertion order
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private int edgeCount;
+    
+    // CSR arrays, rebuilt after edges are added; neighbors keep insertion order
+    private int[] offsets;
+    private int[] targets;
+    private int[] inOffsets;
+    private int[] inTargets;
+    
+    // Cached labeling: component id per vertex, ids numbered by smallest vertex
+    private int[] componentIds;
+    private int componentCount;
+    private List<List<Integer>> components;
     
     /**
      * Constructs an SCC finder for a graph with specified number of vertices.
@@ -30,12 +62,8 @@ public class StronglyConnectedComponents {
      */
     public StronglyConnectedComponents(int vertices) {
         this.vertices = vertices;
-        this.graph = new ArrayList<>();
-        this.reverseGraph = new ArrayList<>();
-        for (int i = 0; i < vertices; i++) {
-            graph.add(new ArrayList<>());
-            reverseGraph.add(new ArrayList<>());
-        }
+        this.edgeFrom = new int[16];
+        this.edgeTo = new int[16];
     }
     
     /**
@@ -46,37 +74,65 @@ public class StronglyConnectedComponents {
      */
     public void addEdge(int from, int to) {
         if (from >= 0 && from < vertices && to >= 0 && to < vertices) {
-            graph.get(from).add(to);
-            reverseGraph.get(to).add(from);
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = from;
+            edgeTo[edgeCount++] = to;
+            offsets = null;
+            targets = null;
+            inOffsets = null;
+            inTargets = null;
+            componentIds = null;
+            components = null;
         }
     }
     
+    /**
+     * Returns the number of edges added so far.
+     * 
+     * @return number of edges
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+    
     /**
      * Finds all strongly connected components using Kosaraju's algorithm.
+     * Components come out in Kosaraju's order, each listing its vertices in
+     * the order the reverse pass reached them.
      * 
      * @return list of strongly connected components, each component is a list of vertices
      */
     public List<List<Integer>> findSCCs() {
-        java.util.Stack<Integer> stack = new java.util.Stack<>();
+        buildEdges();
+        buildReverseEdges();
         boolean[] visited = new boolean[vertices];
+        // Explicit DFS stacks shared by both passes: the current path and, per
+        // depth, the index of the next edge to try
+        int[] stack = new int[vertices];
+        int[] cursor = new int[vertices];
+        int[] finished = new int[vertices];
+        int finishedCount = 0;
         
-        // Step 1: Fill stack with vertices in order of finishing times (DFS)
+        // Step 1: Record vertices in order of finishing times (DFS)
         for (int i = 0; i < vertices; i++) {
             if (!visited[i]) {
-                fillOrder(i, visited, stack);
+                finishedCount = fillOrder(i, visited, stack, cursor, finished, finishedCount);
             }
         }
         
-        // Step 2: Reverse the graph (already done in constructor)
-        // Step 3: Process vertices in reverse order of finishing times
+        // Step 2: Process vertices in reverse order of finishing times on the
+        // reverse graph
         Arrays.fill(visited, false);
         List<List<Integer>> sccs = new ArrayList<>();
         
-        while (!stack.isEmpty()) {
-            int vertex = stack.pop();
+        for (int i = finishedCount - 1; i >= 0; i--) {
+            int vertex = finished[i];
             if (!visited[vertex]) {
                 List<Integer> component = new ArrayList<>();
-                dfsReverse(vertex, visited, component);
+                dfsReverse(vertex, visited, stack, cursor, component);
                 sccs.add(component);
             }
         }
@@ -84,19 +140,58 @@ public class StronglyConnectedComponents {
         return sccs;
     }
     
-    private void fillOrder(int vertex, boolean[] visited, java.util.Stack<Integer> stack) {
-        visited[vertex] = true;
-        for (int neighbor : graph.get(vertex)) {
-            if (!visited[neighbor]) fillOrder(neighbor, visited, stack);
+    /**
+     * Iterative DFS from start over the graph, appending each vertex to
+     * finished once all its descendants are done.
+     * 
+     * @return the new number of finished vertices
+     */
+    private int fillOrder(int start, boolean[] visited, int[] stack, int[] cursor, int[] finished,
+            int finishedCount) {
+        int depth = 0;
+        visited[start] = true;
+        stack[depth] = start;
+        cursor[depth++] = offsets[start];
+        while (depth > 0) {
+            int top = depth - 1;
+            if (cursor[top] == offsets[stack[top] + 1]) {
+                finished[finishedCount++] = stack[top];
+                depth--;
+                continue;
+            }
+            int neighbor = targets[cursor[top]++];
+            if (!visited[neighbor]) {
+                visited[neighbor] = true;
+                stack[depth] = neighbor;
+                cursor[depth++] = offsets[neighbor];
+            }
         }
-        stack.push(vertex);
+        return finishedCount;
     }
     
-    private void dfsReverse(int vertex, boolean[] visited, List<Integer> component) {
-        visited[vertex] = true;
-        component.add(vertex);
-        for (int neighbor : reverseGraph.get(vertex)) {
-            if (!visited[neighbor]) dfsReverse(neighbor, visited, component);
+    /**
+     * Iterative DFS from start over the reverse graph, adding vertices to the
+     * component in pre-order.
+     */
+    private void dfsReverse(int start, boolean[] visited, int[] stack, int[] cursor, List<Integer> component) {
+        int depth = 0;
+        visited[start] = true;
+        component.add(start);
+        stack[depth] = start;
+        cursor[depth++] = inOffsets[start];
+        while (depth > 0) {
+            int top = depth - 1;
+            if (cursor[top] == inOffsets[stack[top] + 1]) {
+                depth--;
+                continue;
+            }
+            int neighbor = inTargets[cursor[top]++];
+            if (!visited[neighbor]) {
+                visited[neighbor] = true;
+                component.add(neighbor);
+                stack[depth] = neighbor;
+                cursor[depth++] = inOffsets[neighbor];
+            }
         }
     }
     
@@ -106,7 +201,220 @@ public class StronglyConnectedComponents {
      * @return number of SCCs
      */
     public int getSCCCount() {
-        return findSCCs().size();
+        label(null);
+        return componentCount;
+    }
+    
+    /**
+     * Returns the id of the component containing a vertex. Ids run from 0 to
+     * {@link #getSCCCount()} - 1 in order of each component's smallest vertex.
+     * 
+     * @param vertex the vertex
+     * @return component id
+     * @throws IndexOutOfBoundsException if vertex is out of range
+     */
+    public int getComponentId(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IndexOutOfBoundsException("Vertex: " + vertex + ", Vertices: " + vertices);
+        }
+        label(null);
+        return componentIds[vertex];
+    }
+    
+    /**
+     * Returns the strongly connected components from the cached labeling:
+     * component i is the one with id i, and lists its vertices in ascending
+     * order. The lists are read-only.
+     * 
+     * @return list of strongly connected components
+     */
+    public List<List<Integer>> getComponents() {
+        return getComponents(null);
+    }
+    
+    /**
+     * Returns the strongly connected components like {@link #getComponents()},
+     * computing the labeling with the forward-backward algorithm of
+     * {@link ParallelScc} if it is not cached. The result does not depend on
+     * the engine.
+     * 
+     * @param pool pool for the parallel engine; null uses the single-pass engine
+     * @return list of strongly connected components
+     */
+    public List<List<Integer>> getComponents(ForkJoinPool pool) {
+        label(pool);
+        if (components == null) {
+            int[] sizes = new int[componentCount];
+            for (int id : componentIds) {
+                sizes[id]++;
+            }
+            List<List<Integer>> lists = new ArrayList<>(componentCount);
+            for (int id = 0; id < componentCount; id++) {
+                lists.add(new ArrayList<>(sizes[id]));
+            }
+            for (int vertex = 0; vertex < vertices; vertex++) {
+                lists.get(componentIds[vertex]).add(vertex);
+            }
+            for (int id = 0; id < componentCount; id++) {
+                lists.set(id, Collections.unmodifiableList(lists.get(id)));
+            }
+            components = Collections.unmodifiableList(lists);
+        }
+        return components;
+    }
+    
+    /**
+     * Computes and caches the labeling unless it is cached already.
+     */
+    private void label(ForkJoinPool pool) {
+        if (componentIds != null) {
+            return;
+        }
+        buildEdges();
+        int[] component = new int[vertices];
+        AtomicInteger nextComponent = new AtomicInteger();
+        if (pool == null) {
+            pearce(offsets, targets, null, vertices, null, 0, new int[vertices], new boolean[vertices],
+                component, nextComponent);
+        } else {
+            buildReverseEdges();
+            new ParallelScc(vertices, offsets, targets, inOffsets, inTargets, pool)
+                .run(component, nextComponent);
+        }
+        
+        // Renumber the engine's ids by smallest vertex
+        int[] renumber = new int[nextComponent.get()];
+        Arrays.fill(renumber, -1);
+        int count = 0;
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            int id = component[vertex];
+            if (renumber[id] < 0) {
+                renumber[id] = count++;
+            }
+            component[vertex] = renumber[id];
+        }
+        componentIds = component;
+        componentCount = count;
+    }
+    
+    /**
+     * Pearce's single-pass SCC algorithm, iterative. Each vertex carries one
+     * rindex: its visit index while on the DFS path, lowered to the smallest
+     * index it reaches, and a large value once its component is complete.
+     * Unlike Tarjan's algorithm no separate lowlink or on-stack flag is kept,
+     * and the DFS path and the stack of unassigned vertices share one array,
+     * growing from either end.
+     * 
+     * <p>With colors set, only the members are searched and edges to vertices
+     * of another color are skipped, so parallel callers can label disjoint
+     * partitions at once.</p>
+     * 
+     * @param members vertices to label, or null for 0 to memberCount - 1
+     * @param colors partition of each vertex, or null to search the whole graph
+     * @param color the members' partition
+     * @param rindex all zero for the members
+     * @param isRoot scratch flags, one per vertex
+     * @param component receives the component id of each member
+     * @param nextComponent source of component ids
+     */
+    static void pearce(int[] offsets, int[] targets, int[] members, int memberCount, int[] colors, int color,
+            int[] rindex, boolean[] isRoot, int[] component, AtomicInteger nextComponent) {
+        int[] stack = new int[memberCount];
+        int[] cursor = new int[memberCount];
+        int index = 1;
+        // Completed vertices get rindex values from the top down, always above
+        // the index of any vertex still on the path
+        int completed = memberCount + 1;
+        int pending = memberCount;
+        for (int m = 0; m < memberCount; m++) {
+            int start = members == null ? m : members[m];
+            if (rindex[start] != 0) {
+                continue;
+            }
+            int depth = 0;
+            rindex[start] = index++;
+            isRoot[start] = true;
+            stack[depth] = start;
+            cursor[depth++] = offsets[start];
+            while (depth > 0) {
+                int top = depth - 1;
+                int vertex = stack[top];
+                int edge = cursor[top];
+                if (edge < offsets[vertex + 1]) {
+                    int neighbor = targets[edge];
+                    if (colors != null && colors[neighbor] != color) {
+                        cursor[top]++;
+                        continue;
+                    }
+                    if (rindex[neighbor] == 0) {
+                        // Descend; the edge is finished when the neighbor returns
+                        rindex[neighbor] = index++;
+                        isRoot[neighbor] = true;
+                        stack[depth] = neighbor;
+                        cursor[depth++] = offsets[neighbor];
+                        continue;
+                    }
+                    if (rindex[neighbor] < rindex[vertex]) {
+                        rindex[vertex] = rindex[neighbor];
+                        isRoot[vertex] = false;
+                    }
+                    cursor[top]++;
+                    continue;
+                }
+                depth--;
+                if (!isRoot[vertex]) {
+                    stack[--pending] = vertex;
+                    continue;
+                }
+                int id = nextComponent.getAndIncrement();
+                index--;
+                while (pending < memberCount && rindex[vertex] <= rindex[stack[pending]]) {
+                    int member = stack[pending++];
+                    rindex[member] = completed;
+                    component[member] = id;
+                    index--;
+                }
+                rindex[vertex] = completed--;
+                component[vertex] = id;
+            }
+        }
+    }
+    
+    /**
+     * Compacts the edge arrays into CSR form unless already built. A stable
+     * counting sort by source keeps each vertex's neighbors in insertion order.
+     */
+    private void buildEdges() {
+        if (offsets == null) {
+            offsets = new int[vertices + 1];
+            targets = sortEdges(edgeFrom, edgeTo, offsets);
+        }
+    }
+    
+    /**
+     * Builds the reverse CSR arrays unless already built; each vertex's
+     * sources keep insertion order.
+     */
+    private void buildReverseEdges() {
+        if (inOffsets == null) {
+            inOffsets = new int[vertices + 1];
+            inTargets = sortEdges(edgeTo, edgeFrom, inOffsets);
+        }
+    }
+    
+    private int[] sortEdges(int[] keys, int[] values, int[] newOffsets) {
+        for (int i = 0; i < edgeCount; i++) {
+            newOffsets[keys[i] + 1]++;
+        }
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            newOffsets[vertex + 1] += newOffsets[vertex];
+        }
+        int[] fill = Arrays.copyOf(newOffsets, vertices);
+        int[] sorted = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            sorted[fill[keys[i]]++] = values[i];
+        }
+        return sorted;
     }
 }
 
@@ -0,0 +1,433 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only write-ahead log of {@link Task} mutations with group commit.
+ *
+ * <p>Use-case: Making task changes durable. Every addition, status change and
+ * completed pomodoro is appended as a compact binary record; on startup
+ * {@link #replay()} rebuilds the tasks so they can be loaded back into the
+ * hash table, B+ tree and queues.
+ *
+ * <p>Record format: {@code [int payload length][int CRC32 of payload][payload]},
+ * where the payload starts with a type byte followed by the fields. Strings are
+ * written as an unsigned short length and UTF-8 bytes.
+ *
+ * <p>Group commit: records are buffered in memory and written with a single
+ * {@code write} + {@code force} once {@code groupSize} records are pending, or
+ * every {@code groupMillis} milliseconds from a background thread, whichever
+ * comes first. A group size of 1 syncs every record. {@link #sync()} forces the
+ * pending batch immediately. A failed write or force keeps the batch pending,
+ * and the next sync retries it at the same offset. A torn or corrupt tail left
+ * by a crash is detected by its checksum and truncated when the log is
+ * reopened.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Append: O(record size), plus one fsync per group</li>
+ *   <li>Replay: O(n) where n is the number of records</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(n) on disk, O(group size) in memory
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class TaskWriteAheadLog implements Closeable {
+
+    static final byte TYPE_ADD = 1;
+    static final byte TYPE_STATUS = 2;
+    static final byte TYPE_POMODORO = 3;
+
+    private static final int RECORD_HEADER = 8;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+    private static final int INITIAL_BUFFER = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int groupSize;
+    private final Thread committer;
+
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER);
+    private int pendingRecords;
+    private int recordStart; // offset in pending of the record being built
+    private long fileEnd; // end of the durable records; batches are written here
+    private long recordCount;
+    private long syncCount;
+    private boolean closed;
+
+    /**
+     * Opens the log with a sync after every record.
+     *
+     * @param path the log file, created if absent
+     * @throws IOException if the file cannot be opened
+     */
+    public TaskWriteAheadLog(Path path) throws IOException {
+        this(path, 1, 0);
+    }
+
+    /**
+     * Opens the log with group commit.
+     *
+     * @param path the log file, created if absent
+     * @param groupSize records per forced write; 1 syncs every record
+     * @param groupMillis maximum time a record waits for its sync, or 0 to sync by size only
+     * @throws IOException if the file cannot be opened
+     * @throws IllegalArgumentException if groupSize is not positive or groupMillis is negative
+     */
+    public TaskWriteAheadLog(Path path, int groupSize, long groupMillis) throws IOException {
+        if (groupSize <= 0) {
+            throw new IllegalArgumentException("Group size must be positive");
+        }
+        if (groupMillis < 0) {
+            throw new IllegalArgumentException("Group interval cannot be negative");
+        }
+        this.path = path;
+        this.groupSize = groupSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validEnd = scan(channel, null);
+        if (validEnd < channel.size()) {
+            channel.truncate(validEnd); // drop a record torn by a crash
+            channel.force(true);
+        }
+        fileEnd = validEnd;
+
+        if (groupMillis > 0) {
+            committer = new Thread(() -> commitLoop(groupMillis), "task-wal-committer");
+            committer.setDaemon(true);
+            committer.start();
+        } else {
+            committer = null;
+        }
+    }
+
+    private void commitLoop(long groupMillis) {
+        while (true) {
+            try {
+                Thread.sleep(groupMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                try {
+                    flushPending();
+                } catch (IOException e) {
+                    // The next append or sync reports the failure to the caller
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs a new task.
+     *
+     * @param task the task that was added
+     * @throws IllegalArgumentException if task is null
+     */
+    public void logAdd(Task task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        byte[] id = encode(task.getId());
+        byte[] name = encode(task.getName());
+        byte[] description = encode(task.getDescription());
+        int length = 1 + 2 + id.length + 2 + name.length + 2 + description.length + 4 + 4;
+        synchronized (this) {
+            ByteBuffer record = beginRecord(length, TYPE_ADD);
+            putString(record, id);
+            putString(record, name);
+            putString(record, description);
+            record.putInt(task.getPriority());
+            record.putInt(task.getEstimatedPomodoros());
+            endRecord(record);
+        }
+    }
+
+    /**
+     * Logs a status change.
+     *
+     * @param taskId the task id
+     * @param status the new status
+     * @throws IllegalArgumentException if status is null
+     */
+    public void logStatusChange(String taskId, Task.TaskStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        byte[] id = encode(taskId);
+        synchronized (this) {
+            ByteBuffer record = beginRecord(1 + 2 + id.length + 1, TYPE_STATUS);
+            putString(record, id);
+            record.put((byte) status.ordinal());
+            endRecord(record);
+        }
+    }
+
+    /**
+     * Logs a completed pomodoro ({@link Task#incrementCompletedPomodoros()}).
+     *
+     * @param taskId the task id
+     */
+    public void logPomodoroCompleted(String taskId) {
+        byte[] id = encode(taskId);
+        synchronized (this) {
+            ByteBuffer record = beginRecord(1 + 2 + id.length, TYPE_POMODORO);
+            putString(record, id);
+            endRecord(record);
+        }
+    }
+
+    private static byte[] encode(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Task fields cannot be null");
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String too long for a log record");
+        }
+        return bytes;
+    }
+
+    private static void putString(ByteBuffer record, byte[] bytes) {
+        record.putShort((short) bytes.length);
+        record.put(bytes);
+    }
+
+    private ByteBuffer beginRecord(int payloadLength, byte type) {
+        if (closed) {
+            throw new IllegalStateException("Log is closed");
+        }
+        int required = RECORD_HEADER + payloadLength;
+        if (pending.remaining() < required) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + required));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        recordStart = pending.position();
+        pending.putInt(payloadLength);
+        pending.putInt(0); // checksum, filled in by endRecord
+        pending.put(type);
+        return pending;
+    }
+
+    private void endRecord(ByteBuffer record) {
+        int payloadStart = recordStart + RECORD_HEADER;
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), payloadStart, record.position() - payloadStart);
+        record.putInt(recordStart + 4, (int) crc.getValue());
+        pendingRecords++;
+        recordCount++;
+        if (pendingRecords >= groupSize) {
+            try {
+                flushPending();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending batch at the end of the log and forces it. If the
+     * write or force fails, the whole batch stays pending and the next attempt
+     * rewrites it from the same offset, so bytes of a partial write are
+     * overwritten rather than followed by later records.
+     */
+    private void flushPending() throws IOException {
+        if (pendingRecords == 0) {
+            return;
+        }
+        int batchEnd = pending.position();
+        pending.flip();
+        boolean written = false;
+        try {
+            long position = fileEnd;
+            while (pending.hasRemaining()) {
+                position += channel.write(pending, position);
+            }
+            channel.force(false);
+            fileEnd = position;
+            written = true;
+        } finally {
+            if (written) {
+                pending.clear();
+                pendingRecords = 0;
+                syncCount++;
+            } else {
+                pending.limit(pending.capacity());
+                pending.position(batchEnd);
+            }
+        }
+    }
+
+    /**
+     * Writes and forces every pending record.
+     *
+     * @throws UncheckedIOException if the write fails
+     */
+    public synchronized void sync() {
+        try {
+            flushPending();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rebuilds the tasks from every durable record, in the order they were added.
+     * Records for unknown task ids are skipped.
+     *
+     * @return the replayed tasks
+     * @throws IOException if the log cannot be read
+     */
+    public synchronized List<Task> replay() throws IOException {
+        HashTable<String, Task> byId = new HashTable<>();
+        List<Task> tasks = new ArrayList<>();
+        scan(channel, payload -> apply(payload, byId, tasks));
+        return tasks;
+    }
+
+    private static void apply(ByteBuffer payload, HashTable<String, Task> byId, List<Task> tasks) {
+        byte type = payload.get();
+        String id = getString(payload);
+        if (type == TYPE_ADD) {
+            String name = getString(payload);
+            String description = getString(payload);
+            Task task = new Task(id, name, description, payload.getInt(), payload.getInt());
+            byId.put(id, task);
+            tasks.add(task);
+            return;
+        }
+        Task task = byId.get(id);
+        if (task == null) {
+            return;
+        }
+        if (type == TYPE_STATUS) {
+            task.setStatus(Task.TaskStatus.values()[payload.get()]);
+        } else if (type == TYPE_POMODORO) {
+            task.incrementCompletedPomodoros();
+        }
+    }
+
+    private static String getString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getShort() & 0xFFFF];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Callback for each valid record payload found by {@link #scan}.
+     */
+    private interface RecordVisitor {
+        void visit(ByteBuffer payload);
+    }
+
+    /**
+     * Reads records from the start of the file until the end or the first
+     * record that is truncated or fails its checksum.
+     *
+     * @return the offset just past the last valid record
+     */
+    private static long scan(FileChannel channel, RecordVisitor visitor) throws IOException {
+        long size = channel.size();
+        long offset = 0;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+        while (offset + RECORD_HEADER <= size) {
+            header.clear();
+            readFully(channel, header, offset);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || offset + RECORD_HEADER + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, offset + RECORD_HEADER);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array(), 0, length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            if (visitor != null) {
+                payload.flip();
+                visitor.visit(payload);
+            }
+            offset += RECORD_HEADER + length;
+        }
+        return offset;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position + target.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of log");
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records appended since the log was opened.
+     *
+     * @return record count
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the number of forced writes since the log was opened.
+     *
+     * @return sync count
+     */
+    public synchronized long getSyncCount() {
+        return syncCount;
+    }
+
+    /**
+     * Returns the log file.
+     *
+     * @return the path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Syncs pending records, stops the committer thread and closes the file.
+     *
+     * @throws IOException if the final write fails
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            try {
+                flushPending();
+            } finally {
+                closed = true;
+                channel.close();
+            }
+        }
+        if (committer != null) {
+            committer.interrupt();
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Arrays;
+
+/**
+ * Sparse matrix split into 64 x 64 tiles for maps that are sparse overall but
+ * dense in clusters. Only tiles holding a non-zero exist; they are found through
+ * a {@link LongHashTable} keyed by tile coordinates, so one hash lookup covers
+ * 4096 cells.
+ *
+ * <p>Use-case: Game maps whose objects crowd around towns and resource fields,
+ * with region queries for the part of the map on screen.
+ *
+ * <p>Each tile picks its own layout. A sparse tile keeps its cells as sorted
+ * offsets with parallel values. Once it holds more than {@link #PROMOTE_AT}
+ * cells it becomes a dense {@code int[4096]}, and it turns sparse again below
+ * {@link #DEMOTE_AT}. The gap keeps a tile from switching back and forth
+ * under churn.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Get/Set value: O(1) average for dense tiles, O(log t) for sparse tiles
+ *       holding t cells (set also shifts up to t entries)</li>
+ *   <li>Region query: O(min(tiles in region, populated tiles) + cells visited)</li>
+ * </ul>
+ *
+ * <p>Space Complexity: O(k) where k is the number of non-zero elements; 6 bytes
+ * per cell in sparse tiles, 16 KB per dense tile
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class TiledSparseMatrix {
+
+    static final int TILE_SHIFT = 6;
+    static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    private static final int TILE_CELLS = TILE_SIZE * TILE_SIZE;
+
+    /**
+     * A sparse tile holding more cells than this becomes dense (25% occupancy).
+     */
+    public static final int PROMOTE_AT = TILE_CELLS / 4;
+
+    /**
+     * A dense tile holding fewer cells than this becomes sparse again.
+     */
+    public static final int DEMOTE_AT = TILE_CELLS / 16;
+
+    private final int rows;
+    private final int cols;
+    private final LongHashTable<Tile> tiles;
+    private int nonZeros;
+    private int denseTiles;
+
+    /**
+     * One 64 x 64 block. A cell's offset in the tile is (row % 64) * 64 + col % 64,
+     * so ascending offsets are row-major order.
+     */
+    private static final class Tile {
+        final int firstRow;
+        final int firstCol;
+        int count;
+        char[] offsets; // sparse form: ascending, parallel to values; null when dense
+        int[] values;
+        int[] dense;    // dense form: indexed by offset; null when sparse
+
+        Tile(int firstRow, int firstCol) {
+            this.firstRow = firstRow;
+            this.firstCol = firstCol;
+            this.offsets = new char[8];
+            this.values = new int[8];
+        }
+
+        int get(int offset) {
+            if (dense != null) {
+                return dense[offset];
+            }
+            int index = Arrays.binarySearch(offsets, 0, count, (char) offset);
+            return index >= 0 ? values[index] : 0;
+        }
+
+        /**
+         * Stores a non-zero value; returns true if the cell was empty.
+         */
+        boolean put(int offset, int value) {
+            if (dense != null) {
+                boolean added = dense[offset] == 0;
+                dense[offset] = value;
+                count += added ? 1 : 0;
+                return added;
+            }
+            int index = Arrays.binarySearch(offsets, 0, count, (char) offset);
+            if (index >= 0) {
+                values[index] = value;
+                return false;
+            }
+            index = -index - 1;
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            System.arraycopy(offsets, index, offsets, index + 1, count - index);
+            System.arraycopy(values, index, values, index + 1, count - index);
+            offsets[index] = (char) offset;
+            values[index] = value;
+            count++;
+            return true;
+        }
+
+        /**
+         * Clears a cell; returns true if it held a value.
+         */
+        boolean remove(int offset) {
+            if (dense != null) {
+                if (dense[offset] == 0) {
+                    return false;
+                }
+                dense[offset] = 0;
+                count--;
+                return true;
+            }
+            int index = Arrays.binarySearch(offsets, 0, count, (char) offset);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(offsets, index + 1, offsets, index, count - index - 1);
+            System.arraycopy(values, index + 1, values, index, count - index - 1);
+            count--;
+            return true;
+        }
+
+        void promote() {
+            dense = new int[TILE_CELLS];
+            for (int i = 0; i < count; i++) {
+                dense[offsets[i]] = values[i];
+            }
+            offsets = null;
+            values = null;
+        }
+
+        void demote() {
+            offsets = new char[Math.max(8, count * 2)];
+            values = new int[offsets.length];
+            int size = 0;
+            for (int offset = 0; offset < TILE_CELLS; offset++) {
+                if (dense[offset] != 0) {
+                    offsets[size] = (char) offset;
+                    values[size] = dense[offset];
+                    size++;
+                }
+            }
+            dense = null;
+        }
+
+        /**
+         * Visits the cells of this tile inside the local rectangle
+         * [rowFrom, rowTo] x [colFrom, colTo], in row-major order.
+         */
+        void visit(int rowFrom, int colFrom, int rowTo, int colTo, SparseMatrix.CellConsumer consumer) {
+            if (dense != null) {
+                for (int row = rowFrom; row <= rowTo; row++) {
+                    int base = row << TILE_SHIFT;
+                    for (int col = colFrom; col <= colTo; col++) {
+                        int value = dense[base + col];
+                        if (value != 0) {
+                            consumer.accept(firstRow + row, firstCol + col, value);
+                        }
+                    }
+                }
+                return;
+            }
+            int last = (rowTo << TILE_SHIFT) | colTo;
+            int index = Arrays.binarySearch(offsets, 0, count, (char) ((rowFrom << TILE_SHIFT) | colFrom));
+            for (index = index >= 0 ? index : -index - 1; index < count && offsets[index] <= last; index++) {
+                int col = offsets[index] & TILE_MASK;
+                if (col >= colFrom && col <= colTo) {
+                    consumer.accept(firstRow + (offsets[index] >>> TILE_SHIFT), firstCol + col, values[index]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructs a tiled sparse matrix with specified dimensions.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @throws IllegalArgumentException if rows or cols are negative
+     */
+    public TiledSparseMatrix(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Dimensions must be non-negative");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.tiles = new LongHashTable<>();
+    }
+
+    /**
+     * Sets the value at the specified position.
+     *
+     * @param row row index (0-based)
+     * @param col column index (0-based)
+     * @param value value to set; 0 clears the cell
+     * @throws IndexOutOfBoundsException if indices are out of bounds
+     */
+    public void set(int row, int col, int value) {
+        validateIndices(row, col);
+        long key = tileKey(row >>> TILE_SHIFT, col >>> TILE_SHIFT);
+        int offset = offset(row, col);
+        Tile tile = tiles.get(key);
+        if (value == 0) {
+            if (tile == null || !tile.remove(offset)) {
+                return;
+            }
+            nonZeros--;
+            if (tile.count == 0) {
+                denseTiles -= tile.dense != null ? 1 : 0;
+                tiles.remove(key);
+            } else if (tile.dense != null && tile.count < DEMOTE_AT) {
+                tile.demote();
+                denseTiles--;
+            }
+            return;
+        }
+        if (tile == null) {
+            tile = new Tile(row & ~TILE_MASK, col & ~TILE_MASK);
+            tiles.put(key, tile);
+        }
+        if (tile.put(offset, value)) {
+            nonZeros++;
+            if (tile.dense == null && tile.count > PROMOTE_AT) {
+                tile.promote();
+                denseTiles++;
+            }
+        }
+    }
+
+    /**
+     * Gets the value at the specified position.
+     *
+     * @param row row index (0-based)
+     * @param col column index (0-based)
+     * @return the value at the position (0 if not set)
+     * @throws IndexOutOfBoundsException if indices are out of bounds
+     */
+    public int get(int row, int col) {
+        validateIndices(row, col);
+        Tile tile = tiles.get(tileKey(row >>> TILE_SHIFT, col >>> TILE_SHIFT));
+        return tile == null ? 0 : tile.get(offset(row, col));
+    }
+
+    /**
+     * Visits every non-zero inside a rectangle, corners included. Cells come
+     * tile by tile, row-major within each tile; when the rectangle spans more
+     * tiles than exist, tiles come in storage order. The consumer must not set
+     * cells of this matrix.
+     *
+     * @param top first row
+     * @param left first column
+     * @param bottom last row
+     * @param right last column
+     * @param consumer receives each non-zero cell
+     * @throws IndexOutOfBoundsException if a corner is out of bounds
+     * @throws IllegalArgumentException if top is below bottom or left is right of right
+     */
+    public void forEachInRect(int top, int left, int bottom, int right, SparseMatrix.CellConsumer consumer) {
+        validateIndices(top, left);
+        validateIndices(bottom, right);
+        if (top > bottom || left > right) {
+            throw new IllegalArgumentException(
+                String.format("Empty rectangle: [%d, %d] to [%d, %d]", top, left, bottom, right));
+        }
+        int firstTileRow = top >>> TILE_SHIFT;
+        int lastTileRow = bottom >>> TILE_SHIFT;
+        int firstTileCol = left >>> TILE_SHIFT;
+        int lastTileCol = right >>> TILE_SHIFT;
+        long span = (long) (lastTileRow - firstTileRow + 1) * (lastTileCol - firstTileCol + 1);
+        if (span <= tiles.size()) {
+            for (int tileRow = firstTileRow; tileRow <= lastTileRow; tileRow++) {
+                for (int tileCol = firstTileCol; tileCol <= lastTileCol; tileCol++) {
+                    Tile tile = tiles.get(tileKey(tileRow, tileCol));
+                    if (tile != null) {
+                        visitClipped(tile, top, left, bottom, right, consumer);
+                    }
+                }
+            }
+        } else {
+            // Fewer populated tiles than tiles in the rectangle: walk the table instead
+            tiles.forEach((key, tile) -> {
+                if (tile.firstRow <= bottom && tile.firstRow + TILE_MASK >= top
+                        && tile.firstCol <= right && tile.firstCol + TILE_MASK >= left) {
+                    visitClipped(tile, top, left, bottom, right, consumer);
+                }
+            });
+        }
+    }
+
+    private static void visitClipped(Tile tile, int top, int left, int bottom, int right,
+            SparseMatrix.CellConsumer consumer) {
+        tile.visit(Math.max(top - tile.firstRow, 0), Math.max(left - tile.firstCol, 0),
+            Math.min(bottom - tile.firstRow, TILE_MASK), Math.min(right - tile.firstCol, TILE_MASK), consumer);
+    }
+
+    /**
+     * Visits every non-zero, tile by tile in storage order.
+     *
+     * @param consumer receives each non-zero cell
+     */
+    public void forEachNonZero(SparseMatrix.CellConsumer consumer) {
+        tiles.forEach((key, tile) -> tile.visit(0, 0, TILE_MASK, TILE_MASK, consumer));
+    }
+
+    /**
+     * Returns the number of non-zero elements.
+     *
+     * @return count of non-zero elements
+     */
+    public int getNonZeroCount() {
+        return nonZeros;
+    }
+
+    /**
+     * Returns the number of tiles holding at least one non-zero.
+     *
+     * @return populated tile count
+     */
+    public int getTileCount() {
+        return tiles.size();
+    }
+
+    /**
+     * Returns the number of tiles stored in dense form.
+     *
+     * @return dense tile count
+     */
+    public int getDenseTileCount() {
+        return denseTiles;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Clears all values from the matrix.
+     */
+    public void clear() {
+        tiles.clear();
+        nonZeros = 0;
+        denseTiles = 0;
+    }
+
+    private void validateIndices(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index out of bounds: [%d, %d] for matrix [%d, %d]",
+                    row, col, rows, cols));
+        }
+    }
+
+    private static long tileKey(int tileRow, int tileCol) {
+        return ((long) tileRow << 32) | tileCol;
+    }
+
+    private static int offset(int row, int col) {
+        return ((row & TILE_MASK) << TILE_SHIFT) | (col & TILE_MASK);
+    }
+}
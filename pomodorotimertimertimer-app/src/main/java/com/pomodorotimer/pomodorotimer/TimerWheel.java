@@ -0,0 +1,439 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Hashed timing wheel used as a shared scheduler for many Pomodoro sessions.
+ * A single daemon ticker thread drives every registered timeout, so thousands
+ * of concurrent timers cost one thread instead of one thread each.
+ *
+ * <p>Use-case: Hosting one {@link PomodoroTimer} per user on a server where a
+ * dedicated {@link java.util.Timer} per session would mean one OS thread per user.
+ *
+ * <p>Time Complexity:
+ * <ul>
+ *   <li>Schedule: O(1)</li>
+ *   <li>Cancel: O(1)</li>
+ *   <li>Tick: O(b) where b is the number of timeouts in the current bucket</li>
+ * </ul>
+ *
+ * <p>Timeouts are hashed into {@code wheelSize} buckets by their deadline tick.
+ * Deadlines further away than one full turn of the wheel carry a round counter
+ * that is decremented every time their bucket is visited. Scheduling and
+ * cancellation from other threads go through lock-free queues that the ticker
+ * thread drains at the start of each tick, so buckets are only ever touched
+ * by the ticker thread.
+ *
+ * <p>A task that throws a RuntimeException is reported on System.err and the
+ * wheel keeps ticking; a periodic task stays scheduled. An Error thrown by a
+ * task stops the ticker thread and with it every session on the wheel: the
+ * wheel stops accepting work and {@link #shared()} starts a new one.
+ *
+ * <p>Space Complexity: O(w + n) where w is the wheel size and n the number of pending timeouts
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class TimerWheel {
+
+    /**
+     * Default tick length. Pomodoro ticks are one second apart, so 100 ms keeps
+     * the scheduling error well below the display resolution.
+     */
+    public static final long DEFAULT_TICK_MILLIS = 100;
+
+    /**
+     * Default number of buckets; 512 buckets of 100 ms cover about 51 seconds per turn.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private static final int ST_INIT = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private static TimerWheel sharedInstance;
+
+    /**
+     * Handle for a task scheduled on the wheel.
+     */
+    public final class Timeout {
+        private final Runnable task;
+        private final long periodNanos;
+        private long deadline; // relative to startTime
+        private long remainingRounds;
+        volatile int state = ST_INIT;
+
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        Timeout(Runnable task, long deadline, long periodNanos) {
+            this.task = task;
+            this.deadline = deadline;
+            this.periodNanos = periodNanos;
+        }
+
+        /**
+         * Cancels this timeout. A periodic timeout stops re-arming.
+         *
+         * @return true if the timeout was pending and is now cancelled
+         */
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            cancelledTimeouts.add(this);
+            PENDING_UPDATER.decrementAndGet(TimerWheel.this);
+            return true;
+        }
+
+        /**
+         * Checks if this timeout was cancelled.
+         *
+         * @return true if cancelled
+         */
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        /**
+         * Checks if this one-shot timeout has already run.
+         *
+         * @return true if expired
+         */
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        boolean isPeriodic() {
+            return periodNanos > 0;
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts hashed to the same slot.
+     */
+    private final class Bucket {
+        Timeout head;
+        Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        Timeout remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        /**
+         * Runs every timeout in this bucket whose rounds are used up.
+         * Periodic timeouts are collected into {@code rearm} so they are not
+         * revisited while the bucket is being walked.
+         */
+        Timeout expire(long currentDeadline, Timeout rearm) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.state != ST_INIT) {
+                        timeout = next;
+                        continue;
+                    }
+                    if (timeout.deadline <= currentDeadline) {
+                        runTask(timeout);
+                        if (timeout.isPeriodic() && timeout.state == ST_INIT) {
+                            timeout.deadline += timeout.periodNanos;
+                            timeout.next = rearm;
+                            rearm = timeout;
+                        } else if (STATE_UPDATER.compareAndSet(timeout, ST_INIT, ST_EXPIRED)) {
+                            PENDING_UPDATER.decrementAndGet(TimerWheel.this);
+                        }
+                    } else {
+                        // Not due yet (placed from a late tick); put it back on the wheel
+                        timeout.next = rearm;
+                        rearm = timeout;
+                    }
+                } else if (timeout.state == ST_CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+            return rearm;
+        }
+    }
+
+    private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+    private static final AtomicIntegerFieldUpdater<TimerWheel> PENDING_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(TimerWheel.class, "pending");
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread workerThread;
+    private final long startTime;
+    private volatile boolean running;
+    volatile int pending;
+    private long tick;
+
+    /**
+     * Constructs a timing wheel with default tick length and wheel size.
+     */
+    public TimerWheel() {
+        this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * Constructs a timing wheel.
+     *
+     * @param tickDuration length of one tick
+     * @param unit unit of {@code tickDuration}
+     * @param wheelSize number of buckets, rounded up to a power of two
+     * @throws IllegalArgumentException if tick duration or wheel size is not positive
+     */
+    public TimerWheel(long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wheel size must be in (0, 2^30]");
+        }
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+        this.running = true;
+        this.workerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                workerLoop();
+            }
+        }, "pomodoro-timer-wheel");
+        this.workerThread.setDaemon(true);
+        this.workerThread.start();
+    }
+
+    /**
+     * Returns the process-wide wheel shared by all timers that do not bring their own.
+     *
+     * @return the shared timing wheel
+     */
+    public static synchronized TimerWheel shared() {
+        if (sharedInstance == null || !sharedInstance.running) {
+            sharedInstance = new TimerWheel();
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * Schedules a one-shot task.
+     *
+     * @param task the task to run on the ticker thread
+     * @param delay delay before running
+     * @param unit unit of {@code delay}
+     * @return handle that can cancel the task
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return enqueue(task, unit.toNanos(delay), 0);
+    }
+
+    /**
+     * Schedules a task to run repeatedly at a fixed rate. Each deadline is derived
+     * from the previous deadline, not from when the task actually ran, so late
+     * ticks do not accumulate drift.
+     *
+     * @param task the task to run on the ticker thread
+     * @param initialDelay delay before the first run
+     * @param period interval between runs
+     * @param unit unit of {@code initialDelay} and {@code period}
+     * @return handle that can cancel the task
+     * @throws IllegalArgumentException if period is not positive
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        return enqueue(task, unit.toNanos(initialDelay), unit.toNanos(period));
+    }
+
+    private Timeout enqueue(Runnable task, long delayNanos, long periodNanos) {
+        if (task == null) {
+            throw new NullPointerException("Task cannot be null");
+        }
+        if (!running) {
+            throw new IllegalStateException("Timer wheel is stopped");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, delayNanos);
+        Timeout timeout = new Timeout(task, deadline, periodNanos);
+        PENDING_UPDATER.incrementAndGet(this);
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of scheduled timeouts that have not run or been cancelled.
+     * Periodic timeouts count until they are cancelled.
+     *
+     * @return number of pending timeouts
+     */
+    public int pendingTimeouts() {
+        return pending;
+    }
+
+    /**
+     * Returns the tick length.
+     *
+     * @param unit unit to convert to
+     * @return tick length in {@code unit}
+     */
+    public long getTickDuration(TimeUnit unit) {
+        return unit.convert(tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Checks if the ticker thread is still accepting work.
+     *
+     * @return true if running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops the ticker thread. Pending timeouts are dropped.
+     */
+    public void stop() {
+        running = false;
+        workerThread.interrupt();
+        if (Thread.currentThread() != workerThread) {
+            try {
+                workerThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void workerLoop() {
+        try {
+            tickLoop();
+        } finally {
+            running = false;
+        }
+    }
+
+    private void tickLoop() {
+        while (running) {
+            long currentDeadline = waitForNextTick();
+            if (currentDeadline < 0) {
+                break;
+            }
+            processCancelled();
+            transferNewTimeouts();
+            Timeout rearm = wheel[(int) (tick & mask)].expire(currentDeadline, null);
+            tick++;
+            while (rearm != null) {
+                Timeout next = rearm.next;
+                rearm.next = null;
+                place(rearm);
+                rearm = next;
+            }
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepNanos = deadline - currentTime;
+            if (sleepNanos <= 0) {
+                return currentTime;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void processCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferNewTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = newTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.state == ST_INIT) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long calculated = timeout.deadline / tickNanos;
+        timeout.remainingRounds = (calculated - tick) / wheel.length;
+        long ticks = Math.max(calculated, tick); // never schedule into the past
+        wheel[(int) (ticks & mask)].add(timeout);
+    }
+
+    private void runTask(Timeout timeout) {
+        try {
+            timeout.task.run();
+        } catch (RuntimeException e) {
+            // A failing task must not stop the shared ticker for every other session
+            System.err.println("Timer wheel task failed: " + e);
+            e.printStackTrace();
+        }
+    }
+}
@@ -6,6 +6,13 @@ import javax.swing.event.ListSelectionListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 
 /**
  * Pomodoro Timer Ana Uygulama
@@ -41,17 +48,20 @@ import java.awt.event.ActionListener;
 public class pomodorotimerApp extends JFrame implements PomodoroTimerListener {
     
     private PomodoroTimer timer;
+    private PomodoroEventDispatcher eventDispatcher; // Olayları timer thread'inden ayırır
     
     // Data Structures - Algoritmalar proje içinde kullanılıyor
     private DoubleLinkedList<Task> taskHistory; // Görev geçmişi (browser history gibi)
     private Stack<String> undoStack; // Undo işlemleri
     private Queue<Task> taskQueue; // Görev kuyruğu
     private MinHeap priorityQueue; // Öncelikli görevler
-    private HashTable<String, Task> taskDatabase; // Görev arama (key-value database)
-    private BPlusTree taskIndex; // Görev indeksleme
+    private ConcurrentHashTable<String, Task> taskDatabase; // Görev arama (timer, EDT ve arka plan thread'leri paylaşır)
+    private ConcurrentBPlusTree taskIndex; // Görev indeksleme (arama ve içe aktarma aynı anda erişir)
     private Graph taskDependencies; // Görev bağımlılıkları
     private FileOperations taskStorage; // Görev kaydetme
+    private TaskWriteAheadLog taskLog; // Görev değişikliklerinin kalıcı kaydı (WAL)
     private int taskCounter = 1;
+    private boolean storageClosed;
     
     // UI Bileşenleri
     private JLabel timeLabel;
@@ -71,12 +81,21 @@ public class pomodorotimerApp extends JFrame implements PomodoroTimerListener {
     
     public pomodorotimerApp() {
         timer = new PomodoroTimer();
-        timer.setListener(this);
+        // Süre bitiş zamanından hesaplanır; ekrandaki sayaç için saniyede bir onTick açıkça istenir
+        timer.setTickless(true);
+        timer.setTickInterval(1);
+        // Yavaş bir listener (ör. modal dialog) timer'ı bekletmesin diye olaylar kuyruktan iletilir
+        eventDispatcher = new PomodoroEventDispatcher();
+        eventDispatcher.addListener(this);
+        timer.setListener(eventDispatcher);
         
         // Data Structures başlatılıyor
         initializeDataStructures();
         
         initializeUI();
+        
+        // Önceki oturumların görevlerini WAL'dan geri yükle
+        restoreTasks();
     }
     
     /**
@@ -87,10 +106,96 @@ public class pomodorotimerApp extends JFrame implements PomodoroTimerListener {
         undoStack = new Stack<>(); // Stack - Undo işlemleri
         taskQueue = new Queue<>(); // Queue - Görev kuyruğu
         priorityQueue = new MinHeap(); // MinHeap - Öncelikli görevler
-        taskDatabase = new HashTable<>(); // Hash Table - Görev arama
-        taskIndex = new BPlusTree(); // B+ Tree - Görev indeksleme
+        taskDatabase = new ConcurrentHashTable<>(); // Hash Table (eşzamanlı) - Görev arama
+        taskIndex = new ConcurrentBPlusTree(); // B+ Tree (eşzamanlı) - Görev indeksleme
         taskDependencies = new Graph(100); // Graph - Görev bağımlılıkları (max 100 görev)
-        taskStorage = new FileOperations(); // File Operations - Görev kaydetme
+        taskStorage = openTaskStorage(); // File Operations - Görev kaydetme (kalıcı)
+        taskCounter = taskStorage.size() + 1; // Önceki oturumların görev ID'leri ezilmesin
+    }
+    
+    /**
+     * Görev deposunu kullanıcı dizinindeki memory-mapped dosyadan açar.
+     * Dosya açılamazsa bellek içi tabloya geri döner.
+     */
+    private static FileOperations openTaskStorage() {
+        Path file = dataDirectory().resolve("tasks.db");
+        try {
+            Files.createDirectories(file.getParent());
+            return new FileOperations(file);
+        } catch (IOException e) {
+            System.err.println("Görev deposu açılamadı, bellek içi mod kullanılıyor: " + e.getMessage());
+            return new FileOperations();
+        }
+    }
+    
+    private static Path dataDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".pomodorotimer");
+    }
+    
+    /**
+     * WAL'ı açar ve kayıtlı görevleri tüm veri yapılarına yeniden yükler.
+     * Kayıtlar 16'lık gruplar halinde ya da en geç 50 ms içinde diske yazılır.
+     */
+    private void restoreTasks() {
+        try {
+            Files.createDirectories(dataDirectory());
+            taskLog = new TaskWriteAheadLog(dataDirectory().resolve("tasks.wal"), 16, 50);
+            List<Task> tasks = taskLog.replay();
+            for (Task task : tasks) {
+                taskHistory.addLast(task);
+                taskDatabase.put(task.getId(), task);
+                // addTask ile aynı anahtar: görev ID'sindeki numara (TASKn)
+                int number = taskNumber(task.getId());
+                if (number > 0) {
+                    taskIndex.insert(number, task.getName());
+                    taskCounter = Math.max(taskCounter, number + 1);
+                }
+                taskQueue.enqueue(task);
+                priorityQueue.insert(task.getPriority());
+                taskListModel.addElement(task.toString());
+            }
+        } catch (IOException e) {
+            // Günlük olmadan da uygulama çalışır, sadece değişiklikler kalıcı olmaz
+            System.err.println("Görev günlüğü açılamadı: " + e.getMessage());
+            taskLog = null;
+        }
+    }
+    
+    /**
+     * "TASKn" biçimindeki görev ID'sinden n'i döndürür, biçim farklıysa -1
+     */
+    private static int taskNumber(String taskId) {
+        if (taskId == null || !taskId.startsWith("TASK")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(taskId.substring(4));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * WAL'daki bekleyen kayıtları diske yazar ve görev deposunu kapatır.
+     * Hem pencere kapanırken hem de JVM kapanış kancasından çağrılır; ikinci çağrı bir şey yapmaz.
+     */
+    private synchronized void closeStorage() {
+        if (storageClosed) {
+            return;
+        }
+        storageClosed = true;
+        try {
+            if (taskLog != null) {
+                taskLog.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Görev günlüğü kapatılamadı: " + e.getMessage());
+        }
+        try {
+            taskStorage.close();
+        } catch (IOException e) {
+            System.err.println("Görev deposu kapatılamadı: " + e.getMessage());
+        }
     }
     
     /**
@@ -99,6 +204,19 @@ public class pomodorotimerApp extends JFrame implements PomodoroTimerListener {
     private void initializeUI() {
         setTitle("Pomodoro Timer - Data Structures Integrated");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        // Son grup commit penceresi ve zorlanmamış mapped yazımlar kaybolmasın
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                closeStorage();
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                closeStorage();
+            }
+        }, "pomodoro-storage-close"));
         setLayout(new BorderLayout());
         setSize(800, 900);
         setLocationRelativeTo(null);
@@ -333,6 +451,11 @@ public class pomodorotimerApp extends JFrame implements PomodoroTimerListener {
         // File Operations ile kaydet
         taskStorage.put(taskId, taskName);
         
+        // WAL'a yaz (kalıcılık)
+        if (taskLog != null) {
+            taskLog.logAdd(task);
+        }
+        
         // UI'ı güncelle
         taskListModel.addElement(task.toString());
         taskNameField.setText("");
@@ -489,6 +612,9 @@ public class pomodorotimerApp extends JFrame implements PomodoroTimerListener {
                 if (!taskHistory.isEmpty()) {
                     Task currentTask = taskHistory.getLast();
                     currentTask.incrementCompletedPomodoros();
+                    if (taskLog != null) {
+                        taskLog.logPomodoroCompleted(currentTask.getId());
+                    }
                     // Hash Table'ı güncelle
                     taskDatabase.put(currentTask.getId(), currentTask);
                 }
@@ -0,0 +1,155 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH sweep of BPlusTree order from 4 to 256 at 1e5 to 1e7 keys, used to pick
+ * {@code BPlusTree.DEFAULT_ORDER}. Each search or insert invocation handles one
+ * random key; rangeQuery returns 100 values and cursorScan walks the same 100
+ * entries without building a list. TreeMap is the reference point.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main BPlusTreeBenchmark"
+ * </pre>
+ * Add {@code -p size=1000000} to sweep a single size.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class BPlusTreeBenchmark {
+
+    @Param({"4", "8", "16", "32", "64", "128", "256"})
+    public int order;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int size;
+
+    private static final int LOOKUPS = 1 << 16;
+    private static final int RANGE_WIDTH = 100;
+
+    private int[] keys;
+    private String[] values;
+    private int[] lookupKeys;
+    private int[] insertKeys;
+    private int position;
+
+    private BPlusTree tree;
+    private BPlusTree.Cursor cursor;
+    private TreeMap<Integer, String> treeMap;
+
+    /**
+     * Creates even keys for the tree and random probes; inserts use odd keys
+     * so every insert adds an entry.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new int[size];
+        values = new String[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i * 2;
+            values[i] = "TASK" + i;
+        }
+        Random random = new Random(42);
+        lookupKeys = new int[LOOKUPS];
+        insertKeys = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupKeys[i] = random.nextInt(size) * 2;
+            insertKeys[i] = random.nextInt(size) * 2 + 1;
+        }
+        if (order == 4) {
+            treeMap = new TreeMap<>();
+            for (int i = 0; i < size; i++) {
+                treeMap.put(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the tree so inserts from the previous iteration do not accumulate.
+     * Leaves are filled to 70%, about what random inserts leave behind.
+     */
+    @Setup(Level.Iteration)
+    public void buildTree() {
+        tree = new BPlusTree(order);
+        tree.bulkLoad(keys, values, 0.7);
+        cursor = tree.cursor();
+    }
+
+    private int next(int[] source) {
+        int key = source[position];
+        position = (position + 1) & (LOOKUPS - 1);
+        return key;
+    }
+
+    /**
+     * Point lookup of a present key.
+     */
+    @Benchmark
+    public String search() {
+        return tree.search(next(lookupKeys));
+    }
+
+    /**
+     * Insert of a new key, splitting nodes as they fill.
+     */
+    @Benchmark
+    public BPlusTree insert() {
+        tree.insert(next(insertKeys), "new");
+        return tree;
+    }
+
+    /**
+     * Range scan returning {@value #RANGE_WIDTH} values.
+     */
+    @Benchmark
+    public List<String> rangeQuery() {
+        int from = next(lookupKeys);
+        return tree.rangeQuery(from, from + RANGE_WIDTH * 2 - 1);
+    }
+
+    /**
+     * Cursor walk over {@value #RANGE_WIDTH} entries; allocates nothing.
+     */
+    @Benchmark
+    public long cursorScan() {
+        long sum = 0;
+        int remaining = RANGE_WIDTH;
+        for (boolean ok = cursor.seek(next(lookupKeys)); ok && remaining > 0; ok = cursor.next()) {
+            sum += cursor.key() + cursor.value().length();
+            remaining--;
+        }
+        return sum;
+    }
+
+    /**
+     * TreeMap lookup of a present key; measured once per size.
+     */
+    @Benchmark
+    public String searchTreeMap() {
+        return treeMap == null ? null : treeMap.get(next(lookupKeys));
+    }
+}
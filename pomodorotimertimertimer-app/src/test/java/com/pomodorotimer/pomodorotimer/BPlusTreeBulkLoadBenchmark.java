@@ -0,0 +1,71 @@
+package com.pomodorotimer.pomodorotimer;
+
+/**
+ * Build time of a BPlusTree from sorted keys: one insert per key against
+ * {@link BPlusTree#bulkLoad(int[], String[], double)}. Both trees are probed
+ * afterwards so a build that drops keys does not look fast.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.BPlusTreeBulkLoadBenchmark \
+ *     -Dexec.args="[keys] [order] [fillFactor]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class BPlusTreeBulkLoadBenchmark {
+
+    private static final int ROUNDS = 3;
+
+    private BPlusTreeBulkLoadBenchmark() {
+    }
+
+    /**
+     * Times both build paths over the same sorted input.
+     *
+     * @param args optional key count, tree order and fill factor
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int order = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        double fillFactor = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+
+        int[] keys = new int[n];
+        String[] values = new String[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i * 2;
+            values[i] = "Task " + i;
+        }
+        System.out.printf("%,d sorted keys, order %d, fill factor %.2f%n", n, order, fillFactor);
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            BPlusTree inserted = new BPlusTree(order);
+            for (int i = 0; i < n; i++) {
+                inserted.insert(keys[i], values[i]);
+            }
+            long insertNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            BPlusTree loaded = new BPlusTree(order);
+            loaded.bulkLoad(keys, values, fillFactor);
+            long bulkNanos = System.nanoTime() - start;
+
+            check(inserted, keys, values);
+            check(loaded, keys, values);
+            System.out.printf("round %d: insert %.2f s (height %d), bulkLoad %.2f s (height %d), speedup %.1fx%n",
+                round, insertNanos / 1e9, inserted.getHeight(), bulkNanos / 1e9, loaded.getHeight(),
+                (double) insertNanos / bulkNanos);
+        }
+    }
+
+    private static void check(BPlusTree tree, int[] keys, String[] values) {
+        for (int i = 0; i < keys.length; i += Math.max(1, keys.length / 1000)) {
+            if (!values[i].equals(tree.search(keys[i]))) {
+                throw new IllegalStateException("Missing key " + keys[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Random;
+
+/**
+ * Index size and lookup latency of the int-only BPlusTree against
+ * ByteKeyBPlusTree with (int, int), composite (int, long) and task-name keys. Heap size is measured
+ * as the used-heap growth after a full GC, so run it with a fixed -Xmx and
+ * nothing else on the JVM.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.BPlusTreeKeyBenchmark \
+ *     -Dexec.args="[keys]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class BPlusTreeKeyBenchmark {
+
+    private static final int LOOKUPS = 2_000_000;
+    private static final String VALUE = "TASK";
+
+    private BPlusTreeKeyBenchmark() {
+    }
+
+    /**
+     * Builds each index over the same number of keys and times random lookups.
+     *
+     * @param args optional key count
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(42);
+        int[] probes = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            probes[i] = random.nextInt(n);
+        }
+        System.out.printf("%,d keys, %,d lookups%n", n, LOOKUPS);
+
+        long base = usedHeap();
+        BPlusTree intTree = new BPlusTree();
+        for (int i = 0; i < n; i++) {
+            intTree.insert(i, VALUE);
+        }
+        long intHeap = usedHeap() - base;
+        long start = System.nanoTime();
+        int found = 0;
+        for (int probe : probes) {
+            found += intTree.search(probe) != null ? 1 : 0;
+        }
+        report("BPlusTree int", intHeap, n, System.nanoTime() - start, found);
+        intTree = null;
+
+        byte[][] pairKeys = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            pairKeys[i] = ByteKeys.of(i % 1000, i / 1000);
+        }
+        runByteKeys("ByteKeyBPlusTree (user, minute)", pairKeys, probes);
+        pairKeys = null;
+
+        byte[][] compositeKeys = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            compositeKeys[i] = ByteKeys.of(i % 1000, 1_760_000_000_000L + i / 1000 * 60_000L);
+        }
+        runByteKeys("ByteKeyBPlusTree (user, time)", compositeKeys, probes);
+        compositeKeys = null;
+
+        byte[][] nameKeys = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            nameKeys[i] = ByteKeys.of("user-" + (i % 1000) + "/pomodoro/task-" + i);
+        }
+        runByteKeys("ByteKeyBPlusTree task names", nameKeys, probes);
+    }
+
+    private static void runByteKeys(String label, byte[][] keys, int[] probes) {
+        long rawBytes = 0;
+        for (byte[] key : keys) {
+            rawBytes += key.length;
+        }
+        long base = usedHeap();
+        ByteKeyBPlusTree tree = new ByteKeyBPlusTree();
+        for (byte[] key : keys) {
+            tree.insert(key, VALUE);
+        }
+        long heap = usedHeap() - base;
+        long start = System.nanoTime();
+        int found = 0;
+        for (int probe : probes) {
+            found += tree.search(keys[probe]) != null ? 1 : 0;
+        }
+        report(label, heap, keys.length, System.nanoTime() - start, found);
+        System.out.printf("    key bytes: %,d stored of %,d uncompressed (%.1f%%), input keys %,d bytes%n",
+            tree.getStoredKeyBytes(), tree.getRawKeyBytes(),
+            100.0 * tree.getStoredKeyBytes() / tree.getRawKeyBytes(), rawBytes);
+    }
+
+    private static void report(String label, long heapBytes, int keys, long nanos, int found) {
+        System.out.printf("%-32s heap %6.1f MB (%5.1f B/key), lookup %6.0f ns, %d found%n", label,
+            heapBytes / 1048576.0, (double) heapBytes / keys, (double) nanos / LOOKUPS, found);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -4,8 +4,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.lang.management.ManagementFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
 
 /**
  * Unit tests for BPlusTree implementation.
@@ -124,6 +133,280 @@ class BPlusTreeTest {
         List<String> result = tree.rangeQuery(1, 5);
         assertEquals(5, result.size());
     }
+    
+    @Test
+    @DisplayName("Test splits propagate above the root")
+    void testDeepInsertsStaySearchable() {
+        tree = new BPlusTree(4);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(100000);
+            expected.put(key, "v" + key);
+            tree.insert(key, "v" + key);
+        }
+        assertTrue(tree.isBalanced());
+        assertTrue(tree.getHeight() > 3);
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), tree.search(entry.getKey()));
+        }
+        assertEquals(new ArrayList<>(expected.subMap(500, true, 5000, true).values()),
+            tree.rangeQuery(500, 5000));
+    }
+    
+    @Test
+    @DisplayName("Test bulk load matches inserted tree")
+    void testBulkLoad() {
+        for (int order : new int[] {3, 4, 7, 64}) {
+            for (int n : new int[] {0, 1, 2, 5, 17, 1000, 12345}) {
+                int[] keys = new int[n];
+                String[] values = new String[n];
+                for (int i = 0; i < n; i++) {
+                    keys[i] = i * 3 - 100;
+                    values[i] = "v" + keys[i];
+                }
+                BPlusTree loaded = new BPlusTree(order);
+                loaded.insert(999999, "replaced");
+                loaded.bulkLoad(keys, values);
+                assertTrue(loaded.isBalanced());
+                assertNull(loaded.search(999999));
+                for (int i = 0; i < n; i++) {
+                    assertEquals(values[i], loaded.search(keys[i]));
+                    assertNull(loaded.search(keys[i] + 1));
+                }
+                assertEquals(n, loaded.rangeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE).size());
+                
+                // Inserting after a bulk load splits packed leaves correctly
+                loaded.insert(-50, "new");
+                assertEquals("new", loaded.search(-50));
+                assertTrue(loaded.isBalanced());
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test fill factor leaves room in each leaf")
+    void testFillFactor() {
+        int n = 10000;
+        int[] keys = new int[n];
+        String[] values = new String[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i;
+            values[i] = "v" + i;
+        }
+        BPlusTree full = new BPlusTree(32);
+        full.bulkLoad(keys, values);
+        BPlusTree half = new BPlusTree(32);
+        half.bulkLoad(keys, values, 0.5);
+        assertTrue(half.getHeight() >= full.getHeight());
+        assertEquals(3, full.getHeight());
+        for (int i = 0; i < n; i += 97) {
+            assertEquals("v" + i, half.search(i));
+        }
+        assertEquals(101, half.rangeQuery(4000, 4100).size());
+    }
+    
+    @Test
+    @DisplayName("Test streaming builder")
+    void testBuilder() {
+        BPlusTree.Builder builder = new BPlusTree.Builder(5, 0.75);
+        for (int i = 0; i < 500; i++) {
+            builder.add(i * 2, "t" + i);
+        }
+        BPlusTree built = builder.build();
+        assertTrue(built.isBalanced());
+        assertEquals("t250", built.search(500));
+        assertNull(built.search(501));
+        assertEquals(6, built.rangeQuery(10, 20).size());
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.add(5000, "late"));
+    }
+    
+    @Test
+    @DisplayName("Test builder keeps the last internal nodes at least half full at order 3")
+    void testBuilderTailParents() {
+        for (double fillFactor : new double[] {0.5, 1.0}) {
+            for (int size = 1; size <= 200; size++) {
+                BPlusTree.Builder builder = new BPlusTree.Builder(3, fillFactor);
+                for (int i = 0; i < size; i++) {
+                    builder.add(i, "t" + i);
+                }
+                BPlusTree built = builder.build();
+                assertTrue(built.isBalanced());
+                assertTrue(built.minInternalChildren() >= 2, "size " + size + ", fill " + fillFactor);
+                assertEquals(size, built.rangeQuery(0, size).size());
+                assertEquals("t" + (size - 1), built.search(size - 1));
+            }
+        }
+        for (int size = 1; size <= 64 * 64 * 3; size += 61) {
+            BPlusTree.Builder builder = new BPlusTree.Builder(64, 1.0);
+            for (int i = 0; i < size; i++) {
+                builder.add(i, "t" + i);
+            }
+            BPlusTree built = builder.build();
+            assertTrue(built.minInternalChildren() >= 32, "size " + size);
+            assertEquals(size, built.rangeQuery(0, size).size());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test bulk load rejects unsorted input and bad arguments")
+    void testBulkLoadInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+            () -> tree.bulkLoad(new int[] {1, 3, 2}, new String[] {"a", "b", "c"}));
+        assertThrows(IllegalArgumentException.class,
+            () -> tree.bulkLoad(new int[] {1, 1}, new String[] {"a", "b"}));
+        assertThrows(IllegalArgumentException.class,
+            () -> tree.bulkLoad(new int[] {1}, new String[0]));
+        assertThrows(IllegalArgumentException.class,
+            () -> tree.bulkLoad(new int[0], new String[0], 0));
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTree.Builder(2, 1.0));
+    }
+    
+    @Test
+    @DisplayName("Test linear and binary in-node search agree with Arrays.binarySearch")
+    void testNodeSearch() {
+        Random random = new Random(5);
+        for (int count = 0; count <= 3 * BPlusTree.LINEAR_SEARCH_MAX; count++) {
+            int[] keys = new int[count + 4];
+            for (int i = 0; i < count; i++) {
+                keys[i] = (i == 0 ? Integer.MIN_VALUE + 1 : keys[i - 1]) + 1 + random.nextInt(3);
+            }
+            keys[count] = 42; // garbage past count must be ignored
+            for (int probe = 0; probe < 50; probe++) {
+                int key = count == 0 || probe == 0 ? Integer.MAX_VALUE
+                    : keys[random.nextInt(count)] + random.nextInt(3) - 1;
+                int found = Arrays.binarySearch(keys, 0, count, key);
+                int lower = found >= 0 ? found : -(found + 1);
+                assertEquals(lower, BPlusTree.lowerBound(keys, count, key));
+                assertEquals(found >= 0 ? found + 1 : lower, BPlusTree.upperBound(keys, count, key));
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test every order from 3 to 256 matches TreeMap")
+    void testOrders() {
+        for (int order : new int[] {3, 4, 5, 8, 16, 33, 34, 64, 65, 128, 256}) {
+            BPlusTree ordered = new BPlusTree(order);
+            TreeMap<Integer, String> expected = new TreeMap<>();
+            Random random = new Random(order);
+            for (int i = 0; i < 30000; i++) {
+                int key = random.nextInt();
+                expected.put(key, "v" + i);
+                ordered.insert(key, "v" + i);
+            }
+            ordered.insert(Integer.MAX_VALUE, "max");
+            ordered.insert(Integer.MIN_VALUE, "min");
+            expected.put(Integer.MAX_VALUE, "max");
+            expected.put(Integer.MIN_VALUE, "min");
+            assertTrue(ordered.isBalanced());
+            for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), ordered.search(entry.getKey()));
+            }
+            assertEquals(expected.size(), ordered.rangeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE).size());
+            assertEquals(new ArrayList<>(expected.subMap(-1 << 28, true, 1 << 28, true).values()),
+                ordered.rangeQuery(-1 << 28, 1 << 28));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTree(2));
+    }
+    
+    @Test
+    @DisplayName("Test cursor forward and reverse scans match TreeMap")
+    void testCursorScans() {
+        for (int order : new int[] {3, 8, 64}) {
+            BPlusTree ordered = new BPlusTree(order);
+            TreeMap<Integer, String> expected = new TreeMap<>();
+            Random random = new Random(order);
+            for (int i = 0; i < 5000; i++) {
+                int key = random.nextInt(20000);
+                expected.put(key, "v" + key);
+                ordered.insert(key, "v" + key);
+            }
+            BPlusTree.Cursor cursor = ordered.cursor();
+            for (int start : new int[] {-5, 0, 777, 10001, 19999, 25000}) {
+                List<Integer> forward = new ArrayList<>();
+                for (boolean ok = cursor.seek(start); ok && forward.size() < 300; ok = cursor.next()) {
+                    assertEquals("v" + cursor.key(), cursor.value());
+                    forward.add(cursor.key());
+                }
+                List<Integer> expectedForward = new ArrayList<>(expected.tailMap(start, true).keySet());
+                assertEquals(expectedForward.subList(0, Math.min(300, expectedForward.size())), forward);
+                
+                List<Integer> reverse = new ArrayList<>();
+                for (boolean ok = cursor.seekFloor(start); ok; ok = cursor.previous()) {
+                    reverse.add(cursor.key());
+                }
+                assertEquals(new ArrayList<>(expected.headMap(start, true).descendingKeySet()), reverse);
+            }
+            assertTrue(cursor.last());
+            assertEquals((int) expected.lastKey(), cursor.key());
+            assertFalse(cursor.next());
+            assertFalse(cursor.isValid());
+            assertTrue(cursor.first());
+            assertEquals((int) expected.firstKey(), cursor.key());
+            assertFalse(cursor.previous());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test cursor on empty tree and after modification")
+    void testCursorStates() {
+        BPlusTree.Cursor cursor = tree.cursor();
+        assertFalse(cursor.isValid());
+        assertThrows(IllegalStateException.class, cursor::key);
+        assertFalse(cursor.first());
+        assertFalse(cursor.seekFloor(10));
+        assertFalse(cursor.next());
+        
+        tree.insert(1, "one");
+        tree.insert(2, "two");
+        assertTrue(cursor.seek(1));
+        tree.insert(1, "ONE"); // value update keeps the cursor valid
+        assertEquals("ONE", cursor.value());
+        tree.insert(3, "three");
+        assertThrows(ConcurrentModificationException.class, cursor::next);
+        assertTrue(cursor.seek(2));
+        assertTrue(cursor.next());
+        assertEquals(3, cursor.key());
+        cursor.prefetch(true);
+    }
+    
+    @Test
+    @DisplayName("Test cursor scan does not allocate per element")
+    void testCursorDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        
+        int n = 200000;
+        int[] keys = new int[n];
+        String[] values = new String[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = i;
+            values[i] = "v" + i;
+        }
+        tree.bulkLoad(keys, values);
+        BPlusTree.Cursor cursor = tree.cursor();
+        long checksum = scan(cursor);
+        
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int round = 0; round < 10; round++) {
+            checksum += scan(cursor);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertEquals(11L * n * (n - 1) / 2 + 11L * n, checksum);
+        assertTrue(allocated < 64 * 1024, "allocated " + allocated + " bytes for " + 10 * n + " steps");
+    }
+    
+    private static long scan(BPlusTree.Cursor cursor) {
+        long sum = 0;
+        for (boolean ok = cursor.first(); ok; ok = cursor.next()) {
+            sum += cursor.key() + (cursor.value().isEmpty() ? 0 : 1);
+        }
+        return sum;
+    }
 }
-
-
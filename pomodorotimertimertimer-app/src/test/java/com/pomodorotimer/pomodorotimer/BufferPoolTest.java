@@ -0,0 +1,116 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for BufferPool implementation.
+ * Tests caching, Clock eviction with write-back, and pinning.
+ */
+@DisplayName("BufferPool Tests")
+class BufferPoolTest {
+
+    private static final int PAGE_SIZE = 128;
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("pages.db");
+    }
+
+    @Test
+    @DisplayName("Test dirty pages are written back on eviction and flush")
+    void testWriteBack() throws IOException {
+        try (BufferPool pool = new BufferPool(file, PAGE_SIZE, 2)) {
+            for (int i = 0; i < 10; i++) {
+                BufferPool.Frame frame = pool.allocate();
+                assertEquals(i, frame.pageId);
+                frame.buffer.putInt(0, i * 100);
+                pool.unpin(frame, true);
+            }
+            assertEquals(10, pool.getPageCount());
+            assertTrue(pool.getEvictionCount() >= 8);
+            for (int i = 0; i < 10; i++) {
+                BufferPool.Frame frame = pool.pin(i);
+                assertEquals(i * 100, frame.buffer.getInt(0));
+                pool.unpin(frame, false);
+            }
+        }
+        assertEquals(10 * PAGE_SIZE, Files.size(file));
+
+        try (BufferPool reopened = new BufferPool(file, PAGE_SIZE, 2)) {
+            assertEquals(10, reopened.getPageCount());
+            BufferPool.Frame frame = reopened.pin(7);
+            assertEquals(700, frame.buffer.getInt(0));
+            reopened.unpin(frame, false);
+        }
+    }
+
+    @Test
+    @DisplayName("Test hits, misses and second chance")
+    void testClockReplacement() throws IOException {
+        try (BufferPool pool = new BufferPool(file, PAGE_SIZE, 3)) {
+            for (int i = 0; i < 4; i++) {
+                pool.unpin(pool.allocate(), true);
+            }
+            long misses = pool.getMissCount();
+            BufferPool.Frame frame = pool.pin(3); // still cached
+            pool.unpin(frame, false);
+            assertEquals(misses, pool.getMissCount());
+            assertEquals(1, pool.getHitCount());
+
+            frame = pool.pin(0); // evicted earlier
+            pool.unpin(frame, false);
+            assertEquals(misses + 1, pool.getMissCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Test pinned pages are never evicted")
+    void testPinning() throws IOException {
+        try (BufferPool pool = new BufferPool(file, PAGE_SIZE, 2)) {
+            BufferPool.Frame first = pool.allocate();
+            BufferPool.Frame second = pool.allocate();
+            assertThrows(IllegalStateException.class, pool::allocate);
+
+            pool.unpin(second, true);
+            BufferPool.Frame third = pool.allocate();
+            assertSame(second, third);
+            assertEquals(0, first.pageId);
+            pool.unpin(first, true);
+            pool.unpin(third, true);
+            assertThrows(IllegalStateException.class, () -> pool.unpin(third, false));
+            assertThrows(IllegalArgumentException.class, () -> pool.pin(99));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BufferPool(file, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Test a failed allocation leaves the page count unchanged")
+    void testFailedAllocate() throws IOException {
+        try (BufferPool pool = new BufferPool(file, PAGE_SIZE, 2)) {
+            BufferPool.Frame first = pool.allocate();
+            BufferPool.Frame second = pool.allocate();
+            assertEquals(2, pool.getPageCount());
+            assertThrows(IllegalStateException.class, pool::allocate);
+            assertEquals(2, pool.getPageCount());
+            assertThrows(IllegalArgumentException.class, () -> pool.pin(2));
+
+            pool.unpin(second, true);
+            assertEquals(2, pool.allocate().pageId);
+            assertEquals(3, pool.getPageCount());
+            pool.unpin(first, true);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Unit tests for ByteKeyBPlusTree implementation.
+ * Tests String and composite keys against TreeMap, prefix queries and key compression.
+ */
+@DisplayName("ByteKeyBPlusTree Tests")
+class ByteKeyBPlusTreeTest {
+
+    private ByteKeyBPlusTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new ByteKeyBPlusTree(8);
+    }
+
+    @Test
+    @DisplayName("Test insert, update and search by name")
+    void testInsertAndSearch() {
+        tree.insert("Rapor yaz", "TASK1");
+        tree.insert("Kod incele", "TASK2");
+        tree.insert("", "EMPTY");
+        tree.insert("Rapor", "TASK3");
+        tree.insert("Rapor yaz", "TASK4");
+
+        assertEquals("TASK4", tree.search("Rapor yaz"));
+        assertEquals("TASK3", tree.search("Rapor"));
+        assertEquals("EMPTY", tree.search(""));
+        assertNull(tree.search("Rapo"));
+        assertNull(tree.search("Rapor yazı"));
+        assertEquals(4, tree.size());
+        assertThrows(IllegalArgumentException.class, () -> tree.insert((byte[]) null, "x"));
+        assertThrows(IllegalArgumentException.class, () -> tree.search((String) null));
+    }
+
+    @Test
+    @DisplayName("Test random names with shared prefixes match TreeMap")
+    void testMatchesTreeMap() {
+        for (int order : new int[] {3, 4, 8, 64}) {
+            ByteKeyBPlusTree ordered = new ByteKeyBPlusTree(order);
+            TreeMap<String, String> expected = new TreeMap<>();
+            Random random = new Random(order);
+            for (int i = 0; i < 20000; i++) {
+                String key = randomName(random);
+                expected.put(key, "v" + i);
+                ordered.insert(key, "v" + i);
+            }
+            assertEquals(expected.size(), ordered.size());
+            for (Map.Entry<String, String> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), ordered.search(entry.getKey()));
+                assertNull(ordered.search(entry.getKey() + "\u0000"));
+            }
+            assertEquals(new ArrayList<>(expected.subMap("project-2", true, "project-5/z", true).values()),
+                ordered.rangeQuery("project-2", "project-5/z"));
+            assertEquals(new ArrayList<>(expected.subMap("project-3/", true, "project-3/￿", true).values()),
+                ordered.prefixQuery("project-3/"));
+            assertEquals(expected.size(), ordered.prefixQuery("").size());
+            assertTrue(ordered.prefixQuery("nothing").isEmpty());
+            assertTrue(ordered.rangeQuery("b", "a").isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Test composite (userId, time) keys")
+    void testCompositeKeys() {
+        for (int user = 0; user < 20; user++) {
+            for (long time = 0; time < 200; time++) {
+                tree.insert(ByteKeys.of(user, 1_760_000_000_000L + time * 60_000), user + ":" + time);
+            }
+        }
+        List<String> userRange = tree.rangeQuery(ByteKeys.of(7, Long.MIN_VALUE), ByteKeys.of(7, Long.MAX_VALUE));
+        assertEquals(200, userRange.size());
+        assertEquals("7:0", userRange.get(0));
+        assertEquals("7:199", userRange.get(199));
+        assertEquals(200, tree.prefixQuery(ByteKeys.of(12)).size());
+        assertEquals("3:42", tree.search(ByteKeys.of(3, 1_760_000_000_000L + 42 * 60_000)));
+    }
+
+    @Test
+    @DisplayName("Test long timestamps and (int, int) keys match TreeMap")
+    void testLongKeys() {
+        TreeMap<Long, String> expected = new TreeMap<>();
+        Random random = new Random(8);
+        long now = 1_760_000_000_000L;
+        for (int i = 0; i < 50000; i++) {
+            long key = now + random.nextInt(1 << 30) * 1000L;
+            expected.put(key, "t" + i);
+            tree.insert(ByteKeys.of(key), "t" + i);
+        }
+        for (long key : new long[] {Long.MIN_VALUE, -(1L << 40), Long.MAX_VALUE}) {
+            expected.put(key, "edge" + key);
+            tree.insert(ByteKeys.of(key), "edge" + key);
+        }
+        assertEquals(expected.size(), tree.size());
+        for (Map.Entry<Long, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), tree.search(ByteKeys.of(entry.getKey())));
+        }
+        long from = now + (1L << 38);
+        long to = from + (1L << 34);
+        assertEquals(new ArrayList<>(expected.subMap(from, true, to, true).values()),
+            tree.rangeQuery(ByteKeys.of(from), ByteKeys.of(to)));
+
+        ByteKeyBPlusTree pairs = new ByteKeyBPlusTree(5);
+        for (int user = -2; user <= 2; user++) {
+            for (int time = -50; time < 50; time++) {
+                pairs.insert(ByteKeys.of(user, time), user + "@" + time);
+            }
+        }
+        List<String> range = pairs.rangeQuery(ByteKeys.of(1, Integer.MIN_VALUE), ByteKeys.of(1, Integer.MAX_VALUE));
+        assertEquals(100, range.size());
+        assertEquals("1@-50", range.get(0));
+        assertEquals("1@49", range.get(99));
+        assertEquals("-2@-50", pairs.search(ByteKeys.of(-2, -50)));
+    }
+
+    @Test
+    @DisplayName("Test prefix compression and suffix truncation shrink stored keys")
+    void testCompression() {
+        ByteKeyBPlusTree large = new ByteKeyBPlusTree(64);
+        for (int i = 0; i < 50000; i++) {
+            large.insert(String.format("user-%04d/project-alpha/task-%08d", i % 50, i), "v" + i);
+        }
+        long stored = large.getStoredKeyBytes();
+        long raw = large.getRawKeyBytes();
+        assertTrue(stored * 3 < raw, "stored " + stored + " of " + raw + " raw key bytes");
+        assertEquals(3, large.getHeight());
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder("project-").append(random.nextInt(8)).append('/');
+        int length = random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            name.append((char) ('a' + random.nextInt(3)));
+        }
+        if (random.nextInt(10) == 0) {
+            name.append('ç'); // multi-byte UTF-8
+        }
+        return name.toString();
+    }
+}
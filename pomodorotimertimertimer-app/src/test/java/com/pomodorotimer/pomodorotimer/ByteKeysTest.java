@@ -0,0 +1,63 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Unit tests for ByteKeys encodings.
+ * Tests that byte order matches the natural order of every key type.
+ */
+@DisplayName("ByteKeys Tests")
+class ByteKeysTest {
+
+    @Test
+    @DisplayName("Test int and long encodings preserve signed order")
+    void testNumericOrder() {
+        long[] values = {Long.MIN_VALUE, Integer.MIN_VALUE - 1L, -256, -1, 0, 1, 255, 256,
+            Integer.MAX_VALUE + 1L, Long.MAX_VALUE};
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], ByteKeys.toLong(ByteKeys.of(values[i])));
+            for (int j = 0; j < values.length; j++) {
+                assertEquals(Integer.signum(Long.compare(values[i], values[j])),
+                    Integer.signum(ByteKeys.compare(ByteKeys.of(values[i]), ByteKeys.of(values[j]))));
+            }
+        }
+        Random random = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            int a = random.nextInt();
+            int b = random.nextInt();
+            assertEquals(Integer.signum(Integer.compare(a, b)),
+                Integer.signum(ByteKeys.compare(ByteKeys.of(a), ByteKeys.of(b))));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ByteKeys.toLong(new byte[4]));
+    }
+
+    @Test
+    @DisplayName("Test String encoding sorts by code point and prefixes first")
+    void testStringOrder() {
+        String[] sorted = {"", "a", "ab", "abc", "b", "z", "çay", "ğün", "中"};
+        for (int i = 0; i + 1 < sorted.length; i++) {
+            assertTrue(ByteKeys.compare(ByteKeys.of(sorted[i]), ByteKeys.of(sorted[i + 1])) < 0,
+                sorted[i] + " < " + sorted[i + 1]);
+        }
+        assertEquals(0, ByteKeys.compare(ByteKeys.of("görev"), ByteKeys.of("görev")));
+        assertThrows(IllegalArgumentException.class, () -> ByteKeys.of((String) null));
+    }
+
+    @Test
+    @DisplayName("Test composite keys order by first then second component")
+    void testCompositeOrder() {
+        assertTrue(ByteKeys.compare(ByteKeys.of(1, 500L), ByteKeys.of(2, -500L)) < 0);
+        assertTrue(ByteKeys.compare(ByteKeys.of(-1, Long.MAX_VALUE), ByteKeys.of(0, Long.MIN_VALUE)) < 0);
+        assertTrue(ByteKeys.compare(ByteKeys.of(7, 10L), ByteKeys.of(7, 11L)) < 0);
+        assertTrue(ByteKeys.compare(ByteKeys.of(3L, "zz"), ByteKeys.of(4L, "a")) < 0);
+        assertTrue(ByteKeys.compare(ByteKeys.of(3L, "a"), ByteKeys.of(3L, "ab")) < 0);
+        assertTrue(ByteKeys.compare(ByteKeys.of(-2, Integer.MAX_VALUE), ByteKeys.of(-1, Integer.MIN_VALUE)) < 0);
+        assertTrue(ByteKeys.compare(ByteKeys.of(5, -1), ByteKeys.of(5, 0)) < 0);
+        assertEquals(12, ByteKeys.of(1, 1L).length);
+        assertEquals(8, ByteKeys.of(1, 1).length);
+    }
+}
@@ -0,0 +1,140 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Multi-threaded JMH throughput benchmark for ConcurrentBPlusTree against a
+ * BPlusTree guarded by a read-write lock, for search, insert and a 100-key
+ * rangeQuery at 1 to 32 threads.
+ *
+ * <p>Not part of the unit test run. Start the full thread sweep with:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath com.pomodorotimer.pomodorotimer.ConcurrentBPlusTreeBenchmark"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentBPlusTreeBenchmark {
+
+    private static final int KEY_SPACE = 1 << 22;
+    private static final int RANGE_WIDTH = 100;
+
+    private ConcurrentBPlusTree concurrentTree;
+    private BPlusTree lockedTree;
+    private ReentrantReadWriteLock lock;
+
+    /**
+     * Fills both trees with the even half of the key space; inserts then add
+     * odd keys, so every iteration starts from the same shape.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        concurrentTree = new ConcurrentBPlusTree();
+        lockedTree = new BPlusTree();
+        lock = new ReentrantReadWriteLock();
+        int[] keys = new int[KEY_SPACE / 2];
+        String[] values = new String[KEY_SPACE / 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i * 2;
+            values[i] = "TASK" + i;
+            concurrentTree.insert(keys[i], values[i]);
+        }
+        lockedTree.bulkLoad(keys, values, 0.7);
+    }
+
+    @Benchmark
+    public String concurrentSearch() {
+        return concurrentTree.search(ThreadLocalRandom.current().nextInt(KEY_SPACE));
+    }
+
+    @Benchmark
+    public ConcurrentBPlusTree concurrentInsert() {
+        int key = ThreadLocalRandom.current().nextInt(KEY_SPACE) | 1;
+        concurrentTree.insert(key, "new");
+        return concurrentTree;
+    }
+
+    @Benchmark
+    public List<String> concurrentRangeQuery() {
+        int from = ThreadLocalRandom.current().nextInt(KEY_SPACE);
+        return concurrentTree.rangeQuery(from, from + RANGE_WIDTH * 2 - 1);
+    }
+
+    @Benchmark
+    public String lockedSearch() {
+        int key = ThreadLocalRandom.current().nextInt(KEY_SPACE);
+        lock.readLock().lock();
+        try {
+            return lockedTree.search(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Benchmark
+    public BPlusTree lockedInsert() {
+        int key = ThreadLocalRandom.current().nextInt(KEY_SPACE) | 1;
+        lock.writeLock().lock();
+        try {
+            lockedTree.insert(key, "new");
+            return lockedTree;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Benchmark
+    public List<String> lockedRangeQuery() {
+        int from = ThreadLocalRandom.current().nextInt(KEY_SPACE);
+        lock.readLock().lock();
+        try {
+            return lockedTree.rangeQuery(from, from + RANGE_WIDTH * 2 - 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs the benchmark once per thread count from 1 to 32.
+     *
+     * @param args optional benchmark name filter
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ConcurrentBPlusTreeBenchmark.class.getSimpleName();
+        for (int threads : new int[] {1, 2, 4, 8, 16, 32}) {
+            Options options = new OptionsBuilder()
+                .include(include)
+                .threads(threads)
+                .build();
+            new Runner(options).run();
+        }
+    }
+}
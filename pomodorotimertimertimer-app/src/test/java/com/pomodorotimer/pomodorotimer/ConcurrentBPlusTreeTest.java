@@ -0,0 +1,197 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for ConcurrentBPlusTree implementation.
+ * Tests single-threaded behaviour against TreeMap and concurrent writers with
+ * lock-free readers and range scans.
+ */
+@DisplayName("ConcurrentBPlusTree Tests")
+class ConcurrentBPlusTreeTest {
+
+    private ConcurrentBPlusTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new ConcurrentBPlusTree(4);
+    }
+
+    @Test
+    @DisplayName("Test insert, update and search")
+    void testInsertAndSearch() {
+        assertTrue(tree.isEmpty());
+        tree.insert(10, "ten");
+        tree.insert(5, "five");
+        tree.insert(20, "twenty");
+        tree.insert(10, "TEN");
+
+        assertEquals("TEN", tree.search(10));
+        assertEquals("five", tree.search(5));
+        assertNull(tree.search(15));
+        assertEquals(3, tree.size());
+        assertEquals(2, tree.getHeight());
+    }
+
+    @Test
+    @DisplayName("Test random inserts match TreeMap at several orders")
+    void testMatchesTreeMap() {
+        for (int order : new int[] {3, 4, 7, 64}) {
+            ConcurrentBPlusTree ordered = new ConcurrentBPlusTree(order);
+            TreeMap<Integer, String> expected = new TreeMap<>();
+            Random random = new Random(order);
+            for (int i = 0; i < 20000; i++) {
+                int key = random.nextInt(50000) - 25000;
+                expected.put(key, "v" + i);
+                ordered.insert(key, "v" + i);
+            }
+            assertEquals(expected.size(), ordered.size());
+            for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), ordered.search(entry.getKey()));
+            }
+            assertEquals(new ArrayList<>(expected.subMap(-1000, true, 3000, true).values()),
+                ordered.rangeQuery(-1000, 3000));
+            assertEquals(expected.size(), ordered.rangeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE).size());
+            assertTrue(ordered.rangeQuery(5, 4).isEmpty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentBPlusTree(2));
+    }
+
+    @Test
+    @DisplayName("Test concurrent writers with lock-free readers and scans")
+    void testConcurrentAccess() throws InterruptedException {
+        int writers = 4;
+        int perWriter = 25000;
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i * writers * 10, "stable" + i); // keys readers check throughout
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger readerErrors = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            final int writer = w;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                Random random = new Random(writer);
+                for (int i = 0; i < perWriter; i++) {
+                    // Interleaved key spaces so writers share leaves
+                    int key = random.nextInt(1000 * writers * 10);
+                    key = key - key % writers + writer;
+                    if (key % (writers * 10) != 0) {
+                        tree.insert(key, "w" + key);
+                    }
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            awaitQuietly(start);
+            while (writing.get()) {
+                for (int i = 0; i < 1000; i++) {
+                    if (!("stable" + i).equals(tree.search(i * writers * 10))) {
+                        readerErrors.incrementAndGet();
+                    }
+                }
+            }
+        });
+        Thread scanner = new Thread(() -> {
+            awaitQuietly(start);
+            while (writing.get()) {
+                List<String> range = tree.rangeQuery(0, 1000 * writers * 10);
+                int stable = 0;
+                for (String value : range) {
+                    if (value.startsWith("stable")) {
+                        if (!value.equals("stable" + stable)) {
+                            readerErrors.incrementAndGet();
+                        }
+                        stable++;
+                    }
+                }
+                if (stable != 1000) {
+                    readerErrors.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        scanner.start();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writing.set(false);
+        reader.join();
+        scanner.join();
+
+        assertEquals(0, readerErrors.get());
+        List<String> all = tree.rangeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals(tree.size(), all.size());
+        int previous = Integer.MIN_VALUE;
+        for (String value : all) {
+            if (value.startsWith("w")) {
+                int key = Integer.parseInt(value.substring(1));
+                assertTrue(key > previous);
+                assertEquals(value, tree.search(key));
+                previous = key;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test concurrent inserts of disjoint keys are all kept")
+    void testConcurrentInsertsKeepEveryKey() throws InterruptedException {
+        int threadCount = 8;
+        int perThread = 20000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            final int offset = t;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perThread; i++) {
+                    int key = i * threadCount + offset;
+                    tree.insert(key, Integer.toString(key));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threadCount * perThread, tree.size());
+        for (int key = 0; key < threadCount * perThread; key++) {
+            assertEquals(Integer.toString(key), tree.search(key));
+        }
+        List<String> range = tree.rangeQuery(1000, 1999);
+        assertEquals(1000, range.size());
+        assertEquals("1000", range.get(0));
+        assertEquals("1999", range.get(999));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
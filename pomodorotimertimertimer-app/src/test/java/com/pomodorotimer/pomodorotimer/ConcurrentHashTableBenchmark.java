@@ -0,0 +1,125 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Multi-threaded JMH throughput benchmark for ConcurrentHashTable against
+ * ConcurrentHashMap and a HashTable guarded by a single lock, at several
+ * read/write ratios and 1 to 32 threads.
+ *
+ * <p>Not part of the unit test run. Start the full thread sweep with:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath com.pomodorotimer.pomodorotimer.ConcurrentHashTableBenchmark"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentHashTableBenchmark {
+
+    private static final int KEY_SPACE = 1 << 20;
+
+    /** Percentage of operations that are reads. */
+    @Param({"50", "90", "99"})
+    public int readPercent;
+
+    private ConcurrentHashTable<Integer, Integer> concurrentHashTable;
+    private ConcurrentHashMap<Integer, Integer> concurrentHashMap;
+    private HashTable<Integer, Integer> lockedHashTable;
+    private Integer[] keys;
+
+    /**
+     * Pre-fills every table with half of the key space.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        concurrentHashTable = new ConcurrentHashTable<>(64);
+        concurrentHashMap = new ConcurrentHashMap<>();
+        lockedHashTable = new HashTable<>();
+        keys = new Integer[KEY_SPACE];
+        for (int i = 0; i < KEY_SPACE; i++) {
+            keys[i] = i;
+            if ((i & 1) == 0) {
+                concurrentHashTable.put(keys[i], i);
+                concurrentHashMap.put(keys[i], i);
+                lockedHashTable.put(keys[i], i);
+            }
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_SPACE)];
+        if (random.nextInt(100) < readPercent) {
+            return concurrentHashTable.get(key);
+        }
+        return concurrentHashTable.put(key, key);
+    }
+
+    @Benchmark
+    public Integer concurrentHashMap() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_SPACE)];
+        if (random.nextInt(100) < readPercent) {
+            return concurrentHashMap.get(key);
+        }
+        return concurrentHashMap.put(key, key);
+    }
+
+    @Benchmark
+    public Integer lockedHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_SPACE)];
+        synchronized (lockedHashTable) {
+            if (random.nextInt(100) < readPercent) {
+                return lockedHashTable.get(key);
+            }
+            lockedHashTable.put(key, key);
+            return key;
+        }
+    }
+
+    /**
+     * Runs the benchmark once per thread count from 1 to 32.
+     *
+     * @param args optional benchmark name filter
+     * @throws RunnerException if JMH fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ConcurrentHashTableBenchmark.class.getSimpleName();
+        for (int threads : new int[] {1, 2, 4, 8, 16, 32}) {
+            Options options = new OptionsBuilder()
+                .include(include)
+                .threads(threads)
+                .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for ConcurrentHashTable implementation.
+ * Tests basic operations, incremental resize and concurrent readers/writers.
+ */
+@DisplayName("ConcurrentHashTable Tests")
+class ConcurrentHashTableTest {
+
+    private ConcurrentHashTable<String, Integer> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new ConcurrentHashTable<>();
+    }
+
+    @Test
+    @DisplayName("Test put, get, update and remove")
+    void testBasicOperations() {
+        assertTrue(table.isEmpty());
+        assertNull(table.put("key1", 100));
+        assertNull(table.put("key2", 200));
+        assertEquals(100, table.put("key1", 150));
+
+        assertEquals(150, table.get("key1"));
+        assertEquals(200, table.get("key2"));
+        assertEquals(2, table.size());
+        assertTrue(table.containsKey("key2"));
+
+        assertEquals(200, table.remove("key2"));
+        assertNull(table.remove("key2"));
+        assertFalse(table.containsKey("key2"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("Test putIfAbsent")
+    void testPutIfAbsent() {
+        assertNull(table.putIfAbsent("a", 1));
+        assertEquals(1, table.putIfAbsent("a", 2));
+        assertEquals(1, table.get("a"));
+    }
+
+    @Test
+    @DisplayName("Test removal from the middle of a chain")
+    void testRemoveInChain() {
+        // One segment with 16 buckets: 100 keys guarantee long chains
+        ConcurrentHashTable<Integer, Integer> single = new ConcurrentHashTable<>(1);
+        assertEquals(1, single.getSegmentCount());
+        for (int i = 0; i < 100; i++) {
+            single.put(i, i);
+        }
+        for (int i = 0; i < 100; i += 3) {
+            assertEquals(i, single.remove(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            if (i % 3 == 0) {
+                assertNull(single.get(i));
+            } else {
+                assertEquals(i, single.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test incremental resize keeps every entry reachable")
+    void testIncrementalResize() {
+        ConcurrentHashTable<Integer, Integer> single = new ConcurrentHashTable<>(1);
+        for (int i = 0; i < 20000; i++) {
+            single.put(i, i * 2);
+            // Entries inserted before the current resize must stay visible mid-migration
+            if (i % 997 == 0) {
+                for (int j = 0; j <= i; j += 101) {
+                    assertEquals(j * 2, single.get(j));
+                }
+            }
+        }
+        assertEquals(20000, single.size());
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(i * 2, single.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Test concurrent writers and lock-free readers")
+    void testConcurrentAccess() throws InterruptedException {
+        ConcurrentHashTable<Integer, Integer> shared = new ConcurrentHashTable<>(4);
+        int writers = 4;
+        int perWriter = 20000;
+        for (int i = 0; i < 1000; i++) {
+            shared.put(-1 - i, i); // stable keys readers check throughout
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger readerErrors = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            final int base = w * perWriter;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perWriter; i++) {
+                    shared.put(base + i, base + i);
+                    if (i % 2 == 1) {
+                        shared.remove(base + i - 1);
+                    }
+                }
+            }));
+        }
+        Thread reader = new Thread(() -> {
+            awaitQuietly(start);
+            while (writing.get()) {
+                for (int i = 0; i < 1000; i++) {
+                    Integer value = shared.get(-1 - i);
+                    if (value == null || value != i) {
+                        readerErrors.incrementAndGet();
+                    }
+                }
+            }
+        });
+        reader.start();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writing.set(false);
+        reader.join();
+
+        assertEquals(0, readerErrors.get());
+        assertEquals(1000 + writers * perWriter / 2, shared.size());
+        for (int w = 0; w < writers; w++) {
+            for (int i = 0; i < perWriter; i++) {
+                int key = w * perWriter + i;
+                if (i % 2 == 1) {
+                    assertEquals(key, shared.get(key));
+                } else {
+                    assertNull(shared.get(key));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test clear and invalid arguments")
+    void testClearAndInvalidArguments() {
+        table.put("a", 1);
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertNull(table.get("a"));
+
+        assertThrows(IllegalArgumentException.class, () -> table.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> table.put("a", null));
+        assertThrows(IllegalArgumentException.class, () -> table.get(null));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashTable<String, Integer>(0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
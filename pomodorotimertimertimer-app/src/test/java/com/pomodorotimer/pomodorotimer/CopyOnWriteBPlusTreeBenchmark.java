@@ -0,0 +1,170 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write amplification and reader throughput of CopyOnWriteBPlusTree with one
+ * writer and several report readers, each scanning a range of a snapshot. The
+ * same workload against a BPlusTree behind a ReentrantReadWriteLock shows what
+ * the scans cost the writer when they block it.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.CopyOnWriteBPlusTreeBenchmark \
+ *     -Dexec.args="[keys] [readers] [seconds]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class CopyOnWriteBPlusTreeBenchmark {
+
+    private static final int SCAN_LENGTH = 10_000;
+
+    private CopyOnWriteBPlusTreeBenchmark() {
+    }
+
+    /**
+     * Runs each configuration for the given time and prints the rates.
+     *
+     * @param args optional key count, reader count and seconds per run
+     * @throws InterruptedException if interrupted while waiting for threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int keys = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        System.out.printf("%,d keys, %d readers scanning %,d keys, %d s per run, %d CPUs%n",
+            keys, readers, SCAN_LENGTH, seconds, Runtime.getRuntime().availableProcessors());
+
+        for (int readerCount : new int[] {0, readers}) {
+            CopyOnWriteBPlusTree cow = new CopyOnWriteBPlusTree();
+            for (int i = 0; i < keys; i++) {
+                cow.insert(i * 2, "task" + i);
+            }
+            long writes0 = cow.getWriteCount();
+            long copied0 = cow.getCopiedNodeCount();
+            long reused0 = cow.getReusedNodeCount();
+            Result result = run(readerCount, seconds, keys,
+                key -> cow.insert(key, "updated"),
+                start -> {
+                    try (CopyOnWriteBPlusTree.Snapshot snapshot = cow.snapshot()) {
+                        return snapshot.rangeQuery(start, start + SCAN_LENGTH).size();
+                    }
+                });
+            long writes = cow.getWriteCount() - writes0;
+            long copied = cow.getCopiedNodeCount() - copied0;
+            System.out.printf("copy-on-write   %d readers: %s%n", readerCount, result);
+            System.out.printf("    %.2f nodes copied per write (height %d), %.1f%% recycled, %,d nodes in limbo%n",
+                (double) copied / writes, cow.getHeight(),
+                100.0 * (cow.getReusedNodeCount() - reused0) / copied, cow.getRetiredNodeCount());
+
+            BPlusTree plain = new BPlusTree();
+            for (int i = 0; i < keys; i++) {
+                plain.insert(i * 2, "task" + i);
+            }
+            ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+            result = run(readerCount, seconds, keys,
+                key -> {
+                    lock.writeLock().lock();
+                    try {
+                        plain.insert(key, "updated");
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                },
+                start -> {
+                    lock.readLock().lock();
+                    try {
+                        return plain.rangeQuery(start, start + SCAN_LENGTH).size();
+                    } finally {
+                        lock.readLock().unlock();
+                    }
+                });
+            System.out.printf("read-write lock %d readers: %s%n", readerCount, result);
+        }
+    }
+
+    private interface Writer {
+        void write(int key);
+    }
+
+    private interface Scanner {
+        int scan(int startKey);
+    }
+
+    private static final class Result {
+        final double writesPerSecond;
+        final double scansPerSecond;
+        final double keysPerSecond;
+
+        Result(double writesPerSecond, double scansPerSecond, double keysPerSecond) {
+            this.writesPerSecond = writesPerSecond;
+            this.scansPerSecond = scansPerSecond;
+            this.keysPerSecond = keysPerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,10.0f writes/s, %,8.0f scans/s (%,.0f keys/s)",
+                writesPerSecond, scansPerSecond, keysPerSecond);
+        }
+    }
+
+    private static Result run(int readerCount, int seconds, int keys, Writer writer, Scanner scanner)
+            throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder writes = new LongAdder();
+        LongAdder scans = new LongAdder();
+        LongAdder scanned = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        threads.add(new Thread(() -> {
+            awaitQuietly(start);
+            Random random = new Random(1);
+            while (running.get()) {
+                // Half updates of existing keys, half inserts between them
+                writer.write(random.nextInt(keys * 2));
+                writes.increment();
+            }
+        }));
+        for (int r = 0; r < readerCount; r++) {
+            final int seed = r + 2;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                Random random = new Random(seed);
+                while (running.get()) {
+                    scanned.add(scanner.scan(random.nextInt(keys * 2)));
+                    scans.increment();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double elapsed = (System.nanoTime() - begin) / 1e9;
+        return new Result(writes.sum() / elapsed, scans.sum() / elapsed, scanned.sum() / elapsed);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for CopyOnWriteBPlusTree implementation.
+ * Tests behaviour against TreeMap, snapshot isolation, node recycling and
+ * snapshot scans running alongside a writer.
+ */
+@DisplayName("CopyOnWriteBPlusTree Tests")
+class CopyOnWriteBPlusTreeTest {
+
+    private CopyOnWriteBPlusTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new CopyOnWriteBPlusTree(4);
+    }
+
+    @Test
+    @DisplayName("Test random inserts match TreeMap at several orders")
+    void testMatchesTreeMap() {
+        for (int order : new int[] {3, 4, 7, 64}) {
+            CopyOnWriteBPlusTree ordered = new CopyOnWriteBPlusTree(order);
+            TreeMap<Integer, String> expected = new TreeMap<>();
+            Random random = new Random(order);
+            for (int i = 0; i < 20000; i++) {
+                int key = random.nextInt(50000) - 25000;
+                expected.put(key, "v" + i);
+                ordered.insert(key, "v" + i);
+            }
+            assertEquals(expected.size(), ordered.size());
+            assertEquals(20000, ordered.getVersion());
+            for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), ordered.search(entry.getKey()));
+            }
+            assertNull(ordered.search(25000));
+            assertEquals(new ArrayList<>(expected.subMap(-1000, true, 3000, true).values()),
+                ordered.rangeQuery(-1000, 3000));
+            assertEquals(new ArrayList<>(expected.values()),
+                ordered.rangeQuery(Integer.MIN_VALUE, Integer.MAX_VALUE));
+            assertTrue(ordered.rangeQuery(5, 4).isEmpty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CopyOnWriteBPlusTree(2));
+    }
+
+    @Test
+    @DisplayName("Test snapshot keeps its version while the tree changes")
+    void testSnapshotIsolation() {
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i, "old" + i);
+        }
+        CopyOnWriteBPlusTree.Snapshot snapshot = tree.snapshot();
+        List<String> before = snapshot.rangeQuery(0, 99);
+        for (int i = 0; i < 5000; i++) {
+            tree.insert(i % 200, "new" + i);
+        }
+
+        assertEquals(100, snapshot.size());
+        assertEquals(100, snapshot.getVersion());
+        assertEquals("old42", snapshot.search(42));
+        assertNull(snapshot.search(150));
+        assertEquals(before, snapshot.rangeQuery(0, 99));
+        assertEquals(200, tree.size());
+        assertEquals("new4999", tree.search(199));
+
+        snapshot.close();
+        snapshot.close();
+        assertThrows(IllegalStateException.class, () -> snapshot.search(1));
+        assertThrows(IllegalStateException.class, () -> snapshot.rangeQuery(0, 1));
+    }
+
+    @Test
+    @DisplayName("Test retired nodes are recycled only after snapshots close")
+    void testReclamation() {
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i, "v" + i);
+        }
+        CopyOnWriteBPlusTree.Snapshot snapshot = tree.snapshot();
+        for (int i = 0; i < 2000; i++) {
+            tree.insert(i % 1000, "w" + i);
+        }
+        // Every node replaced since the snapshot may still be read through it,
+        // so the whole path of every write stays in limbo
+        long held = tree.getRetiredNodeCount();
+        assertTrue(held >= 2000 * tree.getHeight());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("v" + i, snapshot.search(i));
+        }
+        long reusedBefore = tree.getReusedNodeCount();
+
+        snapshot.close();
+        for (int i = 0; i < 1000; i++) {
+            tree.insert(i, "x" + i);
+        }
+        assertTrue(tree.getReusedNodeCount() > reusedBefore);
+        assertTrue(tree.getRetiredNodeCount() < held);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("x" + i, tree.search(i));
+        }
+        // One node per level for a plain insert, more when nodes split
+        assertTrue(tree.getCopiedNodeCount() >= tree.getWriteCount() * tree.getHeight() - 1000);
+    }
+
+    @Test
+    @DisplayName("Test reader slots are reused across threads and snapshots")
+    void testSlotReuse() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            tree.insert(i, "v" + i);
+        }
+        for (int t = 0; t < 200; t++) {
+            int key = t % 100;
+            Thread reader = new Thread(() -> {
+                tree.search(key);
+                tree.rangeQuery(0, key);
+            });
+            reader.start();
+            reader.join();
+        }
+        assertEquals(1, tree.getSlotCount());
+
+        List<CopyOnWriteBPlusTree.Snapshot> open = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            open.add(tree.snapshot());
+        }
+        assertEquals(3, tree.getSlotCount());
+        assertEquals("v5", tree.search(5));
+        assertEquals(4, tree.getSlotCount());
+        for (CopyOnWriteBPlusTree.Snapshot snapshot : open) {
+            snapshot.close();
+        }
+        for (int i = 0; i < 10; i++) {
+            tree.snapshot().close();
+            assertEquals("v" + i, tree.search(i));
+        }
+        assertEquals(4, tree.getSlotCount());
+    }
+
+    @Test
+    @DisplayName("Test snapshot scans never observe a partial insert")
+    void testConcurrentSnapshots() throws InterruptedException {
+        int keys = 20000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger scans = new AtomicInteger();
+        // Inserts ascending keys, then updates them in the same order, so the
+        // version number alone says what every snapshot must contain
+        Thread writer = new Thread(() -> {
+            awaitQuietly(start);
+            for (int i = 0; i < keys; i++) {
+                tree.insert(i, "v" + i);
+            }
+            for (int i = 0; i < keys; i++) {
+                tree.insert(i, "u" + i);
+            }
+        });
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            readers.add(new Thread(() -> {
+                awaitQuietly(start);
+                do {
+                    try (CopyOnWriteBPlusTree.Snapshot snapshot = tree.snapshot()) {
+                        long version = snapshot.getVersion();
+                        List<String> values = snapshot.rangeQuery(0, keys);
+                        int expectedSize = (int) Math.min(version, keys);
+                        int updated = (int) Math.max(0, version - keys);
+                        if (values.size() != expectedSize || snapshot.size() != expectedSize) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        for (int k = 0; k < expectedSize; k++) {
+                            if (!values.get(k).equals((k < updated ? "u" : "v") + k)) {
+                                errors.incrementAndGet();
+                                break;
+                            }
+                        }
+                        if (!values.equals(snapshot.rangeQuery(0, keys))) {
+                            errors.incrementAndGet();
+                        }
+                        scans.incrementAndGet();
+                    }
+                } while (writing.get());
+            }));
+        }
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        start.countDown();
+        writer.join();
+        writing.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(0, errors.get());
+        assertTrue(scans.get() > 0);
+        assertEquals(keys, tree.size());
+        assertEquals("u123", tree.search(123));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for CsrMatrix and its builder.
+ * Tests lookups against a map, duplicate and zero handling, row iteration, bounds
+ * and arithmetic against dense results.
+ */
+@DisplayName("CsrMatrix Tests")
+class CsrMatrixTest {
+
+    @Test
+    @DisplayName("Test random cells match a map")
+    void testMatchesMap() {
+        int size = 1000;
+        Random random = new Random(7);
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(size, size);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int row = random.nextInt(size);
+            int col = random.nextInt(size);
+            int value = random.nextInt(5) - 2;
+            builder.set(row, col, value);
+            long key = (long) row * size + col;
+            if (value == 0) {
+                expected.remove(key);
+            } else {
+                expected.put(key, value);
+            }
+        }
+        CsrMatrix matrix = builder.build();
+
+        assertEquals(expected.size(), matrix.getNonZeroCount());
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                assertEquals((int) expected.getOrDefault((long) row * size + col, 0), matrix.get(row, col));
+            }
+        }
+        int[] visited = new int[1];
+        matrix.forEachNonZero((row, col, value) -> {
+            assertEquals(expected.get((long) row * size + col), value);
+            visited[0]++;
+        });
+        assertEquals(expected.size(), visited[0]);
+    }
+
+    @Test
+    @DisplayName("Test last write wins and zeros are dropped")
+    void testDuplicatesAndZeros() {
+        CsrMatrix matrix = new CsrMatrix.Builder(3, 5)
+            .set(1, 4, 9)
+            .set(1, 2, 1)
+            .set(1, 4, 3)
+            .set(0, 0, 7)
+            .set(0, 0, 0)
+            .set(2, 1, 5)
+            .build();
+
+        assertEquals(3, matrix.getNonZeroCount());
+        assertEquals(0, matrix.get(0, 0));
+        assertEquals(3, matrix.get(1, 4));
+        assertEquals(0, matrix.getRowNonZeroCount(0));
+        assertEquals(2, matrix.getRowNonZeroCount(1));
+
+        List<String> row = new ArrayList<>();
+        matrix.forEachInRow(1, (r, c, v) -> row.add(r + "," + c + "=" + v));
+        assertEquals(Arrays.asList("1,2=1", "1,4=3"), row);
+    }
+
+    @Test
+    @DisplayName("Test arithmetic matches dense results, sequential and parallel")
+    void testArithmetic() {
+        Random random = new Random(5);
+        int[][] a = randomDense(random, 60, 40);
+        int[][] b = randomDense(random, 40, 50);
+        int[][] c = randomDense(random, 60, 40);
+        CsrMatrix sparseA = toCsr(a);
+        CsrMatrix sparseB = toCsr(b);
+        CsrMatrix sparseC = toCsr(c);
+        int[] vector = new int[40];
+        double[] doubles = new double[40];
+        for (int i = 0; i < 40; i++) {
+            vector[i] = random.nextInt(7) - 3;
+            doubles[i] = random.nextDouble();
+        }
+
+        int[] expectedProduct = new int[60];
+        double[] expectedDoubles = new double[60];
+        int[][] expectedMatrix = new int[60][50];
+        int[][] expectedSum = new int[60][40];
+        for (int i = 0; i < 60; i++) {
+            for (int k = 0; k < 40; k++) {
+                expectedProduct[i] += a[i][k] * vector[k];
+                expectedDoubles[i] += a[i][k] * doubles[k];
+                expectedSum[i][k] = a[i][k] + c[i][k];
+                for (int j = 0; j < 50; j++) {
+                    expectedMatrix[i][j] += a[i][k] * b[k][j];
+                }
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ForkJoinPool runOn : new ForkJoinPool[] {null, pool}) {
+                assertArrayEquals(expectedProduct, sparseA.multiply(vector, runOn));
+                assertArrayEquals(expectedDoubles, sparseA.multiply(doubles, runOn), 1e-9);
+                assertDense(expectedMatrix, sparseA.multiply(sparseB, runOn));
+                assertDense(expectedSum, sparseA.add(sparseC, runOn));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expectedProduct, sparseA.multiply(vector));
+
+        CsrMatrix transposed = sparseA.transpose();
+        assertEquals(40, transposed.getRows());
+        assertEquals(60, transposed.getCols());
+        for (int i = 0; i < 60; i++) {
+            for (int k = 0; k < 40; k++) {
+                assertEquals(a[i][k], transposed.get(k, i));
+            }
+        }
+        assertDense(a, transposed.transpose());
+
+        // Cells that cancel out are dropped
+        CsrMatrix negated = toCsr(negate(a));
+        assertEquals(0, sparseA.add(negated).getNonZeroCount());
+
+        assertThrows(IllegalArgumentException.class, () -> sparseA.multiply(new int[39]));
+        assertThrows(IllegalArgumentException.class, () -> sparseA.multiply(sparseC));
+        assertThrows(IllegalArgumentException.class, () -> sparseA.add(sparseB));
+    }
+
+    @Test
+    @DisplayName("Test row partition balances non-zeros")
+    void testPartition() {
+        // One crowded row followed by many light ones
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(1000, 1000);
+        for (int col = 0; col < 1000; col++) {
+            builder.set(0, col, 1);
+        }
+        for (int row = 1; row < 1000; row++) {
+            builder.set(row, row, 1);
+        }
+        CsrMatrix matrix = builder.build();
+
+        int[] bounds = matrix.partition(4);
+        assertEquals(0, bounds[0]);
+        assertEquals(1, bounds[1]);
+        assertEquals(1000, bounds[4]);
+        for (int c = 0; c < 4; c++) {
+            assertTrue(bounds[c] <= bounds[c + 1]);
+        }
+        // Weight is non-zeros plus rows: 2999 in all, about 750 per chunk, and
+        // every light row weighs 2, so the crowded row fills a chunk on its own
+        assertEquals(250, bounds[2]);
+        assertEquals(625, bounds[3]);
+        assertArrayEquals(new int[] {0, 1000}, matrix.partition(1));
+        assertArrayEquals(new int[] {0, 0, 0}, new CsrMatrix.Builder(0, 5).build().partition(2));
+    }
+
+    @Test
+    @DisplayName("Test bounds and empty matrices")
+    void testBounds() {
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(4, 4);
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.set(4, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.set(0, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CsrMatrix.Builder(-1, 4));
+
+        CsrMatrix empty = builder.build();
+        assertEquals(0, empty.getNonZeroCount());
+        assertEquals(0, empty.get(3, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.get(0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.forEachInRow(4, (r, c, v) -> { }));
+        assertEquals(0, new CsrMatrix.Builder(0, 0).build().getNonZeroCount());
+    }
+
+    private static int[][] randomDense(Random random, int rows, int cols) {
+        int[][] dense = new int[rows][cols];
+        for (int[] row : dense) {
+            for (int col = 0; col < cols; col++) {
+                row[col] = random.nextInt(4) == 0 ? random.nextInt(19) - 9 : 0;
+            }
+        }
+        return dense;
+    }
+
+    private static int[][] negate(int[][] dense) {
+        int[][] negated = new int[dense.length][];
+        for (int row = 0; row < dense.length; row++) {
+            negated[row] = dense[row].clone();
+            for (int col = 0; col < negated[row].length; col++) {
+                negated[row][col] = -negated[row][col];
+            }
+        }
+        return negated;
+    }
+
+    private static CsrMatrix toCsr(int[][] dense) {
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(dense.length, dense[0].length);
+        for (int row = 0; row < dense.length; row++) {
+            for (int col = 0; col < dense[row].length; col++) {
+                builder.set(row, col, dense[row][col]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void assertDense(int[][] expected, CsrMatrix actual) {
+        int nonZeros = 0;
+        for (int row = 0; row < expected.length; row++) {
+            for (int col = 0; col < expected[row].length; col++) {
+                assertEquals(expected[row][col], actual.get(row, col));
+                nonZeros += expected[row][col] != 0 ? 1 : 0;
+            }
+        }
+        assertEquals(nonZeros, actual.getNonZeroCount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Depth-first traversal of a long dependency chain, the worst case for DFS
+ * depth. Finds how deep a recursive DFS gets on the default thread stack, then
+ * times the iterative DFS of Graph (adjacency lists and frozen) and
+ * StronglyConnectedComponents on the whole chain, closed into one cycle for
+ * the SCC run. Heap figures are measured after each structure is built; the
+ * explicit DFS stacks add 8 bytes per vertex on top.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * MAVEN_OPTS=-Xmx4g mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.DeepDfsBenchmark \
+ *     -Dexec.args="[length]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class DeepDfsBenchmark {
+
+    private DeepDfsBenchmark() {
+    }
+
+    /**
+     * Runs the traversals on a chain of the given length.
+     *
+     * @param args optional chain length
+     */
+    public static void main(String[] args) {
+        int length = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        System.out.printf("chain of %,d vertices, max heap %,d MB%n", length,
+            Runtime.getRuntime().maxMemory() >> 20);
+
+        int[] depth = new int[1];
+        try {
+            recurse(depth);
+        } catch (StackOverflowError e) {
+            System.out.printf("%-30s overflows at depth %,d on the default stack%n", "recursive DFS", depth[0]);
+        }
+
+        long base = usedHeap();
+        Graph graph = new Graph(length);
+        for (int i = 0; i < length - 1; i++) {
+            graph.addEdge(i, i + 1);
+        }
+        long heap = usedHeap() - base;
+        long start = System.nanoTime();
+        int visited = graph.dfs(0).size();
+        report("Graph.dfs (lists)", System.nanoTime() - start, heap, length, visited);
+
+        graph.freeze();
+        heap = usedHeap() - base;
+        start = System.nanoTime();
+        visited = graph.dfs(0).size();
+        report("Graph.dfs (frozen)", System.nanoTime() - start, heap, length, visited);
+        graph = null;
+
+        base = usedHeap();
+        StronglyConnectedComponents scc = new StronglyConnectedComponents(length);
+        for (int i = 0; i < length; i++) {
+            scc.addEdge(i, (i + 1) % length);
+        }
+        heap = usedHeap() - base;
+        start = System.nanoTime();
+        List<List<Integer>> components = scc.findSCCs();
+        report("StronglyConnectedComponents", System.nanoTime() - start, heap, length,
+            components.get(0).size());
+    }
+
+    /**
+     * Stands in for one frame of a recursive DFS: a vertex, a visited array and
+     * a result list, like Graph's former dfsHelper.
+     */
+    private static void recurse(int[] depth) {
+        List<Integer> frame = new ArrayList<>(0);
+        depth[0]++;
+        recurse(depth);
+        frame.clear();
+    }
+
+    private static void report(String label, long nanos, long heapBytes, int length, int visited) {
+        System.out.printf("%-30s %8.1f ms, structure %6.1f MB (%5.1f B/vertex), %,d visited%n", label,
+            nanos / 1e6, heapBytes / 1048576.0, (double) heapBytes / length, visited);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -3,8 +3,17 @@ package com.pomodorotimer.pomodorotimer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 /**
  * Unit tests for FileOperations implementation.
  * Tests search time and collision handling with linear probing.
@@ -202,6 +211,144 @@ class FileOperationsTest {
         assertEquals("path2", tinyOps.get("b"));
         assertEquals("path3", tinyOps.get("c"));
     }
+    
+    @Test
+    @DisplayName("Test incremental resize keeps every entry reachable")
+    void testIncrementalResize() {
+        FileOperations incremental = new FileOperations(4, true);
+        boolean sawRehash = false;
+        for (int i = 0; i < 5000; i++) {
+            incremental.put("file" + i, "path" + i);
+            sawRehash |= incremental.isRehashing();
+            if (i % 499 == 0) {
+                for (int j = 0; j <= i; j += 37) {
+                    assertEquals("path" + j, incremental.get("file" + j));
+                    assertTrue(incremental.getSearchTime("file" + j) >= 1);
+                }
+            }
+        }
+        assertTrue(sawRehash);
+        assertEquals(5000, incremental.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals("path" + i, incremental.get("file" + i));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test updates and removes while rehashing")
+    void testIncrementalChurn() {
+        FileOperations incremental = new FileOperations(2, true);
+        Map<String, String> expected = new HashMap<>();
+        Random random = new Random(9);
+        for (int i = 0; i < 20000; i++) {
+            String key = "f" + random.nextInt(3000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key), incremental.remove(key));
+            } else {
+                expected.put(key, "p" + i);
+                incremental.put(key, "p" + i);
+            }
+            assertEquals(expected.size(), incremental.size());
+        }
+        for (int k = 0; k < 3000; k++) {
+            assertEquals(expected.get("f" + k), incremental.get("f" + k));
+        }
+        incremental.clear();
+        assertFalse(incremental.isRehashing());
+        assertTrue(incremental.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Test backward-shift deletion keeps probe runs reachable")
+    void testBackwardShiftDeletion() {
+        // Capacity 16 with keys forced into one long run around the wrap point
+        FileOperations ops = new FileOperations(16);
+        for (int i = 0; i < 10; i++) {
+            ops.put("k" + i, "v" + i);
+        }
+        for (int i = 0; i < 10; i += 2) {
+            assertEquals("v" + i, ops.remove("k" + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i % 2 == 0 ? null : "v" + i, ops.get("k" + i));
+        }
+        assertEquals(5, ops.size());
+        assertEquals(0.0, ops.getTombstoneRatio());
+    }
+    
+    @Test
+    @DisplayName("Test probe length stays bounded under insert/delete churn")
+    void testProbeStatisticsUnderChurn() {
+        FileOperations ops = new FileOperations(1024);
+        Map<String, String> expected = new HashMap<>();
+        List<String> live = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 200000; i++) {
+            String key = "file" + random.nextInt(100000);
+            if (expected.size() < 500) {
+                if (expected.put(key, "p" + i) == null) {
+                    live.add(key);
+                }
+                ops.put(key, "p" + i);
+            } else {
+                int victim = random.nextInt(live.size());
+                String victimKey = live.get(victim);
+                live.set(victim, live.get(live.size() - 1));
+                live.remove(live.size() - 1);
+                assertEquals(expected.remove(victimKey), ops.remove(victimKey));
+            }
+        }
+        assertEquals(expected.size(), ops.size());
+        assertEquals(1024, ops.capacity());
+        for (Map.Entry<String, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), ops.get(entry.getKey()));
+            assertTrue(ops.getSearchTime(entry.getKey()) <= ops.getMaxProbeLength());
+        }
+        assertEquals(0.0, ops.getTombstoneRatio());
+        assertTrue(ops.getAverageProbeLength() >= 1.0);
+        assertTrue(ops.getAverageProbeLength() < 3.0);
+    }
+    
+    @Test
+    @DisplayName("Test probe statistics on empty table and during rehash")
+    void testProbeStatistics() {
+        assertEquals(0.0, fileOps.getAverageProbeLength());
+        assertEquals(0, fileOps.getMaxProbeLength());
+        
+        FileOperations incremental = new FileOperations(64, true);
+        int i = 0;
+        while (!incremental.isRehashing()) {
+            incremental.put("f" + i, "p" + i);
+            i++;
+        }
+        incremental.put("f" + i, "p" + i);
+        assertTrue(incremental.getTombstoneRatio() > 0.0);
+        assertTrue(incremental.getMaxProbeLength() >= 1);
+        assertTrue(incremental.getAverageProbeLength() >= 1.0);
+    }
+    
+    @Test
+    @DisplayName("Test persistent mode keeps entries across reopen")
+    void testPersistentMode(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("files.db");
+        try (FileOperations persistent = new FileOperations(file)) {
+            assertTrue(persistent.isPersistent());
+            for (int i = 0; i < 3000; i++) {
+                persistent.put("file" + i, "/home/user/documents/project/file" + i + ".txt");
+            }
+            assertEquals("/home/user/documents/project/file5.txt", persistent.remove("file5"));
+            persistent.flush();
+        }
+        try (FileOperations reopened = new FileOperations(file)) {
+            assertEquals(2999, reopened.size());
+            assertFalse(reopened.containsKey("file5"));
+            assertEquals("/home/user/documents/project/file42.txt", reopened.get("file42"));
+            assertTrue(reopened.getSearchTime("file42") <= reopened.getMaxProbeLength());
+            assertTrue(reopened.getAverageProbeLength() >= 1.0);
+            assertEquals(0.0, reopened.getTombstoneRatio());
+            reopened.clear();
+            assertTrue(reopened.isEmpty());
+        }
+        assertFalse(fileOps.isPersistent());
+    }
 }
-
-
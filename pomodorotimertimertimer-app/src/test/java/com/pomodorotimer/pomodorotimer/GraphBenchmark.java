@@ -0,0 +1,120 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH comparison of Graph traversals on adjacency lists and on the frozen CSR
+ * arrays, on a random task dependency graph with {@link #DEGREE} edges per
+ * vertex. Setup prints the heap taken per edge by each form.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main GraphBenchmark -prof gc"
+ * </pre>
+ * The list-based DFS recurses once per vertex on the current path, hence the
+ * large thread stack.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g", "-Xss1g"})
+public class GraphBenchmark {
+
+    static final int DEGREE = 16;
+
+    @Param({"100000", "1000000"})
+    public int vertices;
+
+    private Graph lists;
+    private Graph frozen;
+    private int target;
+
+    /**
+     * Builds the same random graph twice and freezes the second copy.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        long base = usedHeap();
+        lists = randomGraph(vertices);
+        long listHeap = usedHeap() - base;
+        base = usedHeap();
+        frozen = randomGraph(vertices);
+        frozen.freeze();
+        long frozenHeap = usedHeap() - base;
+        int edges = lists.getEdgeCount();
+        System.out.printf("%n%,d vertices, %,d edges: lists %.1f B/edge, frozen %.1f B/edge%n",
+            vertices, edges, (double) listHeap / edges, (double) frozenHeap / edges);
+        List<Integer> order = frozen.bfs(0);
+        target = order.get(order.size() - 1);
+    }
+
+    private static Graph randomGraph(int vertices) {
+        Graph graph = new Graph(vertices);
+        Random random = new Random(42);
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            for (int i = 0; i < DEGREE; i++) {
+                graph.addEdge(vertex, random.nextInt(vertices));
+            }
+        }
+        return graph;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public int bfsLists() {
+        return lists.bfs(0).size();
+    }
+
+    @Benchmark
+    public int bfsFrozen() {
+        return frozen.bfs(0).size();
+    }
+
+    @Benchmark
+    public int dfsLists() {
+        return lists.dfs(0).size();
+    }
+
+    @Benchmark
+    public int dfsFrozen() {
+        return frozen.dfs(0).size();
+    }
+
+    @Benchmark
+    public int shortestPathLists() {
+        return lists.shortestPath(0, target).size();
+    }
+
+    @Benchmark
+    public int shortestPathFrozen() {
+        return frozen.shortestPath(0, target).size();
+    }
+}
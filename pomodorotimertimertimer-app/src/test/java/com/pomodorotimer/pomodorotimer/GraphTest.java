@@ -5,12 +5,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for Graph BFS and DFS implementations.
- * Tests shortest path (BFS) and complete traversal (DFS).
+ * Tests shortest path (BFS) and complete traversal (DFS), before and after
+ * the graph is frozen into CSR arrays, and the parallel search against
+ * sequential distances.
  */
 @DisplayName("Graph BFS/DFS Tests")
 class GraphTest {
@@ -101,5 +110,229 @@ class GraphTest {
         assertEquals(6, bfsResult.size());
         assertEquals(6, dfsResult.size());
     }
+    
+    private static Graph randomGraph(int vertices, int edges, long seed) {
+        Graph random = new Graph(vertices);
+        Random generator = new Random(seed);
+        for (int i = 0; i < edges; i++) {
+            random.addEdge(generator.nextInt(vertices), generator.nextInt(vertices));
+        }
+        return random;
+    }
+    
+    @Test
+    @DisplayName("Test frozen graph traverses in the same order")
+    void testFreezeKeepsOrder() {
+        Graph lists = randomGraph(2000, 5000, 17);
+        Graph frozen = randomGraph(2000, 5000, 17);
+        frozen.freeze();
+        assertTrue(frozen.isFrozen());
+        assertFalse(lists.isFrozen());
+        assertEquals(lists.getEdgeCount(), frozen.getEdgeCount());
+        Random random = new Random(3);
+        for (int i = 0; i < 50; i++) {
+            int start = random.nextInt(2000);
+            int end = random.nextInt(2000);
+            assertEquals(lists.bfs(start), frozen.bfs(start));
+            assertEquals(lists.dfs(start), frozen.dfs(start));
+            assertEquals(lists.shortestPath(start, end), frozen.shortestPath(start, end));
+        }
+        
+        graph.freeze();
+        graph.freeze();
+        assertEquals(Arrays.asList(0, 1, 3, 2, 4, 5), graph.bfs(0));
+        assertEquals(Arrays.asList(0, 1, 2, 4, 5, 3), graph.dfs(0));
+        assertEquals(Arrays.asList(0, 1, 4, 5), graph.shortestPath(0, 5));
+        assertEquals(Arrays.asList(2), graph.shortestPath(2, 2));
+        assertTrue(graph.shortestPath(5, 0).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Test frozen graph rejects edges and handles long chains")
+    void testFrozenGraph() {
+        graph.freeze();
+        assertThrows(IllegalStateException.class, () -> graph.addEdge(0, 5));
+        assertEquals(6, graph.getEdgeCount());
+        List<Integer> order = graph.bfs(0);
+        assertThrows(UnsupportedOperationException.class, () -> order.add(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> order.get(6));
+        
+        // Deep enough to overflow a recursive DFS
+        int length = 200000;
+        Graph chain = new Graph(length);
+        for (int i = 0; i < length - 1; i++) {
+            chain.addEdge(i, i + 1);
+        }
+        chain.freeze();
+        List<Integer> visited = chain.dfs(0);
+        assertEquals(length, visited.size());
+        assertEquals(length - 1, visited.get(length - 1).intValue());
+        assertEquals(length, chain.shortestPath(0, length - 1).size());
+    }
+    
+    @Test
+    @DisplayName("Test parallel BFS matches sequential distances")
+    void testParallelBfs() {
+        int vertices = 20000;
+        Random random = new Random(11);
+        Graph dense = new Graph(vertices);
+        List<List<Integer>> adjacency = new ArrayList<>();
+        Set<Long> edges = new HashSet<>();
+        for (int v = 0; v < vertices; v++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int i = 0; i < vertices * 8; i++) {
+            // Skewed sources leave some vertices unreachable from others
+            int from = random.nextInt(vertices) / (1 + random.nextInt(2));
+            int to = random.nextInt(vertices);
+            dense.addEdge(from, to);
+            adjacency.get(from).add(to);
+            edges.add((long) from * vertices + to);
+        }
+        assertThrows(IllegalStateException.class, () -> dense.bfs(0, null));
+        dense.freeze();
+        
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ForkJoinPool searchPool : new ForkJoinPool[] {null, pool}) {
+                for (int trial = 0; trial < 5; trial++) {
+                    int start = random.nextInt(vertices);
+                    int[] distance = new int[vertices];
+                    Arrays.fill(distance, -1);
+                    distance[start] = 0;
+                    List<Integer> queue = new ArrayList<>();
+                    queue.add(start);
+                    for (int head = 0; head < queue.size(); head++) {
+                        int vertex = queue.get(head);
+                        for (int neighbor : adjacency.get(vertex)) {
+                            if (distance[neighbor] < 0) {
+                                distance[neighbor] = distance[vertex] + 1;
+                                queue.add(neighbor);
+                            }
+                        }
+                    }
+                    
+                    List<Integer> order = dense.bfs(start, searchPool);
+                    assertEquals(queue.size(), order.size());
+                    assertEquals(new HashSet<>(queue), new HashSet<>(order));
+                    for (int i = 1; i < order.size(); i++) {
+                        assertTrue(distance[order.get(i - 1)] <= distance[order.get(i)]);
+                    }
+                    
+                    int end = random.nextInt(vertices);
+                    List<Integer> path = dense.shortestPath(start, end, searchPool);
+                    assertEquals(distance[end] + 1, path.size());
+                    for (int i = 1; i < path.size(); i++) {
+                        assertTrue(edges.contains((long) path.get(i - 1) * vertices + path.get(i)));
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        
+        ParallelBfs search = dense.parallelSearch(null);
+        search.search(0, -1);
+        assertTrue(search.bottomUpSteps() > 0);
+        assertTrue(search.topDownSteps() > 0);
+        
+        graph.freeze();
+        List<Integer> path = graph.shortestPath(0, 5, null);
+        assertTrue(path.equals(Arrays.asList(0, 1, 4, 5)) || path.equals(Arrays.asList(0, 3, 4, 5)));
+        assertEquals(Arrays.asList(3), graph.shortestPath(3, 3, null));
+        assertTrue(graph.shortestPath(5, 0, null).isEmpty());
+        assertEquals(Arrays.asList(0, 1, 3, 2, 4, 5), graph.bfs(0, null));
+    }
+    
+    private static void recursiveDfs(List<List<Integer>> adjacency, int vertex, boolean[] visited,
+            List<Integer> result) {
+        visited[vertex] = true;
+        result.add(vertex);
+        for (int neighbor : adjacency.get(vertex)) {
+            if (!visited[neighbor]) {
+                recursiveDfs(adjacency, neighbor, visited, result);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test concurrent parallel searches on a fresh frozen graph")
+    void testConcurrentParallelBfs() throws InterruptedException {
+        Random random = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                int vertices = 5000;
+                Graph shared = new Graph(vertices);
+                for (int i = 0; i < vertices * 8; i++) {
+                    shared.addEdge(random.nextInt(vertices), random.nextInt(vertices));
+                }
+                shared.freeze();
+                int expected = shared.bfs(0).size();
+                
+                // Every thread's first search races to build the reverse edges
+                int threads = 4;
+                CountDownLatch go = new CountDownLatch(1);
+                AtomicInteger failures = new AtomicInteger();
+                Thread[] workers = new Thread[threads];
+                for (int t = 0; t < threads; t++) {
+                    workers[t] = new Thread(() -> {
+                        try {
+                            go.await();
+                            if (shared.bfs(0, pool).size() != expected) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (RuntimeException | InterruptedException e) {
+                            failures.incrementAndGet();
+                        }
+                    });
+                    workers[t].start();
+                }
+                go.countDown();
+                for (Thread worker : workers) {
+                    worker.join();
+                }
+                assertEquals(0, failures.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Test iterative DFS keeps recursive order and survives long chains")
+    void testIterativeDfs() {
+        Random random = new Random(23);
+        Graph lists = new Graph(3000);
+        List<List<Integer>> adjacency = new ArrayList<>();
+        for (int v = 0; v < 3000; v++) {
+            adjacency.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 6000; i++) {
+            int from = random.nextInt(3000);
+            int to = random.nextInt(3000);
+            lists.addEdge(from, to);
+            adjacency.get(from).add(to);
+        }
+        for (int trial = 0; trial < 20; trial++) {
+            int start = random.nextInt(3000);
+            List<Integer> expected = new ArrayList<>();
+            recursiveDfs(adjacency, start, new boolean[3000], expected);
+            assertEquals(expected, lists.dfs(start));
+        }
+        
+        // Fifty times deeper than the default stack allows for recursion
+        int length = 1000000;
+        Graph chain = new Graph(length);
+        for (int i = 0; i < length - 1; i++) {
+            chain.addEdge(i, i + 1);
+        }
+        chain.addEdge(length - 1, 0);
+        List<Integer> visited = chain.dfs(length / 2);
+        assertEquals(length, visited.size());
+        assertEquals(length / 2 - 1, visited.get(length - 1).intValue());
+        chain.freeze();
+        assertEquals(visited, chain.dfs(length / 2));
+    }
 }
 
@@ -0,0 +1,129 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH comparison of lookups in the primitive-key tables against HashTable,
+ * FileOperations and java.util.HashMap at 1e3 to 1e7 entries.
+ * Each invocation performs one successful lookup of a random key.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main HashTableBenchmark -prof gc"
+ * </pre>
+ * {@code -prof gc} reports allocation per operation, which should be zero for
+ * IntHashTable and IntIntHashTable.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class HashTableBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private static final int LOOKUPS = 1 << 16;
+
+    private int[] lookupKeys;
+    private String[] lookupStrings;
+    private int cursor;
+
+    private HashTable<Integer, String> hashTable;
+    private FileOperations fileOperations;
+    private HashMap<Integer, String> hashMap;
+    private IntHashTable<String> intHashTable;
+    private IntIntHashTable intIntHashTable;
+
+    /**
+     * Fills every table with the same task ids.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        hashTable = new HashTable<>();
+        fileOperations = new FileOperations();
+        hashMap = new HashMap<>();
+        intHashTable = new IntHashTable<>();
+        intIntHashTable = new IntIntHashTable();
+        for (int i = 0; i < size; i++) {
+            String value = "TASK" + i;
+            hashTable.put(i, value);
+            fileOperations.put(Integer.toString(i), value);
+            hashMap.put(i, value);
+            intHashTable.put(i, value);
+            intIntHashTable.put(i, i);
+        }
+
+        Random random = new Random(42);
+        lookupKeys = new int[LOOKUPS];
+        lookupStrings = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupKeys[i] = random.nextInt(size);
+            lookupStrings[i] = Integer.toString(lookupKeys[i]);
+        }
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public String hashTableGet() {
+        return hashTable.get(lookupKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public String fileOperationsGet() {
+        return fileOperations.get(lookupStrings[nextIndex()]);
+    }
+
+    @Benchmark
+    public String hashMapGet() {
+        return hashMap.get(lookupKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public String intHashTableGet() {
+        return intHashTable.get(lookupKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public int intIntHashTableGet() {
+        return intIntHashTable.get(lookupKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public String intHashTablePut() {
+        int index = nextIndex();
+        return intHashTable.put(lookupKeys[index], lookupStrings[index]);
+    }
+
+    @Benchmark
+    public String hashTablePut() {
+        int index = nextIndex();
+        hashTable.put(lookupKeys[index], lookupStrings[index]);
+        return lookupStrings[index];
+    }
+}
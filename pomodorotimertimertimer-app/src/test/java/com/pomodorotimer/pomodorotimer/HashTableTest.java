@@ -5,6 +5,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
 /**
  * Unit tests for HashTable implementation.
  * Tests hash function, collision handling (chaining), and operations.
@@ -128,6 +132,50 @@ class HashTableTest {
             assertEquals(i, hashTable.get("key" + i));
         }
     }
+    
+    @Test
+    @DisplayName("Test incremental resize keeps every entry reachable")
+    void testIncrementalResize() {
+        HashTable<Integer, Integer> incremental = new HashTable<>(4, true);
+        boolean sawRehash = false;
+        for (int i = 0; i < 5000; i++) {
+            incremental.put(i, i);
+            sawRehash |= incremental.isRehashing();
+            if (i % 499 == 0) {
+                for (int j = 0; j <= i; j += 37) {
+                    assertEquals(j, incremental.get(j));
+                }
+            }
+        }
+        assertTrue(sawRehash);
+        assertEquals(5000, incremental.size());
+        assertTrue(incremental.capacity() >= 5000 / 0.75 / 2);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, incremental.get(i));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test updates and removes while rehashing")
+    void testIncrementalChurn() {
+        HashTable<Integer, Integer> incremental = new HashTable<>(2, true);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(3000);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key), incremental.remove(key));
+            } else {
+                expected.put(key, i);
+                incremental.put(key, i);
+            }
+        }
+        assertEquals(expected.size(), incremental.size());
+        for (int key = 0; key < 3000; key++) {
+            assertEquals(expected.get(key), incremental.get(key));
+        }
+        incremental.clear();
+        assertFalse(incremental.isRehashing());
+        assertNull(incremental.get(1));
+    }
 }
-
-
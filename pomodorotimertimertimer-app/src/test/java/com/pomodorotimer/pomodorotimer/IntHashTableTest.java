@@ -0,0 +1,125 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for IntHashTable implementation.
+ * Tests linear probing, zero key handling, backward-shift deletion and resize.
+ */
+@DisplayName("IntHashTable Tests")
+class IntHashTableTest {
+
+    private IntHashTable<String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new IntHashTable<>();
+    }
+
+    @Test
+    @DisplayName("Test empty table")
+    void testEmptyTable() {
+        assertTrue(table.isEmpty());
+        assertEquals(0, table.size());
+        assertNull(table.get(42));
+        assertFalse(table.containsKey(42));
+        assertNull(table.remove(42));
+    }
+
+    @Test
+    @DisplayName("Test put, get and update")
+    void testPutAndGet() {
+        assertNull(table.put(1, "one"));
+        assertNull(table.put(-7, "minus seven"));
+        assertEquals("one", table.put(1, "uno"));
+
+        assertEquals("uno", table.get(1));
+        assertEquals("minus seven", table.get(-7));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("Test zero key is a normal key")
+    void testZeroKey() {
+        assertFalse(table.containsKey(0));
+        table.put(0, "zero");
+        assertTrue(table.containsKey(0));
+        assertEquals("zero", table.get(0));
+        assertEquals(1, table.size());
+        assertEquals("zero", table.remove(0));
+        assertFalse(table.containsKey(0));
+        assertNull(table.remove(0));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test null values are distinguishable from absent keys")
+    void testNullValue() {
+        table.put(5, null);
+        assertTrue(table.containsKey(5));
+        assertNull(table.get(5));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("Test resize keeps all entries")
+    void testResize() {
+        IntHashTable<Integer> small = new IntHashTable<>(2);
+        int initialCapacity = small.capacity();
+        for (int i = 1; i <= 1000; i++) {
+            small.put(i * 31, i);
+        }
+        assertTrue(small.capacity() > initialCapacity);
+        assertEquals(1000, small.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i, small.get(i * 31));
+        }
+    }
+
+    @Test
+    @DisplayName("Test random insert/delete churn against HashMap")
+    void testChurnMatchesHashMap() {
+        IntHashTable<Integer> churn = new IntHashTable<>(64);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(200) - 100;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, i), churn.put(key, i));
+            } else {
+                assertEquals(expected.remove(key), churn.remove(key));
+            }
+        }
+        assertEquals(expected.size(), churn.size());
+        for (int key = -100; key < 100; key++) {
+            assertEquals(expected.get(key), churn.get(key));
+            assertEquals(expected.containsKey(key), churn.containsKey(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Test clear")
+    void testClear() {
+        table.put(0, "zero");
+        table.put(1, "one");
+        int capacity = table.capacity();
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertNull(table.get(1));
+        assertFalse(table.containsKey(0));
+        assertEquals(capacity, table.capacity());
+    }
+
+    @Test
+    @DisplayName("Test invalid expected size")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashTable<String>(-1));
+    }
+}
@@ -0,0 +1,119 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for IntIntHashTable implementation.
+ * Tests primitive values, default values, counters and deletion.
+ */
+@DisplayName("IntIntHashTable Tests")
+class IntIntHashTableTest {
+
+    private IntIntHashTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new IntIntHashTable();
+    }
+
+    @Test
+    @DisplayName("Test empty table")
+    void testEmptyTable() {
+        assertTrue(table.isEmpty());
+        assertEquals(0, table.get(3));
+        assertEquals(-1, table.getOrDefault(3, -1));
+        assertFalse(table.containsKey(3));
+    }
+
+    @Test
+    @DisplayName("Test put, get and remove")
+    void testPutGetRemove() {
+        assertEquals(0, table.put(10, 100));
+        assertEquals(100, table.put(10, 200));
+        table.put(0, 5);
+
+        assertEquals(200, table.get(10));
+        assertEquals(5, table.getOrDefault(0, -1));
+        assertEquals(2, table.size());
+
+        assertEquals(200, table.remove(10));
+        assertEquals(5, table.remove(0));
+        assertEquals(0, table.remove(10));
+        assertEquals(0, table.remove(0));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test addTo counters")
+    void testAddTo() {
+        assertEquals(3, table.addTo(7, 3));
+        assertEquals(5, table.addTo(7, 2));
+        assertEquals(1, table.addTo(0, 1));
+        assertEquals(2, table.addTo(0, 1));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("Test forEach visits every entry")
+    void testForEach() {
+        for (int i = 0; i < 200; i++) {
+            table.put(i, i * 2);
+        }
+        Map<Integer, Integer> seen = new HashMap<>();
+        table.forEach((key, value) -> assertNull(seen.put(key, value)));
+        assertEquals(200, seen.size());
+        assertEquals(0, seen.get(0).intValue());
+        assertEquals(398, seen.get(199).intValue());
+    }
+
+    @Test
+    @DisplayName("Test random churn against HashMap")
+    void testChurnMatchesHashMap() {
+        IntIntHashTable churn = new IntIntHashTable(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 50000; i++) {
+            int key = random.nextInt(500);
+            switch (random.nextInt(3)) {
+                case 0:
+                    Integer previous = expected.put(key, i);
+                    assertEquals(previous == null ? 0 : previous, churn.put(key, i));
+                    break;
+                case 1:
+                    expected.merge(key, 1, Integer::sum);
+                    churn.addTo(key, 1);
+                    break;
+                default:
+                    Integer removed = expected.remove(key);
+                    assertEquals(removed == null ? 0 : removed, churn.remove(key));
+                    break;
+            }
+        }
+        assertEquals(expected.size(), churn.size());
+        for (int key = 0; key < 500; key++) {
+            assertEquals(expected.containsKey(key), churn.containsKey(key));
+            assertEquals(expected.getOrDefault(key, -1).intValue(), churn.getOrDefault(key, -1));
+        }
+    }
+
+    @Test
+    @DisplayName("Test clear keeps capacity")
+    void testClear() {
+        for (int i = 0; i < 100; i++) {
+            table.put(i, i);
+        }
+        int capacity = table.capacity();
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertFalse(table.containsKey(0));
+        assertEquals(capacity, table.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new IntIntHashTable(-1));
+    }
+}
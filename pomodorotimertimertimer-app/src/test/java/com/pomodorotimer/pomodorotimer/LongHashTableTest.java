@@ -0,0 +1,138 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for LongHashTable implementation.
+ * Tests long keys beyond the int range, zero key handling and deletion.
+ */
+@DisplayName("LongHashTable Tests")
+class LongHashTableTest {
+
+    private LongHashTable<String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new LongHashTable<>();
+    }
+
+    @Test
+    @DisplayName("Test empty table")
+    void testEmptyTable() {
+        assertTrue(table.isEmpty());
+        assertEquals(0, table.size());
+        assertNull(table.get(42));
+        assertFalse(table.containsKey(42));
+        assertNull(table.remove(42));
+    }
+
+    @Test
+    @DisplayName("Test put, get and update")
+    void testPutAndGet() {
+        assertNull(table.put(1, "one"));
+        assertNull(table.put(-7, "minus seven"));
+        assertEquals("one", table.put(1, "uno"));
+
+        assertEquals("uno", table.get(1));
+        assertEquals("minus seven", table.get(-7));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("Test keys differing only in high bits")
+    void testHighBits() {
+        table.put(1L, "low");
+        table.put(1L << 40 | 1L, "high");
+        assertEquals("low", table.get(1L));
+        assertEquals("high", table.get(1L << 40 | 1L));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("Test zero key is a normal key")
+    void testZeroKey() {
+        assertFalse(table.containsKey(0));
+        table.put(0, "zero");
+        assertTrue(table.containsKey(0));
+        assertEquals("zero", table.get(0));
+        assertEquals(1, table.size());
+        assertEquals("zero", table.remove(0));
+        assertFalse(table.containsKey(0));
+        assertNull(table.remove(0));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test null values are distinguishable from absent keys")
+    void testNullValue() {
+        table.put(5, null);
+        assertTrue(table.containsKey(5));
+        assertNull(table.get(5));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("Test resize keeps all entries")
+    void testResize() {
+        LongHashTable<Integer> small = new LongHashTable<>(2);
+        int initialCapacity = small.capacity();
+        for (int i = 1; i <= 1000; i++) {
+            small.put(i * 31L << 20, i);
+        }
+        assertTrue(small.capacity() > initialCapacity);
+        assertEquals(1000, small.size());
+        for (int i = 1; i <= 1000; i++) {
+            assertEquals(i, small.get(i * 31L << 20));
+        }
+    }
+
+    @Test
+    @DisplayName("Test random insert/delete churn against HashMap")
+    void testChurnMatchesHashMap() {
+        LongHashTable<Integer> churn = new LongHashTable<>(64);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 50000; i++) {
+            long key = (random.nextInt(200) - 100) * 0x100000000L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, i), churn.put(key, i));
+            } else {
+                assertEquals(expected.remove(key), churn.remove(key));
+            }
+        }
+        assertEquals(expected.size(), churn.size());
+        for (long key = -100L << 32; key < 100L << 32; key += 1L << 32) {
+            assertEquals(expected.get(key), churn.get(key));
+            assertEquals(expected.containsKey(key), churn.containsKey(key));
+        }
+        Map<Long, Integer> seen = new HashMap<>();
+        churn.forEach((key, value) -> assertNull(seen.put(key, value)));
+        assertEquals(expected, seen);
+    }
+
+    @Test
+    @DisplayName("Test clear")
+    void testClear() {
+        table.put(0, "zero");
+        table.put(1, "one");
+        int capacity = table.capacity();
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertNull(table.get(1));
+        assertFalse(table.containsKey(0));
+        assertEquals(capacity, table.capacity());
+    }
+
+    @Test
+    @DisplayName("Test invalid expected size")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashTable<String>(-1));
+    }
+}
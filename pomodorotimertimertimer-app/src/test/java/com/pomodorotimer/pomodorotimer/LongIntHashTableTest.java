@@ -0,0 +1,95 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for LongIntHashTable implementation.
+ * Tests wide keys, the zero key, iteration and deletion.
+ */
+@DisplayName("LongIntHashTable Tests")
+class LongIntHashTableTest {
+
+    private LongIntHashTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new LongIntHashTable();
+    }
+
+    @Test
+    @DisplayName("Test put, get and remove")
+    void testPutGetRemove() {
+        long wide = (5L << 32) | 7;
+        assertEquals(0, table.put(wide, 100));
+        assertEquals(100, table.put(wide, 200));
+        table.put(0L, 5);
+        table.put(7L, 9);
+
+        assertEquals(200, table.get(wide));
+        assertEquals(9, table.get(7L));
+        assertEquals(5, table.getOrDefault(0L, -1));
+        assertEquals(-1, table.getOrDefault(5L << 32, -1));
+        assertEquals(3, table.size());
+        assertEquals(3, table.addTo(Long.MIN_VALUE, 3));
+        assertEquals(5, table.addTo(Long.MIN_VALUE, 2));
+
+        assertEquals(200, table.remove(wide));
+        assertEquals(5, table.remove(0L));
+        assertEquals(0, table.remove(wide));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    @DisplayName("Test forEach visits every entry")
+    void testForEach() {
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            long key = ((long) (i % 37) << 32) | (i * 31L);
+            expected.put(key, i);
+            table.put(key, i);
+        }
+        Map<Long, Integer> seen = new HashMap<>();
+        table.forEach((key, value) -> assertNull(seen.put(key, value)));
+        assertEquals(expected, seen);
+
+        // Values may be updated while iterating
+        table.forEach((key, value) -> table.put(key, value + 1));
+        assertEquals(1, table.get(0L));
+    }
+
+    @Test
+    @DisplayName("Test random churn against HashMap")
+    void testChurnMatchesHashMap() {
+        LongIntHashTable churn = new LongIntHashTable(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 50000; i++) {
+            long key = ((long) random.nextInt(20) << 32) | random.nextInt(25);
+            if (random.nextInt(3) < 2) {
+                Integer previous = expected.put(key, i);
+                assertEquals(previous == null ? 0 : previous, churn.put(key, i));
+            } else {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? 0 : removed, churn.remove(key));
+            }
+        }
+        assertEquals(expected.size(), churn.size());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertTrue(churn.containsKey(entry.getKey()));
+            assertEquals(entry.getValue().intValue(), churn.get(entry.getKey()));
+        }
+
+        int capacity = churn.capacity();
+        churn.clear();
+        assertTrue(churn.isEmpty());
+        assertEquals(capacity, churn.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashTable(-1));
+    }
+}
@@ -0,0 +1,73 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Cold-open time of a persistent FileOperations table against the entry count,
+ * compared with rebuilding an in-memory table from the same data. Opening only
+ * maps the file, so it should stay flat while the rebuild grows linearly.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.MappedFileStoreBenchmark
+ * </pre>
+ * The page cache is not dropped between runs, so "cold" means a fresh mapping
+ * in a warm JVM, not a cold disk.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class MappedFileStoreBenchmark {
+
+    private static final int[] ENTRY_COUNTS = {1_000, 10_000, 100_000, 1_000_000};
+    private static final int OPENS = 20;
+
+    private MappedFileStoreBenchmark() {
+    }
+
+    /**
+     * Builds one store per entry count and prints the open and rebuild times.
+     *
+     * @param args unused
+     * @throws IOException if a store cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("mapped-store-bench");
+        System.out.printf("%10s %14s %18s %14s%n", "entries", "open (us)", "open+get (us)", "rebuild (us)");
+        for (int entries : ENTRY_COUNTS) {
+            Path file = dir.resolve("store-" + entries + ".db");
+            try (FileOperations store = new FileOperations(file)) {
+                for (int i = 0; i < entries; i++) {
+                    store.put("TASK" + i, "Task name " + i);
+                }
+            }
+
+            long openNanos = 0;
+            long openGetNanos = 0;
+            for (int run = 0; run < OPENS; run++) {
+                long start = System.nanoTime();
+                FileOperations store = new FileOperations(file);
+                long opened = System.nanoTime();
+                store.get("TASK" + (run * 7919 % entries));
+                openGetNanos += System.nanoTime() - start;
+                openNanos += opened - start;
+                store.close();
+            }
+
+            long start = System.nanoTime();
+            FileOperations rebuilt = new FileOperations();
+            for (int i = 0; i < entries; i++) {
+                rebuilt.put("TASK" + i, "Task name " + i);
+            }
+            long rebuildNanos = System.nanoTime() - start;
+
+            System.out.printf("%10d %14.1f %18.1f %14.1f%n", entries,
+                openNanos / 1e3 / OPENS, openGetNanos / 1e3 / OPENS, rebuildNanos / 1e3);
+            MappedFileStore.delete(file);
+        }
+        Files.delete(dir);
+    }
+}
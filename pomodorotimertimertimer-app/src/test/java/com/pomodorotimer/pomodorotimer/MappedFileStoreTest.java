@@ -0,0 +1,210 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for MappedFileStore implementation.
+ * Tests persistence across reopen, overflow strings and their compaction,
+ * resize generations and header validation.
+ */
+@DisplayName("MappedFileStore Tests")
+class MappedFileStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("tasks.db");
+    }
+
+    @Test
+    @DisplayName("Test put, get and remove")
+    void testBasicOperations() throws IOException {
+        try (MappedFileStore store = new MappedFileStore(file)) {
+            assertTrue(store.isEmpty());
+            store.put("TASK1", "Write report");
+            store.put("TASK2", "Review");
+            store.put("TASK1", "Write final report");
+
+            assertEquals("Write final report", store.get("TASK1"));
+            assertEquals("Review", store.get("TASK2"));
+            assertEquals(2, store.size());
+            assertTrue(store.containsKey("TASK2"));
+
+            assertEquals("Review", store.remove("TASK2"));
+            assertNull(store.remove("TASK2"));
+            assertNull(store.get("TASK2"));
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test entries survive close and reopen")
+    void testPersistence() throws IOException {
+        String longValue = repeat("ğüşıöç-long description ", 40);
+        try (MappedFileStore store = new MappedFileStore(file, 4)) {
+            for (int i = 0; i < 2000; i++) {
+                store.put("TASK" + i, i % 10 == 0 ? longValue + i : "name" + i);
+            }
+            store.remove("TASK7");
+        }
+        assertFalse(Files.exists(file.resolveSibling("tasks.db.tmp")));
+
+        try (MappedFileStore reopened = new MappedFileStore(file)) {
+            assertEquals(1999, reopened.size());
+            assertTrue(reopened.capacity() >= 2000);
+            assertNull(reopened.get("TASK7"));
+            for (int i = 0; i < 2000; i++) {
+                if (i != 7) {
+                    assertEquals(i % 10 == 0 ? longValue + i : "name" + i, reopened.get("TASK" + i));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test resize switches generation files without replacing the mapped file")
+    void testResizeGenerations() throws IOException {
+        int entries = 0;
+        try (MappedFileStore store = new MappedFileStore(file, 4)) {
+            int initialCapacity = store.capacity();
+            while (store.capacity() == initialCapacity) {
+                store.put("TASK" + entries, "name" + entries);
+                entries++;
+            }
+            assertEquals(file, store.getPath());
+            assertTrue(Files.exists(tempDir.resolve("tasks.db.1")));
+            assertEquals("1", new String(Files.readAllBytes(tempDir.resolve("tasks.db.gen")), "US-ASCII"));
+        }
+        // A crash between building a generation and switching to it leaves it behind
+        Files.write(tempDir.resolve("tasks.db.2"), new byte[] {1, 2, 3});
+
+        try (MappedFileStore reopened = new MappedFileStore(file)) {
+            assertEquals(entries, reopened.size());
+            assertEquals("name0", reopened.get("TASK0"));
+        }
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(tempDir.resolve("tasks.db.2")));
+
+        MappedFileStore.delete(file);
+        try (java.util.stream.Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Test long keys and values use the overflow area")
+    void testOverflowStrings() throws IOException {
+        try (MappedFileStore store = new MappedFileStore(file)) {
+            String longKey = repeat("k", 500);
+            String huge = repeat("v", 200000); // larger than the initial overflow area
+            store.put(longKey, "short");
+            store.put("short", huge);
+            store.put(longKey, huge + "!");
+            assertEquals(huge + "!", store.get(longKey));
+            assertEquals(huge, store.get("short"));
+            assertNull(store.get(repeat("k", 499)));
+        }
+    }
+
+    @Test
+    @DisplayName("Test rewriting long values reuses the overflow area")
+    void testOverflowCompaction() throws IOException {
+        try (MappedFileStore store = new MappedFileStore(file)) {
+            for (int i = 0; i < 20000; i++) {
+                store.put("TASK" + (i % 10), repeat("long description ", 10) + i);
+            }
+            for (int k = 0; k < 10; k++) {
+                assertEquals(repeat("long description ", 10) + (19990 + k), store.get("TASK" + k));
+            }
+        }
+        // 20000 updates append about 3.4 MB; only 10 values are live
+        long bytes = 0;
+        try (java.util.stream.Stream<Path> files = Files.list(tempDir)) {
+            for (Path stored : (Iterable<Path>) files::iterator) {
+                bytes += Files.size(stored);
+            }
+        }
+        assertTrue(bytes < 256 * 1024, "store takes " + bytes + " bytes");
+        try (MappedFileStore reopened = new MappedFileStore(file)) {
+            assertEquals(10, reopened.size());
+            assertEquals(repeat("long description ", 10) + 19999, reopened.get("TASK9"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test random churn against HashMap")
+    void testChurnMatchesHashMap() throws IOException {
+        Map<String, String> expected = new HashMap<>();
+        Random random = new Random(17);
+        try (MappedFileStore store = new MappedFileStore(file, 8)) {
+            for (int i = 0; i < 20000; i++) {
+                String key = "k" + random.nextInt(3000);
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(key), store.remove(key));
+                } else {
+                    String value = random.nextBoolean() ? "v" + i : repeat("x", 40) + i;
+                    expected.put(key, value);
+                    store.put(key, value);
+                }
+            }
+            assertEquals(expected.size(), store.size());
+            for (int k = 0; k < 3000; k++) {
+                assertEquals(expected.get("k" + k), store.get("k" + k));
+            }
+            assertTrue(store.getSearchTime("k1") >= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Test corrupt header is rejected")
+    void testCorruptHeader() throws IOException {
+        try (MappedFileStore store = new MappedFileStore(file)) {
+            store.put("a", "b");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0x7F}), 12); // size field
+        }
+        assertThrows(IOException.class, () -> new MappedFileStore(file));
+    }
+
+    @Test
+    @DisplayName("Test clear, closed store and invalid arguments")
+    void testClearAndInvalidArguments() throws IOException {
+        MappedFileStore store = new MappedFileStore(file);
+        store.put("a", repeat("x", 100));
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertNull(store.get("a"));
+        assertThrows(IllegalArgumentException.class, () -> store.put(null, "x"));
+        assertThrows(IllegalArgumentException.class, () -> store.put("x", null));
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.get("a"));
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileStore(file, 0));
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+}
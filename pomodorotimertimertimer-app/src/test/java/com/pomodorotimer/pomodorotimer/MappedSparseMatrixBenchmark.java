@@ -0,0 +1,128 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Startup cost of a saved map grid against regenerating it. Rebuilds the grid
+ * through {@link SparseMatrix#set} and through {@link CsrMatrix.Builder}, then
+ * writes it in both column encodings and times opening the mapped file, the
+ * first random lookups after opening, a full scan and a copy onto the heap.
+ * Each grid row holds a few runs of neighbouring cells, as terrain features do.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.MappedSparseMatrixBenchmark \
+ *     -Dexec.args="[nonZeros] [directory]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class MappedSparseMatrixBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final int PER_ROW = 40;
+    private static final int LOOKUPS = 1_000_000;
+
+    private MappedSparseMatrixBenchmark() {
+    }
+
+    /**
+     * Rebuilds, writes and reopens the grid, printing the time of each step.
+     *
+     * @param args optional non-zero count and directory for the files
+     * @throws IOException if the files cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int target = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Path directory = args.length > 1 ? Paths.get(args[1]) : Files.createTempDirectory("sparse-matrix");
+        int gridRows = Math.min(SIZE, Math.max(1, target / PER_ROW));
+        Random random = new Random(42);
+        int[] rows = new int[target];
+        int[] cols = new int[target];
+        int n = 0;
+        while (n < target) {
+            int row = random.nextInt(gridRows);
+            int start = random.nextInt(SIZE - 64);
+            int run = Math.min(target - n, 4 + random.nextInt(12));
+            for (int i = 0; i < run; i++) {
+                rows[n] = row;
+                cols[n] = start + i * (1 + random.nextInt(3));
+                n++;
+            }
+        }
+        int[] probeRows = new int[LOOKUPS];
+        int[] probeCols = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int cell = random.nextInt(n);
+            probeRows[i] = rows[cell];
+            probeCols[i] = random.nextBoolean() ? cols[cell] : random.nextInt(SIZE);
+        }
+        System.out.printf("%,d cells set on %,d x %,d, files in %s%n", n, gridRows, SIZE, directory);
+
+        long start = System.nanoTime();
+        SparseMatrix regenerated = new SparseMatrix(gridRows, SIZE);
+        for (int i = 0; i < n; i++) {
+            regenerated.set(rows[i], cols[i], i + 1);
+        }
+        System.out.printf("%-34s %9.1f ms%n", "rebuild via SparseMatrix.set", (System.nanoTime() - start) / 1e6);
+        regenerated = null;
+
+        start = System.nanoTime();
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(gridRows, SIZE);
+        for (int i = 0; i < n; i++) {
+            builder.set(rows[i], cols[i], i + 1);
+        }
+        CsrMatrix matrix = builder.build();
+        builder = null;
+        System.out.printf("%-34s %9.1f ms (%,d non-zeros)%n", "rebuild via CsrMatrix.Builder",
+            (System.nanoTime() - start) / 1e6, matrix.getNonZeroCount());
+        rows = null;
+        cols = null;
+
+        long expected = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            expected += matrix.get(probeRows[i], probeCols[i]);
+        }
+        for (boolean compress : new boolean[] {false, true}) {
+            String label = compress ? "compressed" : "plain";
+            Path path = directory.resolve(label + ".psm");
+            start = System.nanoTime();
+            MappedSparseMatrix.write(matrix, path, compress);
+            System.out.printf("%-34s %9.1f ms, %,d bytes (%.2f B/non-zero)%n", "write " + label,
+                (System.nanoTime() - start) / 1e6, Files.size(path),
+                (double) Files.size(path) / matrix.getNonZeroCount());
+
+            start = System.nanoTime();
+            try (MappedSparseMatrix mapped = MappedSparseMatrix.open(path)) {
+                long openNanos = System.nanoTime() - start;
+                start = System.nanoTime();
+                long sum = 0;
+                for (int i = 0; i < LOOKUPS; i++) {
+                    sum += mapped.get(probeRows[i], probeCols[i]);
+                }
+                long getNanos = System.nanoTime() - start;
+                start = System.nanoTime();
+                long[] scan = new long[1];
+                mapped.forEachNonZero((row, col, value) -> scan[0] += value);
+                long scanNanos = System.nanoTime() - start;
+                start = System.nanoTime();
+                CsrMatrix copy = mapped.toCsr();
+                long copyNanos = System.nanoTime() - start;
+                System.out.printf("%-34s %9.3f ms, get %5.0f ns, scan %7.1f ms, toCsr %7.1f ms, %s%n",
+                    "open " + label, openNanos / 1e6, (double) getNanos / LOOKUPS, scanNanos / 1e6,
+                    copyNanos / 1e6, sum == expected && copy.getNonZeroCount() == matrix.getNonZeroCount()
+                        ? "checksum ok" : "CHECKSUM MISMATCH");
+            }
+            MappedSparseMatrix.delete(path);
+        }
+        if (args.length < 2) {
+            Files.delete(directory);
+        }
+    }
+}
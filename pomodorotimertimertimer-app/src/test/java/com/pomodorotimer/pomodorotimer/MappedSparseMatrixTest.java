@@ -0,0 +1,207 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for MappedSparseMatrix implementation.
+ * Tests round trips in both column encodings, reads across mapping segments,
+ * and rejection of damaged files.
+ */
+@DisplayName("MappedSparseMatrix Tests")
+class MappedSparseMatrixTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static CsrMatrix randomMatrix(int rows, int cols, int cells, long seed) {
+        Random random = new Random(seed);
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(rows, cols);
+        for (int i = 0; i < cells; i++) {
+            // Runs of neighbouring columns plus far jumps that need multi-byte varints
+            int row = random.nextInt(rows);
+            int col = random.nextInt(4) == 0 ? random.nextInt(cols) : random.nextInt(Math.min(cols, 300));
+            builder.set(row, col, random.nextInt(1000) - 500);
+        }
+        return builder.build();
+    }
+
+    private static void assertSameCells(CsrMatrix expected, MappedSparseMatrix actual) {
+        assertEquals(expected.getRows(), actual.getRows());
+        assertEquals(expected.getCols(), actual.getCols());
+        assertEquals(expected.getNonZeroCount(), actual.getNonZeroCount());
+        List<String> expectedCells = new ArrayList<>();
+        expected.forEachNonZero((row, col, value) -> expectedCells.add(row + "," + col + "=" + value));
+        List<String> actualCells = new ArrayList<>();
+        actual.forEachNonZero((row, col, value) -> {
+            actualCells.add(row + "," + col + "=" + value);
+            assertEquals(value, actual.get(row, col));
+        });
+        assertEquals(expectedCells, actualCells);
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            int row = random.nextInt(expected.getRows());
+            int col = random.nextInt(expected.getCols());
+            assertEquals(expected.get(row, col), actual.get(row, col));
+            assertEquals(expected.getRowNonZeroCount(row), actual.getRowNonZeroCount(row));
+        }
+    }
+
+    @Test
+    @DisplayName("Test round trip with plain and compressed columns")
+    void testRoundTrip() throws IOException {
+        CsrMatrix matrix = randomMatrix(500, Integer.MAX_VALUE, 20000, 3);
+        Path plain = tempDir.resolve("plain.psm");
+        Path compressed = tempDir.resolve("compressed.psm");
+        MappedSparseMatrix.write(matrix, plain);
+        MappedSparseMatrix.write(matrix, compressed, true);
+        assertTrue(Files.size(compressed) < Files.size(plain));
+
+        for (Path path : new Path[] {plain, compressed}) {
+            try (MappedSparseMatrix mapped = MappedSparseMatrix.open(path)) {
+                assertEquals(path == compressed, mapped.isCompressed());
+                assertSameCells(matrix, mapped);
+                CsrMatrix copy = mapped.toCsr();
+                assertArrayEquals(matrix.rowPtr(), copy.rowPtr());
+                assertArrayEquals(matrix.colIdx(), copy.colIdx());
+                assertArrayEquals(matrix.values(), copy.values());
+
+                List<Integer> rowCols = new ArrayList<>();
+                mapped.forEachInRow(7, (row, col, value) -> rowCols.add(col));
+                List<Integer> expected = new ArrayList<>();
+                matrix.forEachInRow(7, (row, col, value) -> expected.add(col));
+                assertEquals(expected, rowCols);
+            }
+        }
+
+        SparseMatrix source = new SparseMatrix(1000, 1000);
+        source.set(0, 999, 5);
+        source.set(999, 0, -3);
+        source.set(500, 500, 1);
+        MappedSparseMatrix.write(source.toCsr(), plain, true);
+        try (MappedSparseMatrix mapped = MappedSparseMatrix.open(plain)) {
+            SparseMatrix loaded = mapped.toSparseMatrix();
+            assertEquals(3, loaded.getNonZeroCount());
+            assertEquals(5, loaded.get(0, 999));
+            assertEquals(-3, loaded.get(999, 0));
+            assertEquals(0, mapped.get(500, 499));
+        }
+    }
+
+    @Test
+    @DisplayName("Test reads across mapping segments")
+    void testSegments() throws IOException {
+        CsrMatrix matrix = randomMatrix(3000, 100000, 60000, 8);
+        for (boolean compress : new boolean[] {false, true}) {
+            Path path = tempDir.resolve("segments-" + compress + ".psm");
+            MappedSparseMatrix.write(matrix, path, compress);
+            // 4 KB segments put hundreds of boundaries inside every section
+            try (MappedSparseMatrix mapped = MappedSparseMatrix.open(path, 12)) {
+                assertSameCells(matrix, mapped);
+                CsrMatrix copy = mapped.toCsr();
+                assertArrayEquals(matrix.colIdx(), copy.colIdx());
+                assertArrayEquals(matrix.values(), copy.values());
+            }
+        }
+
+        Path empty = tempDir.resolve("empty.psm");
+        MappedSparseMatrix.write(new CsrMatrix.Builder(0, 0).build(), empty, true);
+        try (MappedSparseMatrix mapped = MappedSparseMatrix.open(empty, 12)) {
+            assertEquals(0, mapped.getNonZeroCount());
+            assertEquals(0, mapped.toCsr().getNonZeroCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Test damaged files are rejected")
+    void testCorruptFiles() throws IOException {
+        Path path = tempDir.resolve("matrix.psm");
+        MappedSparseMatrix.write(randomMatrix(100, 100, 500, 5), path);
+        long length = Files.size(path);
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(13);
+            int original = file.read();
+            file.seek(13);
+            file.write(original ^ 1);
+            assertThrows(IOException.class, () -> MappedSparseMatrix.open(path));
+            file.seek(13);
+            file.write(original);
+            MappedSparseMatrix.open(path).close();
+
+            // A valid header over a file cut short
+            file.setLength(length - 4);
+            assertThrows(IOException.class, () -> MappedSparseMatrix.open(path));
+            file.setLength(10);
+            assertThrows(IOException.class, () -> MappedSparseMatrix.open(path));
+        }
+
+        Files.write(path, new byte[MappedSparseMatrix.HEADER_SIZE * 2]);
+        assertThrows(IOException.class, () -> MappedSparseMatrix.open(path));
+        assertFalse(Files.exists(tempDir.resolve("matrix.psm.tmp")));
+    }
+
+    @Test
+    @DisplayName("Test bounds, overwrite and close")
+    void testBoundsAndClose() throws IOException {
+        Path path = tempDir.resolve("matrix.psm");
+        MappedSparseMatrix.write(randomMatrix(10, 10, 30, 1), path);
+        CsrMatrix replacement = new CsrMatrix.Builder(20, 30).set(19, 29, 4).build();
+        MappedSparseMatrix.write(replacement, path);
+
+        MappedSparseMatrix mapped = MappedSparseMatrix.open(path);
+        assertEquals(20, mapped.getRows());
+        assertEquals(4, mapped.get(19, 29));
+        assertEquals(path, mapped.getPath());
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(20, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.forEachInRow(20, (r, c, v) -> { }));
+        mapped.close();
+        mapped.close();
+        assertThrows(IllegalStateException.class, () -> mapped.get(0, 0));
+        assertThrows(IllegalStateException.class, () -> mapped.forEachNonZero((r, c, v) -> { }));
+        assertThrows(IllegalStateException.class, mapped::toCsr);
+    }
+
+    @Test
+    @DisplayName("Test writing over an open matrix leaves it readable")
+    void testWriteOverOpenMatrix() throws IOException {
+        Path path = tempDir.resolve("matrix.psm");
+        CsrMatrix first = randomMatrix(50, 50, 200, 2);
+        CsrMatrix second = randomMatrix(60, 40, 300, 3);
+        CsrMatrix third = new CsrMatrix.Builder(5, 5).set(4, 4, 9).build();
+        MappedSparseMatrix.write(first, path);
+        try (MappedSparseMatrix before = MappedSparseMatrix.open(path)) {
+            MappedSparseMatrix.write(second, path, true);
+            assertSameCells(first, before);
+            try (MappedSparseMatrix after = MappedSparseMatrix.open(path)) {
+                assertSameCells(second, after);
+                MappedSparseMatrix.write(third, path);
+                assertSameCells(second, after);
+            }
+        }
+        try (MappedSparseMatrix latest = MappedSparseMatrix.open(path)) {
+            assertSameCells(third, latest);
+        }
+        assertEquals("2", new String(Files.readAllBytes(tempDir.resolve("matrix.psm.gen")), "US-ASCII"));
+        assertTrue(Files.exists(tempDir.resolve("matrix.psm.2")));
+        assertFalse(Files.exists(tempDir.resolve("matrix.psm.1")));
+        assertFalse(Files.exists(path));
+
+        MappedSparseMatrix.delete(path);
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Point lookup and range query latency of PagedBPlusTree with a bounded cache.
+ * The default run indexes 100M keys (about 2.5 GB on disk) behind a 16 MB
+ * buffer pool, far more than the cache can hold.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.PagedBPlusTreeBenchmark \
+ *     -Dexec.args="[keys] [cachePages] [file]"
+ * </pre>
+ * The file is kept and reused by later runs with the same key count, since
+ * building 100M keys takes several minutes.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class PagedBPlusTreeBenchmark {
+
+    private static final int LOOKUPS = 1_000_000;
+    private static final int RANGES = 10_000;
+    private static final int RANGE_WIDTH = 100;
+
+    private PagedBPlusTreeBenchmark() {
+    }
+
+    /**
+     * Builds the index if needed, then times random lookups and range queries.
+     *
+     * @param args optional key count, cache pages and index file
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        long keys = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+        int cachePages = args.length > 1 ? Integer.parseInt(args[1]) : 4096;
+        Path file = args.length > 2 ? Paths.get(args[2])
+            : Paths.get(System.getProperty("java.io.tmpdir"), "paged-bplustree-" + keys + ".db");
+
+        try (PagedBPlusTree tree = new PagedBPlusTree(file, cachePages)) {
+            if (tree.size() != keys) {
+                System.out.println("Building " + keys + " keys in " + file);
+                long start = System.nanoTime();
+                for (long key = tree.size(); key < keys; key++) {
+                    tree.insert((int) key, "Task " + key);
+                }
+                tree.flush();
+                System.out.printf("Built in %.1f s, height %d, %d MB%n", (System.nanoTime() - start) / 1e9,
+                    tree.getHeight(), Files.size(file) >> 20);
+            }
+        }
+
+        try (PagedBPlusTree tree = new PagedBPlusTree(file, cachePages)) {
+            BufferPool pool = tree.getBufferPool();
+            Random random = new Random(42);
+            long found = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < LOOKUPS; i++) {
+                if (tree.search(random.nextInt((int) keys)) != null) {
+                    found++;
+                }
+            }
+            long lookupNanos = System.nanoTime() - start;
+            System.out.printf("point lookup: %.0f ns/op, %d found, hit ratio %.3f%n",
+                (double) lookupNanos / LOOKUPS, found, hitRatio(pool));
+
+            long rows = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < RANGES; i++) {
+                int from = random.nextInt((int) Math.max(1, keys - RANGE_WIDTH));
+                List<String> range = tree.rangeQuery(from, from + RANGE_WIDTH - 1);
+                rows += range.size();
+            }
+            long rangeNanos = System.nanoTime() - start;
+            System.out.printf("rangeQuery(%d): %.0f ns/op, %.0f rows/s, hit ratio %.3f%n", RANGE_WIDTH,
+                (double) rangeNanos / RANGES, rows * 1e9 / rangeNanos, hitRatio(pool));
+        }
+    }
+
+    private static double hitRatio(BufferPool pool) {
+        long total = pool.getHitCount() + pool.getMissCount();
+        return total == 0 ? 0 : (double) pool.getHitCount() / total;
+    }
+}
@@ -0,0 +1,136 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Unit tests for PagedBPlusTree implementation.
+ * Tests search, splits at several levels, range queries and reopening the file.
+ */
+@DisplayName("PagedBPlusTree Tests")
+class PagedBPlusTreeTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("index.db");
+    }
+
+    @Test
+    @DisplayName("Test insert, update and search")
+    void testInsertAndSearch() throws IOException {
+        try (PagedBPlusTree tree = new PagedBPlusTree(file)) {
+            assertNull(tree.search(1));
+            tree.insert(10, "ten");
+            tree.insert(5, "five");
+            tree.insert(20, "twenty");
+            tree.insert(10, "TEN");
+
+            assertEquals("TEN", tree.search(10));
+            assertEquals("five", tree.search(5));
+            assertEquals("twenty", tree.search(20));
+            assertNull(tree.search(15));
+            assertEquals(3, tree.size());
+            assertEquals(1, tree.getHeight());
+        }
+    }
+
+    @Test
+    @DisplayName("Test random inserts with a small cache match TreeMap")
+    void testRandomInsertsMatchTreeMap() throws IOException {
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        Random random = new Random(21);
+        try (PagedBPlusTree tree = new PagedBPlusTree(file, 16)) {
+            for (int i = 0; i < 200000; i++) {
+                int key = random.nextInt(1000000) - 500000;
+                String value = "task-" + key + (i % 50 == 0 ? repeat('x', random.nextInt(300)) : "");
+                expected.put(key, value);
+                tree.insert(key, value);
+            }
+            assertEquals(expected.size(), tree.size());
+            assertTrue(tree.getHeight() >= 3);
+            assertTrue(tree.getBufferPool().getEvictionCount() > 0);
+            for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+                assertEquals(entry.getValue(), tree.search(entry.getKey()));
+            }
+            assertNull(tree.search(600000));
+
+            List<String> range = tree.rangeQuery(-1000, 1000);
+            assertEquals(new ArrayList<>(expected.subMap(-1000, true, 1000, true).values()), range);
+        }
+    }
+
+    @Test
+    @DisplayName("Test updates with growing values force compaction and splits")
+    void testGrowingUpdates() throws IOException {
+        try (PagedBPlusTree tree = new PagedBPlusTree(file, 8)) {
+            for (int i = 0; i < 300; i++) {
+                tree.insert(i, "v" + i);
+            }
+            for (int round = 1; round <= 5; round++) {
+                for (int i = 0; i < 300; i++) {
+                    tree.insert(i, repeat((char) ('a' + round), round * 40) + i);
+                }
+            }
+            assertEquals(300, tree.size());
+            for (int i = 0; i < 300; i++) {
+                assertEquals(repeat('f', 200) + i, tree.search(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test tree survives close and reopen")
+    void testReopen() throws IOException {
+        try (PagedBPlusTree tree = new PagedBPlusTree(file, 8)) {
+            for (int i = 0; i < 50000; i++) {
+                tree.insert(i * 2, "Task " + i);
+            }
+        }
+        try (PagedBPlusTree tree = new PagedBPlusTree(file, 8)) {
+            assertEquals(50000, tree.size());
+            assertEquals("Task 12345", tree.search(24690));
+            assertNull(tree.search(24691));
+            assertEquals(3, tree.rangeQuery(100, 104).size());
+            assertTrue(tree.rangeQuery(10, 5).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments and foreign files")
+    void testInvalidArguments() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new PagedBPlusTree(file, 4));
+        try (PagedBPlusTree tree = new PagedBPlusTree(file)) {
+            assertThrows(IllegalArgumentException.class, () -> tree.insert(1, null));
+            assertThrows(IllegalArgumentException.class,
+                () -> tree.insert(1, repeat('x', PagedBPlusTree.MAX_VALUE_BYTES + 1)));
+        }
+        Path foreign = tempDir.resolve("foreign.db");
+        Files.write(foreign, new byte[PagedBPlusTree.PAGE_SIZE]);
+        assertThrows(IOException.class, () -> new PagedBPlusTree(foreign));
+    }
+
+    private static String repeat(char c, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scaling of the direction-optimizing BFS in Graph with the pool size, on a
+ * frozen random graph. Compares the sequential frozen BFS, the
+ * direction-optimizing search on the calling thread, and pools of 1 to 16
+ * threads, and prints how many levels ran top-down and bottom-up.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.ParallelBfsBenchmark \
+ *     -Dexec.args="[vertices] [degree] [runs]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class ParallelBfsBenchmark {
+
+    private ParallelBfsBenchmark() {
+    }
+
+    /**
+     * Builds the graph and times BFS from random sources.
+     *
+     * @param args optional vertex count, edges per vertex and searches per configuration
+     */
+    public static void main(String[] args) {
+        int vertices = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        int degree = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        Random random = new Random(42);
+        Graph graph = new Graph(vertices);
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            for (int i = 0; i < degree; i++) {
+                graph.addEdge(vertex, random.nextInt(vertices));
+            }
+        }
+        graph.freeze();
+        int[] sources = new int[runs];
+        for (int r = 0; r < runs; r++) {
+            sources[r] = random.nextInt(vertices);
+        }
+        System.out.printf("%,d vertices, %,d edges, %d CPUs%n", vertices, graph.getEdgeCount(),
+            Runtime.getRuntime().availableProcessors());
+
+        long visited = 0;
+        long start = System.nanoTime();
+        for (int source : sources) {
+            visited += graph.bfs(source).size();
+        }
+        double sequential = (System.nanoTime() - start) / 1e6 / runs;
+        System.out.printf("%-22s %8.1f ms/search (%,d visited)%n", "sequential top-down", sequential, visited / runs);
+
+        int[] threadCounts = {0, 1, 2, 4, 8, 16};
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = threads == 0 ? null : new ForkJoinPool(threads);
+            try {
+                graph.bfs(sources[0], pool);
+                visited = 0;
+                start = System.nanoTime();
+                for (int source : sources) {
+                    visited += graph.bfs(source, pool).size();
+                }
+                double millis = (System.nanoTime() - start) / 1e6 / runs;
+                ParallelBfs search = graph.parallelSearch(pool);
+                search.search(sources[0], -1);
+                System.out.printf("%-22s %8.1f ms/search (%,d visited), %.2fx sequential,"
+                    + " levels %d top-down + %d bottom-up%n",
+                    threads == 0 ? "calling thread" : threads + " threads", millis, visited / runs,
+                    sequential / millis, search.topDownSteps(), search.bottomUpSteps());
+            } finally {
+                if (pool != null) {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for PomodoroEventDispatcher.
+ * Tests fan-out, tick coalescing, dropping and isolation from slow listeners.
+ */
+@DisplayName("PomodoroEventDispatcher Tests")
+class PomodoroEventDispatcherTest {
+
+    /**
+     * Listener recording events, optionally blocking until released.
+     */
+    private static class RecordingListener implements PomodoroTimerListener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch release;
+        final CountDownLatch firstEvent = new CountDownLatch(1);
+
+        RecordingListener(CountDownLatch release) {
+            this.release = release;
+        }
+
+        private void record(String event) {
+            firstEvent.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(event);
+        }
+
+        @Override public void onWorkStarted() { record("workStarted"); }
+        @Override public void onShortBreakStarted() { record("shortBreakStarted"); }
+        @Override public void onLongBreakStarted() { record("longBreakStarted"); }
+        @Override public void onTimerStopped() { record("stopped"); }
+        @Override public void onTick(int remainingSeconds) { record("tick:" + remainingSeconds); }
+        @Override public void onWorkCompleted(int completedPomodoros) { record("workCompleted:" + completedPomodoros); }
+        @Override public void onShortBreakDue() { record("shortBreakDue"); }
+        @Override public void onLongBreakDue() { record("longBreakDue"); }
+        @Override public void onBreakCompleted() { record("breakCompleted"); }
+    }
+
+    private PomodoroEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new PomodoroEventDispatcher(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private static void awaitDelivered(PomodoroEventDispatcher.Subscription subscription, long count)
+            throws InterruptedException {
+        long end = System.currentTimeMillis() + 2000;
+        while (subscription.getDeliveredCount() < count && System.currentTimeMillis() < end) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Test events fan out to every listener in order")
+    void testFanOut() throws InterruptedException {
+        RecordingListener first = new RecordingListener(null);
+        RecordingListener second = new RecordingListener(null);
+        PomodoroEventDispatcher.Subscription s1 = dispatcher.addListener(first);
+        PomodoroEventDispatcher.Subscription s2 = dispatcher.addListener(second);
+        assertEquals(2, dispatcher.getListenerCount());
+
+        dispatcher.onWorkStarted();
+        dispatcher.onWorkCompleted(1);
+        dispatcher.onShortBreakDue();
+        awaitDelivered(s1, 3);
+        awaitDelivered(s2, 3);
+
+        assertEquals(3, first.events.size());
+        assertEquals("workStarted", first.events.get(0));
+        assertEquals("workCompleted:1", first.events.get(1));
+        assertEquals("shortBreakDue", first.events.get(2));
+        assertEquals(first.events, second.events);
+    }
+
+    @Test
+    @DisplayName("Test slow listener does not block publisher and ticks coalesce")
+    void testSlowListenerCoalescesTicks() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener(release);
+        PomodoroEventDispatcher.Subscription subscription = dispatcher.addListener(slow);
+
+        dispatcher.onWorkStarted();
+        assertTrue(slow.firstEvent.await(2, TimeUnit.SECONDS));
+        long start = System.nanoTime();
+        for (int remaining = 100; remaining > 0; remaining--) {
+            dispatcher.onTick(remaining);
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(1, subscription.getPendingCount());
+        assertEquals(99, subscription.getCoalescedCount());
+
+        release.countDown();
+        awaitDelivered(subscription, 2);
+        assertEquals("tick:1", slow.events.get(1));
+        assertEquals(0, subscription.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Test full queue drops events and counts them")
+    void testDrop() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener(release);
+        PomodoroEventDispatcher.Subscription subscription = dispatcher.addListener(slow);
+
+        dispatcher.onWorkStarted();
+        assertTrue(slow.firstEvent.await(2, TimeUnit.SECONDS));
+        for (int i = 0; i < 6; i++) {
+            dispatcher.onTimerStopped();
+        }
+        assertEquals(4, subscription.getPendingCount());
+        assertEquals(2, subscription.getDroppedCount());
+
+        release.countDown();
+        awaitDelivered(subscription, 5);
+        assertEquals(5, subscription.getDeliveredCount());
+        assertTrue(subscription.getMaxLagMillis() >= 0);
+    }
+
+    @Test
+    @DisplayName("Test remove listener")
+    void testRemoveListener() throws InterruptedException {
+        RecordingListener listener = new RecordingListener(null);
+        PomodoroEventDispatcher.Subscription subscription = dispatcher.addListener(listener);
+        assertSame(listener, subscription.getListener());
+
+        assertTrue(dispatcher.removeListener(listener));
+        assertFalse(dispatcher.removeListener(listener));
+        dispatcher.onBreakCompleted();
+        Thread.sleep(50);
+        assertTrue(listener.events.isEmpty());
+        assertEquals(0, dispatcher.getListenerCount());
+    }
+
+    @Test
+    @DisplayName("Test dispatcher as timer listener")
+    void testWithTimer() throws InterruptedException {
+        RecordingListener listener = new RecordingListener(null);
+        PomodoroEventDispatcher.Subscription subscription = dispatcher.addListener(listener);
+        PomodoroTimer timer = new PomodoroTimer();
+        timer.setListener(dispatcher);
+
+        timer.startLongBreak();
+        timer.stop();
+        awaitDelivered(subscription, 2);
+        assertEquals("longBreakStarted", listener.events.get(0));
+        assertEquals("stopped", listener.events.get(1));
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PomodoroEventDispatcher(0));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.addListener(null));
+    }
+}
@@ -22,6 +22,9 @@ public class PomodoroTimerTest {
         public boolean workCompleted = false;
         public int completedPomodoros = 0;
         public int lastTick = -1;
+        public int shortBreakDue = 0;
+        public int longBreakDue = 0;
+        public int breakCompleted = 0;
         
         @Override
         public void onWorkStarted() {
@@ -56,17 +59,17 @@ public class PomodoroTimerTest {
         
         @Override
         public void onShortBreakDue() {
-            // Test için gerekli değil
+            shortBreakDue++;
         }
         
         @Override
         public void onLongBreakDue() {
-            // Test için gerekli değil
+            longBreakDue++;
         }
         
         @Override
         public void onBreakCompleted() {
-            // Test için gerekli değil
+            breakCompleted++;
         }
         
         public void reset() {
@@ -76,6 +79,9 @@ public class PomodoroTimerTest {
             workCompleted = false;
             completedPomodoros = 0;
             lastTick = -1;
+            shortBreakDue = 0;
+            longBreakDue = 0;
+            breakCompleted = 0;
         }
     }
     
@@ -155,5 +161,147 @@ public class PomodoroTimerTest {
         // Bu test, timer'ın çalışırken tekrar başlatılmamasını kontrol eder
         assertEquals(PomodoroTimer.TimerState.WORKING, timer.getState());
     }
+    
+    @Test
+    public void testSharedWheelTimer() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(10, java.util.concurrent.TimeUnit.MILLISECONDS, 64);
+        try {
+            PomodoroTimer wheelTimer = new PomodoroTimer(wheel);
+            TestListener wheelListener = new TestListener();
+            wheelTimer.setListener(wheelListener);
+            
+            wheelTimer.startWork();
+            assertEquals(PomodoroTimer.TimerState.WORKING, wheelTimer.getState());
+            assertTrue(wheelListener.workStarted);
+            
+            // İlk tick 1 saniye sonra gelir; yüklü makinede ikinci tick de gelmiş olabilir
+            Thread.sleep(1300);
+            assertTrue(wheelListener.lastTick >= PomodoroTimer.WORK_DURATION - 2
+                && wheelListener.lastTick <= PomodoroTimer.WORK_DURATION - 1);
+            assertEquals(1, wheel.pendingTimeouts());
+            
+            wheelTimer.stop();
+            assertEquals(PomodoroTimer.TimerState.IDLE, wheelTimer.getState());
+            assertEquals(0, wheel.pendingTimeouts());
+        } finally {
+            wheel.stop();
+        }
+    }
+    
+    @Test
+    public void testNullWheel() {
+        assertThrows(IllegalArgumentException.class, () -> new PomodoroTimer(null));
+    }
+    
+    @Test
+    public void testTicklessRemainingSeconds() throws InterruptedException {
+        timer.setTickless(true);
+        assertEquals(0, timer.getTickInterval()); // Varsayılan: onTick kapalı
+        assertTrue(timer.isTickless());
+        
+        timer.startWork();
+        assertEquals(PomodoroTimer.WORK_DURATION, timer.getRemainingSeconds());
+        
+        Thread.sleep(1100);
+        int remaining = timer.getRemainingSeconds();
+        assertTrue(remaining >= PomodoroTimer.WORK_DURATION - 2 && remaining <= PomodoroTimer.WORK_DURATION - 1);
+        assertEquals(-1, listener.lastTick);
+        
+        // Durdurulunca kalan süre sabitlenir
+        timer.stop();
+        int frozen = timer.getRemainingSeconds();
+        assertTrue(frozen <= PomodoroTimer.WORK_DURATION - 1);
+        Thread.sleep(50);
+        assertEquals(frozen, timer.getRemainingSeconds());
+    }
+    
+    @Test
+    public void testTicklessOptInTicks() throws InterruptedException {
+        TimerWheel wheel = new TimerWheel(10, java.util.concurrent.TimeUnit.MILLISECONDS, 64);
+        try {
+            PomodoroTimer wheelTimer = new PomodoroTimer(wheel);
+            TestListener wheelListener = new TestListener();
+            wheelTimer.setListener(wheelListener);
+            wheelTimer.setTickless(true);
+            wheelTimer.setTickInterval(1);
+            
+            wheelTimer.startShortBreak();
+            Thread.sleep(1300);
+            assertTrue(wheelListener.lastTick >= PomodoroTimer.SHORT_BREAK_DURATION - 2
+                && wheelListener.lastTick <= PomodoroTimer.SHORT_BREAK_DURATION - 1);
+            // Faz sonu uyanması + onTick
+            assertEquals(2, wheel.pendingTimeouts());
+            
+            wheelTimer.stop();
+            assertEquals(0, wheel.pendingTimeouts());
+        } finally {
+            wheel.stop();
+        }
+    }
+    
+    @Test
+    public void testTicklessChangeDuringPhase() throws InterruptedException {
+        // Tick modunda başlayan faz, tickless açılsa da sayaçla devam eder
+        timer.startWork();
+        timer.setTickless(true);
+        assertEquals(PomodoroTimer.WORK_DURATION, timer.getRemainingSeconds());
+        timer.stop();
+        assertEquals(PomodoroTimer.WORK_DURATION, timer.getRemainingSeconds());
+        
+        // Tickless başlayan faz, kapatılsa da bitiş zamanından hesaplanır
+        timer.startShortBreak();
+        timer.setTickless(false);
+        Thread.sleep(1100);
+        int remaining = timer.getRemainingSeconds();
+        assertTrue(remaining >= PomodoroTimer.SHORT_BREAK_DURATION - 2
+            && remaining <= PomodoroTimer.SHORT_BREAK_DURATION - 1);
+        timer.stop();
+        int frozen = timer.getRemainingSeconds();
+        assertTrue(frozen >= PomodoroTimer.SHORT_BREAK_DURATION - 2 && frozen <= remaining);
+    }
+    
+    @Test
+    public void testPhaseCompletion() {
+        // İlk üç Pomodoro kısa mola, dördüncüsü uzun mola ister
+        for (int i = 1; i <= PomodoroTimer.POMODOROS_BEFORE_LONG_BREAK; i++) {
+            timer.startWork();
+            timer.finishPhase();
+            assertEquals(PomodoroTimer.TimerState.IDLE, timer.getState());
+            assertEquals(i, timer.getCompletedPomodoros());
+            assertTrue(listener.workCompleted);
+            assertEquals(i, listener.completedPomodoros);
+        }
+        assertEquals(PomodoroTimer.POMODOROS_BEFORE_LONG_BREAK - 1, listener.shortBreakDue);
+        assertEquals(1, listener.longBreakDue);
+        assertEquals(0, listener.breakCompleted);
+        
+        // Mola bitince sayaç artmaz
+        timer.startShortBreak();
+        timer.finishPhase();
+        timer.startLongBreak();
+        timer.finishPhase();
+        assertEquals(2, listener.breakCompleted);
+        assertEquals(PomodoroTimer.POMODOROS_BEFORE_LONG_BREAK, timer.getCompletedPomodoros());
+        
+        // Boştaki timer bitirilemez
+        timer.finishPhase();
+        assertEquals(2, listener.breakCompleted);
+    }
+    
+    @Test
+    public void testTicklessPhaseCompletion() {
+        timer.setTickless(true);
+        timer.startWork();
+        timer.finishPhase();
+        assertEquals(0, timer.getRemainingSeconds());
+        assertEquals(1, timer.getCompletedPomodoros());
+        assertEquals(1, listener.shortBreakDue);
+    }
+    
+    @Test
+    public void testInvalidTickInterval() {
+        assertThrows(IllegalArgumentException.class, () -> timer.setTickInterval(-1));
+        timer.setTickInterval(5);
+        assertEquals(5, timer.getTickInterval());
+    }
 }
-
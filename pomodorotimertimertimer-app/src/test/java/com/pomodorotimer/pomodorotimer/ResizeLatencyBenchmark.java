@@ -0,0 +1,73 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Arrays;
+
+/**
+ * Insert latency histogram for HashTable and FileOperations with full and
+ * incremental resizing. Every insert is timed on its own, so the stop-the-world
+ * rehash of the full mode shows up in the p99.9 and max columns while the
+ * incremental mode spreads the same work over later inserts.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.ResizeLatencyBenchmark -Dexec.args="10000000"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class ResizeLatencyBenchmark {
+
+    private static final int DEFAULT_INSERTS = 10_000_000;
+
+    private ResizeLatencyBenchmark() {
+    }
+
+    /**
+     * Runs every table and mode once and prints the percentiles in nanoseconds.
+     *
+     * @param args optional insert count
+     */
+    public static void main(String[] args) {
+        int inserts = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_INSERTS;
+        String[] keys = new String[inserts];
+        for (int i = 0; i < inserts; i++) {
+            keys[i] = Integer.toString(i);
+        }
+
+        System.out.printf("%-28s %8s %8s %8s %12s%n", "table", "p50", "p99", "p99.9", "max");
+        for (boolean incremental : new boolean[] {false, true}) {
+            long[] latencies = new long[inserts];
+            HashTable<Integer, String> hashTable = new HashTable<>(16, incremental);
+            for (int i = 0; i < inserts; i++) {
+                long start = System.nanoTime();
+                hashTable.put(i, keys[i]);
+                latencies[i] = System.nanoTime() - start;
+            }
+            report("HashTable" + (incremental ? " (incremental)" : " (full)"), latencies);
+        }
+        for (boolean incremental : new boolean[] {false, true}) {
+            long[] latencies = new long[inserts];
+            FileOperations fileOperations = new FileOperations(16, incremental);
+            for (int i = 0; i < inserts; i++) {
+                long start = System.nanoTime();
+                fileOperations.put(keys[i], keys[i]);
+                latencies[i] = System.nanoTime() - start;
+            }
+            report("FileOperations" + (incremental ? " (incremental)" : " (full)"), latencies);
+        }
+    }
+
+    private static void report(String name, long[] latencies) {
+        Arrays.sort(latencies);
+        System.out.printf("%-28s %8d %8d %8d %12d%n", name,
+            percentile(latencies, 0.50), percentile(latencies, 0.99),
+            percentile(latencies, 0.999), latencies[latencies.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,174 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Kosaraju against the single-pass and parallel SCC engines of
+ * StronglyConnectedComponents on a cluster graph: clusters of vertices joined
+ * in a cycle with random shortcuts, and random edges between clusters that
+ * mostly point forward, so some clusters merge and the rest stay separate.
+ * Prints the heap held by the edge storage (the adjacency lists the class
+ * used to keep for both directions, for comparison), and for each engine the
+ * time and the bytes allocated by one labeling on a fresh instance, then the
+ * time of a cached count. Allocation is summed over all threads, so it
+ * includes the pool's work.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * MAVEN_OPTS=-Xmx4g mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.SccBenchmark \
+ *     -Dexec.args="[clusters] [clusterSize] [runs]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class SccBenchmark {
+
+    private SccBenchmark() {
+    }
+
+    /**
+     * Builds the cluster graph and times each engine.
+     *
+     * @param args optional cluster count, vertices per cluster and runs per engine
+     */
+    public static void main(String[] args) {
+        int clusters = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int clusterSize = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int vertices = clusters * clusterSize;
+        int[][] edges = clusterGraph(clusters, clusterSize);
+        int edgeCount = edges[0].length;
+        System.out.printf("%,d vertices in %,d clusters, %,d edges, %d CPUs, max heap %,d MB%n", vertices,
+            clusters, edgeCount, Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().maxMemory() >> 20);
+
+        long base = usedHeap();
+        List<List<Integer>> graph = new ArrayList<>(vertices);
+        List<List<Integer>> reverse = new ArrayList<>(vertices);
+        for (int v = 0; v < vertices; v++) {
+            graph.add(new ArrayList<>());
+            reverse.add(new ArrayList<>());
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            graph.get(edges[0][i]).add(edges[1][i]);
+            reverse.get(edges[1][i]).add(edges[0][i]);
+        }
+        long listHeap = usedHeap() - base;
+        graph = null;
+        reverse = null;
+        base = usedHeap();
+        StronglyConnectedComponents retained = build(vertices, edges);
+        long arrayHeap = usedHeap() - base;
+        retained = null;
+        System.out.printf("%-26s %6.1f B/edge%n%-26s %6.1f B/edge%n", "forward + reverse lists",
+            (double) listHeap / edgeCount, "edge arrays", (double) arrayHeap / edgeCount);
+
+        int count = 0;
+        for (int r = 0; r <= runs; r++) {
+            StronglyConnectedComponents scc = build(vertices, edges);
+            long allocated = allocatedBytes();
+            long start = System.nanoTime();
+            count = scc.findSCCs().size();
+            report("Kosaraju (findSCCs)", r, System.nanoTime() - start, allocatedBytes() - allocated, edgeCount,
+                count);
+        }
+        for (int r = 0; r <= runs; r++) {
+            StronglyConnectedComponents scc = build(vertices, edges);
+            long allocated = allocatedBytes();
+            long start = System.nanoTime();
+            count = scc.getSCCCount();
+            report("single-pass (getSCCCount)", r, System.nanoTime() - start, allocatedBytes() - allocated,
+                edgeCount, count);
+            if (r == runs) {
+                start = System.nanoTime();
+                count = scc.getSCCCount();
+                System.out.printf("%-26s %8.4f ms%n", "cached getSCCCount", (System.nanoTime() - start) / 1e6);
+            }
+        }
+
+        int[] threadCounts = {1, 2, 4, 8};
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                for (int r = 0; r <= runs; r++) {
+                    StronglyConnectedComponents scc = build(vertices, edges);
+                    long allocated = allocatedBytes();
+                    long start = System.nanoTime();
+                    count = scc.getComponents(pool).size();
+                    report("parallel, " + threads + " threads", r, System.nanoTime() - start,
+                        allocatedBytes() - allocated, edgeCount, count);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Edge sources and targets of the cluster graph, fixed seed.
+     */
+    private static int[][] clusterGraph(int clusters, int clusterSize) {
+        Random random = new Random(42);
+        int vertices = clusters * clusterSize;
+        int[] from = new int[clusters * clusterSize * 3];
+        int[] to = new int[from.length];
+        int count = 0;
+        for (int c = 0; c < clusters; c++) {
+            int base = c * clusterSize;
+            for (int i = 0; i < clusterSize; i++) {
+                from[count] = base + i;
+                to[count++] = base + (i + 1) % clusterSize;
+                from[count] = base + i;
+                to[count++] = base + random.nextInt(clusterSize);
+                from[count] = base + i;
+                to[count++] = random.nextInt(100) < 98
+                    ? base + random.nextInt(vertices - base)
+                    : random.nextInt(base + clusterSize);
+            }
+        }
+        return new int[][] {from, to};
+    }
+
+    private static StronglyConnectedComponents build(int vertices, int[][] edges) {
+        StronglyConnectedComponents scc = new StronglyConnectedComponents(vertices);
+        for (int i = 0; i < edges[0].length; i++) {
+            scc.addEdge(edges[0][i], edges[1][i]);
+        }
+        return scc;
+    }
+
+    /**
+     * Prints a run; run 0 is warm-up and only its result is checked.
+     */
+    private static void report(String label, int run, long nanos, long allocated, int edgeCount, int count) {
+        if (run == 0) {
+            return;
+        }
+        System.out.printf("%-26s %8.1f ms, allocated %6.1f B/edge, %,d components%n", label, nanos / 1e6,
+            (double) allocated / edgeCount, count);
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, bytes);
+        }
+        return total;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,145 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * CsrMatrix arithmetic on a heat-map propagation matrix: a 5-point diffusion
+ * stencil over a square grid plus a few influence sources that reach far
+ * across the map, giving some very crowded rows. Times each operation on the
+ * calling thread and on pools of growing size, and compares how evenly the
+ * rows split into chunks by non-zero count versus by equal row counts.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.SparseMatrixArithmeticBenchmark \
+ *     -Dexec.args="[gridSide] [steps]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class SparseMatrixArithmeticBenchmark {
+
+    private static final int SOURCES = 200;
+    private static final int SOURCE_REACH = 5_000;
+
+    private SparseMatrixArithmeticBenchmark() {
+    }
+
+    /**
+     * Builds the propagation matrix and times SpMV steps, SpMM, add and transpose.
+     *
+     * @param args optional grid side and number of SpMV steps
+     */
+    public static void main(String[] args) {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int steps = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        CsrMatrix matrix = propagationMatrix(side);
+        int cells = side * side;
+        System.out.printf("%,d cells, %,d non-zeros, %d CPUs%n", cells, matrix.getNonZeroCount(),
+            Runtime.getRuntime().availableProcessors());
+
+        for (int parts : new int[] {8, 32, 128}) {
+            System.out.printf("%4d chunks: largest chunk holds %.2fx the average non-zeros by non-zero split,"
+                + " %.2fx by equal rows%n", parts, imbalance(matrix, matrix.partition(parts), parts),
+                imbalance(matrix, equalRows(cells, parts), parts));
+        }
+
+        double[] heat = new double[cells];
+        heat[cells / 2 + side / 2] = 1_000_000;
+        int[] threadCounts = {0, 1, 2, 4, 8};
+        for (int threads : threadCounts) {
+            ForkJoinPool pool = threads == 0 ? null : new ForkJoinPool(threads);
+            try {
+                String label = threads == 0 ? "calling thread" : threads + " threads";
+                double[] state = heat;
+                long start = System.nanoTime();
+                for (int step = 0; step < steps; step++) {
+                    state = matrix.multiply(state, pool);
+                }
+                long spmv = (System.nanoTime() - start) / steps;
+
+                start = System.nanoTime();
+                CsrMatrix squared = matrix.multiply(matrix, pool);
+                long spmm = System.nanoTime() - start;
+                start = System.nanoTime();
+                CsrMatrix sum = matrix.add(squared, pool);
+                long add = System.nanoTime() - start;
+                System.out.printf("%-15s SpMV %7.2f ms/step, SpMM %7.1f ms (%,d non-zeros), add %6.1f ms,"
+                    + " checksum %.3e%n", label, spmv / 1e6, spmm / 1e6, squared.getNonZeroCount(),
+                    add / 1e6, sum(state) + sum.getNonZeroCount());
+            } finally {
+                if (pool != null) {
+                    pool.shutdown();
+                }
+            }
+        }
+        long start = System.nanoTime();
+        CsrMatrix transposed = matrix.transpose();
+        System.out.printf("transpose       %7.1f ms (%,d non-zeros)%n",
+            (System.nanoTime() - start) / 1e6, transposed.getNonZeroCount());
+    }
+
+    /**
+     * Diffusion: each cell keeps 4 parts of its value and receives 1 part from
+     * each neighbour. Influence sources add a weak link to many cells.
+     */
+    private static CsrMatrix propagationMatrix(int side) {
+        int cells = side * side;
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(cells, cells);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int cell = row * side + col;
+                builder.set(cell, cell, 4);
+                if (row > 0) {
+                    builder.set(cell, cell - side, 1);
+                }
+                if (row < side - 1) {
+                    builder.set(cell, cell + side, 1);
+                }
+                if (col > 0) {
+                    builder.set(cell, cell - 1, 1);
+                }
+                if (col < side - 1) {
+                    builder.set(cell, cell + 1, 1);
+                }
+            }
+        }
+        Random random = new Random(42);
+        // Sources are clustered in one corner of the map, as towers tend to be
+        for (int s = 0; s < SOURCES; s++) {
+            int source = random.nextInt(Math.max(1, cells / 16));
+            for (int i = 0; i < SOURCE_REACH; i++) {
+                builder.set(source, random.nextInt(cells), 1);
+            }
+        }
+        return builder.build();
+    }
+
+    private static int[] equalRows(int rows, int parts) {
+        int[] bounds = new int[parts + 1];
+        for (int c = 0; c <= parts; c++) {
+            bounds[c] = (int) ((long) rows * c / parts);
+        }
+        return bounds;
+    }
+
+    private static double imbalance(CsrMatrix matrix, int[] bounds, int parts) {
+        int[] rowPtr = matrix.rowPtr();
+        int largest = 0;
+        for (int c = 0; c < parts; c++) {
+            largest = Math.max(largest, rowPtr[bounds[c + 1]] - rowPtr[bounds[c]]);
+        }
+        return largest / ((double) matrix.getNonZeroCount() / parts);
+    }
+
+    private static double sum(double[] vector) {
+        double total = 0;
+        for (double value : vector) {
+            total += value;
+        }
+        return total;
+    }
+}
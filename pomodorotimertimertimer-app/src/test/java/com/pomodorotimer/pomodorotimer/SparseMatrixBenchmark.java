@@ -0,0 +1,148 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Memory per non-zero, random access and update throughput of the sparse matrix
+ * layouts on a 1,000,000 x 1,000,000 grid, against the former string-keyed map.
+ * Heap size is measured as the used-heap growth after a full GC, so run it with
+ * a fixed -Xmx and nothing else on the JVM.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.SparseMatrixBenchmark \
+ *     -Dexec.args="[nonZeros]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class SparseMatrixBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final int LOOKUPS = 2_000_000;
+
+    private SparseMatrixBenchmark() {
+    }
+
+    /**
+     * Fills each layout with the same cells and times lookups, half of them hits,
+     * and overwrites of existing cells.
+     *
+     * @param args optional non-zero count
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(42);
+        int[] rows = new int[n];
+        int[] cols = new int[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = random.nextInt(SIZE);
+            cols[i] = random.nextInt(SIZE);
+        }
+        int[] probeRows = new int[LOOKUPS];
+        int[] probeCols = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int cell = random.nextInt(n);
+            boolean hit = (i & 1) == 0;
+            probeRows[i] = rows[cell];
+            probeCols[i] = hit ? cols[cell] : random.nextInt(SIZE);
+        }
+        System.out.printf("%,d x %,d grid, %,d non-zeros, %,d lookups%n", SIZE, SIZE, n, LOOKUPS);
+
+        long base = usedHeap();
+        long start = System.nanoTime();
+        Map<String, Integer> strings = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            strings.put(rows[i] + "," + cols[i], i + 1);
+        }
+        long fillNanos = System.nanoTime() - start;
+        long heap = usedHeap() - base;
+        start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            sum += strings.getOrDefault(probeRows[i] + "," + probeCols[i], 0);
+        }
+        long getNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            int cell = i % n;
+            strings.put(rows[cell] + "," + cols[cell], i + 1);
+        }
+        report("HashMap<String,Integer>", heap, strings.size(), fillNanos, getNanos,
+            System.nanoTime() - start, sum);
+        strings = null;
+
+        base = usedHeap();
+        start = System.nanoTime();
+        SparseMatrix map = new SparseMatrix(SIZE, SIZE);
+        for (int i = 0; i < n; i++) {
+            map.set(rows[i], cols[i], i + 1);
+        }
+        fillNanos = System.nanoTime() - start;
+        heap = usedHeap() - base;
+        start = System.nanoTime();
+        sum = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            sum += map.get(probeRows[i], probeCols[i]);
+        }
+        getNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            int cell = i % n;
+            map.set(rows[cell], cols[cell], i + 1);
+        }
+        report("SparseMatrix (long keys)", heap, map.getNonZeroCount(), fillNanos, getNanos,
+            System.nanoTime() - start, sum);
+
+        long[] visited = new long[1];
+        start = System.nanoTime();
+        map.forEachByRow((row, col, value) -> visited[0] += value);
+        long firstScan = System.nanoTime() - start;
+        start = System.nanoTime();
+        map.forEachByRow((row, col, value) -> visited[0] += value);
+        System.out.printf("    forEachByRow: %,d ms with index build, %,d ms after%n",
+            firstScan / 1_000_000, (System.nanoTime() - start) / 1_000_000);
+        start = System.nanoTime();
+        CsrMatrix csr = map.toCsr();
+        System.out.printf("    toCsr: %,d ms%n", (System.nanoTime() - start) / 1_000_000);
+        map = null;
+        csr = null;
+
+        base = usedHeap();
+        start = System.nanoTime();
+        CsrMatrix.Builder builder = new CsrMatrix.Builder(SIZE, SIZE);
+        for (int i = 0; i < n; i++) {
+            builder.set(rows[i], cols[i], i + 1);
+        }
+        csr = builder.build();
+        fillNanos = System.nanoTime() - start;
+        builder = null;
+        heap = usedHeap() - base;
+        start = System.nanoTime();
+        sum = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            sum += csr.get(probeRows[i], probeCols[i]);
+        }
+        report("CSR (builder)", heap, csr.getNonZeroCount(), fillNanos, System.nanoTime() - start, 0, sum);
+    }
+
+    private static void report(String label, long heapBytes, int nonZeros, long fillNanos, long getNanos,
+            long updateNanos, long checksum) {
+        System.out.printf("%-26s heap %7.1f MB (%6.1f B/non-zero), fill %5.0f ns/cell, get %5.0f ns, "
+            + "update %5.1f M/s, sum %d%n", label, heapBytes / 1048576.0, (double) heapBytes / nonZeros,
+            (double) fillNanos / nonZeros, (double) getNanos / LOOKUPS,
+            updateNanos == 0 ? 0 : LOOKUPS * 1e3 / updateNanos, checksum);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
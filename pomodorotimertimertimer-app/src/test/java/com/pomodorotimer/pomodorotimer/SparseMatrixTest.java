@@ -5,6 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
 /**
  * Unit tests for SparseMatrix implementation.
  * Tests non-zero element insertion, memory usage, and value retrieval.
@@ -113,6 +120,93 @@ class SparseMatrixTest {
         assertEquals(1000, large.getCols());
     }
     
+    @Test
+    @DisplayName("Test conversion to CSR")
+    void testToCsr() {
+        matrix.set(9, 0, 4);
+        matrix.set(2, 3, 100);
+        matrix.set(2, 1, 50);
+        matrix.set(5, 5, 1);
+        matrix.set(5, 5, 0);
+        
+        CsrMatrix csr = matrix.toCsr();
+        assertEquals(3, csr.getNonZeroCount());
+        assertEquals(10, csr.getRows());
+        assertEquals(10, csr.getCols());
+        for (int row = 0; row < 10; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertEquals(matrix.get(row, col), csr.get(row, col));
+            }
+        }
+        assertEquals(2, csr.getRowNonZeroCount(2));
+    }
+    
+    @Test
+    @DisplayName("Test iteration by row")
+    void testRowIteration() {
+        matrix.set(7, 9, 1);
+        matrix.set(0, 0, 2);
+        matrix.set(7, 2, 3);
+        matrix.set(3, 5, 4);
+        
+        List<String> visited = new ArrayList<>();
+        matrix.forEachByRow((row, col, value) -> visited.add(row + "," + col + "=" + value));
+        assertEquals(Arrays.asList("0,0=2", "3,5=4", "7,2=3", "7,9=1"), visited);
+        
+        // Updating a stored cell keeps the row index; adding one rebuilds it
+        matrix.set(7, 2, 30);
+        matrix.set(7, 5, 5);
+        visited.clear();
+        matrix.forEachInRow(7, (row, col, value) -> visited.add(col + "=" + value));
+        assertEquals(Arrays.asList("2=30", "5=5", "9=1"), visited);
+        visited.clear();
+        matrix.forEachInRow(4, (row, col, value) -> visited.add(col + "=" + value));
+        assertTrue(visited.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.forEachInRow(10, (r, c, v) -> { }));
+        
+        // Consumers may clear cells while iterating
+        matrix.forEachByRow((row, col, value) -> matrix.set(row, col, 0));
+        assertEquals(0, matrix.getNonZeroCount());
+    }
+    
+    @Test
+    @DisplayName("Test random writes match a map")
+    void testRandomWrites() {
+        SparseMatrix grid = new SparseMatrix(100000, 100000);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 50000; i++) {
+            int row = random.nextInt(300);
+            int col = random.nextInt(300) * 333;
+            int value = random.nextInt(4);
+            grid.set(row, col, value);
+            if (value == 0) {
+                expected.remove((long) row * 100000 + col);
+            } else {
+                expected.put((long) row * 100000 + col, value);
+            }
+        }
+        assertEquals(expected.size(), grid.getNonZeroCount());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().intValue(),
+                grid.get((int) (entry.getKey() / 100000), (int) (entry.getKey() % 100000)));
+        }
+        
+        int[] count = new int[1];
+        long[] previous = {-1};
+        grid.forEachByRow((row, col, value) -> {
+            long cell = (long) row * 100000 + col;
+            assertTrue(cell > previous[0]);
+            assertEquals(expected.get(cell).intValue(), value);
+            previous[0] = cell;
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+        count[0] = 0;
+        grid.forEachNonZero((row, col, value) -> count[0]++);
+        assertEquals(expected.size(), count[0]);
+    }
+    
     @Test
     @DisplayName("Test invalid dimensions")
     void testInvalidDimensions() {
@@ -5,12 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Unit tests for StronglyConnectedComponents implementation.
- * Tests component identification in directed graphs.
+ * Tests component identification in directed graphs, the order of the
+ * iterative passes against a recursive reference, very long chains, the
+ * cached single-pass labeling and the parallel engine.
  */
 @DisplayName("StronglyConnectedComponents Tests")
 class StronglyConnectedComponentsTest {
@@ -94,5 +100,222 @@ class StronglyConnectedComponentsTest {
         int count = scc.getSCCCount();
         assertTrue(count >= 1);
     }
+    
+    /**
+     * Recursive Kosaraju, the reference for the order of the iterative passes.
+     */
+    private static List<List<Integer>> recursiveKosaraju(List<List<Integer>> graph,
+            List<List<Integer>> reverse) {
+        int n = graph.size();
+        boolean[] visited = new boolean[n];
+        List<Integer> finished = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (!visited[i]) {
+                finish(graph, i, visited, finished);
+            }
+        }
+        Arrays.fill(visited, false);
+        List<List<Integer>> components = new ArrayList<>();
+        for (int i = n - 1; i >= 0; i--) {
+            int vertex = finished.get(i);
+            if (!visited[vertex]) {
+                List<Integer> component = new ArrayList<>();
+                collect(reverse, vertex, visited, component);
+                components.add(component);
+            }
+        }
+        return components;
+    }
+    
+    private static void finish(List<List<Integer>> graph, int vertex, boolean[] visited, List<Integer> finished) {
+        visited[vertex] = true;
+        for (int neighbor : graph.get(vertex)) {
+            if (!visited[neighbor]) {
+                finish(graph, neighbor, visited, finished);
+            }
+        }
+        finished.add(vertex);
+    }
+    
+    private static void collect(List<List<Integer>> reverse, int vertex, boolean[] visited,
+            List<Integer> component) {
+        visited[vertex] = true;
+        component.add(vertex);
+        for (int neighbor : reverse.get(vertex)) {
+            if (!visited[neighbor]) {
+                collect(reverse, neighbor, visited, component);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test iterative passes match recursive Kosaraju")
+    void testMatchesRecursive() {
+        Random random = new Random(5);
+        int n = 2000;
+        scc = new StronglyConnectedComponents(n);
+        List<List<Integer>> graph = new ArrayList<>();
+        List<List<Integer>> reverse = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            graph.add(new ArrayList<>());
+            reverse.add(new ArrayList<>());
+        }
+        for (int i = 0; i < 2600; i++) {
+            int from = random.nextInt(n);
+            int to = random.nextInt(n);
+            scc.addEdge(from, to);
+            graph.get(from).add(to);
+            reverse.get(to).add(from);
+        }
+        List<List<Integer>> expected = recursiveKosaraju(graph, reverse);
+        assertTrue(expected.size() < n);
+        assertEquals(expected, scc.findSCCs());
+    }
+    
+    @Test
+    @DisplayName("Test long chains and cycles")
+    void testLongChains() {
+        // Fifty times deeper than the default stack allows for recursion
+        int length = 1000000;
+        scc = new StronglyConnectedComponents(length);
+        for (int i = 0; i < length - 1; i++) {
+            scc.addEdge(i, i + 1);
+        }
+        List<List<Integer>> components = scc.findSCCs();
+        assertEquals(length, components.size());
+        assertEquals(Arrays.asList(0), components.get(0));
+        
+        scc.addEdge(length - 1, 0);
+        components = scc.findSCCs();
+        assertEquals(1, components.size());
+        assertEquals(length, components.get(0).size());
+        assertEquals(0, components.get(0).get(0).intValue());
+        assertEquals(length - 1, components.get(0).get(1).intValue());
+    }
+    
+    @Test
+    @DisplayName("Test single-pass engine matches Kosaraju")
+    void testSinglePassMatchesKosaraju() {
+        Random random = new Random(9);
+        int n = 3000;
+        for (int edges : new int[] {0, 1500, 3000, 6000, 12000}) {
+            scc = new StronglyConnectedComponents(n);
+            for (int i = 0; i < edges; i++) {
+                scc.addEdge(random.nextInt(n), random.nextInt(n));
+            }
+            List<List<Integer>> expected = canonical(scc.findSCCs());
+            assertEquals(expected, scc.getComponents());
+            assertEquals(expected.size(), scc.getSCCCount());
+            for (int id = 0; id < expected.size(); id++) {
+                for (int vertex : expected.get(id)) {
+                    assertEquals(id, scc.getComponentId(vertex));
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test parallel engine on cluster graphs")
+    void testParallelMatchesSinglePass() {
+        Random random = new Random(13);
+        // Large enough that the forward-backward split runs above the
+        // sequential cutoff
+        int clusters = 4000;
+        int clusterSize = 5;
+        int n = clusters * clusterSize;
+        StronglyConnectedComponents single = new StronglyConnectedComponents(n);
+        StronglyConnectedComponents parallel = new StronglyConnectedComponents(n);
+        for (int c = 0; c < clusters; c++) {
+            int base = c * clusterSize;
+            // A cycle through most clusters, leaving some vertices trivial
+            int cycle = c % 3 == 0 ? 1 : clusterSize;
+            for (int i = 0; i < cycle; i++) {
+                int from = base + i;
+                int to = base + (i + 1) % cycle;
+                single.addEdge(from, to);
+                parallel.addEdge(from, to);
+            }
+            // Edges between clusters, mostly forward, some back to merge clusters
+            for (int i = 0; i < 3; i++) {
+                int from = base + random.nextInt(clusterSize);
+                int to = random.nextInt(100) < 97
+                    ? random.nextInt(n - base) + base
+                    : random.nextInt(base + 1);
+                single.addEdge(from, to);
+                parallel.addEdge(from, to);
+            }
+        }
+        List<List<Integer>> expected = canonical(single.findSCCs());
+        assertEquals(expected, single.getComponents());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, parallel.getComponents(pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expected.size(), parallel.getSCCCount());
+        assertTrue(expected.size() > clusters && expected.size() < n);
+    }
+    
+    @Test
+    @DisplayName("Test cached labeling is refreshed by addEdge")
+    void testCachedLabeling() {
+        scc.addEdge(0, 1);
+        scc.addEdge(1, 0);
+        scc.addEdge(2, 3);
+        assertEquals(4, scc.getSCCCount());
+        List<List<Integer>> components = scc.getComponents();
+        assertSame(components, scc.getComponents());
+        assertEquals(Arrays.asList(0, 1), components.get(0));
+        assertEquals(scc.getComponentId(0), scc.getComponentId(1));
+        assertNotEquals(scc.getComponentId(2), scc.getComponentId(3));
+        assertThrows(UnsupportedOperationException.class, () -> components.get(0).add(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> scc.getComponentId(5));
+        
+        scc.addEdge(3, 2);
+        scc.addEdge(7, 0);
+        assertEquals(3, scc.getSCCCount());
+        assertEquals(4, scc.getEdgeCount());
+        assertNotSame(components, scc.getComponents());
+        assertEquals(Arrays.asList(2, 3), scc.getComponents().get(1));
+        assertEquals(3, scc.findSCCs().size());
+    }
+    
+    @Test
+    @DisplayName("Test long chains with the single-pass and parallel engines")
+    void testLongChainsSinglePass() {
+        int length = 1000000;
+        scc = new StronglyConnectedComponents(length);
+        for (int i = 0; i < length - 1; i++) {
+            scc.addEdge(i, i + 1);
+        }
+        assertEquals(length, scc.getSCCCount());
+        assertEquals(length - 1, scc.getComponentId(length - 1));
+        
+        scc.addEdge(length - 1, 0);
+        assertEquals(1, scc.getSCCCount());
+        scc.addEdge(0, 0);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(1, scc.getComponents(pool).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    /**
+     * Sorts each component and orders components by smallest vertex, the
+     * order of getComponents.
+     */
+    private static List<List<Integer>> canonical(List<List<Integer>> components) {
+        List<List<Integer>> sorted = new ArrayList<>();
+        for (List<Integer> component : components) {
+            List<Integer> copy = new ArrayList<>(component);
+            copy.sort(null);
+            sorted.add(copy);
+        }
+        sorted.sort(Comparator.comparing(component -> component.get(0)));
+        return sorted;
+    }
 }
 
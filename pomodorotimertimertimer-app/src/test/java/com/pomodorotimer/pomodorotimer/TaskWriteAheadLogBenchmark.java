@@ -0,0 +1,76 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Append throughput of TaskWriteAheadLog in records per second under several
+ * fsync policies: every record, groups of 16 and 256 records, and a 10 ms
+ * timer with no size limit.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.TaskWriteAheadLogBenchmark
+ * </pre>
+ * Results depend heavily on the device: fsync on a laptop SSD costs far more
+ * than on tmpfs.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class TaskWriteAheadLogBenchmark {
+
+    private static final long RUN_NANOS = 2_000_000_000L;
+
+    private TaskWriteAheadLogBenchmark() {
+    }
+
+    /**
+     * Runs each policy for two seconds and prints records/sec and syncs.
+     *
+     * @param args optional parent directory for the log files, to test a specific device
+     * @throws IOException if a log cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = args.length > 0 ? Files.createTempDirectory(Paths.get(args[0]), "task-wal-bench")
+            : Files.createTempDirectory("task-wal-bench");
+        Task task = new Task("TASK1", "Benchmark task", "Görev açıklaması", 5, 4);
+        Object[][] policies = {
+            {"every record", 1, 0L},
+            {"group 16", 16, 0L},
+            {"group 256", 256, 0L},
+            {"every 10 ms", Integer.MAX_VALUE, 10L},
+        };
+
+        System.out.printf("%-14s %14s %10s%n", "policy", "records/sec", "syncs");
+        for (Object[] policy : policies) {
+            Path file = dir.resolve("bench.wal");
+            Files.deleteIfExists(file);
+            long records = 0;
+            long syncs;
+            long elapsed;
+            try (TaskWriteAheadLog log = new TaskWriteAheadLog(file, (Integer) policy[1], (Long) policy[2])) {
+                long start = System.nanoTime();
+                do {
+                    for (int i = 0; i < 64; i++) {
+                        if ((i & 3) == 0) {
+                            log.logAdd(task);
+                        } else {
+                            log.logPomodoroCompleted(task.getId());
+                        }
+                    }
+                    records += 64;
+                    elapsed = System.nanoTime() - start;
+                } while (elapsed < RUN_NANOS);
+                log.sync();
+                syncs = log.getSyncCount();
+            }
+            System.out.printf("%-14s %14.0f %10d%n", policy[0], records * 1e9 / elapsed, syncs);
+            Files.delete(file);
+        }
+        Files.delete(dir);
+    }
+}
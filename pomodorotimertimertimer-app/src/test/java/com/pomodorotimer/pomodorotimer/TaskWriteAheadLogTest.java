@@ -0,0 +1,174 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Unit tests for TaskWriteAheadLog implementation.
+ * Tests replay of task mutations, torn tail recovery and group commit.
+ */
+@DisplayName("TaskWriteAheadLog Tests")
+class TaskWriteAheadLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("tasks.wal");
+    }
+
+    @Test
+    @DisplayName("Test replay applies every mutation in order")
+    void testReplay() throws IOException {
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            log.logAdd(new Task("TASK1", "Yazı", "Rapor yaz", 3, 2));
+            log.logAdd(new Task("TASK2", "Review", "Kod incele", 1, 1));
+            log.logPomodoroCompleted("TASK1");
+            log.logPomodoroCompleted("TASK1");
+            log.logStatusChange("TASK1", Task.TaskStatus.COMPLETED);
+            log.logStatusChange("TASK2", Task.TaskStatus.IN_PROGRESS);
+            log.logPomodoroCompleted("UNKNOWN");
+            assertEquals(7, log.getRecordCount());
+            assertEquals(7, log.getSyncCount());
+        }
+
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            List<Task> tasks = log.replay();
+            assertEquals(2, tasks.size());
+            Task first = tasks.get(0);
+            assertEquals("TASK1", first.getId());
+            assertEquals("Yazı", first.getName());
+            assertEquals("Rapor yaz", first.getDescription());
+            assertEquals(3, first.getPriority());
+            assertEquals(2, first.getEstimatedPomodoros());
+            assertEquals(2, first.getCompletedPomodoros());
+            assertEquals(Task.TaskStatus.COMPLETED, first.getStatus());
+            assertEquals(Task.TaskStatus.IN_PROGRESS, tasks.get(1).getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("Test replay into HashTable, BPlusTree and Queue")
+    void testReplayIntoStructures() throws IOException {
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file, 8, 0)) {
+            for (int i = 1; i <= 100; i++) {
+                log.logAdd(new Task("TASK" + i, "Task " + i, "", i % 10 + 1, 1));
+            }
+        }
+
+        HashTable<String, Task> database = new HashTable<>();
+        BPlusTree index = new BPlusTree();
+        Queue<Task> queue = new Queue<>();
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            List<Task> tasks = log.replay();
+            for (int i = 0; i < tasks.size(); i++) {
+                database.put(tasks.get(i).getId(), tasks.get(i));
+                index.insert(i + 1, tasks.get(i).getName());
+                queue.enqueue(tasks.get(i));
+            }
+        }
+        assertEquals(100, database.size());
+        assertEquals("Task 50", database.get("TASK50").getName());
+        assertEquals("Task 77", index.search(77));
+        assertEquals("TASK1", queue.dequeue().getId());
+        assertEquals(99, queue.size());
+    }
+
+    @Test
+    @DisplayName("Test torn tail is truncated on reopen")
+    void testTornTail() throws IOException {
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            log.logAdd(new Task("TASK1", "Kept", "", 1, 1));
+            log.logAdd(new Task("TASK2", "Torn", "", 1, 1));
+        }
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3); // crash in the middle of the second record
+        }
+
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            List<Task> tasks = log.replay();
+            assertEquals(1, tasks.size());
+            assertEquals("Kept", tasks.get(0).getName());
+            log.logAdd(new Task("TASK3", "After", "", 1, 1));
+        }
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            List<Task> tasks = log.replay();
+            assertEquals(2, tasks.size());
+            assertEquals("After", tasks.get(1).getName());
+        }
+    }
+
+    @Test
+    @DisplayName("Test corrupt record stops replay")
+    void testCorruptRecord() throws IOException {
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            log.logAdd(new Task("TASK1", "Good", "", 1, 1));
+        }
+        long firstEnd = Files.size(file);
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            log.logAdd(new Task("TASK2", "Bad", "", 1, 1));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), firstEnd + 12); // flip a payload byte
+        }
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file)) {
+            assertEquals(1, log.replay().size());
+            assertEquals(firstEnd, Files.size(file));
+        }
+    }
+
+    @Test
+    @DisplayName("Test group commit by size and by time")
+    void testGroupCommit() throws IOException, InterruptedException {
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(file, 10, 0)) {
+            for (int i = 0; i < 25; i++) {
+                log.logPomodoroCompleted("TASK" + i);
+            }
+            assertEquals(2, log.getSyncCount());
+            log.sync();
+            assertEquals(3, log.getSyncCount());
+            log.sync(); // nothing pending
+            assertEquals(3, log.getSyncCount());
+        }
+
+        Path timed = tempDir.resolve("timed.wal");
+        try (TaskWriteAheadLog log = new TaskWriteAheadLog(timed, 1000, 20)) {
+            log.logAdd(new Task("TASK1", "Timed", "", 1, 1));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (log.getSyncCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, log.getSyncCount());
+            assertEquals(1, log.replay().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments and closed log")
+    void testInvalidArguments() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> new TaskWriteAheadLog(file, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TaskWriteAheadLog(file, 1, -1));
+
+        TaskWriteAheadLog log = new TaskWriteAheadLog(file);
+        assertThrows(IllegalArgumentException.class, () -> log.logAdd(null));
+        assertThrows(IllegalArgumentException.class, () -> log.logStatusChange("TASK1", null));
+        log.close();
+        log.close();
+        assertThrows(IllegalStateException.class, () -> log.logPomodoroCompleted("TASK1"));
+    }
+}
@@ -0,0 +1,187 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * TiledSparseMatrix against the string-keyed HashMap layout and the packed-key
+ * SparseMatrix on a clustered map: dense disks around town centres plus a few
+ * scattered cells on a 1,000,000 x 1,000,000 grid. Reports heap per non-zero,
+ * random lookups and viewport (region) queries. The map layouts answer a
+ * viewport by probing every cell in it, having no spatial order.
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.TiledSparseMatrixBenchmark \
+ *     -Dexec.args="[clusters] [radius]"
+ * </pre>
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public final class TiledSparseMatrixBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final int LOOKUPS = 2_000_000;
+    private static final int VIEWPORT = 256;
+    private static final int VIEWPORTS = 200;
+
+    private TiledSparseMatrixBenchmark() {
+    }
+
+    /**
+     * Fills each layout with the same clustered cells and times lookups and viewports.
+     *
+     * @param args optional cluster count and cluster radius
+     */
+    public static void main(String[] args) {
+        int clusters = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        int radius = args.length > 1 ? Integer.parseInt(args[1]) : 120;
+        Random random = new Random(42);
+        int[] centreRows = new int[clusters];
+        int[] centreCols = new int[clusters];
+        int capacity = clusters * (4 * radius * radius + 1) + 1;
+        int[] rows = new int[capacity];
+        int[] cols = new int[capacity];
+        int n = 0;
+        for (int c = 0; c < clusters; c++) {
+            centreRows[c] = radius + random.nextInt(SIZE - 2 * radius);
+            centreCols[c] = radius + random.nextInt(SIZE - 2 * radius);
+            for (int dr = -radius; dr <= radius; dr++) {
+                for (int dc = -radius; dc <= radius; dc++) {
+                    if (dr * dr + dc * dc <= radius * radius && random.nextInt(10) < 6) {
+                        rows[n] = centreRows[c] + dr;
+                        cols[n] = centreCols[c] + dc;
+                        n++;
+                    }
+                }
+            }
+        }
+        int scattered = n / 20;
+        int[] allRows = new int[n + scattered];
+        int[] allCols = new int[n + scattered];
+        System.arraycopy(rows, 0, allRows, 0, n);
+        System.arraycopy(cols, 0, allCols, 0, n);
+        for (int i = n; i < n + scattered; i++) {
+            allRows[i] = random.nextInt(SIZE);
+            allCols[i] = random.nextInt(SIZE);
+        }
+        rows = allRows;
+        cols = allCols;
+        n += scattered;
+
+        int[] probeRows = new int[LOOKUPS];
+        int[] probeCols = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            // Probes land near town centres, where the game looks most
+            int c = random.nextInt(clusters);
+            probeRows[i] = centreRows[c] + random.nextInt(2 * radius) - radius;
+            probeCols[i] = centreCols[c] + random.nextInt(2 * radius) - radius;
+        }
+        int[] viewTops = new int[VIEWPORTS];
+        int[] viewLefts = new int[VIEWPORTS];
+        for (int v = 0; v < VIEWPORTS; v++) {
+            int c = random.nextInt(clusters);
+            viewTops[v] = Math.max(0, centreRows[c] - random.nextInt(VIEWPORT));
+            viewLefts[v] = Math.max(0, centreCols[c] - random.nextInt(VIEWPORT));
+        }
+        System.out.printf("%,d clusters of radius %d, %,d non-zeros, %,d lookups, %d viewports of %d x %d%n",
+            clusters, radius, n, LOOKUPS, VIEWPORTS, VIEWPORT, VIEWPORT);
+
+        long base = usedHeap();
+        long start = System.nanoTime();
+        Map<String, Integer> strings = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            strings.put(rows[i] + "," + cols[i], i + 1);
+        }
+        long fillNanos = System.nanoTime() - start;
+        long heap = usedHeap() - base;
+        start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            sum += strings.getOrDefault(probeRows[i] + "," + probeCols[i], 0);
+        }
+        long getNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        long found = 0;
+        for (int v = 0; v < VIEWPORTS; v++) {
+            for (int row = viewTops[v]; row < viewTops[v] + VIEWPORT; row++) {
+                for (int col = viewLefts[v]; col < viewLefts[v] + VIEWPORT; col++) {
+                    found += strings.containsKey(row + "," + col) ? 1 : 0;
+                }
+            }
+        }
+        report("HashMap<String,Integer>", heap, strings.size(), fillNanos, getNanos,
+            System.nanoTime() - start, sum, found);
+        strings = null;
+
+        base = usedHeap();
+        start = System.nanoTime();
+        SparseMatrix packed = new SparseMatrix(SIZE, SIZE);
+        for (int i = 0; i < n; i++) {
+            packed.set(rows[i], cols[i], i + 1);
+        }
+        fillNanos = System.nanoTime() - start;
+        heap = usedHeap() - base;
+        start = System.nanoTime();
+        sum = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            sum += packed.get(probeRows[i], probeCols[i]);
+        }
+        getNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        found = 0;
+        for (int v = 0; v < VIEWPORTS; v++) {
+            for (int row = viewTops[v]; row < viewTops[v] + VIEWPORT; row++) {
+                for (int col = viewLefts[v]; col < viewLefts[v] + VIEWPORT; col++) {
+                    found += packed.get(row, col) != 0 ? 1 : 0;
+                }
+            }
+        }
+        report("SparseMatrix (long keys)", heap, packed.getNonZeroCount(), fillNanos, getNanos,
+            System.nanoTime() - start, sum, found);
+        packed = null;
+
+        base = usedHeap();
+        start = System.nanoTime();
+        TiledSparseMatrix tiled = new TiledSparseMatrix(SIZE, SIZE);
+        for (int i = 0; i < n; i++) {
+            tiled.set(rows[i], cols[i], i + 1);
+        }
+        fillNanos = System.nanoTime() - start;
+        heap = usedHeap() - base;
+        start = System.nanoTime();
+        sum = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            sum += tiled.get(probeRows[i], probeCols[i]);
+        }
+        getNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        long[] visited = new long[1];
+        for (int v = 0; v < VIEWPORTS; v++) {
+            tiled.forEachInRect(viewTops[v], viewLefts[v], viewTops[v] + VIEWPORT - 1,
+                viewLefts[v] + VIEWPORT - 1, (row, col, value) -> visited[0]++);
+        }
+        report("TiledSparseMatrix", heap, tiled.getNonZeroCount(), fillNanos, getNanos,
+            System.nanoTime() - start, sum, visited[0]);
+        System.out.printf("    %,d tiles, %,d dense%n", tiled.getTileCount(), tiled.getDenseTileCount());
+    }
+
+    private static void report(String label, long heapBytes, int nonZeros, long fillNanos, long getNanos,
+            long viewportNanos, long checksum, long found) {
+        System.out.printf("%-26s heap %6.1f MB (%5.1f B/non-zero), fill %4.0f ns/cell, get %4.0f ns, "
+            + "viewport %8.3f ms (%,d cells), sum %d%n", label, heapBytes / 1048576.0,
+            (double) heapBytes / nonZeros, (double) fillNanos / nonZeros, (double) getNanos / LOOKUPS,
+            viewportNanos / 1e6 / VIEWPORTS, found, checksum);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
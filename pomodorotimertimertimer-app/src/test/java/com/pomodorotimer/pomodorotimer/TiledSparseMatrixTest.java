@@ -0,0 +1,175 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Unit tests for TiledSparseMatrix implementation.
+ * Tests clustered writes against a map, tile promotion and demotion, and
+ * region queries against a brute-force scan.
+ */
+@DisplayName("TiledSparseMatrix Tests")
+class TiledSparseMatrixTest {
+
+    private TiledSparseMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        matrix = new TiledSparseMatrix(10000, 10000);
+    }
+
+    @Test
+    @DisplayName("Test clustered writes match a map")
+    void testMatchesMap() {
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(9);
+        for (int i = 0; i < 200000; i++) {
+            // Dense clusters around a few centres plus scattered single cells
+            int row;
+            int col;
+            if (random.nextInt(10) == 0) {
+                row = random.nextInt(10000);
+                col = random.nextInt(10000);
+            } else {
+                int centre = random.nextInt(4) * 2000 + 1000;
+                row = centre + random.nextInt(100);
+                col = centre + random.nextInt(100);
+            }
+            int value = random.nextInt(3);
+            matrix.set(row, col, value);
+            if (value == 0) {
+                expected.remove((long) row * 10000 + col);
+            } else {
+                expected.put((long) row * 10000 + col, value);
+            }
+        }
+
+        assertEquals(expected.size(), matrix.getNonZeroCount());
+        assertTrue(matrix.getDenseTileCount() > 0);
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue().intValue(),
+                matrix.get((int) (entry.getKey() / 10000), (int) (entry.getKey() % 10000)));
+        }
+        assertEquals(0, matrix.get(0, 9999));
+        int[] count = new int[1];
+        matrix.forEachNonZero((row, col, value) -> {
+            assertEquals(expected.get((long) row * 10000 + col).intValue(), value);
+            count[0]++;
+        });
+        assertEquals(expected.size(), count[0]);
+    }
+
+    @Test
+    @DisplayName("Test tiles switch between sparse and dense")
+    void testPromoteAndDemote() {
+        for (int cell = 0; cell <= TiledSparseMatrix.PROMOTE_AT; cell++) {
+            matrix.set(64 + cell / 64, 128 + cell % 64, cell + 1);
+        }
+        assertEquals(1, matrix.getTileCount());
+        assertEquals(1, matrix.getDenseTileCount());
+        assertEquals(500, matrix.get(64 + 499 / 64, 128 + 499 % 64));
+
+        for (int cell = 0; cell <= TiledSparseMatrix.PROMOTE_AT - TiledSparseMatrix.DEMOTE_AT + 1; cell++) {
+            matrix.set(64 + cell / 64, 128 + cell % 64, 0);
+        }
+        assertEquals(0, matrix.getDenseTileCount());
+        assertEquals(TiledSparseMatrix.DEMOTE_AT - 1, matrix.getNonZeroCount());
+        int last = TiledSparseMatrix.PROMOTE_AT;
+        assertEquals(last + 1, matrix.get(64 + last / 64, 128 + last % 64));
+
+        for (int cell = 0; cell <= TiledSparseMatrix.PROMOTE_AT; cell++) {
+            matrix.set(64 + cell / 64, 128 + cell % 64, 0);
+        }
+        assertEquals(0, matrix.getTileCount());
+        assertEquals(0, matrix.getNonZeroCount());
+    }
+
+    @Test
+    @DisplayName("Test region queries match a brute-force scan")
+    void testForEachInRect() {
+        TiledSparseMatrix small = new TiledSparseMatrix(1000, 1000);
+        int[][] dense = new int[1000][1000];
+        Random random = new Random(4);
+        for (int i = 0; i < 60000; i++) {
+            int row = random.nextInt(10) == 0 ? random.nextInt(1000) : 300 + random.nextInt(150);
+            int col = random.nextInt(10) == 0 ? random.nextInt(1000) : 500 + random.nextInt(150);
+            int value = random.nextInt(5) + 1;
+            small.set(row, col, value);
+            dense[row][col] = value;
+        }
+
+        // Small rectangles probe tile by tile; large ones walk the populated tiles
+        for (int query = 0; query < 200; query++) {
+            int top = random.nextInt(1000);
+            int left = random.nextInt(1000);
+            int bottom = top + random.nextInt(query % 2 == 0 ? 100 : 1000 - top);
+            int right = left + random.nextInt(query % 2 == 0 ? 100 : 1000 - left);
+            bottom = Math.min(bottom, 999);
+            right = Math.min(right, 999);
+            long expected = 0;
+            int expectedCount = 0;
+            for (int row = top; row <= bottom; row++) {
+                for (int col = left; col <= right; col++) {
+                    expected += (long) dense[row][col] * (row * 1000 + col);
+                    expectedCount += dense[row][col] != 0 ? 1 : 0;
+                }
+            }
+            long[] actual = new long[2];
+            small.forEachInRect(top, left, bottom, right, (row, col, value) -> {
+                actual[0] += (long) value * (row * 1000 + col);
+                actual[1]++;
+            });
+            assertEquals(expected, actual[0]);
+            assertEquals(expectedCount, actual[1]);
+        }
+
+        List<String> cells = new ArrayList<>();
+        small.clear();
+        small.set(5, 9, 1);
+        small.set(5, 2, 2);
+        small.set(3, 7, 3);
+        small.set(70, 0, 4);
+        small.forEachInRect(3, 2, 63, 8, (row, col, value) -> cells.add(row + "," + col));
+        assertEquals(2, cells.size());
+        assertEquals("3,7", cells.get(0));
+        assertEquals("5,2", cells.get(1));
+
+        // Three populated tiles on a map of 157 x 157 tiles
+        matrix.set(10, 10, 1);
+        matrix.set(5000, 64, 2);
+        matrix.set(5001, 127, 3);
+        matrix.set(9999, 9999, 4);
+        cells.clear();
+        matrix.forEachInRect(0, 0, 9999, 9999, (row, col, value) -> cells.add(row + "," + col));
+        assertEquals(4, cells.size());
+        cells.clear();
+        matrix.forEachInRect(11, 0, 9998, 127, (row, col, value) -> cells.add(row + "," + col));
+        assertEquals(2, cells.size());
+        assertTrue(cells.contains("5000,64"));
+        assertTrue(cells.contains("5001,127"));
+    }
+
+    @Test
+    @DisplayName("Test bounds and invalid rectangles")
+    void testBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.set(10000, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, -1));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> matrix.forEachInRect(0, 0, 10000, 5, (r, c, v) -> { }));
+        assertThrows(IllegalArgumentException.class,
+            () -> matrix.forEachInRect(5, 0, 4, 5, (r, c, v) -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new TiledSparseMatrix(-1, 5));
+        matrix.set(9999, 9999, 7);
+        assertEquals(7, matrix.get(9999, 9999));
+        matrix.set(0, 0, 0);
+        assertEquals(1, matrix.getNonZeroCount());
+    }
+}
@@ -0,0 +1,117 @@
+package com.pomodorotimer.pomodorotimer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark comparing one java.util.Timer per PomodoroTimer against sessions
+ * sharing a TimerWheel. Reports live thread count, heap usage and tick jitter
+ * (deviation of each onTick from its one-second schedule).
+ *
+ * <p>Not part of the unit test run. Start it with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.pomodorotimer.pomodorotimer.TimerWheelBenchmark \
+ *     -Dexec.args="2000 50000 5"
+ * </pre>
+ * Arguments: sessions for the Timer path, sessions for the wheel path, seconds to run.
+ *
+ * @author Data Structures Project Team
+ * @version 1.0
+ */
+public class TimerWheelBenchmark {
+
+    /**
+     * Listener recording how late each tick arrives.
+     */
+    private static class JitterListener implements PomodoroTimerListener {
+        private final long startNanos;
+        private final AtomicLong maxLateNanos;
+        private final AtomicLong totalLateNanos;
+        private final AtomicLong ticks;
+
+        JitterListener(long startNanos, AtomicLong maxLateNanos, AtomicLong totalLateNanos, AtomicLong ticks) {
+            this.startNanos = startNanos;
+            this.maxLateNanos = maxLateNanos;
+            this.totalLateNanos = totalLateNanos;
+            this.ticks = ticks;
+        }
+
+        @Override
+        public void onTick(int remainingSeconds) {
+            long expected = startNanos + (PomodoroTimer.WORK_DURATION - remainingSeconds) * 1_000_000_000L;
+            long late = Math.abs(System.nanoTime() - expected);
+            totalLateNanos.addAndGet(late);
+            ticks.incrementAndGet();
+            long max;
+            while (late > (max = maxLateNanos.get()) && !maxLateNanos.compareAndSet(max, late)) {
+                // retry
+            }
+        }
+
+        @Override public void onWorkStarted() { }
+        @Override public void onShortBreakStarted() { }
+        @Override public void onLongBreakStarted() { }
+        @Override public void onTimerStopped() { }
+        @Override public void onWorkCompleted(int completedPomodoros) { }
+        @Override public void onShortBreakDue() { }
+        @Override public void onLongBreakDue() { }
+        @Override public void onBreakCompleted() { }
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args timer sessions, wheel sessions, seconds
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int timerSessions = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int wheelSessions = args.length > 1 ? Integer.parseInt(args[1]) : 50000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        // The wheel runs first: stopped java.util.Timer threads linger and would skew its thread count
+        System.out.println("path            sessions  threads  heapMB  meanJitterMs  maxJitterMs");
+        TimerWheel wheel = new TimerWheel();
+        run("TimerWheel", wheelSessions, seconds, wheel);
+        wheel.stop();
+        run("java.util.Timer", timerSessions, seconds, null);
+        // PomodoroTimer.stop() leaves a fresh non-daemon java.util.Timer behind per session
+        System.exit(0);
+    }
+
+    private static void run(String name, int sessions, int seconds, TimerWheel wheel) throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        int threadsBefore = threads.getThreadCount();
+
+        AtomicLong maxLate = new AtomicLong();
+        AtomicLong totalLate = new AtomicLong();
+        AtomicLong ticks = new AtomicLong();
+        List<PomodoroTimer> timers = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            PomodoroTimer timer = wheel == null ? new PomodoroTimer() : new PomodoroTimer(wheel);
+            timer.setListener(new JitterListener(System.nanoTime(), maxLate, totalLate, ticks));
+            timer.startWork();
+            timers.add(timer);
+        }
+
+        Thread.sleep(seconds * 1000L + 200);
+        System.gc();
+        long heapMb = (memory.getHeapMemoryUsage().getUsed() - heapBefore) / (1024 * 1024);
+        int threadDelta = threads.getThreadCount() - threadsBefore;
+
+        for (PomodoroTimer timer : timers) {
+            timer.stop();
+        }
+        long tickCount = Math.max(1, ticks.get());
+        System.out.printf("%-15s %8d %8d %7d %13.2f %12.2f%n", name, sessions, threadDelta, heapMb,
+            totalLate.get() / (double) tickCount / 1e6, maxLate.get() / 1e6);
+    }
+}
@@ -0,0 +1,156 @@
+package com.pomodorotimer.pomodorotimer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for TimerWheel implementation.
+ * Tests one-shot and periodic scheduling, cancellation and wheel rounds.
+ */
+@DisplayName("TimerWheel Tests")
+class TimerWheelTest {
+
+    private TimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimerWheel(10, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    @DisplayName("Test one-shot task runs once")
+    void testScheduleRunsOnce() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        TimerWheel.Timeout timeout = wheel.schedule(() -> {
+            runs.incrementAndGet();
+            latch.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(1, runs.get());
+        assertTrue(timeout.isExpired());
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+
+    @Test
+    @DisplayName("Test failing task is reported and does not stop the ticker")
+    void testFailingTask() throws InterruptedException {
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errors, true));
+        try {
+            CountDownLatch failed = new CountDownLatch(1);
+            CountDownLatch latch = new CountDownLatch(1);
+            wheel.schedule(() -> {
+                failed.countDown();
+                throw new IllegalStateException("broken session");
+            }, 20, TimeUnit.MILLISECONDS);
+            assertTrue(failed.await(2, TimeUnit.SECONDS));
+            wheel.schedule(latch::countDown, 30, TimeUnit.MILLISECONDS);
+
+            assertTrue(latch.await(2, TimeUnit.SECONDS));
+            assertTrue(wheel.isRunning());
+            assertTrue(errors.toString().contains("broken session"));
+        } finally {
+            System.setErr(originalErr);
+        }
+    }
+
+    @Test
+    @DisplayName("Test delay longer than one wheel turn")
+    void testMultipleRounds() throws InterruptedException {
+        // 8 buckets * 10 ms = 80 ms per turn; 250 ms needs several rounds
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        wheel.schedule(latch::countDown, 250, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis >= 250, "Fired early: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("Test cancelled task never runs")
+    void testCancel() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        TimerWheel.Timeout timeout = wheel.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        Thread.sleep(150);
+        assertEquals(0, runs.get());
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+
+    @Test
+    @DisplayName("Test periodic task repeats until cancelled")
+    void testFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        AtomicInteger runs = new AtomicInteger();
+        TimerWheel.Timeout timeout = wheel.scheduleAtFixedRate(() -> {
+            runs.incrementAndGet();
+            latch.countDown();
+        }, 10, 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertEquals(1, wheel.pendingTimeouts());
+        timeout.cancel();
+        int afterCancel = runs.get();
+        Thread.sleep(100);
+        assertTrue(runs.get() <= afterCancel + 1);
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+
+    @Test
+    @DisplayName("Test many timers share one thread")
+    void testManyTimeouts() throws InterruptedException {
+        int count = 10000;
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(latch::countDown, i % 200, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Test invalid arguments and stopped wheel")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new TimerWheel(10, TimeUnit.MILLISECONDS, 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> wheel.scheduleAtFixedRate(() -> { }, 0, 0, TimeUnit.MILLISECONDS));
+        assertThrows(NullPointerException.class, () -> wheel.schedule(null, 1, TimeUnit.MILLISECONDS));
+
+        assertEquals(10, wheel.getTickDuration(TimeUnit.MILLISECONDS));
+        assertTrue(wheel.isRunning());
+        wheel.stop();
+        assertFalse(wheel.isRunning());
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(() -> { }, 1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Test shared instance")
+    void testShared() {
+        TimerWheel shared = TimerWheel.shared();
+        assertSame(shared, TimerWheel.shared());
+        assertTrue(shared.isRunning());
+    }
+}